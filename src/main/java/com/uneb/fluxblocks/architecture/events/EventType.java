@@ -1,3 +1,27 @@
 package com.uneb.fluxblocks.architecture.events;
 
-public interface EventType<T> { }
\ No newline at end of file
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tipo de evento do {@code GameMediator}, declarado como constante anônima
+ * ({@code new EventType<>() {}}) nas classes de eventos.
+ * <p>
+ * Cada tipo recebe na criação um id sequencial e denso, usado pelo mediador como índice
+ * direto da tabela de listeners no lugar de um mapa.
+ *
+ * @param <T> O tipo de dado do evento
+ */
+public abstract class EventType<T> {
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+    private final int id = NEXT_ID.getAndIncrement();
+
+    /**
+     * Retorna o id do tipo, único entre todos os tipos criados.
+     *
+     * @return Um inteiro entre 0 e o número de tipos criados menos um
+     */
+    public final int getId() {
+        return id;
+    }
+}
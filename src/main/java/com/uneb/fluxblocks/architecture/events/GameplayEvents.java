@@ -4,13 +4,26 @@ import com.uneb.fluxblocks.piece.collision.SpinDetector;
 import com.uneb.fluxblocks.piece.collision.TripleSpinDetector;
 
 public final class GameplayEvents {
-    public record MoveEvent(int playerId) {}
-    public record ScoreEvent(int playerId, int points) {}
-    public record LineClearEvent(int playerId, int lineCleared) {}
-    public record SpinEvent(int playerId, SpinDetector.SpinType spinType, int linesCleared) {}
-    public record TripleSpinEvent(int playerId, TripleSpinDetector.TripleSpinType tripleSpinType, int linesCleared) {}
-    public record UpdateSpeedEvent(int playerId, double newSpeed) {}
-    public record GameOverEvent(int playerId) {}
+    /**
+     * Entrada de movimento de um jogador (teclado, bot ou gravidade).
+     * Use {@link #of(int)} nos caminhos quentes para não alocar.
+     */
+    public record MoveEvent(int playerId) implements PlayerEvent {
+        private static final MoveEvent[] CACHE = PlayerEvent.cache(MoveEvent[]::new, MoveEvent::new);
+
+        /**
+         * @return A instância compartilhada do jogador, ou uma nova se o id estiver fora do cache
+         */
+        public static MoveEvent of(int playerId) {
+            return playerId >= 0 && playerId < CACHE.length ? CACHE[playerId] : new MoveEvent(playerId);
+        }
+    }
+    public record ScoreEvent(int playerId, int points) implements PlayerEvent {}
+    public record LineClearEvent(int playerId, int lineCleared) implements PlayerEvent {}
+    public record SpinEvent(int playerId, SpinDetector.SpinType spinType, int linesCleared) implements PlayerEvent {}
+    public record TripleSpinEvent(int playerId, TripleSpinDetector.TripleSpinType tripleSpinType, int linesCleared) implements PlayerEvent {}
+    public record UpdateSpeedEvent(int playerId, double newSpeed) implements PlayerEvent {}
+    public record GameOverEvent(int playerId) implements PlayerEvent {}
     private GameplayEvents() {
     }
 
@@ -1,8 +1,21 @@
 package com.uneb.fluxblocks.architecture.events;
 
 public final class InputEvents {
-    public record MoveEvent(int playerId) {}
-    public record KeyPressEvent(int playerId, String keyName) {}
+    /**
+     * Entrada de um jogador que reinicia o estado de rotação.
+     * Use {@link #of(int)} nos caminhos quentes para não alocar.
+     */
+    public record MoveEvent(int playerId) implements PlayerEvent {
+        private static final MoveEvent[] CACHE = PlayerEvent.cache(MoveEvent[]::new, MoveEvent::new);
+
+        /**
+         * @return A instância compartilhada do jogador, ou uma nova se o id estiver fora do cache
+         */
+        public static MoveEvent of(int playerId) {
+            return playerId >= 0 && playerId < CACHE.length ? CACHE[playerId] : new MoveEvent(playerId);
+        }
+    }
+    public record KeyPressEvent(int playerId, String keyName) implements PlayerEvent {}
     private InputEvents() {
     }
 
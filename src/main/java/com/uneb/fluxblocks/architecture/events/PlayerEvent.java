@@ -0,0 +1,40 @@
+package com.uneb.fluxblocks.architecture.events;
+
+import java.util.function.IntFunction;
+
+/**
+ * Evento que pertence a um jogador. O {@code GameMediator} usa o id para entregar o evento
+ * apenas aos listeners registrados para esse jogador, além dos listeners sem jogador.
+ * <p>
+ * Os records de evento com componente {@code int playerId} implementam esta interface
+ * sem código adicional.
+ * <p>
+ * Os eventos que só carregam o id ({@link GameplayEvents.MoveEvent}, {@link UiEvents.BoardEvent}...)
+ * são emitidos a cada tecla e a cada peça que trava. Como records imutáveis, eles podem ser
+ * compartilhados: o método {@code of(playerId)} de cada um devolve sempre a mesma instância
+ * por jogador, e um listener que guarde o evento continua vendo o mesmo id.
+ */
+public interface PlayerEvent {
+    /** Ids de jogador, de 0 até este valor (exclusivo), com instância pronta em {@link #cache} */
+    int CACHED_PLAYERS = 8;
+
+    /**
+     * @return O id do jogador dono do evento
+     */
+    int playerId();
+
+    /**
+     * Cria as instâncias compartilhadas de um evento para os ids de 0 a {@link #CACHED_PLAYERS} - 1.
+     *
+     * @param array Construtor do array de eventos
+     * @param factory Construtor do evento a partir do id do jogador
+     * @return O array indexado pelo id do jogador
+     */
+    static <E extends PlayerEvent> E[] cache(IntFunction<E[]> array, IntFunction<E> factory) {
+        E[] events = array.apply(CACHED_PLAYERS);
+        for (int i = 0; i < events.length; i++) {
+            events[i] = factory.apply(i);
+        }
+        return events;
+    }
+}
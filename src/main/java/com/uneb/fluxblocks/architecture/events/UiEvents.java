@@ -1,18 +1,51 @@
 package com.uneb.fluxblocks.architecture.events;
 
 import com.uneb.fluxblocks.game.statistics.GameStatistics;
-import com.uneb.fluxblocks.piece.entities.BlockShape;
 
 public abstract class UiEvents {
-    public record BoardEvent(int playerId) {}
-    public record NextPieceEvent(int playerId, BlockShape nextPiece) {}
-    public record ScoreUiEvent(int playerId, int score) {}
-    public record LevelUiEvent(int playerId, int level) {}
-    public record BoardUpdateEvent(int playerId, int[][] grid) {}
-    public record PieceTrailEffectEvent(int playerId, int[] position) {}
-    public record CountdownEvent(int playerId, int seconds) {}
-    public record ScreenShakeEvent(int playerId, double intensity) {}
-    public record GameOverEvent(int playerId, GameStatistics statistics) {}
+    /**
+     * Aviso visual do tabuleiro de um jogador (parede, peça travada).
+     * Use {@link #of(int)} nos caminhos quentes para não alocar.
+     */
+    public record BoardEvent(int playerId) implements PlayerEvent {
+        private static final BoardEvent[] CACHE = PlayerEvent.cache(BoardEvent[]::new, BoardEvent::new);
+
+        /**
+         * @return A instância compartilhada do jogador, ou uma nova se o id estiver fora do cache
+         */
+        public static BoardEvent of(int playerId) {
+            return playerId >= 0 && playerId < CACHE.length ? CACHE[playerId] : new BoardEvent(playerId);
+        }
+    }
+    /**
+     * Fila das próximas peças do jogador, da primeira para a última, como códigos de peça
+     * (ver {@link com.uneb.fluxblocks.piece.factory.provider.BlockShapeProvider#encode(int, boolean)}).
+     * O array é uma cópia que pertence ao evento.
+     */
+    public record NextPieceEvent(int playerId, int[] queue) implements PlayerEvent {
+        public int nextCode() {
+            return queue[0];
+        }
+    }
+    public record ScoreUiEvent(int playerId, int score) implements PlayerEvent {}
+    public record LevelUiEvent(int playerId, int level) implements PlayerEvent {}
+    public record BoardUpdateEvent(int playerId, int[][] grid) implements PlayerEvent {}
+    /**
+     * Atualização incremental do tabuleiro: apenas as linhas com o bit ligado em {@code dirtyRows}
+     * mudaram desde a notificação anterior. {@code grid} é o buffer do emissor e deve ser lido
+     * durante o tratamento do evento.
+     */
+    public record BoardDeltaEvent(int playerId, long dirtyRows, int[][] grid) implements PlayerEvent {}
+    /**
+     * Resultado compacto de uma limpeza de linhas: {@code clearedRows} tem um bit por linha
+     * removida, na coordenada interna do tabuleiro (linha 0 = topo do buffer), e
+     * {@code bufferHeight} é o número de linhas de buffer do tabuleiro que a emitiu.
+     */
+    public record LineClearEffectEvent(int playerId, long clearedRows, int linesCleared, int bufferHeight) implements PlayerEvent {}
+    public record PieceTrailEffectEvent(int playerId, int[] position) implements PlayerEvent {}
+    public record CountdownEvent(int playerId, int seconds) implements PlayerEvent {}
+    public record ScreenShakeEvent(int playerId, double intensity) implements PlayerEvent {}
+    public record GameOverEvent(int playerId, GameStatistics statistics) implements PlayerEvent {}
     public record GameOverMultiplayerEvent(GameStatistics statsP1, GameStatistics statsP2, int victoriesP1, int victoriesP2) {}
     private UiEvents() {
     }
@@ -27,8 +60,12 @@ public abstract class UiEvents {
     };
     public static final EventType<BoardUpdateEvent> BOARD_UPDATE = new EventType<>() {
     };
+    public static final EventType<BoardDeltaEvent> BOARD_DELTA_UPDATE = new EventType<>() {
+    };
     public static final EventType<ScreenShakeEvent> SCREEN_SHAKE = new EventType<>() {
     };
+    public static final EventType<LineClearEffectEvent> LINE_CLEAR_EFFECT = new EventType<>() {
+    };
     public static final EventType<NextPieceEvent> NEXT_PIECE_UPDATE = new EventType<>() {
     };
     public static final EventType<ScoreUiEvent> SCORE_UPDATE = new EventType<>() {
@@ -67,6 +104,12 @@ public abstract class UiEvents {
     };
     public static final EventType<Void> START_LOCAL_MULTIPLAYER = new EventType<>() {
     };
+    /** Multiplayer local com o jogador 2 controlado pelo computador */
+    public static final EventType<Void> START_CPU_MULTIPLAYER = new EventType<>() {
+    };
+    /** Repete o último multiplayer local, mantendo ou não o jogador do computador */
+    public static final EventType<Void> RESTART_LOCAL_MULTIPLAYER = new EventType<>() {
+    };
     public static final EventType<Void> SHOW_GAME_MODE_SCREEN = new EventType<>() {
     };
     public static final EventType<Void> OPEN_VIDEO_CONFIG = new EventType<>() {
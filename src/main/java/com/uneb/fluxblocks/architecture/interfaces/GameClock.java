@@ -0,0 +1,41 @@
+package com.uneb.fluxblocks.architecture.interfaces;
+
+/**
+ * Interface para abstrair a fonte de tempo das regras do jogo.
+ * Permite que a lógica (lock delay, cooldown de rotação, timers periódicos) rode
+ * tanto sobre o timer do FXGL quanto sobre um relógio virtual, sem interface gráfica.
+ */
+public interface GameClock {
+
+    /**
+     * Ação agendada no relógio.
+     */
+    interface ScheduledAction {
+        /**
+         * Cancela a ação. Chamadas repetidas não têm efeito.
+         */
+        void cancel();
+    }
+
+    /**
+     * Retorna o tempo atual do relógio.
+     * @return Tempo em segundos
+     */
+    double getNow();
+
+    /**
+     * Agenda uma ação para rodar periodicamente.
+     * @param action A ação a executar
+     * @param intervalSeconds Intervalo entre execuções, em segundos
+     * @return Referência para cancelar a ação
+     */
+    ScheduledAction runAtInterval(Runnable action, double intervalSeconds);
+
+    /**
+     * Agenda uma ação para rodar uma única vez, depois do atraso informado.
+     * @param action A ação a executar
+     * @param delaySeconds Atraso até a execução, em segundos
+     * @return Referência para cancelar a ação antes do prazo
+     */
+    ScheduledAction runAfter(Runnable action, double delaySeconds);
+}
@@ -1,12 +1,13 @@
 package com.uneb.fluxblocks.architecture.mediators;
 
 import com.uneb.fluxblocks.architecture.events.EventType;
-import com.uneb.fluxblocks.ui.screens.GameBoardScreen;
+import com.uneb.fluxblocks.architecture.events.PlayerEvent;
+import com.uneb.fluxblocks.architecture.events.UiEvents;
 import com.uneb.fluxblocks.user.UserManager;
 import com.uneb.fluxblocks.game.ranking.RankingManager;
 
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
 
 /**
  * Mediador central do jogo responsável por gerenciar a comunicação entre componentes.
@@ -16,16 +17,64 @@ import java.util.concurrent.ConcurrentHashMap;
  * <ul>
  *     <li>Eventos tipados para garantir segurança em tempo de compilação</li>
  *     <li>Sistema de prioridades para controlar a ordem de execução dos listeners</li>
- *     <li>Thread-safe usando {@link ConcurrentHashMap} e coleções sincronizadas</li>
+ *     <li>Listeners guardados em arrays copy-on-write indexados pelo id de {@link EventType}:
+ *     registros e remoções copiam o array sob um lock, e {@link #emit} só lê o array publicado,
+ *     sem lock, mapa ou iterador</li>
+ *     <li>Listeners por jogador ({@link #receiver(EventType, int, Listener)}): eventos
+ *     {@link PlayerEvent} só chegam aos listeners do jogador dono do evento</li>
+ *     <li>Fila de interface ({@link #post}): eventos visuais são guardados e entregues uma vez
+ *     por quadro em {@link #flushUiEvents()}, com os tipos {@link Coalescing#LATEST} reduzidos
+ *     ao último dado de cada jogador</li>
+ *     <li>Fila de I/O ({@link #ioReceiver}, {@link #submitIo}): escritas em banco e em arquivo
+ *     rodam em uma thread própria, com o resultado postado de volta na fila de interface</li>
  * </ul>
  */
 public class GameMediator {
-    private final Map<EventType<?>, NavigableSet<PrioritizedListener<?>>> listeners = new ConcurrentHashMap<>();
-    private GameBoardScreen gameBoardScreen;
-    
+    /** Id de jogador dos registros sem jogador */
+    private static final int ANY_PLAYER = -1;
+    private static final PrioritizedListener<?>[] NO_REGISTRATIONS = new PrioritizedListener<?>[0];
+
+    /** Protege as alterações de {@link #registrations} e {@link #dispatch} */
+    private final Object lock = new Object();
+    /** Registros ordenados por prioridade, indexados pelo id do tipo. Só acessado sob {@link #lock} */
+    private PrioritizedListener<?>[][] registrations = new PrioritizedListener<?>[0][];
+    /** Rotas de entrega, indexadas pelo id do tipo. Nunca alterado depois de publicado */
+    private volatile Route[] dispatch = new Route[0];
+
+    private final UiEventLane uiLane = new UiEventLane();
+    /** Chamado quando a fila de interface recebe o primeiro evento de um quadro */
+    private volatile Runnable uiWakeup;
+
+    private final IoEventLane ioLane = new IoEventLane();
+
     private UserManager userManager;
     private RankingManager rankingManager;
 
+    /**
+     * Política de agrupamento dos eventos postados na fila de interface.
+     */
+    public enum Coalescing {
+        /** Todos os eventos do quadro são entregues, na ordem em que foram postados */
+        APPEND,
+        /**
+         * Só o último dado de cada jogador é entregue ({@link PlayerEvent}); dados sem jogador
+         * ficam só com o último do tipo. O evento mantém a posição do primeiro post do quadro.
+         */
+        LATEST
+    }
+
+    /**
+     * Cria o mediador com os estados da interface agrupados por quadro: pontuação, nível,
+     * tempo, tabuleiro completo e fila de próximas peças só precisam do valor mais recente.
+     */
+    public GameMediator() {
+        setUiCoalescing(UiEvents.SCORE_UPDATE, Coalescing.LATEST);
+        setUiCoalescing(UiEvents.LEVEL_UPDATE, Coalescing.LATEST);
+        setUiCoalescing(UiEvents.TIME_UPDATE, Coalescing.LATEST);
+        setUiCoalescing(UiEvents.BOARD_UPDATE, Coalescing.LATEST);
+        setUiCoalescing(UiEvents.NEXT_PIECE_UPDATE, Coalescing.LATEST);
+    }
+
     /**
      * Registra um listener para um tipo específico de evento com prioridade padrão (0).
      *
@@ -47,47 +96,294 @@ public class GameMediator {
      * @param <T> O tipo de dado do evento
      */
     public <T> void receiver(EventType<T> type, Listener<T> listener, int priority) {
-        listeners.computeIfAbsent(type, k -> new TreeSet<>())
-                .add(new PrioritizedListener<>(listener, priority));
+        register(type, ANY_PLAYER, listener, priority);
+    }
+
+    /**
+     * Registra um listener que só recebe os eventos do jogador informado, com prioridade padrão (0).
+     * Eventos de outros jogadores não chegam ao listener, dispensando o filtro por {@code playerId}.
+     *
+     * @param type O tipo do evento a ser observado
+     * @param playerId O id do jogador cujos eventos serão entregues
+     * @param listener O callback a ser executado quando o evento ocorrer
+     * @param <T> O tipo de dado do evento
+     * @throws IllegalArgumentException Se o id do jogador for negativo
+     */
+    public <T extends PlayerEvent> void receiver(EventType<T> type, int playerId, Listener<T> listener) {
+        receiver(type, playerId, listener, 0);
+    }
+
+    /**
+     * Registra um listener que só recebe os eventos do jogador informado, com uma prioridade definida.
+     * A prioridade é comparada com a dos demais listeners do tipo, com ou sem jogador.
+     *
+     * @param type O tipo do evento a ser observado
+     * @param playerId O id do jogador cujos eventos serão entregues
+     * @param listener O callback a ser executado quando o evento ocorrer
+     * @param priority A prioridade do listener (maior = mais prioritário)
+     * @param <T> O tipo de dado do evento
+     * @throws IllegalArgumentException Se o id do jogador for negativo
+     */
+    public <T extends PlayerEvent> void receiver(EventType<T> type, int playerId, Listener<T> listener, int priority) {
+        if (playerId < 0) {
+            throw new IllegalArgumentException("Id do jogador não pode ser negativo: " + playerId);
+        }
+        register(type, playerId, listener, priority);
+    }
+
+    private void register(EventType<?> type, int playerId, Listener<?> listener, int priority) {
+        int id = type.getId();
+        synchronized (lock) {
+            PrioritizedListener<?>[] current = registrationsOf(id);
+            for (PrioritizedListener<?> registration : current) {
+                if (registration.playerId() == playerId && registration.priority() == priority
+                        && registration.listener().equals(listener)) {
+                    return;
+                }
+            }
+
+            // Insere depois de todos os registros de prioridade maior ou igual, mantendo a ordem
+            // de registro entre listeners de mesma prioridade
+            int index = 0;
+            while (index < current.length && current[index].priority() >= priority) {
+                index++;
+            }
+            PrioritizedListener<?>[] updated = new PrioritizedListener<?>[current.length + 1];
+            System.arraycopy(current, 0, updated, 0, index);
+            updated[index] = new PrioritizedListener<>(listener, priority, playerId);
+            System.arraycopy(current, index, updated, index + 1, current.length - index);
+            publish(id, updated);
+        }
     }
 
     /**
      * Emite um evento para todos os listeners registrados do tipo especificado.
      * Os listeners são executados em ordem de prioridade.
+     * <p>
+     * Se o dado for um {@link PlayerEvent}, os listeners registrados para outros jogadores
+     * são ignorados sem serem chamados.
      *
      * @param type O tipo do evento a ser emitido
      * @param payload O dado associado ao evento
      * @param <T> O tipo de dado do evento
      */
+    @SuppressWarnings("unchecked")
     public <T> void emit(EventType<T> type, T payload) {
-        NavigableSet<PrioritizedListener<?>> set = listeners.get(type);
-        if (set == null || set.isEmpty()) return;
+        Route[] table = dispatch;
+        int id = type.getId();
+        if (id >= table.length) return;
+        Route route = table[id];
+        if (route == null) return;
 
-        for (PrioritizedListener<?> prioritizedListener : set) {
-            @SuppressWarnings("unchecked")
-            Listener<T> typedListener = (Listener<T>) prioritizedListener.listener;
-            typedListener.onEvent(payload);
+        Listener<?>[] targets = route.shared();
+        Listener<?>[][] byPlayer = route.byPlayer();
+        if (byPlayer != null && payload instanceof PlayerEvent event) {
+            int playerId = event.playerId();
+            if (playerId >= 0 && playerId < byPlayer.length && byPlayer[playerId] != null) {
+                targets = byPlayer[playerId];
+            }
+        }
+
+        // Percorre o array publicado: registros feitos durante a emissão valem a partir da próxima
+        for (Listener<?> target : targets) {
+            ((Listener<T>) target).onEvent(payload);
         }
     }
 
     /**
-     * Define o GameBoardScreen para ser acessado por outros componentes.
+     * Posta um evento na fila de interface, para ser entregue no próximo {@link #flushUiEvents()}.
+     * Pode ser chamado de qualquer thread.
+     * <p>
+     * O dado é entregue depois do retorno, então não deve ser um buffer reutilizado pelo emissor.
+     * Eventos de tipos sem listeners são descartados na hora.
      *
-     * @param gameBoardScreen A instância do GameBoardScreen
+     * @param type O tipo do evento a ser emitido
+     * @param payload O dado associado ao evento
+     * @param <T> O tipo de dado do evento
      */
-    public void setGameBoardScreen(GameBoardScreen gameBoardScreen) {
-        this.gameBoardScreen = gameBoardScreen;
+    public <T> void post(EventType<T> type, T payload) {
+        Route[] table = dispatch;
+        int id = type.getId();
+        if (id >= table.length || table[id] == null) return;
+
+        if (uiLane.post(type, payload)) {
+            Runnable wakeup = uiWakeup;
+            if (wakeup != null) {
+                wakeup.run();
+            }
+        }
     }
 
     /**
-     * Retorna o GameBoardScreen associado ao mediador.
+     * Entrega os eventos postados desde a última chamada, na thread atual.
+     * Deve ser chamado uma vez por quadro pela thread da interface.
      *
-     * @return A instância do GameBoardScreen
+     * @return O número de eventos entregues
      */
-    public GameBoardScreen getGameBoardScreen() {
-        return gameBoardScreen;
+    public int flushUiEvents() {
+        return uiLane.flush(this);
     }
-    
+
+    /**
+     * Retorna o número de eventos aguardando o próximo {@link #flushUiEvents()}.
+     */
+    public int getPendingUiEventCount() {
+        return uiLane.size();
+    }
+
+    /**
+     * Define como os eventos de um tipo postados no mesmo quadro são agrupados.
+     * Tipos sem política definida usam {@link Coalescing#APPEND}.
+     *
+     * @param type O tipo do evento
+     * @param coalescing A política de agrupamento
+     */
+    public void setUiCoalescing(EventType<?> type, Coalescing coalescing) {
+        if (coalescing == null) {
+            throw new IllegalArgumentException("Política de agrupamento não pode ser null");
+        }
+        uiLane.setCoalescing(type, coalescing);
+    }
+
+    /**
+     * Define a ação executada quando a fila de interface deixa de estar vazia, por exemplo
+     * pedir um novo quadro ao JavaFX quando não há animação em andamento.
+     *
+     * @param wakeup A ação, ou null para nenhuma
+     */
+    public void setUiWakeup(Runnable wakeup) {
+        this.uiWakeup = wakeup;
+    }
+
+    /**
+     * Registra um listener executado na thread de I/O: a emissão apenas agenda a chamada e
+     * retorna sem esperar. Para listeners que gravam em banco ou em arquivo.
+     * <p>
+     * O listener não deve tocar na interface; resultados visíveis devem ser enviados com
+     * {@link #post}. O dado do evento é lido depois da emissão, então não deve ser alterado
+     * pelo emissor.
+     *
+     * @param type O tipo do evento a ser observado
+     * @param listener O callback a ser executado na thread de I/O
+     * @param <T> O tipo de dado do evento
+     */
+    public <T> void ioReceiver(EventType<T> type, Listener<T> listener) {
+        register(type, ANY_PLAYER, new IoListener<>(listener, ioLane), 0);
+    }
+
+    /**
+     * Remove um listener registrado com {@link #ioReceiver}.
+     *
+     * @param type O tipo do evento do qual remover o listener
+     * @param listener O listener a ser removido
+     * @param <T> O tipo de dado do evento
+     */
+    public <T> void removeIoReceiver(EventType<T> type, Listener<T> listener) {
+        unregister(type, ANY_PLAYER, new IoListener<>(listener, ioLane));
+    }
+
+    /**
+     * Executa uma tarefa na thread de I/O e posta o resultado na fila de interface com o
+     * tipo informado. Se a tarefa falhar, o erro é registrado e nada é postado.
+     *
+     * @param task A tarefa de I/O
+     * @param completion O tipo do evento de conclusão, ou null para não postar nada
+     * @param <R> O tipo do resultado
+     */
+    public <R> void submitIo(Callable<R> task, EventType<R> completion) {
+        ioLane.execute(() -> {
+            R result;
+            try {
+                result = task.call();
+            } catch (Exception e) {
+                throw new IllegalStateException("Falha na tarefa de I/O", e);
+            }
+            if (completion != null) {
+                post(completion, result);
+            }
+        });
+    }
+
+    /**
+     * Retorna o número de tarefas de I/O aguardando ou em execução.
+     */
+    public int getPendingIoTaskCount() {
+        return ioLane.getPendingCount();
+    }
+
+    /**
+     * Recusa novas tarefas de I/O e espera as pendentes terminarem.
+     *
+     * @param timeoutMs Tempo máximo de espera, em milissegundos
+     * @return true se todas as tarefas terminaram dentro do prazo
+     */
+    public boolean shutdownIo(long timeoutMs) {
+        return ioLane.shutdown(timeoutMs);
+    }
+
+    /**
+     * Retorna os registros atuais de um tipo. Deve ser chamado sob {@link #lock}.
+     */
+    private PrioritizedListener<?>[] registrationsOf(int id) {
+        if (id >= registrations.length || registrations[id] == null) {
+            return NO_REGISTRATIONS;
+        }
+        return registrations[id];
+    }
+
+    /**
+     * Substitui os registros de um tipo e publica uma nova tabela de despacho.
+     * Deve ser chamado sob {@link #lock}.
+     */
+    private void publish(int id, PrioritizedListener<?>[] updated) {
+        if (id >= registrations.length) {
+            registrations = Arrays.copyOf(registrations, Math.max(id + 1, registrations.length * 2));
+        }
+        registrations[id] = updated.length == 0 ? null : updated;
+
+        Route[] table = Arrays.copyOf(dispatch, registrations.length);
+        table[id] = updated.length == 0 ? null : buildRoute(updated);
+        dispatch = table;
+    }
+
+    /**
+     * Monta a rota de um tipo: os listeners sem jogador e, para cada jogador com registros
+     * próprios, a junção dos dois grupos na ordem de prioridade.
+     */
+    private static Route buildRoute(PrioritizedListener<?>[] registrations) {
+        int maxPlayer = ANY_PLAYER;
+        for (PrioritizedListener<?> registration : registrations) {
+            maxPlayer = Math.max(maxPlayer, registration.playerId());
+        }
+
+        Listener<?>[] shared = select(registrations, ANY_PLAYER);
+        Listener<?>[][] byPlayer = null;
+        if (maxPlayer != ANY_PLAYER) {
+            byPlayer = new Listener<?>[maxPlayer + 1][];
+            for (PrioritizedListener<?> registration : registrations) {
+                int playerId = registration.playerId();
+                if (playerId != ANY_PLAYER && byPlayer[playerId] == null) {
+                    byPlayer[playerId] = select(registrations, playerId);
+                }
+            }
+        }
+        return new Route(shared, byPlayer);
+    }
+
+    /**
+     * Retorna, em ordem, os listeners sem jogador e os do jogador informado.
+     */
+    private static Listener<?>[] select(PrioritizedListener<?>[] registrations, int playerId) {
+        Listener<?>[] selected = new Listener<?>[registrations.length];
+        int size = 0;
+        for (PrioritizedListener<?> registration : registrations) {
+            if (registration.playerId() == ANY_PLAYER || registration.playerId() == playerId) {
+                selected[size++] = registration.listener();
+            }
+        }
+        return Arrays.copyOf(selected, size);
+    }
+
     /**
      * Define o UserManager principal do sistema.
      *
@@ -135,59 +431,76 @@ public class GameMediator {
     }
 
     /**
-         * Wrapper interno para listeners que adiciona suporte a prioridades.
-         * Implementa {@link Comparable} para ordenação baseada em prioridade.
-         *
-         * @param <T> O tipo de dado do evento
-         */
-        private record PrioritizedListener<T>(Listener<T> listener,
-                                              int priority) implements Comparable<PrioritizedListener<?>> {
+     * Registro interno de um listener com sua prioridade e, se houver, o jogador de seus eventos.
+     *
+     * @param <T> O tipo de dado do evento
+     */
+    private record PrioritizedListener<T>(Listener<T> listener, int priority, int playerId) {
+    }
 
+    /**
+     * Listener que repassa o evento para a thread de I/O. A igualdade pelo listener original
+     * permite removê-lo em {@link #removeIoReceiver}.
+     */
+    private record IoListener<T>(Listener<T> target, IoEventLane lane) implements Listener<T> {
         @Override
-            public int compareTo(PrioritizedListener<?> o) {
-                int cmp = Integer.compare(o.priority, this.priority);
-                if (cmp == 0) {
-                    return Integer.compare(System.identityHashCode(this.listener), System.identityHashCode(o.listener));
-                }
-                return cmp;
-            }
-
-            @Override
-            public boolean equals(Object o) {
-                if (this == o) return true;
-                if (o == null || getClass() != o.getClass()) return false;
-                PrioritizedListener<?> that = (PrioritizedListener<?>) o;
-                return listener.equals(that.listener);
-            }
-
-            @Override
-            public int hashCode() {
-                return Objects.hash(listener);
-            }
+        public void onEvent(T payload) {
+            lane.execute(() -> target.onEvent(payload));
         }
+    }
+
+    /**
+     * Listeners de um tipo prontos para a emissão.
+     *
+     * @param shared Listeners sem jogador, entregues para qualquer dado
+     * @param byPlayer Por id de jogador, os listeners sem jogador junto com os do jogador;
+     *                 null se nenhum listener do tipo tem jogador
+     */
+    private record Route(Listener<?>[] shared, Listener<?>[][] byPlayer) {
+    }
 
 
     /**
-     * Remove um listener específico de um tipo de evento.
+     * Remove um listener específico de um tipo de evento, registrado sem jogador.
      *
      * @param type     O tipo do evento do qual remover o listener
      * @param listener O listener a ser removido
      * @param <T>      O tipo de dado do evento
      */
     public <T> void removeReceiver(EventType<T> type, Listener<T> listener) {
-        NavigableSet<PrioritizedListener<?>> set = listeners.get(type);
-        if (set == null || set.isEmpty()) return;
+        unregister(type, ANY_PLAYER, listener);
+    }
 
-        // Encontra e remove o listener baseado na instância
-        boolean removed = set.removeIf(prioritizedListener ->
-                prioritizedListener.listener().equals(listener)
-        );
+    /**
+     * Remove um listener registrado para os eventos de um jogador.
+     *
+     * @param type     O tipo do evento do qual remover o listener
+     * @param playerId O id do jogador usado no registro
+     * @param listener O listener a ser removido
+     * @param <T>      O tipo de dado do evento
+     */
+    public <T extends PlayerEvent> void removeReceiver(EventType<T> type, int playerId, Listener<T> listener) {
+        unregister(type, playerId, listener);
+    }
 
-        // Remove o conjunto vazio se não há mais listeners
-        if (set.isEmpty()) {
-            listeners.remove(type);
-        }
+    private void unregister(EventType<?> type, int playerId, Listener<?> listener) {
+        int id = type.getId();
+        synchronized (lock) {
+            PrioritizedListener<?>[] current = registrationsOf(id);
+            if (current.length == 0) return;
 
+            // Encontra e remove o listener baseado na instância
+            PrioritizedListener<?>[] updated = new PrioritizedListener<?>[current.length];
+            int size = 0;
+            for (PrioritizedListener<?> registration : current) {
+                if (registration.playerId() != playerId || !registration.listener().equals(listener)) {
+                    updated[size++] = registration;
+                }
+            }
+            if (size != current.length) {
+                publish(id, Arrays.copyOf(updated, size));
+            }
+        }
     }
 
     /**
@@ -195,6 +508,10 @@ public class GameMediator {
      * Útil para evitar interferência entre partidas diferentes.
      */
     public void clearAllListeners() {
-        listeners.clear();
+        synchronized (lock) {
+            registrations = new PrioritizedListener<?>[0][];
+            dispatch = new Route[0];
+        }
+        uiLane.clear();
     }
 }
\ No newline at end of file
@@ -0,0 +1,102 @@
+package com.uneb.fluxblocks.architecture.mediators;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fila de tarefas de I/O (banco de dados, arquivo de sessão) executadas fora da thread do
+ * JavaFX pelo {@link GameMediator}.
+ *
+ * <p>Uma única thread de trabalho executa as tarefas na ordem em que chegaram, então escritas
+ * do mesmo dado (login seguido de logout, por exemplo) não se invertem. A fila é limitada:
+ * se encher, quem envia a tarefa espera até haver espaço, em vez de acumular memória sem
+ * limite ou executar o I/O fora de ordem na própria thread. Tarefas enviadas depois do
+ * desligamento são descartadas e registradas no log.</p>
+ *
+ * <p>A thread só é criada na primeira tarefa, então mediadores sem I/O (como os das simulações
+ * sem interface) não criam threads. Ela é daemon, e um gancho de desligamento da JVM espera
+ * as tarefas pendentes terminarem por até {@link #SHUTDOWN_TIMEOUT_MS} ms.</p>
+ */
+final class IoEventLane {
+    private static final int QUEUE_CAPACITY = 256;
+    private static final long SHUTDOWN_TIMEOUT_MS = 2000;
+
+    /** Bloqueia quem envia até a fila ter espaço; após o desligamento, descarta a tarefa */
+    private static final RejectedExecutionHandler WAIT_FOR_SPACE = (task, pool) -> {
+        if (pool.isShutdown()) {
+            System.err.println("Tarefa de I/O descartada: a fila de I/O já foi encerrada");
+            return;
+        }
+        try {
+            pool.getQueue().put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.err.println("Tarefa de I/O descartada: envio interrompido com a fila cheia");
+        }
+    };
+
+    private ThreadPoolExecutor executor;
+
+    /**
+     * Agenda uma tarefa na thread de I/O. Exceções da tarefa são registradas e não
+     * interrompem as tarefas seguintes.
+     */
+    void execute(Runnable task) {
+        executor().execute(() -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                System.err.println("Erro em tarefa de I/O: " + e.getMessage());
+                e.printStackTrace();
+            }
+        });
+    }
+
+    /**
+     * Retorna o número de tarefas aguardando ou em execução.
+     */
+    synchronized int getPendingCount() {
+        if (executor == null) return 0;
+        return executor.getQueue().size() + executor.getActiveCount();
+    }
+
+    /**
+     * Recusa novas tarefas e espera as pendentes terminarem.
+     *
+     * @param timeoutMs Tempo máximo de espera, em milissegundos
+     * @return true se todas as tarefas terminaram dentro do prazo
+     */
+    boolean shutdown(long timeoutMs) {
+        ThreadPoolExecutor current;
+        synchronized (this) {
+            current = executor;
+        }
+        if (current == null) return true;
+
+        current.shutdown();
+        try {
+            return current.awaitTermination(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private synchronized ThreadPoolExecutor executor() {
+        if (executor == null) {
+            executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                    task -> {
+                        Thread thread = new Thread(task, "fluxblocks-io");
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    WAIT_FOR_SPACE);
+            Runtime.getRuntime().addShutdownHook(
+                    new Thread(() -> shutdown(SHUTDOWN_TIMEOUT_MS), "fluxblocks-io-shutdown"));
+        }
+        return executor;
+    }
+}
@@ -0,0 +1,147 @@
+package com.uneb.fluxblocks.architecture.mediators;
+
+import com.uneb.fluxblocks.architecture.events.EventType;
+import com.uneb.fluxblocks.architecture.events.PlayerEvent;
+
+import java.util.Arrays;
+
+/**
+ * Fila de eventos destinados à interface, esvaziada uma vez por quadro pelo {@link GameMediator}.
+ *
+ * <p>Os eventos postados entre dois quadros ficam guardados na ordem de chegada. Tipos com
+ * {@link GameMediator.Coalescing#LATEST} guardam só o último dado de cada jogador: um novo
+ * post substitui o dado pendente na mesma posição da fila. Os demais tipos são acumulados.</p>
+ *
+ * <p>O post pode vir de qualquer thread. A entrega acontece na thread que chama
+ * {@link #flush(GameMediator)}, com a fila trocada por um segundo buffer sob o lock, então
+ * eventos postados durante a entrega ficam para o quadro seguinte.</p>
+ */
+final class UiEventLane {
+    private static final int INITIAL_CAPACITY = 16;
+    /** Chave de jogador dos dados que não são {@link PlayerEvent} */
+    private static final int NO_PLAYER = Integer.MIN_VALUE;
+
+    private final Object lock = new Object();
+
+    /** Política de cada tipo, indexada pelo id do tipo. Só acessado sob {@link #lock} */
+    private GameMediator.Coalescing[] modes = new GameMediator.Coalescing[0];
+
+    private EventType<?>[] pendingTypes = new EventType<?>[INITIAL_CAPACITY];
+    private Object[] pendingPayloads = new Object[INITIAL_CAPACITY];
+    private int pendingSize = 0;
+
+    /** Buffers da entrega em andamento, trocados com os pendentes a cada quadro */
+    private EventType<?>[] drainingTypes = new EventType<?>[INITIAL_CAPACITY];
+    private Object[] drainingPayloads = new Object[INITIAL_CAPACITY];
+
+    /**
+     * Define a política de agrupamento de um tipo.
+     */
+    void setCoalescing(EventType<?> type, GameMediator.Coalescing coalescing) {
+        int id = type.getId();
+        synchronized (lock) {
+            if (id >= modes.length) {
+                modes = Arrays.copyOf(modes, Math.max(id + 1, modes.length * 2));
+            }
+            modes[id] = coalescing;
+        }
+    }
+
+    /**
+     * Guarda um evento para o próximo quadro.
+     *
+     * @return true se a fila estava vazia, ou seja, se o quadro ainda precisa ser pedido
+     */
+    boolean post(EventType<?> type, Object payload) {
+        int id = type.getId();
+        synchronized (lock) {
+            boolean wasEmpty = pendingSize == 0;
+            if (id < modes.length && modes[id] == GameMediator.Coalescing.LATEST) {
+                int player = playerKey(payload);
+                for (int i = 0; i < pendingSize; i++) {
+                    if (pendingTypes[i] == type && playerKey(pendingPayloads[i]) == player) {
+                        pendingPayloads[i] = payload;
+                        return false;
+                    }
+                }
+            }
+
+            if (pendingSize == pendingTypes.length) {
+                pendingTypes = Arrays.copyOf(pendingTypes, pendingSize * 2);
+                pendingPayloads = Arrays.copyOf(pendingPayloads, pendingSize * 2);
+            }
+            pendingTypes[pendingSize] = type;
+            pendingPayloads[pendingSize] = payload;
+            pendingSize++;
+            return wasEmpty;
+        }
+    }
+
+    /**
+     * Entrega pelo mediador todos os eventos pendentes, na ordem em que foram postados.
+     *
+     * @return O número de eventos entregues
+     */
+    @SuppressWarnings("unchecked")
+    int flush(GameMediator mediator) {
+        EventType<?>[] types;
+        Object[] payloads;
+        int size;
+        synchronized (lock) {
+            size = pendingSize;
+            if (size == 0) return 0;
+
+            types = pendingTypes;
+            payloads = pendingPayloads;
+            if (drainingTypes != null) {
+                pendingTypes = drainingTypes;
+                pendingPayloads = drainingPayloads;
+                drainingTypes = null;
+                drainingPayloads = null;
+            } else {
+                // Entrega aninhada: o segundo buffer ainda está em uso pela entrega externa
+                pendingTypes = new EventType<?>[INITIAL_CAPACITY];
+                pendingPayloads = new Object[INITIAL_CAPACITY];
+            }
+            pendingSize = 0;
+        }
+
+        try {
+            for (int i = 0; i < size; i++) {
+                mediator.emit((EventType<Object>) types[i], payloads[i]);
+            }
+        } finally {
+            Arrays.fill(types, 0, size, null);
+            Arrays.fill(payloads, 0, size, null);
+            synchronized (lock) {
+                // Devolve os buffers para a próxima troca
+                if (drainingTypes == null) {
+                    drainingTypes = types;
+                    drainingPayloads = payloads;
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Descarta os eventos pendentes.
+     */
+    void clear() {
+        synchronized (lock) {
+            Arrays.fill(pendingTypes, 0, pendingSize, null);
+            Arrays.fill(pendingPayloads, 0, pendingSize, null);
+            pendingSize = 0;
+        }
+    }
+
+    int size() {
+        synchronized (lock) {
+            return pendingSize;
+        }
+    }
+
+    private static int playerKey(Object payload) {
+        return payload instanceof PlayerEvent event ? event.playerId() : NO_PLAYER;
+    }
+}
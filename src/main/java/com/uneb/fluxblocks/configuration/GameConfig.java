@@ -6,7 +6,6 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Properties;
-import javafx.scene.CacheHint;
 
 /**
  * Classe de configuração centralizada para o jogo FluxBlocks.
@@ -30,6 +29,7 @@ public class GameConfig implements ConfigurationManager {
     public static double INITIAL_GAME_SPEED = 1000.0;
     public static double LOCK_DELAY = 700.0;
     public static int MAX_LOCK_RESETS = 15;
+    public static int NEXT_PIECE_COUNT = 5;
 
     // Configurações de Input
     public static double MOVE_INITIAL_DELAY = 200.0;
@@ -284,13 +284,6 @@ public class GameConfig implements ConfigurationManager {
         CACHE_HINT_TYPE = hintType;
     }
 
-    public static CacheHint getCacheHint() {
-        return switch (CACHE_HINT_TYPE.toUpperCase()) {
-            case "QUALITY" -> CacheHint.QUALITY;
-            default -> CacheHint.SPEED;
-        };
-    }
-
     // Métodos para configuração de vídeo
     public static void setVideoSettings(boolean fullscreen, int width, int height) {
         FULLSCREEN = fullscreen;
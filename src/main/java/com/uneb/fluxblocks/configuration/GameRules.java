@@ -0,0 +1,512 @@
+package com.uneb.fluxblocks.configuration;
+
+/**
+ * Regras de uma partida, fixadas no momento em que ela é criada.
+ *
+ * <p>Diferente dos campos estáticos de {@link GameConfig}, que podem ser alterados a qualquer
+ * momento pela tela de configurações, um {@code GameRules} é imutável: tabuleiro, estado,
+ * sistema de peças, timers e pontuação recebem a mesma instância na construção e a usam
+ * até o fim da partida. Assim várias partidas com regras diferentes podem rodar na mesma JVM.</p>
+ *
+ * <p>{@link #fromConfig()} tira uma cópia dos valores atuais de {@link GameConfig}
+ * (carregados e salvos pelo {@link ConfigurationManager}); {@link #builder()} permite
+ * montar regras próprias a partir das regras padrão, sem depender da configuração salva.</p>
+ */
+public final class GameRules {
+    /** Fator aplicado à velocidade de queda a cada nível */
+    private static final double LEVEL_SPEED_FACTOR = 0.8;
+
+    // Tabuleiro
+    private final int boardWidth;
+    private final int boardHeight;
+    private final int bufferRows;
+
+    // Gameplay
+    private final int linesPerLevel;
+    private final double initialGameSpeed;
+    private final double lockDelay;
+    private final int maxLockResets;
+    private final double rotateInitialDelay;
+    private final double rotateRepeatDelay;
+    private final int nextPieceCount;
+
+    // Pontuação
+    private final int scoreSingleLine;
+    private final int scoreDoubleLine;
+    private final int scoreTripleLine;
+    private final int scoreQuadraLine;
+    private final int scoreSoftDrop;
+    private final int scoreHardDrop;
+
+    // Pontuação para Spins
+    private final int scoreSpinBase;
+    private final int scoreSpinMiniBase;
+    private final int scoreSpinSingle;
+    private final int scoreSpinDouble;
+    private final int scoreSpinTriple;
+    private final int scoreSpinMiniSingle;
+    private final int scoreSpinMiniDouble;
+
+    // Pontuação para Triple Spins
+    private final int scoreTripleSpinBase;
+    private final int scoreTripleSpinMiniBase;
+    private final int scoreTripleSpinSingle;
+    private final int scoreTripleSpinDouble;
+    private final int scoreTripleSpinTriple;
+    private final int scoreTripleSpinMiniSingle;
+    private final int scoreTripleSpinMiniDouble;
+
+    private GameRules(Builder builder) {
+        this.boardWidth = builder.boardWidth;
+        this.boardHeight = builder.boardHeight;
+        this.bufferRows = builder.bufferRows;
+        this.linesPerLevel = builder.linesPerLevel;
+        this.initialGameSpeed = builder.initialGameSpeed;
+        this.lockDelay = builder.lockDelay;
+        this.maxLockResets = builder.maxLockResets;
+        this.rotateInitialDelay = builder.rotateInitialDelay;
+        this.rotateRepeatDelay = builder.rotateRepeatDelay;
+        this.nextPieceCount = builder.nextPieceCount;
+        this.scoreSingleLine = builder.scoreSingleLine;
+        this.scoreDoubleLine = builder.scoreDoubleLine;
+        this.scoreTripleLine = builder.scoreTripleLine;
+        this.scoreQuadraLine = builder.scoreQuadraLine;
+        this.scoreSoftDrop = builder.scoreSoftDrop;
+        this.scoreHardDrop = builder.scoreHardDrop;
+        this.scoreSpinBase = builder.scoreSpinBase;
+        this.scoreSpinMiniBase = builder.scoreSpinMiniBase;
+        this.scoreSpinSingle = builder.scoreSpinSingle;
+        this.scoreSpinDouble = builder.scoreSpinDouble;
+        this.scoreSpinTriple = builder.scoreSpinTriple;
+        this.scoreSpinMiniSingle = builder.scoreSpinMiniSingle;
+        this.scoreSpinMiniDouble = builder.scoreSpinMiniDouble;
+        this.scoreTripleSpinBase = builder.scoreTripleSpinBase;
+        this.scoreTripleSpinMiniBase = builder.scoreTripleSpinMiniBase;
+        this.scoreTripleSpinSingle = builder.scoreTripleSpinSingle;
+        this.scoreTripleSpinDouble = builder.scoreTripleSpinDouble;
+        this.scoreTripleSpinTriple = builder.scoreTripleSpinTriple;
+        this.scoreTripleSpinMiniSingle = builder.scoreTripleSpinMiniSingle;
+        this.scoreTripleSpinMiniDouble = builder.scoreTripleSpinMiniDouble;
+    }
+
+    /**
+     * Cria uma cópia das regras com os valores atuais de {@link GameConfig}.
+     *
+     * @return As regras configuradas no momento da chamada
+     */
+    public static GameRules fromConfig() {
+        return configBuilder().build();
+    }
+
+    /**
+     * Cria as regras padrão do jogo, sem ler {@link GameConfig}.
+     *
+     * @return As regras padrão
+     */
+    public static GameRules defaults() {
+        return builder().build();
+    }
+
+    /**
+     * Cria um builder inicializado com as regras padrão do jogo. Não depende de
+     * {@link GameConfig} nem do que foi salvo pela tela de configurações.
+     *
+     * @return Um novo builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Cria um builder inicializado com os valores atuais de {@link GameConfig}.
+     *
+     * @return Um novo builder
+     */
+    public static Builder configBuilder() {
+        Builder builder = new Builder();
+        builder.boardWidth = GameConfig.BOARD_WIDTH;
+        builder.boardHeight = GameConfig.BOARD_HEIGHT;
+        builder.bufferRows = GameConfig.BOARD_VISIBLE_ROW;
+        builder.linesPerLevel = GameConfig.LINES_PER_LEVEL;
+        builder.initialGameSpeed = GameConfig.INITIAL_GAME_SPEED;
+        builder.lockDelay = GameConfig.LOCK_DELAY;
+        builder.maxLockResets = GameConfig.MAX_LOCK_RESETS;
+        builder.rotateInitialDelay = GameConfig.ROTATE_INITIAL_DELAY;
+        builder.rotateRepeatDelay = GameConfig.ROTATE_REPEAT_DELAY;
+        builder.nextPieceCount = GameConfig.NEXT_PIECE_COUNT;
+        builder.scoreSingleLine = GameConfig.SCORE_SINGLE_LINE;
+        builder.scoreDoubleLine = GameConfig.SCORE_DOUBLE_LINE;
+        builder.scoreTripleLine = GameConfig.SCORE_TRIPLE_LINE;
+        builder.scoreQuadraLine = GameConfig.SCORE_QUADRA_LINE;
+        builder.scoreSoftDrop = GameConfig.SCORE_SOFT_DROP;
+        builder.scoreHardDrop = GameConfig.SCORE_HARD_DROP;
+        builder.scoreSpinBase = GameConfig.SCORE_SPIN_BASE;
+        builder.scoreSpinMiniBase = GameConfig.SCORE_SPIN_MINI_BASE;
+        builder.scoreSpinSingle = GameConfig.SCORE_SPIN_SINGLE;
+        builder.scoreSpinDouble = GameConfig.SCORE_SPIN_DOUBLE;
+        builder.scoreSpinTriple = GameConfig.SCORE_SPIN_TRIPLE;
+        builder.scoreSpinMiniSingle = GameConfig.SCORE_SPIN_MINI_SINGLE;
+        builder.scoreSpinMiniDouble = GameConfig.SCORE_SPIN_MINI_DOUBLE;
+        builder.scoreTripleSpinBase = GameConfig.SCORE_TRIPLE_SPIN_BASE;
+        builder.scoreTripleSpinMiniBase = GameConfig.SCORE_TRIPLE_SPIN_MINI_BASE;
+        builder.scoreTripleSpinSingle = GameConfig.SCORE_TRIPLE_SPIN_SINGLE;
+        builder.scoreTripleSpinDouble = GameConfig.SCORE_TRIPLE_SPIN_DOUBLE;
+        builder.scoreTripleSpinTriple = GameConfig.SCORE_TRIPLE_SPIN_TRIPLE;
+        builder.scoreTripleSpinMiniSingle = GameConfig.SCORE_TRIPLE_SPIN_MINI_SINGLE;
+        builder.scoreTripleSpinMiniDouble = GameConfig.SCORE_TRIPLE_SPIN_MINI_DOUBLE;
+        return builder;
+    }
+
+    /**
+     * Cria um builder inicializado com estas regras, para derivar uma variação delas.
+     *
+     * @return Um novo builder com os mesmos valores
+     */
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
+    /**
+     * Calcula o intervalo de queda automática para um nível.
+     *
+     * @param level O nível atual
+     * @return O intervalo em milissegundos
+     */
+    public double calculateGameSpeed(int level) {
+        return initialGameSpeed * Math.pow(LEVEL_SPEED_FACTOR, level - 1);
+    }
+
+    public int getBoardWidth() {
+        return boardWidth;
+    }
+
+    /**
+     * Retorna a altura visível do tabuleiro, sem as linhas de buffer.
+     */
+    public int getBoardHeight() {
+        return boardHeight;
+    }
+
+    /**
+     * Retorna o número de linhas de buffer acima da área visível.
+     */
+    public int getBufferRows() {
+        return bufferRows;
+    }
+
+    public int getLinesPerLevel() {
+        return linesPerLevel;
+    }
+
+    /**
+     * Retorna o intervalo de queda automática no nível 1, em milissegundos.
+     */
+    public double getInitialGameSpeed() {
+        return initialGameSpeed;
+    }
+
+    /**
+     * Retorna o lock delay, em milissegundos.
+     */
+    public double getLockDelay() {
+        return lockDelay;
+    }
+
+    public int getMaxLockResets() {
+        return maxLockResets;
+    }
+
+    public double getRotateInitialDelay() {
+        return rotateInitialDelay;
+    }
+
+    public double getRotateRepeatDelay() {
+        return rotateRepeatDelay;
+    }
+
+    /**
+     * Retorna quantas próximas peças ficam visíveis na fila de prévia.
+     */
+    public int getNextPieceCount() {
+        return nextPieceCount;
+    }
+
+    public int getScoreSingleLine() {
+        return scoreSingleLine;
+    }
+
+    public int getScoreDoubleLine() {
+        return scoreDoubleLine;
+    }
+
+    public int getScoreTripleLine() {
+        return scoreTripleLine;
+    }
+
+    public int getScoreQuadraLine() {
+        return scoreQuadraLine;
+    }
+
+    public int getScoreSoftDrop() {
+        return scoreSoftDrop;
+    }
+
+    public int getScoreHardDrop() {
+        return scoreHardDrop;
+    }
+
+    public int getScoreSpinBase() {
+        return scoreSpinBase;
+    }
+
+    public int getScoreSpinMiniBase() {
+        return scoreSpinMiniBase;
+    }
+
+    public int getScoreSpinSingle() {
+        return scoreSpinSingle;
+    }
+
+    public int getScoreSpinDouble() {
+        return scoreSpinDouble;
+    }
+
+    public int getScoreSpinTriple() {
+        return scoreSpinTriple;
+    }
+
+    public int getScoreSpinMiniSingle() {
+        return scoreSpinMiniSingle;
+    }
+
+    public int getScoreSpinMiniDouble() {
+        return scoreSpinMiniDouble;
+    }
+
+    public int getScoreTripleSpinBase() {
+        return scoreTripleSpinBase;
+    }
+
+    public int getScoreTripleSpinMiniBase() {
+        return scoreTripleSpinMiniBase;
+    }
+
+    public int getScoreTripleSpinSingle() {
+        return scoreTripleSpinSingle;
+    }
+
+    public int getScoreTripleSpinDouble() {
+        return scoreTripleSpinDouble;
+    }
+
+    public int getScoreTripleSpinTriple() {
+        return scoreTripleSpinTriple;
+    }
+
+    public int getScoreTripleSpinMiniSingle() {
+        return scoreTripleSpinMiniSingle;
+    }
+
+    public int getScoreTripleSpinMiniDouble() {
+        return scoreTripleSpinMiniDouble;
+    }
+
+    /**
+     * Builder de {@link GameRules}. Começa com as regras padrão do jogo
+     * (ou com os valores de {@link GameConfig}, por {@link GameRules#configBuilder()}).
+     */
+    public static final class Builder {
+        private int boardWidth = 10;
+        private int boardHeight = 20;
+        private int bufferRows = 3;
+        private int linesPerLevel = 10;
+        private double initialGameSpeed = 1000.0;
+        private double lockDelay = 700.0;
+        private int maxLockResets = 15;
+        private double rotateInitialDelay = 100.0;
+        private double rotateRepeatDelay = 200.0;
+        private int nextPieceCount = 5;
+        private int scoreSingleLine = 40;
+        private int scoreDoubleLine = 100;
+        private int scoreTripleLine = 300;
+        private int scoreQuadraLine = 1200;
+        private int scoreSoftDrop = 1;
+        private int scoreHardDrop = 2;
+        private int scoreSpinBase = 400;
+        private int scoreSpinMiniBase = 100;
+        private int scoreSpinSingle = 800;
+        private int scoreSpinDouble = 1200;
+        private int scoreSpinTriple = 1600;
+        private int scoreSpinMiniSingle = 200;
+        private int scoreSpinMiniDouble = 400;
+        private int scoreTripleSpinBase = 1200;
+        private int scoreTripleSpinMiniBase = 300;
+        private int scoreTripleSpinSingle = 2400;
+        private int scoreTripleSpinDouble = 3600;
+        private int scoreTripleSpinTriple = 4800;
+        private int scoreTripleSpinMiniSingle = 600;
+        private int scoreTripleSpinMiniDouble = 1200;
+
+        private Builder() {
+        }
+
+        private Builder(GameRules rules) {
+            this.boardWidth = rules.boardWidth;
+            this.boardHeight = rules.boardHeight;
+            this.bufferRows = rules.bufferRows;
+            this.linesPerLevel = rules.linesPerLevel;
+            this.initialGameSpeed = rules.initialGameSpeed;
+            this.lockDelay = rules.lockDelay;
+            this.maxLockResets = rules.maxLockResets;
+            this.rotateInitialDelay = rules.rotateInitialDelay;
+            this.rotateRepeatDelay = rules.rotateRepeatDelay;
+            this.nextPieceCount = rules.nextPieceCount;
+            this.scoreSingleLine = rules.scoreSingleLine;
+            this.scoreDoubleLine = rules.scoreDoubleLine;
+            this.scoreTripleLine = rules.scoreTripleLine;
+            this.scoreQuadraLine = rules.scoreQuadraLine;
+            this.scoreSoftDrop = rules.scoreSoftDrop;
+            this.scoreHardDrop = rules.scoreHardDrop;
+            this.scoreSpinBase = rules.scoreSpinBase;
+            this.scoreSpinMiniBase = rules.scoreSpinMiniBase;
+            this.scoreSpinSingle = rules.scoreSpinSingle;
+            this.scoreSpinDouble = rules.scoreSpinDouble;
+            this.scoreSpinTriple = rules.scoreSpinTriple;
+            this.scoreSpinMiniSingle = rules.scoreSpinMiniSingle;
+            this.scoreSpinMiniDouble = rules.scoreSpinMiniDouble;
+            this.scoreTripleSpinBase = rules.scoreTripleSpinBase;
+            this.scoreTripleSpinMiniBase = rules.scoreTripleSpinMiniBase;
+            this.scoreTripleSpinSingle = rules.scoreTripleSpinSingle;
+            this.scoreTripleSpinDouble = rules.scoreTripleSpinDouble;
+            this.scoreTripleSpinTriple = rules.scoreTripleSpinTriple;
+            this.scoreTripleSpinMiniSingle = rules.scoreTripleSpinMiniSingle;
+            this.scoreTripleSpinMiniDouble = rules.scoreTripleSpinMiniDouble;
+        }
+
+        public Builder boardSize(int width, int height, int bufferRows) {
+            this.boardWidth = width;
+            this.boardHeight = height;
+            this.bufferRows = bufferRows;
+            return this;
+        }
+
+        public Builder linesPerLevel(int linesPerLevel) {
+            this.linesPerLevel = linesPerLevel;
+            return this;
+        }
+
+        public Builder initialGameSpeed(double initialGameSpeed) {
+            this.initialGameSpeed = initialGameSpeed;
+            return this;
+        }
+
+        public Builder lockDelay(double lockDelay) {
+            this.lockDelay = lockDelay;
+            return this;
+        }
+
+        public Builder maxLockResets(int maxLockResets) {
+            this.maxLockResets = maxLockResets;
+            return this;
+        }
+
+        public Builder rotateDelays(double initialDelay, double repeatDelay) {
+            this.rotateInitialDelay = initialDelay;
+            this.rotateRepeatDelay = repeatDelay;
+            return this;
+        }
+
+        /**
+         * Define quantas próximas peças ficam visíveis na fila de prévia.
+         */
+        public Builder nextPieceCount(int nextPieceCount) {
+            this.nextPieceCount = nextPieceCount;
+            return this;
+        }
+
+        /**
+         * Define a pontuação base de 1, 2, 3 e 4 linhas.
+         */
+        public Builder lineScores(int single, int doubleLine, int triple, int quadra) {
+            this.scoreSingleLine = single;
+            this.scoreDoubleLine = doubleLine;
+            this.scoreTripleLine = triple;
+            this.scoreQuadraLine = quadra;
+            return this;
+        }
+
+        public Builder dropScores(int softDrop, int hardDrop) {
+            this.scoreSoftDrop = softDrop;
+            this.scoreHardDrop = hardDrop;
+            return this;
+        }
+
+        /**
+         * Define a pontuação de Spin para 0, 1, 2 e 3 linhas.
+         */
+        public Builder spinScores(int base, int single, int doubleLine, int triple) {
+            this.scoreSpinBase = base;
+            this.scoreSpinSingle = single;
+            this.scoreSpinDouble = doubleLine;
+            this.scoreSpinTriple = triple;
+            return this;
+        }
+
+        /**
+         * Define a pontuação de Spin Mini para 0, 1 e 2 linhas.
+         */
+        public Builder spinMiniScores(int base, int single, int doubleLine) {
+            this.scoreSpinMiniBase = base;
+            this.scoreSpinMiniSingle = single;
+            this.scoreSpinMiniDouble = doubleLine;
+            return this;
+        }
+
+        /**
+         * Define a pontuação de Triple Spin para 0, 1, 2 e 3 linhas.
+         */
+        public Builder tripleSpinScores(int base, int single, int doubleLine, int triple) {
+            this.scoreTripleSpinBase = base;
+            this.scoreTripleSpinSingle = single;
+            this.scoreTripleSpinDouble = doubleLine;
+            this.scoreTripleSpinTriple = triple;
+            return this;
+        }
+
+        /**
+         * Define a pontuação de Triple Spin Mini para 0, 1 e 2 linhas.
+         */
+        public Builder tripleSpinMiniScores(int base, int single, int doubleLine) {
+            this.scoreTripleSpinMiniBase = base;
+            this.scoreTripleSpinMiniSingle = single;
+            this.scoreTripleSpinMiniDouble = doubleLine;
+            return this;
+        }
+
+        /**
+         * Cria as regras.
+         *
+         * @return As regras imutáveis
+         * @throws IllegalArgumentException Se algum valor estiver fora do intervalo aceito
+         */
+        public GameRules build() {
+            if (boardWidth <= 0 || boardHeight <= 0 || bufferRows < 0) {
+                throw new IllegalArgumentException("Dimensões do tabuleiro inválidas: "
+                        + boardWidth + "x" + boardHeight + " + " + bufferRows);
+            }
+            if (linesPerLevel <= 0) {
+                throw new IllegalArgumentException("Linhas por nível deve ser maior que zero: " + linesPerLevel);
+            }
+            if (initialGameSpeed <= 0) {
+                throw new IllegalArgumentException("Velocidade inicial deve ser positiva: " + initialGameSpeed);
+            }
+            if (lockDelay < 0 || maxLockResets < 0) {
+                throw new IllegalArgumentException("Lock delay e resets não podem ser negativos");
+            }
+            if (nextPieceCount <= 0) {
+                throw new IllegalArgumentException("Fila de próximas peças deve ter ao menos uma peça: " + nextPieceCount);
+            }
+            return new GameRules(this);
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package com.uneb.fluxblocks.game.bot;
+
+import com.uneb.fluxblocks.architecture.events.GameplayEvents;
+import com.uneb.fluxblocks.architecture.mediators.GameMediator;
+import com.uneb.fluxblocks.configuration.GameRules;
+import com.uneb.fluxblocks.game.logic.FixedStepScheduler;
+import com.uneb.fluxblocks.game.logic.GameBoard;
+import com.uneb.fluxblocks.game.logic.GameState;
+import com.uneb.fluxblocks.piece.PieceSystem;
+import com.uneb.fluxblocks.piece.entities.BlockShape;
+import com.uneb.fluxblocks.piece.placement.PlacementFinder;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Jogador controlado pelo computador, para o multiplayer local e testes de carga.
+ *
+ * <p>A cada peça nova, o tabuleiro e a fila de próximas peças são copiados na thread do jogo
+ * e a {@link BotSearch} roda em um {@link ForkJoinPool} próprio, sem bloquear a thread do
+ * JavaFX. Enquanto a busca não termina, o bot apenas espera; quando o plano fica pronto, as
+ * entradas são emitidas nos ticks do {@link FixedStepScheduler} como os mesmos eventos do
+ * teclado ({@link GameplayEvents#MOVE_LEFT}, {@link GameplayEvents#ROTATE},
+ * {@link GameplayEvents#DROP}...) para o {@code playerId} do bot, então o
+ * {@link PieceSystem} não distingue o bot de um jogador humano.</p>
+ *
+ * <p>As rotações respeitam os atrasos de rotação das regras e o hard drop final só é emitido
+ * depois do intervalo de {@link #setPiecesPerSecond(double)}. A profundidade da busca cresce
+ * com o número de núcleos disponíveis.</p>
+ */
+public class BotPlayer {
+    /** Peças por segundo padrão */
+    private static final double DEFAULT_PIECES_PER_SECOND = 1.5;
+    /** Novas buscas permitidas por peça quando a peça não chega onde o plano previa */
+    private static final int MAX_REPLANS = 2;
+
+    private final GameMediator mediator;
+    private final PieceSystem pieceSystem;
+    private final GameBoard board;
+    private final GameState gameState;
+    private final FixedStepScheduler scheduler;
+    private final int playerId;
+    private final BotSearch search;
+    private final ForkJoinPool pool;
+    private final FixedStepScheduler.TickListener tickListener = this::onTick;
+    /** Menor intervalo entre duas rotações aceito pelo sistema de rotação, em segundos */
+    private final double rotateInterval;
+
+    private double piecesPerSecond = DEFAULT_PIECES_PER_SECOND;
+    private int searchDepth;
+    private boolean synchronous = false;
+    private boolean active = true;
+
+    private BlockShape plannedPiece;
+    private ForkJoinTask<BotSearch.Plan> pendingPlan;
+    private BotSearch.Plan plan;
+    private int pathIndex;
+    private int replans;
+    private double pieceStartTime;
+    private double nextInputTime;
+    private double lastRotateTime = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Cria o bot de um jogador e o registra no agendador da partida.
+     *
+     * @param mediator O mediador para comunicação entre componentes
+     * @param pieceSystem O sistema de peças do jogador
+     * @param board O tabuleiro do jogador
+     * @param gameState O estado do jogo do jogador
+     * @param scheduler O agendador de passo fixo da partida
+     * @param playerId Id do jogador controlado pelo bot
+     */
+    public BotPlayer(GameMediator mediator, PieceSystem pieceSystem, GameBoard board, GameState gameState,
+                     FixedStepScheduler scheduler, int playerId) {
+        this(mediator, pieceSystem, board, gameState, scheduler, playerId,
+                new HeuristicEvaluator(gameState.getRules().getBoardWidth()),
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Cria o bot de um jogador com o avaliador e o número de threads de busca informados.
+     *
+     * @param mediator O mediador para comunicação entre componentes
+     * @param pieceSystem O sistema de peças do jogador
+     * @param board O tabuleiro do jogador
+     * @param gameState O estado do jogo do jogador
+     * @param scheduler O agendador de passo fixo da partida
+     * @param playerId Id do jogador controlado pelo bot
+     * @param evaluator O avaliador dos tabuleiros
+     * @param parallelism Número de threads da busca
+     */
+    public BotPlayer(GameMediator mediator, PieceSystem pieceSystem, GameBoard board, GameState gameState,
+                     FixedStepScheduler scheduler, int playerId, HeuristicEvaluator evaluator, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Paralelismo deve ser maior que zero: " + parallelism);
+        }
+        GameRules rules = gameState.getRules();
+        this.mediator = mediator;
+        this.pieceSystem = pieceSystem;
+        this.board = board;
+        this.gameState = gameState;
+        this.scheduler = scheduler;
+        this.playerId = playerId;
+        this.search = new BotSearch(rules, evaluator);
+        this.pool = new ForkJoinPool(parallelism);
+        this.rotateInterval = Math.max(rules.getRotateInitialDelay(), rules.getRotateRepeatDelay()) / 1000.0
+                + scheduler.getTickSeconds();
+        this.searchDepth = defaultSearchDepth(parallelism);
+
+        scheduler.addTickListener(tickListener);
+    }
+
+    /**
+     * Profundidade padrão para o número de threads: só a peça atual com até 2 núcleos,
+     * mais uma peça da fila a partir de 4 e mais duas a partir de 8.
+     */
+    static int defaultSearchDepth(int parallelism) {
+        if (parallelism >= 8) {
+            return 3;
+        } else if (parallelism >= 4) {
+            return 2;
+        }
+        return 1;
+    }
+
+    /**
+     * Executa um tick: pede um plano para a peça nova e emite as entradas vencidas.
+     */
+    private void onTick(double tickSeconds) {
+        if (!active || gameState.isGameOver() || gameState.isPaused()) return;
+
+        BlockShape piece = pieceSystem.getCurrentPiece();
+        if (piece == null) return;
+
+        double now = scheduler.getNow();
+        if (piece != plannedPiece) {
+            plannedPiece = piece;
+            replans = 0;
+            pieceStartTime = now;
+            requestPlan(piece);
+        }
+
+        if (plan == null && !collectPlan()) return;
+        emitInputs(piece, now);
+    }
+
+    /**
+     * Copia o tabuleiro e a fila e inicia a busca em segundo plano.
+     */
+    private void requestPlan(BlockShape piece) {
+        if (pendingPlan != null) {
+            pendingPlan.cancel(false);
+        }
+        plan = null;
+        pathIndex = 0;
+
+        int[] rows = new int[board.getHeight()];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = board.getRowMask(i - board.getBufferHeight());
+        }
+        int[] queue = pieceSystem.getPieceQueue().toArray();
+        int type = piece.getType();
+        int x = piece.getX();
+        int y = piece.getY();
+        int rotation = piece.getRotation();
+        int depth = searchDepth;
+
+        pendingPlan = pool.submit(() -> search.search(rows, type, x, y, rotation, queue, depth));
+    }
+
+    /**
+     * Recolhe o plano da busca, se já terminou (ou esperando por ele no modo síncrono).
+     *
+     * @return true se há um plano para executar
+     */
+    private boolean collectPlan() {
+        if (pendingPlan == null || (!synchronous && !pendingPlan.isDone())) {
+            return false;
+        }
+        ForkJoinTask<BotSearch.Plan> task = pendingPlan;
+        pendingPlan = null;
+        if (task.isCancelled()) {
+            return false;
+        }
+        plan = task.join();
+        return plan != null;
+    }
+
+    /**
+     * Emite as entradas do plano que já podem ser enviadas neste tick.
+     */
+    private void emitInputs(BlockShape piece, double now) {
+        byte[] path = plan.path();
+        while (pathIndex < path.length && now >= nextInputTime) {
+            PlacementFinder.Input input = PlacementFinder.Input.fromOrdinal(path[pathIndex]);
+            if (input.isRotation() && now - lastRotateTime < rotateInterval) {
+                return;
+            }
+            if (input == PlacementFinder.Input.HARD_DROP) {
+                if (now - pieceStartTime < 1.0 / piecesPerSecond) {
+                    return;
+                }
+                if (!reachedTarget(piece) && replans < MAX_REPLANS) {
+                    // A gravidade ou uma rotação recusada tirou a peça do caminho
+                    replans++;
+                    requestPlan(piece);
+                    return;
+                }
+            }
+
+            pathIndex++;
+            emit(input);
+            if (input.isRotation()) {
+                lastRotateTime = now;
+            }
+            // Uma entrada por tick, como uma tecla pressionada
+            nextInputTime = now + scheduler.getTickSeconds();
+            if (pieceSystem.getCurrentPiece() != piece) {
+                return;
+            }
+        }
+    }
+
+    private boolean reachedTarget(BlockShape piece) {
+        return piece.getX() == plan.x() && piece.getRotation() == plan.rotation();
+    }
+
+    private void emit(PlacementFinder.Input input) {
+        GameplayEvents.MoveEvent moveEvent = GameplayEvents.MoveEvent.of(playerId);
+        switch (input) {
+            case LEFT -> mediator.emit(GameplayEvents.MOVE_LEFT, moveEvent);
+            case RIGHT -> mediator.emit(GameplayEvents.MOVE_RIGHT, moveEvent);
+            case SOFT_DROP -> mediator.emit(GameplayEvents.MOVE_DOWN, moveEvent);
+            case ROTATE_CW -> mediator.emit(GameplayEvents.ROTATE, moveEvent);
+            case HARD_DROP -> mediator.emit(GameplayEvents.DROP, moveEvent);
+            default -> throw new IllegalStateException("Entrada sem evento correspondente: " + input);
+        }
+    }
+
+    /**
+     * Define o ritmo do bot. O hard drop de cada peça espera pelo menos {@code 1 / piecesPerSecond} segundos.
+     *
+     * @throws IllegalArgumentException Se o valor não for positivo
+     */
+    public void setPiecesPerSecond(double piecesPerSecond) {
+        if (!(piecesPerSecond > 0)) {
+            throw new IllegalArgumentException("Peças por segundo deve ser positivo: " + piecesPerSecond);
+        }
+        this.piecesPerSecond = piecesPerSecond;
+    }
+
+    public double getPiecesPerSecond() {
+        return piecesPerSecond;
+    }
+
+    /**
+     * Define quantas peças a busca considera, incluindo a atual.
+     *
+     * @throws IllegalArgumentException Se a profundidade não for positiva
+     */
+    public void setSearchDepth(int searchDepth) {
+        if (searchDepth <= 0) {
+            throw new IllegalArgumentException("Profundidade deve ser maior que zero: " + searchDepth);
+        }
+        this.searchDepth = searchDepth;
+    }
+
+    public int getSearchDepth() {
+        return searchDepth;
+    }
+
+    /**
+     * No modo síncrono o tick espera a busca terminar. Serve para simulações sem interface,
+     * em que o tempo simulado não deve avançar enquanto o bot pensa.
+     */
+    public void setSynchronous(boolean synchronous) {
+        this.synchronous = synchronous;
+    }
+
+    public boolean isSynchronous() {
+        return synchronous;
+    }
+
+    /**
+     * Liga ou desliga o bot sem removê-lo do agendador.
+     */
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public int getPlayerId() {
+        return playerId;
+    }
+
+    /**
+     * Remove o bot do agendador e encerra as threads da busca.
+     */
+    public void cleanup() {
+        active = false;
+        scheduler.removeTickListener(tickListener);
+        if (pendingPlan != null) {
+            pendingPlan.cancel(false);
+            pendingPlan = null;
+        }
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,350 @@
+package com.uneb.fluxblocks.game.bot;
+
+import com.uneb.fluxblocks.configuration.GameRules;
+import com.uneb.fluxblocks.piece.collision.PieceMaskTable;
+import com.uneb.fluxblocks.piece.entities.BlockShape;
+import com.uneb.fluxblocks.piece.factory.provider.BlockShapeProvider;
+import com.uneb.fluxblocks.piece.placement.PlacementFinder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Busca da melhor jogada para a peça atual, olhando as próximas peças da fila.
+ *
+ * <p>Cada posição final da peça atual, encontrada pelo {@link PlacementFinder}, é aplicada a
+ * uma cópia do tabuleiro e avaliada pelo melhor resultado das próximas peças da fila, até a
+ * profundidade configurada. Nos níveis abaixo da raiz só as {@link #BEAM_WIDTH} jogadas de
+ * melhor avaliação imediata são aprofundadas, o que mantém o custo linear na profundidade.</p>
+ *
+ * <p>As posições da raiz são divididas entre tarefas de fork/join. Cada thread usa um
+ * {@link SearchContext} próprio, com seu gerador de jogadas e tabuleiros de rascunho, então a
+ * busca não compartilha estado mutável entre threads. {@link #search} deve ser chamado de
+ * dentro de um {@link java.util.concurrent.ForkJoinPool} para que as tarefas rodem em paralelo.</p>
+ */
+public class BotSearch {
+    /** Jogadas aprofundadas por nível abaixo da raiz */
+    public static final int BEAM_WIDTH = 6;
+
+    /** Nota de um tabuleiro em que a próxima peça não tem onde cair */
+    private static final double DEATH_SCORE = -1_000_000.0;
+    /** Posições da raiz avaliadas por uma única tarefa */
+    private static final int ROOT_CHUNK = 4;
+
+    private static final int T_TYPE = BlockShape.Type.T.getValue();
+
+    /**
+     * Jogada escolhida pela busca.
+     *
+     * @param x A coordenada X do centro da peça na posição final
+     * @param y A coordenada Y do centro da peça na posição final
+     * @param rotation O estado de rotação na posição final
+     * @param path As entradas até a posição, como ordinais de {@link PlacementFinder.Input}
+     * @param score A nota da jogada, incluindo a melhor continuação encontrada
+     */
+    public record Plan(int x, int y, int rotation, byte[] path, double score) {
+    }
+
+    private final GameRules rules;
+    private final HeuristicEvaluator evaluator;
+    private final ThreadLocal<SearchContext> contexts;
+
+    /**
+     * Cria a busca para tabuleiros com as dimensões das regras informadas.
+     *
+     * @param rules As regras da partida
+     * @param evaluator O avaliador dos tabuleiros
+     */
+    public BotSearch(GameRules rules, HeuristicEvaluator evaluator) {
+        this.rules = rules;
+        this.evaluator = evaluator;
+        this.contexts = ThreadLocal.withInitial(() -> new SearchContext(rules));
+    }
+
+    /**
+     * Escolhe a jogada da peça atual.
+     *
+     * @param rows O tabuleiro, uma máscara por linha do topo do buffer ao fundo
+     * @param type O valor do tipo da peça atual
+     * @param x A coordenada X atual do centro da peça
+     * @param y A coordenada Y atual do centro da peça
+     * @param rotation O estado de rotação atual
+     * @param queue Os códigos das próximas peças
+     * @param depth Quantas peças considerar, incluindo a atual
+     * @return A melhor jogada, ou null se a peça não tiver posição final
+     */
+    public Plan search(int[] rows, int type, int x, int y, int rotation, int[] queue, int depth) {
+        SearchContext context = contexts.get();
+        PlacementFinder finder = context.finder;
+        finder.setRows(rows);
+        int count = finder.find(type, x, y, rotation);
+        if (count == 0) {
+            return null;
+        }
+
+        int[] xs = new int[count];
+        int[] ys = new int[count];
+        int[] rotations = new int[count];
+        boolean[] spins = new boolean[count];
+        for (int i = 0; i < count; i++) {
+            xs[i] = finder.getX(i);
+            ys[i] = finder.getY(i);
+            rotations[i] = finder.getRotation(i);
+            spins[i] = finder.isSpin(i);
+        }
+        int[] nextTypes = new int[Math.min(Math.max(depth - 1, 0), queue.length)];
+        for (int i = 0; i < nextTypes.length; i++) {
+            nextTypes[i] = BlockShapeProvider.typeOf(queue[i]);
+        }
+
+        double[] scores = new double[count];
+        List<RootTask> tasks = new ArrayList<>();
+        for (int from = 0; from < count; from += ROOT_CHUNK) {
+            tasks.add(new RootTask(rows, type, xs, ys, rotations, spins, nextTypes, scores, from, Math.min(count, from + ROOT_CHUNK)));
+        }
+        RecursiveTask.invokeAll(tasks);
+
+        int best = 0;
+        for (int i = 1; i < count; i++) {
+            if (scores[i] > scores[best]) {
+                best = i;
+            }
+        }
+
+        // As tarefas podem ter rodado nesta thread e sobrescrito a última busca do gerador
+        finder.setRows(rows);
+        finder.find(type, x, y, rotation);
+        int placement = findPlacement(finder, xs[best], ys[best], rotations[best]);
+        byte[] path = new byte[finder.getPathLength(placement)];
+        finder.copyPath(placement, path);
+        return new Plan(xs[best], ys[best], rotations[best], path, scores[best]);
+    }
+
+    private static int findPlacement(PlacementFinder finder, int x, int y, int rotation) {
+        for (int i = 0; i < finder.getCount(); i++) {
+            if (finder.getX(i) == x && finder.getY(i) == y && finder.getRotation(i) == rotation) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Posição escolhida não encontrada na nova busca");
+    }
+
+    /**
+     * Avalia as posições [from, to) da raiz.
+     */
+    private final class RootTask extends RecursiveTask<Void> {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] rows;
+        private final int type;
+        private final int[] xs;
+        private final int[] ys;
+        private final int[] rotations;
+        private final boolean[] spins;
+        private final int[] nextTypes;
+        private final double[] scores;
+        private final int from;
+        private final int to;
+
+        private RootTask(int[] rows, int type, int[] xs, int[] ys, int[] rotations, boolean[] spins,
+                         int[] nextTypes, double[] scores, int from, int to) {
+            this.rows = rows;
+            this.type = type;
+            this.xs = xs;
+            this.ys = ys;
+            this.rotations = rotations;
+            this.spins = spins;
+            this.nextTypes = nextTypes;
+            this.scores = scores;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Void compute() {
+            SearchContext context = contexts.get();
+            context.ensureLevels(nextTypes.length);
+            int[] board = context.boards[0];
+            for (int i = from; i < to; i++) {
+                System.arraycopy(rows, 0, board, 0, rows.length);
+                int lines = place(board, type, rotations[i], xs[i], ys[i]);
+                double reward = evaluator.placementReward(lines, spins[i] && type == T_TYPE);
+                scores[i] = reward + searchNext(context, nextTypes, board, 0);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Retorna a melhor nota alcançável a partir do tabuleiro com as peças restantes da fila.
+     */
+    private double searchNext(SearchContext context, int[] nextTypes, int[] board, int level) {
+        int levels = nextTypes.length;
+        if (level >= levels) {
+            return evaluator.evaluate(board);
+        }
+        int type = nextTypes[level];
+        PlacementFinder finder = context.finder;
+        finder.setRows(board);
+        int count = finder.find(type);
+        if (count == 0) {
+            return DEATH_SCORE;
+        }
+
+        // Copia o resultado antes que os níveis abaixo reutilizem o gerador
+        int[] xs = context.xs[level];
+        int[] ys = context.ys[level];
+        int[] rotations = context.rotations[level];
+        boolean[] spins = context.spins[level];
+        double[] immediate = context.immediate[level];
+        int[] child = context.boards[level + 1];
+        boolean last = level + 1 >= levels;
+        for (int i = 0; i < count; i++) {
+            xs[i] = finder.getX(i);
+            ys[i] = finder.getY(i);
+            rotations[i] = finder.getRotation(i);
+            spins[i] = finder.isSpin(i) && type == T_TYPE;
+            System.arraycopy(board, 0, child, 0, board.length);
+            int lines = place(child, type, rotations[i], xs[i], ys[i]);
+            immediate[i] = evaluator.placementReward(lines, spins[i]) + evaluator.evaluate(child);
+        }
+
+        double best = Double.NEGATIVE_INFINITY;
+        if (last) {
+            for (int i = 0; i < count; i++) {
+                best = Math.max(best, immediate[i]);
+            }
+            return best;
+        }
+
+        // Aprofunda apenas as melhores jogadas deste nível
+        int[] order = context.order[level];
+        int beam = selectBest(immediate, count, order);
+        for (int b = 0; b < beam; b++) {
+            int i = order[b];
+            System.arraycopy(board, 0, child, 0, board.length);
+            int lines = place(child, type, rotations[i], xs[i], ys[i]);
+            double reward = evaluator.placementReward(lines, spins[i]);
+            best = Math.max(best, reward + searchNext(context, nextTypes, child, level + 1));
+        }
+        return best;
+    }
+
+    /**
+     * Coloca em {@code order} os índices das {@link #BEAM_WIDTH} maiores notas, em ordem decrescente.
+     */
+    private static int selectBest(double[] scores, int count, int[] order) {
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            int position = size < BEAM_WIDTH ? size++ : BEAM_WIDTH;
+            if (position == BEAM_WIDTH) {
+                if (scores[i] <= scores[order[BEAM_WIDTH - 1]]) {
+                    continue;
+                }
+                position = BEAM_WIDTH - 1;
+            }
+            while (position > 0 && scores[order[position - 1]] < scores[i]) {
+                order[position] = order[position - 1];
+                position--;
+            }
+            order[position] = i;
+        }
+        return size;
+    }
+
+    /**
+     * Fixa a peça no tabuleiro e remove as linhas completas.
+     *
+     * @return O número de linhas removidas
+     */
+    private int place(int[] board, int type, int rotation, int x, int y) {
+        int[] offsetsX = PieceMaskTable.getOffsetsX(type, rotation);
+        int[] offsetsY = PieceMaskTable.getOffsetsY(type, rotation);
+        int buffer = rules.getBufferRows();
+        for (int i = 0; i < offsetsX.length; i++) {
+            int row = y + offsetsY[i] + buffer;
+            if (row >= 0 && row < board.length) {
+                board[row] |= 1 << (x + offsetsX[i]);
+            }
+        }
+
+        int fullRow = rules.getBoardWidth() == Integer.SIZE ? -1 : (1 << rules.getBoardWidth()) - 1;
+        int write = board.length - 1;
+        for (int read = board.length - 1; read >= 0; read--) {
+            if (board[read] != fullRow) {
+                board[write--] = board[read];
+            }
+        }
+        int cleared = write + 1;
+        for (int row = write; row >= 0; row--) {
+            board[row] = 0;
+        }
+        return cleared;
+    }
+
+    /**
+     * Buffers de uma thread da busca, reutilizados entre buscas.
+     *
+     * <p>Cada nível tem espaço para todas as posições que o {@link PlacementFinder} pode
+     * devolver, e novos níveis são criados quando uma busca pede mais profundidade.</p>
+     */
+    private static final class SearchContext {
+        /** Níveis criados de início, em peças após a atual */
+        private static final int INITIAL_LEVELS = 8;
+
+        private final PlacementFinder finder;
+        private final int boardHeight;
+        private final int capacity;
+        private int[][] boards;
+        private int[][] xs;
+        private int[][] ys;
+        private int[][] rotations;
+        private boolean[][] spins;
+        private double[][] immediate;
+        private int[][] order;
+
+        private SearchContext(GameRules rules) {
+            this.finder = new PlacementFinder(rules);
+            this.boardHeight = rules.getBoardHeight() + rules.getBufferRows();
+            this.capacity = finder.getMaxPlacements();
+            this.boards = new int[0][];
+            this.xs = new int[0][];
+            this.ys = new int[0][];
+            this.rotations = new int[0][];
+            this.spins = new boolean[0][];
+            this.immediate = new double[0][];
+            this.order = new int[0][];
+            ensureLevels(INITIAL_LEVELS);
+        }
+
+        /**
+         * Garante buffers para {@code levels} níveis abaixo da raiz.
+         */
+        private void ensureLevels(int levels) {
+            int current = xs.length;
+            if (levels <= current) {
+                return;
+            }
+            boards = Arrays.copyOf(boards, levels + 1);
+            xs = Arrays.copyOf(xs, levels);
+            ys = Arrays.copyOf(ys, levels);
+            rotations = Arrays.copyOf(rotations, levels);
+            spins = Arrays.copyOf(spins, levels);
+            immediate = Arrays.copyOf(immediate, levels);
+            order = Arrays.copyOf(order, levels);
+            for (int level = current; level < levels; level++) {
+                xs[level] = new int[capacity];
+                ys[level] = new int[capacity];
+                rotations[level] = new int[capacity];
+                spins[level] = new boolean[capacity];
+                immediate[level] = new double[capacity];
+                order[level] = new int[BEAM_WIDTH];
+            }
+            for (int level = current == 0 ? 0 : current + 1; level <= levels; level++) {
+                boards[level] = new int[boardHeight];
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.uneb.fluxblocks.game.bot;
+
+/**
+ * Avaliação heurística de um tabuleiro para o jogador controlado pelo computador.
+ *
+ * <p>O tabuleiro é lido como máscaras de linha (bit {@code x} = coluna {@code x}), do topo
+ * do buffer ao fundo. A nota é uma soma ponderada de características da superfície: altura
+ * agregada, buracos, irregularidade entre colunas vizinhas, profundidade dos poços e encaixes
+ * de Spin prontos para a peça T. Linhas limpas e Spins feitos pela jogada entram à parte, em
+ * {@link #placementReward(int, boolean)}. Notas maiores são melhores.</p>
+ *
+ * <p>A avaliação não guarda estado entre chamadas, então uma instância pode ser compartilhada
+ * entre as threads da busca.</p>
+ */
+public class HeuristicEvaluator {
+
+    /**
+     * Pesos de cada característica. Penalidades usam pesos negativos.
+     *
+     * @param aggregateHeight Peso da soma das alturas das colunas
+     * @param holes Peso do número de células vazias cobertas
+     * @param bumpiness Peso da soma das diferenças de altura entre colunas vizinhas
+     * @param wells Peso da soma das profundidades dos poços
+     * @param spinPotential Peso do número de encaixes de Spin abertos
+     * @param linesCleared Peso de cada linha limpa pela jogada
+     * @param spinClear Bônus por limpar linhas com um Spin
+     */
+    public record Weights(double aggregateHeight, double holes, double bumpiness, double wells,
+                          double spinPotential, double linesCleared, double spinClear) {
+        /** Pesos padrão, ajustados para sobrevivência com algum incentivo a Spins */
+        public static final Weights DEFAULT = new Weights(-0.51, -0.36, -0.18, -0.08, 0.2, 0.76, 1.0);
+    }
+
+    private final Weights weights;
+    private final int width;
+
+    /**
+     * Cria um avaliador com os pesos padrão.
+     *
+     * @param width Largura do tabuleiro, em colunas
+     */
+    public HeuristicEvaluator(int width) {
+        this(width, Weights.DEFAULT);
+    }
+
+    /**
+     * Cria um avaliador com os pesos informados.
+     *
+     * @param width Largura do tabuleiro, em colunas
+     * @param weights Os pesos das características
+     * @throws IllegalArgumentException Se os pesos forem null ou a largura não for positiva
+     */
+    public HeuristicEvaluator(int width, Weights weights) {
+        if (weights == null) {
+            throw new IllegalArgumentException("Pesos não podem ser null");
+        }
+        if (width <= 0 || width > Integer.SIZE) {
+            throw new IllegalArgumentException("Largura do tabuleiro deve estar entre 1 e " + Integer.SIZE + " colunas: " + width);
+        }
+        this.width = width;
+        this.weights = weights;
+    }
+
+    /**
+     * Avalia a superfície do tabuleiro.
+     *
+     * @param rows Uma máscara por linha, do topo do buffer ao fundo do tabuleiro
+     * @return A nota do tabuleiro
+     */
+    public double evaluate(int[] rows) {
+        int height = rows.length;
+        int aggregateHeight = 0;
+        int holes = 0;
+        int bumpiness = 0;
+        int wells = 0;
+        int previousHeight = -1;
+        int leftHeight = height;
+        int columnHeight = columnHeight(rows, 0);
+
+        for (int x = 0; x < width; x++) {
+            int rightHeight = x + 1 < width ? columnHeight(rows, x + 1) : height;
+            int bit = 1 << x;
+
+            aggregateHeight += columnHeight;
+            for (int row = height - columnHeight; row < height; row++) {
+                if ((rows[row] & bit) == 0) {
+                    holes++;
+                }
+            }
+            if (previousHeight >= 0) {
+                bumpiness += Math.abs(columnHeight - previousHeight);
+            }
+            int wellDepth = Math.min(leftHeight, rightHeight) - columnHeight;
+            if (wellDepth > 0) {
+                wells += wellDepth;
+            }
+
+            previousHeight = columnHeight;
+            leftHeight = columnHeight;
+            columnHeight = rightHeight;
+        }
+
+        return weights.aggregateHeight() * aggregateHeight
+                + weights.holes() * holes
+                + weights.bumpiness() * bumpiness
+                + weights.wells() * wells
+                + weights.spinPotential() * countSpinSlots(rows);
+    }
+
+    /**
+     * Retorna a nota da própria jogada: linhas limpas e bônus de Spin.
+     *
+     * @param linesCleared Linhas limpas pela jogada
+     * @param spin Se a jogada foi um Spin da peça T
+     */
+    public double placementReward(int linesCleared, boolean spin) {
+        double reward = weights.linesCleared() * linesCleared;
+        if (spin && linesCleared > 0) {
+            reward += weights.spinClear() * linesCleared;
+        }
+        return reward;
+    }
+
+    /**
+     * Conta os encaixes de Spin abertos: uma célula vazia com as vizinhas laterais vazias
+     * na mesma linha, a de baixo vazia entre duas preenchidas e pelo menos um canto de cima
+     * preenchido, o formato que uma peça T só alcança girando.
+     */
+    private int countSpinSlots(int[] rows) {
+        int slots = 0;
+        for (int row = 1; row + 1 < rows.length; row++) {
+            int above = rows[row - 1];
+            int middle = rows[row];
+            int below = rows[row + 1];
+            for (int x = 1; x + 1 < width; x++) {
+                int three = 0b111 << (x - 1);
+                int center = 1 << x;
+                int sides = three & ~center;
+                if ((middle & three) == 0
+                        && (below & three) == sides
+                        && (above & sides) != 0
+                        && (above & center) == 0) {
+                    slots++;
+                }
+            }
+        }
+        return slots;
+    }
+
+    private static int columnHeight(int[] rows, int x) {
+        int bit = 1 << x;
+        for (int row = 0; row < rows.length; row++) {
+            if ((rows[row] & bit) != 0) {
+                return rows.length - row;
+            }
+        }
+        return 0;
+    }
+
+    public Weights getWeights() {
+        return weights;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+}
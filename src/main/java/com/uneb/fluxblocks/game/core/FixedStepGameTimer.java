@@ -0,0 +1,217 @@
+package com.uneb.fluxblocks.game.core;
+
+import com.uneb.fluxblocks.architecture.events.GameplayEvents;
+import com.uneb.fluxblocks.architecture.events.UiEvents;
+import com.uneb.fluxblocks.architecture.interfaces.GameTimer;
+import com.uneb.fluxblocks.architecture.mediators.GameMediator;
+import com.uneb.fluxblocks.game.logic.FixedStepScheduler;
+import com.uneb.fluxblocks.game.logic.GameState;
+
+/**
+ * Base dos timers que avançam gravidade e tempo de jogo nos ticks de um {@link FixedStepScheduler}.
+ *
+ * <p>A regra do tick é a mesma em todas as implementações; as subclasses só decidem de onde
+ * vem o tempo que alimenta o agendador: os quadros do JavaFX no {@link StandardGameTimer}
+ * ou um relógio virtual no {@code VirtualGameTimer} da simulação sem interface.</p>
+ */
+public abstract class FixedStepGameTimer implements GameTimer {
+
+    protected final GameMediator mediator;
+    protected final GameState gameState;
+    protected final int playerId;
+    protected final FixedStepScheduler scheduler;
+
+    /** Intervalo atual de queda automática, em milissegundos */
+    private double gameSpeed;
+    /** Tempo acumulado desde a última queda automática, em milissegundos */
+    private double gravityAccumulatorMs = 0;
+    /** Tempo de jogo ainda não contabilizado no GameState, em milissegundos */
+    private double gameTimeRemainderMs = 0;
+
+    private final FixedStepScheduler.TickListener tickListener = this::onTick;
+
+    private boolean isRunning = false;
+    private boolean isPaused = false;
+
+    /**
+     * Cria o timer de um jogador e o registra no agendador.
+     *
+     * @param mediator O mediador para comunicação entre componentes
+     * @param gameState O estado do jogo
+     * @param scheduler O agendador de passo fixo da partida, compartilhado com o sistema de peças
+     * @param playerId Id do jogador
+     */
+    protected FixedStepGameTimer(GameMediator mediator, GameState gameState, FixedStepScheduler scheduler, int playerId) {
+        this.mediator = mediator;
+        this.gameState = gameState;
+        this.scheduler = scheduler;
+        this.playerId = playerId;
+        this.gameSpeed = gameState.getRules().getInitialGameSpeed();
+
+        scheduler.addTickListener(tickListener);
+        subscribeToEvents();
+    }
+
+    /**
+     * Passa a alimentar o agendador (chamado em {@link #start()}).
+     */
+    protected abstract void startDriver();
+
+    /**
+     * Para de alimentar o agendador (chamado em {@link #stop()}).
+     */
+    protected abstract void stopDriver();
+
+    /**
+     * Fator aplicado ao tempo de jogo exibido a cada tick.
+     */
+    protected double getGameTimeScale() {
+        return 1.0;
+    }
+
+    /**
+     * Avança o tempo de jogo e a gravidade em um tick da simulação.
+     */
+    private void onTick(double tickSeconds) {
+        if (!isRunning || gameState.isGameOver()) return;
+        double elapsedMs = tickSeconds * 1000.0;
+
+        // Sempre atualiza o tempo do jogo, mesmo quando pausado
+        updateGameTime(elapsedMs * getGameTimeScale());
+        onClockTick();
+
+        if (isPaused) return;
+
+        gravityAccumulatorMs += elapsedMs;
+        while (gravityAccumulatorMs >= gameSpeed && !gameState.isGameOver()) {
+            gravityAccumulatorMs -= gameSpeed;
+            onGameLoopTick();
+        }
+    }
+
+    private void subscribeToEvents() {
+        mediator.receiver(GameplayEvents.UPDATE_SPEED, playerId, this::onSpeedUpdate);
+        mediator.receiver(GameplayEvents.RESTART, unused -> {
+            if (!gameState.isGameOver()) {
+                restartGame();
+            }
+        });
+        mediator.receiver(UiEvents.LEVEL_UPDATE, playerId, ev -> updateGameSpeed());
+    }
+
+    private void updateGameSpeed() {
+        gameSpeed = gameState.calculateCurrentSpeed();
+    }
+
+    private void updateGameTime(double elapsedMs) {
+        gameTimeRemainderMs += elapsedMs;
+        long wholeMs = (long) gameTimeRemainderMs;
+        if (wholeMs > 0) {
+            gameState.setGameTimeMs(gameState.getGameTimeMs() + wholeMs);
+            gameTimeRemainderMs -= wholeMs;
+        }
+    }
+
+    private void onClockTick() {
+        // O relógio na tela só precisa do último valor de cada quadro
+        mediator.post(UiEvents.TIME_UPDATE, gameState.getGameTime());
+    }
+
+    private void onSpeedUpdate(GameplayEvents.UpdateSpeedEvent ev) {
+        this.gameSpeed = ev.newSpeed();
+    }
+
+    private void onGameLoopTick() {
+        mediator.emit(GameplayEvents.AUTO_MOVE_DOWN, GameplayEvents.MoveEvent.of(playerId));
+    }
+
+    private void restartGame() {
+        resetLoopState();
+        mediator.emit(GameplayEvents.RESTART_GAME, null);
+    }
+
+    /**
+     * Descarta o tempo acumulado de gravidade, de relógio e do agendador.
+     */
+    protected void resetLoopState() {
+        gravityAccumulatorMs = 0;
+        gameTimeRemainderMs = 0;
+        scheduler.clearAccumulator();
+    }
+
+    @Override
+    public void start() {
+        if (!isRunning) {
+            isRunning = true;
+            isPaused = false;
+            updateGameSpeed();
+            resetLoopState();
+            startDriver();
+        }
+    }
+
+    @Override
+    public void stop() {
+        isRunning = false;
+        isPaused = false;
+        stopDriver();
+        resetLoopState();
+    }
+
+    @Override
+    public void pause() {
+        if (isRunning && !isPaused) {
+            isPaused = true;
+        }
+    }
+
+    @Override
+    public void resume() {
+        if (isRunning && isPaused) {
+            isPaused = false;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return isRunning;
+    }
+
+    @Override
+    public boolean isPaused() {
+        return isPaused;
+    }
+
+    @Override
+    public long getGameTime() {
+        return gameState.getGameTimeMs();
+    }
+
+    @Override
+    public void setGameTime(long timeMs) {
+        gameState.setGameTimeMs(timeMs);
+    }
+
+    @Override
+    public void reset() {
+        stop();
+        gameState.setGameTimeMs(0);
+    }
+
+    /**
+     * Retorna a fração do próximo tick já acumulada, para a renderização interpolar entre ticks.
+     */
+    public double getInterpolationAlpha() {
+        return scheduler.getInterpolationAlpha();
+    }
+
+    public FixedStepScheduler getScheduler() {
+        return scheduler;
+    }
+
+    @Override
+    public void cleanup() {
+        stop();
+        scheduler.removeTickListener(tickListener);
+    }
+}
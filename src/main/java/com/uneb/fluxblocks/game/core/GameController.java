@@ -1,9 +1,12 @@
 package com.uneb.fluxblocks.game.core;
 
 import com.almasb.fxgl.dsl.FXGL;
+import com.almasb.fxgl.time.TimerAction;
 import com.uneb.fluxblocks.architecture.events.GameplayEvents;
 import com.uneb.fluxblocks.architecture.events.UiEvents;
 import com.uneb.fluxblocks.architecture.mediators.GameMediator;
+import com.uneb.fluxblocks.game.bot.BotPlayer;
+import com.uneb.fluxblocks.game.logic.FixedStepScheduler;
 import com.uneb.fluxblocks.game.logic.GameBoard;
 import com.uneb.fluxblocks.game.logic.GameState;
 import com.uneb.fluxblocks.game.scoring.ScoreTracker;
@@ -43,6 +46,12 @@ public class GameController {
     
     /** Controlador de tempo do jogo */
     private final GameTimer gameTimer;
+
+    /** Agendador de passo fixo que avança gravidade, lock delay e repetição de teclas */
+    private final FixedStepScheduler scheduler;
+
+    /** Participante do agendador que repassa os ticks ao handler de entrada */
+    private final FixedStepScheduler.TickListener inputTickListener;
     
     /** Estado atual do jogo */
     private final GameState gameState;
@@ -56,23 +65,33 @@ public class GameController {
     private boolean hasProcessedGameOver = false;
     private static int totalGameOverProcessed = 0;
 
+    /** Timer da contagem regressiva em andamento */
+    private TimerAction countdownTimer;
+
+    /** Bot que controla este jogador, se houver */
+    private BotPlayer bot;
+
     /**
      * Cria um novo gerenciador do jogo e inicializa todos os subsistemas.
      *
      * @param mediator O mediador central para comunicação entre componentes
      * @param boardScreen Tela do tabuleiro
      * @param playerId Id do jogador
-     * @param gameState Estado do jogo compartilhado
+     * @param gameState Estado do jogo compartilhado, cujas {@link com.uneb.fluxblocks.configuration.GameRules}
+     *                  valem para o tabuleiro, as peças e o timer desta partida
      */
     public GameController(GameMediator mediator, GameBoardScreen boardScreen, int playerId, GameState gameState, InputHandler inputHandler) {
         this.mediator = mediator;
         this.playerId = playerId;
         this.gameState = gameState;
-        this.gameBoard = new GameBoard(mediator, playerId);
-        this.pieceManager = new PieceSystem(mediator, gameBoard, gameState, boardScreen, playerId);
+        this.gameBoard = new GameBoard(mediator, gameState.getRules(), playerId);
+        this.scheduler = new FixedStepScheduler();
+        this.pieceManager = new PieceSystem(mediator, gameBoard, gameState, scheduler, playerId);
         this.inputHandler = inputHandler;
+        this.inputTickListener = inputHandler::update;
+        this.scheduler.addTickListener(inputTickListener);
         this.scoreTracker = new ScoreTracker(mediator, gameState, playerId);
-        this.gameTimer = new StandardGameTimer(mediator, gameState, playerId);
+        this.gameTimer = new StandardGameTimer(mediator, gameState, scheduler, playerId);
         this.gameStatistics = new GameStatistics(mediator, gameState, playerId);
 
         registerEvents();
@@ -84,11 +103,7 @@ public class GameController {
      * Configura os handlers para game over e pausa.
      */
     private void registerEvents() {
-        mediator.receiver(GameplayEvents.GAME_OVER, event -> {
-            if (event.playerId() == this.playerId) {
-                handleGameOver();
-            }
-        });
+        mediator.receiver(GameplayEvents.GAME_OVER, playerId, event -> handleGameOver());
         mediator.receiver(GameplayEvents.PAUSE, unused -> togglePause());
         mediator.receiver(GameplayEvents.RESTART, unused -> restart());
     }
@@ -117,11 +132,15 @@ public class GameController {
         FXGL.getInput().setProcessInput(false);
         gameTimer.stop();
 
-        FXGL.getGameTimer().runAtInterval(() -> {
+        if (countdownTimer != null) {
+            countdownTimer.expire();
+        }
+        countdownTimer = FXGL.getGameTimer().runAtInterval(() -> {
             if (countdown[0] > 0) {
                 mediator.emit(UiEvents.COUNTDOWN, new UiEvents.CountdownEvent(playerId, countdown[0]));
                 countdown[0]--;
             } else {
+                countdownTimer.expire();
                 gameState.setPaused(false);
                 pieceManager.handlePauseState(false);
                 FXGL.getInput().setProcessInput(true);
@@ -207,6 +226,20 @@ public class GameController {
         return gameStatistics;
     }
 
+    /**
+     * Passa o controle deste jogador para o computador.
+     * A entrada do teclado do jogador é desativada enquanto o bot estiver ligado.
+     *
+     * @return O bot do jogador, para ajustar ritmo e profundidade da busca
+     */
+    public BotPlayer attachBot() {
+        if (bot == null) {
+            bot = new BotPlayer(mediator, pieceManager, gameBoard, gameState, scheduler, playerId);
+            inputHandler.setInputEnabled(false);
+        }
+        return bot;
+    }
+
     /**
      * Limpa todos os recursos utilizados pelo controller.
      * Deve ser chamado ao terminar o jogo para evitar vazamentos de memória
@@ -221,9 +254,16 @@ public class GameController {
         
         // Limpa as ações de entrada registradas
         if (inputHandler != null) {
+            scheduler.removeTickListener(inputTickListener);
             inputHandler.cleanup();
         }
         
+        // Encerra as threads de busca do bot
+        if (bot != null) {
+            bot.cleanup();
+            bot = null;
+        }
+        
         // Limpa o PieceSystem para remover listeners
         if (pieceManager != null) {
             pieceManager.cleanup();
@@ -241,18 +281,16 @@ public class GameController {
         }
         
         // Remove os listeners registrados no registerEvents()
-        mediator.removeReceiver(GameplayEvents.GAME_OVER, event -> {
-            if (event.playerId() == this.playerId) {
-                handleGameOver();
-            }
-        });
+        mediator.removeReceiver(GameplayEvents.GAME_OVER, playerId, event -> handleGameOver());
         mediator.removeReceiver(GameplayEvents.PAUSE, unused -> togglePause());
         mediator.removeReceiver(GameplayEvents.RESTART, unused -> restart());
         mediator.removeReceiver(UiEvents.RESUME_GAME, unused -> togglePause());
         
-        // Para qualquer timer em execução do FXGL relacionado a este controller
-        // (como o countdown timer)
-        FXGL.getGameTimer().clear();
+        // Para a contagem regressiva deste controller, sem afetar os timers de outros jogadores
+        if (countdownTimer != null) {
+            countdownTimer.expire();
+            countdownTimer = null;
+        }
         
         // Reseta o estado do jogo
         if (gameState != null) {
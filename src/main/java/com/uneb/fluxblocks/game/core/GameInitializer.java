@@ -5,6 +5,7 @@ import com.almasb.fxgl.dsl.FXGL;
 import com.uneb.fluxblocks.architecture.events.UiEvents;
 import com.uneb.fluxblocks.architecture.mediators.GameMediator;
 import com.uneb.fluxblocks.ui.UIScreenHandler;
+import javafx.application.Platform;
 import javafx.util.Duration;
 
 public final class GameInitializer {
@@ -12,6 +13,7 @@ public final class GameInitializer {
 
     public static GameMediator create(GameScene gameScene) {
         GameMediator mediator = new GameMediator();
+        installUiEventPump(mediator);
 
         new UIScreenHandler(gameScene, mediator);
         
@@ -23,4 +25,14 @@ public final class GameInitializer {
 
         return mediator;
     }
+
+    /**
+     * Esvazia a fila de interface do mediador uma vez por pulso do JavaFX, depois dos
+     * {@code AnimationTimer} (que avançam o jogo) e antes do layout e da renderização,
+     * e pede um pulso quando um evento chega com a tela parada.
+     */
+    private static void installUiEventPump(GameMediator mediator) {
+        FXGL.getPrimaryStage().getScene().addPreLayoutPulseListener(mediator::flushUiEvents);
+        mediator.setUiWakeup(Platform::requestNextPulse);
+    }
 }
\ No newline at end of file
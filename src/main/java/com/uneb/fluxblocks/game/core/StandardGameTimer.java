@@ -1,166 +1,79 @@
 package com.uneb.fluxblocks.game.core;
 
-import com.uneb.fluxblocks.architecture.events.GameplayEvents;
-import com.uneb.fluxblocks.architecture.events.UiEvents;
-import com.uneb.fluxblocks.architecture.interfaces.GameTimer;
 import com.uneb.fluxblocks.architecture.mediators.GameMediator;
-import com.uneb.fluxblocks.configuration.GameConfig;
+import com.uneb.fluxblocks.game.logic.FixedStepScheduler;
 import com.uneb.fluxblocks.game.logic.GameState;
 import javafx.animation.AnimationTimer;
 
 /**
- * Implementação padrão do GameTimer usando AnimationTimer.
- * Adaptado do GameTimer original.
+ * Implementação padrão do GameTimer sobre um {@link FixedStepScheduler}.
+ *
+ * <p>O {@link AnimationTimer} apenas mede o tempo entre quadros e o entrega ao agendador,
+ * que o consome em ticks fixos. Gravidade e tempo de jogo avançam dentro desses ticks,
+ * então a queda das peças tem a mesma velocidade em qualquer taxa de atualização do monitor
+ * e não perde passos em quadros lentos.</p>
  */
-public class StandardGameTimer implements GameTimer {
+public class StandardGameTimer extends FixedStepGameTimer {
     
-    private final GameMediator mediator;
-    private final GameState gameState;
-    private final int playerId;
     private final AnimationTimer animationTimer;
     
-    private long gameStartTime = 0;
-    private long lastUpdate = 0;
-    private long lastGameLoop = 0;
-    private long lastClockUpdate = 0;
+    /** Instante do último quadro, em nanossegundos (0 = ainda não houve quadro) */
+    private long lastFrame = 0;
     private long startTime = 0;
     
-    private long gameSpeed = (long)(GameConfig.INITIAL_GAME_SPEED * 1_000_000);
-    private static final long CLOCK_INTERVAL = (long)(GameConfig.GAME_TICK_INTERVAL * 1_000_000);
-    
-    private boolean isRunning = false;
-    private boolean isPaused = false;
     private double speed = 1.0;
     
-    public StandardGameTimer(GameMediator mediator, GameState gameState, int playerId) {
-        this.mediator = mediator;
-        this.gameState = gameState;
-        this.playerId = playerId;
+    /**
+     * Cria o timer de um jogador.
+     *
+     * @param mediator O mediador para comunicação entre componentes
+     * @param gameState O estado do jogo
+     * @param scheduler O agendador de passo fixo da partida, compartilhado com o sistema de peças
+     * @param playerId Id do jogador
+     */
+    public StandardGameTimer(GameMediator mediator, GameState gameState, FixedStepScheduler scheduler, int playerId) {
+        super(mediator, gameState, scheduler, playerId);
         
         this.animationTimer = new AnimationTimer() {
             @Override
             public void handle(long now) {
-                if (!isRunning) return;
-                
-                if (lastUpdate == 0) {
-                    lastUpdate = now;
-                    lastGameLoop = now;
-                    lastClockUpdate = now;
-                    gameStartTime = now;
-                    return;
-                }
+                if (!isRunning()) return;
                 
-                // Sempre atualiza o tempo do jogo, mesmo quando pausado
-                if (!gameState.isGameOver()) {
-                    if (now - lastClockUpdate >= CLOCK_INTERVAL) {
-                        updateGameTime(now);
-                        onClockTick(now);
-                        lastClockUpdate = now;
-                    }
+                if (lastFrame != 0) {
+                    scheduler.update((now - lastFrame) / 1_000_000_000.0);
                 }
-                
-                if (!isPaused && !gameState.isGameOver()) {
-                    if (now - lastGameLoop >= gameSpeed) {
-                        onGameLoopTick();
-                        lastGameLoop = now;
-                    }
-                }
-                
-                lastUpdate = now;
+                lastFrame = now;
             }
         };
-        
-        subscribeToEvents();
-    }
-    
-    private void subscribeToEvents() {
-        mediator.receiver(GameplayEvents.UPDATE_SPEED, this::onSpeedUpdate);
-        mediator.receiver(GameplayEvents.RESTART, unused -> {
-            if (!gameState.isGameOver()) {
-                restartGame();
-            }
-        });
-        mediator.receiver(UiEvents.LEVEL_UPDATE, ev -> {
-            if (ev.playerId() == playerId) {
-                updateGameSpeed();
-            }
-        });
-    }
-    
-    private void updateGameSpeed() {
-        double speed = gameState.calculateCurrentSpeed();
-        gameSpeed = (long)(speed * 1_000_000);
-    }
-    
-    private void updateGameTime(long currentTimeNanos) {
-        if (gameStartTime == 0) return;
-        
-        long deltaNanos = (long)((currentTimeNanos - lastClockUpdate) * speed);
-        long deltaMs = deltaNanos / 1_000_000;
-        
-        long currentTimeMs = gameState.getGameTimeMs() + deltaMs;
-        gameState.setGameTimeMs(currentTimeMs);
-    }
-    
-    private void onClockTick(long currentTimeNanos) {
-        mediator.emit(UiEvents.TIME_UPDATE, gameState.getGameTime());
-    }
-    
-    private void onSpeedUpdate(GameplayEvents.UpdateSpeedEvent ev) {
-        if (ev.playerId() != this.playerId) return;
-        this.gameSpeed = (long)(ev.newSpeed() * 1_000_000);
-    }
-    
-    private void onGameLoopTick() {
-        mediator.emit(GameplayEvents.AUTO_MOVE_DOWN, new GameplayEvents.MoveEvent(playerId));
-    }
-    
-    private void restartGame() {
-        gameStartTime = 0;
-        lastUpdate = 0;
-        lastGameLoop = 0;
-        lastClockUpdate = 0;
-        mediator.emit(GameplayEvents.RESTART_GAME, null);
     }
     
     @Override
-    public void start() {
-        if (!isRunning) {
-            isRunning = true;
-            isPaused = false;
-            startTime = System.currentTimeMillis();
-            gameStartTime = 0;
-            lastUpdate = 0;
-            lastGameLoop = 0;
-            lastClockUpdate = 0;
-            animationTimer.start();
-        }
+    protected void startDriver() {
+        startTime = System.currentTimeMillis();
+        animationTimer.start();
     }
     
     @Override
-    public void stop() {
-        isRunning = false;
-        isPaused = false;
+    protected void stopDriver() {
         animationTimer.stop();
-        gameStartTime = 0;
-        lastUpdate = 0;
-        lastGameLoop = 0;
-        lastClockUpdate = 0;
         startTime = 0;
     }
     
+    /**
+     * Descarta o tempo acumulado: o próximo quadro só marca o instante inicial.
+     */
     @Override
-    public void pause() {
-        if (isRunning && !isPaused) {
-            isPaused = true;
-        }
+    protected void resetLoopState() {
+        super.resetLoopState();
+        lastFrame = 0;
     }
     
+    /**
+     * Na partida em tempo real a velocidade só escala o relógio exibido.
+     */
     @Override
-    public void resume() {
-        if (isRunning && isPaused) {
-            isPaused = false;
-        }
+    protected double getGameTimeScale() {
+        return speed;
     }
     
     @Override
@@ -168,46 +81,15 @@ public class StandardGameTimer implements GameTimer {
         this.speed = Math.max(0.1, Math.min(10.0, speed));
     }
     
-    @Override
-    public boolean isRunning() {
-        return isRunning;
-    }
-    
-    @Override
-    public boolean isPaused() {
-        return isPaused;
-    }
-    
     @Override
     public long getElapsedTime() {
         if (startTime == 0) return 0;
         return System.currentTimeMillis() - startTime;
     }
     
-    @Override
-    public long getGameTime() {
-        return gameState.getGameTimeMs();
-    }
-    
-    @Override
-    public void setGameTime(long timeMs) {
-        gameState.setGameTimeMs(timeMs);
-    }
-    
     @Override
     public void reset() {
-        stop();
-        gameState.setGameTimeMs(0);
-        startTime = 0;
-        lastUpdate = 0;
-        lastGameLoop = 0;
-        lastClockUpdate = 0;
-        gameStartTime = 0;
+        super.reset();
         speed = 1.0;
     }
-    
-    @Override
-    public void cleanup() {
-        stop();
-    }
-} 
\ No newline at end of file
+}
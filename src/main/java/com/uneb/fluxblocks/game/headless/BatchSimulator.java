@@ -0,0 +1,166 @@
+package com.uneb.fluxblocks.game.headless;
+
+import com.uneb.fluxblocks.configuration.GameRules;
+import com.uneb.fluxblocks.piece.factory.provider.BlockShapeProvider;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntFunction;
+
+/**
+ * Simula lotes de partidas independentes em paralelo, sem JavaFX nem FXGL.
+ *
+ * <p>Cada partida tem seu próprio {@link HeadlessGame} (tabuleiro, estado, mediador e
+ * relógio virtual), seu próprio provedor de peças e sua própria {@link InputPolicy},
+ * criados a partir do índice da partida. Assim nenhuma partida compartilha estado mutável
+ * com outra e o lote escala com o número de núcleos.</p>
+ *
+ * <p>O lote é dividido recursivamente em um {@link ForkJoinPool}; cada tarefa acumula seus
+ * resultados em um {@link SimulationReport} próprio e os relatórios são somados no join.</p>
+ */
+public class BatchSimulator {
+    /** Id usado pelo jogador de cada partida simulada */
+    private static final int PLAYER_ID = 1;
+
+    private final IntFunction<BlockShapeProvider> providerFactory;
+    private final IntFunction<InputPolicy> policyFactory;
+    private final GameRules rules;
+
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private double maxGameSeconds = 600.0;
+    private double decisionIntervalSeconds = 0.1;
+
+    /**
+     * Cria um simulador com as regras atuais de configuração.
+     *
+     * @param providerFactory Cria o provedor de peças de cada partida a partir do índice dela
+     * @param policyFactory Cria a política de entrada de cada partida a partir do índice dela
+     */
+    public BatchSimulator(IntFunction<BlockShapeProvider> providerFactory, IntFunction<InputPolicy> policyFactory) {
+        this(providerFactory, policyFactory, GameRules.fromConfig());
+    }
+
+    /**
+     * Cria um simulador em que todas as partidas usam as regras informadas.
+     *
+     * @param providerFactory Cria o provedor de peças de cada partida a partir do índice dela
+     * @param policyFactory Cria a política de entrada de cada partida a partir do índice dela
+     * @param rules As regras das partidas
+     */
+    public BatchSimulator(IntFunction<BlockShapeProvider> providerFactory, IntFunction<InputPolicy> policyFactory,
+                          GameRules rules) {
+        if (providerFactory == null || policyFactory == null || rules == null) {
+            throw new IllegalArgumentException("Fábricas de provedor e de política e regras não podem ser null");
+        }
+        this.providerFactory = providerFactory;
+        this.policyFactory = policyFactory;
+        this.rules = rules;
+    }
+
+    /**
+     * Define quantas threads simulam partidas ao mesmo tempo.
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Paralelismo deve ser maior que zero: " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Define o tempo de jogo máximo de cada partida, em segundos.
+     */
+    public void setMaxGameSeconds(double maxGameSeconds) {
+        if (maxGameSeconds <= 0) {
+            throw new IllegalArgumentException("Duração máxima deve ser positiva: " + maxGameSeconds);
+        }
+        this.maxGameSeconds = maxGameSeconds;
+    }
+
+    /**
+     * Define o intervalo de tempo de jogo entre duas decisões da política de entrada, em segundos.
+     */
+    public void setDecisionIntervalSeconds(double decisionIntervalSeconds) {
+        if (decisionIntervalSeconds <= 0) {
+            throw new IllegalArgumentException("Intervalo de decisão deve ser positivo: " + decisionIntervalSeconds);
+        }
+        this.decisionIntervalSeconds = decisionIntervalSeconds;
+    }
+
+    /**
+     * Simula as partidas e retorna o relatório agregado.
+     *
+     * @param games Número de partidas
+     * @return O relatório do lote
+     */
+    public SimulationReport run(int games) {
+        if (games < 0) {
+            throw new IllegalArgumentException("Número de partidas não pode ser negativo: " + games);
+        }
+        long start = System.nanoTime();
+        int threshold = Math.max(1, games / (parallelism * 8));
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            SimulationReport report = pool.invoke(new SimulationTask(0, games, threshold));
+            report.setWallTimeNanos(System.nanoTime() - start);
+            return report;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Simula uma única partida até o game over ou o tempo limite.
+     *
+     * @param index O índice da partida no lote
+     * @return A partida encerrada
+     */
+    public HeadlessGame runGame(int index) {
+        HeadlessGame game = new HeadlessGame(providerFactory.apply(index), rules, PLAYER_ID);
+        InputPolicy policy = policyFactory.apply(index);
+        game.start();
+
+        double elapsed = 0;
+        while (!game.isGameOver() && elapsed < maxGameSeconds) {
+            policy.act(game);
+            game.advance(decisionIntervalSeconds);
+            elapsed += decisionIntervalSeconds;
+        }
+        return game;
+    }
+
+    /**
+     * Tarefa que simula as partidas do intervalo [from, to), dividindo-o enquanto for maior que o limite.
+     */
+    private final class SimulationTask extends RecursiveTask<SimulationReport> {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        private SimulationTask(int from, int to, int threshold) {
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected SimulationReport compute() {
+            if (to - from <= threshold) {
+                SimulationReport report = new SimulationReport();
+                for (int i = from; i < to; i++) {
+                    report.addGame(runGame(i));
+                }
+                return report;
+            }
+            int middle = (from + to) >>> 1;
+            SimulationTask left = new SimulationTask(from, middle, threshold);
+            left.fork();
+            SimulationReport report = new SimulationTask(middle, to, threshold).compute();
+            report.merge(left.join());
+            return report;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.uneb.fluxblocks.game.headless;
+
+import com.uneb.fluxblocks.architecture.events.GameplayEvents;
+import com.uneb.fluxblocks.architecture.mediators.GameMediator;
+import com.uneb.fluxblocks.configuration.GameRules;
+import com.uneb.fluxblocks.game.bot.BotPlayer;
+import com.uneb.fluxblocks.game.bot.HeuristicEvaluator;
+import com.uneb.fluxblocks.game.logic.FixedStepScheduler;
+import com.uneb.fluxblocks.game.logic.GameBoard;
+import com.uneb.fluxblocks.game.logic.GameState;
+import com.uneb.fluxblocks.game.statistics.GameStatistics;
+import com.uneb.fluxblocks.piece.PieceSystem;
+import com.uneb.fluxblocks.piece.entities.BlockShape;
+import com.uneb.fluxblocks.piece.factory.provider.BlockShapeProvider;
+import com.uneb.fluxblocks.piece.factory.provider.SevenBagBlockShapeProvider;
+
+/**
+ * Partida completa do FluxBlocks sem interface gráfica.
+ *
+ * <p>Reúne tabuleiro, sistema de peças, lock delay, pontuação e progressão de nível sobre
+ * um {@link FixedStepScheduler} conduzido por um {@link VirtualGameTimer}, sem depender do
+ * toolkit JavaFX nem do FXGL. O tempo só passa em {@link #advance(double)}, em ticks fixos de
+ * {@link #STEP_SECONDS}, e a gravidade segue a mesma regra de tick do {@code StandardGameTimer}.
+ * Isso permite simular partidas em servidores e máquinas sem display, muito mais rápido que o
+ * tempo real.</p>
+ *
+ * <p>A comunicação continua passando pelo {@link GameMediator}, então os mesmos eventos
+ * emitidos na partida gráfica podem ser observados aqui.</p>
+ */
+public class HeadlessGame {
+    /** Duração de cada passo da simulação, em segundos */
+    public static final double STEP_SECONDS = 1.0 / 60.0;
+
+    private final GameMediator mediator;
+    private final FixedStepScheduler scheduler;
+    private final VirtualGameTimer timer;
+    private final GameState gameState;
+    private final GameBoard board;
+    private final PieceSystem pieceSystem;
+    private final GameStatistics statistics;
+    private final int playerId;
+
+    /**
+     * Cria uma partida headless com um mediador e um Seven Bag próprios.
+     *
+     * @param playerId Id do jogador
+     */
+    public HeadlessGame(int playerId) {
+        this(new GameMediator(), new SevenBagBlockShapeProvider(), GameRules.fromConfig(), playerId);
+    }
+
+    /**
+     * Cria uma partida headless com um mediador próprio, a sequência de peças e as regras informadas.
+     *
+     * @param pieceProvider O provedor de peças da partida
+     * @param rules As regras da partida
+     * @param playerId Id do jogador
+     */
+    public HeadlessGame(BlockShapeProvider pieceProvider, GameRules rules, int playerId) {
+        this(new GameMediator(), pieceProvider, rules, playerId);
+    }
+
+    /**
+     * Cria uma partida headless usando um mediador existente.
+     *
+     * @param mediator O mediador para comunicação entre componentes
+     * @param pieceProvider O provedor de peças da partida
+     * @param rules As regras da partida
+     * @param playerId Id do jogador
+     */
+    public HeadlessGame(GameMediator mediator, BlockShapeProvider pieceProvider, GameRules rules, int playerId) {
+        this.mediator = mediator;
+        this.playerId = playerId;
+        this.scheduler = new FixedStepScheduler(STEP_SECONDS, 1);
+        this.gameState = new GameState(rules);
+        this.board = new GameBoard(mediator, rules, playerId);
+        this.pieceSystem = new PieceSystem(mediator, board, gameState, scheduler, pieceProvider, rules, playerId);
+        this.statistics = new GameStatistics(mediator, gameState, playerId);
+        this.timer = new VirtualGameTimer(mediator, gameState, scheduler, playerId);
+
+        mediator.receiver(GameplayEvents.GAME_OVER, playerId, ev -> gameState.setGameOver(true));
+    }
+
+    /**
+     * Inicia (ou reinicia) a partida com o tabuleiro vazio e peças novas.
+     */
+    public void start() {
+        timer.stop();
+        board.clearGrid();
+        gameState.reset();
+        pieceSystem.reset();
+        pieceSystem.handlePauseState(false);
+        statistics.reset();
+        timer.start();
+    }
+
+    /**
+     * Avança a simulação pelo tempo informado, em ticks fixos.
+     * Sem interface não há quadros, então cada chamada entrega ao final os eventos
+     * postados na fila de interface do mediador.
+     *
+     * @param seconds Quanto tempo simular, em segundos
+     */
+    public void advance(double seconds) {
+        timer.advance(seconds);
+        mediator.flushUiEvents();
+    }
+
+    /**
+     * Cria um bot que joga esta partida. O bot é síncrono: cada tick espera a busca
+     * terminar, então o resultado não depende da velocidade da máquina.
+     *
+     * @param parallelism Número de threads da busca
+     * @return O bot da partida
+     */
+    public BotPlayer createBot(int parallelism) {
+        BotPlayer bot = new BotPlayer(mediator, pieceSystem, board, gameState, scheduler, playerId,
+                new HeuristicEvaluator(board.getWidth()), parallelism);
+        bot.setSynchronous(true);
+        return bot;
+    }
+
+    public void moveLeft() {
+        pieceSystem.moveLeft();
+    }
+
+    public void moveRight() {
+        pieceSystem.moveRight();
+    }
+
+    public void softDrop() {
+        pieceSystem.moveDown();
+    }
+
+    public void rotate() {
+        pieceSystem.rotate();
+    }
+
+    public void hardDrop() {
+        pieceSystem.hardDrop();
+    }
+
+    /**
+     * Pausa ou retoma a partida, congelando gravidade e lock delay.
+     */
+    public void setPaused(boolean paused) {
+        gameState.setPaused(paused);
+        pieceSystem.handlePauseState(paused);
+        if (paused) {
+            timer.pause();
+        } else {
+            timer.resume();
+        }
+    }
+
+    public boolean isGameOver() {
+        return gameState.isGameOver();
+    }
+
+    public BlockShape getCurrentPiece() {
+        return pieceSystem.getCurrentPiece();
+    }
+
+    public BlockShape getNextPiece() {
+        return pieceSystem.getNextPiece();
+    }
+
+    public GameBoard getBoard() {
+        return board;
+    }
+
+    public GameState getGameState() {
+        return gameState;
+    }
+
+    public GameStatistics getStatistics() {
+        return statistics;
+    }
+
+    public PieceSystem getPieceSystem() {
+        return pieceSystem;
+    }
+
+    public GameMediator getMediator() {
+        return mediator;
+    }
+
+    public FixedStepScheduler getClock() {
+        return scheduler;
+    }
+
+    public VirtualGameTimer getTimer() {
+        return timer;
+    }
+
+    public int getPlayerId() {
+        return playerId;
+    }
+}
@@ -0,0 +1,19 @@
+package com.uneb.fluxblocks.game.headless;
+
+/**
+ * Política de entrada de uma partida simulada.
+ *
+ * <p>É chamada a cada decisão do simulador e aplica os comandos desejados diretamente
+ * na {@link HeadlessGame} (mover, rotacionar, soltar a peça). Sequências roteirizadas
+ * podem ser escritas como lambdas; {@link RandomInputPolicy} gera comandos aleatórios.</p>
+ */
+@FunctionalInterface
+public interface InputPolicy {
+
+    /**
+     * Decide e aplica os comandos do jogador para o instante atual.
+     *
+     * @param game A partida em andamento
+     */
+    void act(HeadlessGame game);
+}
@@ -0,0 +1,34 @@
+package com.uneb.fluxblocks.game.headless;
+
+import java.util.Random;
+
+/**
+ * Política de entrada que sorteia um comando a cada decisão.
+ *
+ * <p>Movimentos laterais e rotações são os mais frequentes; o hard drop é sorteado com
+ * menos frequência para que as peças percorram o tabuleiro antes de serem fixadas.
+ * Com a mesma semente, a sequência de comandos é sempre a mesma.</p>
+ */
+public class RandomInputPolicy implements InputPolicy {
+    private final Random random;
+
+    /**
+     * Cria uma política com semente fixa.
+     *
+     * @param seed A semente do gerador
+     */
+    public RandomInputPolicy(long seed) {
+        this.random = new Random(seed);
+    }
+
+    @Override
+    public void act(HeadlessGame game) {
+        switch (random.nextInt(10)) {
+            case 0, 1, 2 -> game.moveLeft();
+            case 3, 4, 5 -> game.moveRight();
+            case 6, 7 -> game.rotate();
+            case 8 -> game.softDrop();
+            default -> game.hardDrop();
+        }
+    }
+}
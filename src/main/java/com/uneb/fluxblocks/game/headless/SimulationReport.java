@@ -0,0 +1,156 @@
+package com.uneb.fluxblocks.game.headless;
+
+import com.uneb.fluxblocks.game.statistics.GameStatistics;
+
+/**
+ * Resultado agregado de um lote de partidas simuladas.
+ *
+ * <p>Soma as mesmas métricas de {@link GameStatistics} (peças, singles, doubles, triples,
+ * quads) e a pontuação de todas as partidas. Cada tarefa do {@link BatchSimulator} acumula
+ * em um relatório próprio e os relatórios são combinados ao final, sem estado compartilhado
+ * entre as threads.</p>
+ */
+public final class SimulationReport {
+    private int games = 0;
+    private int gamesOver = 0;
+    private long piecesPlaced = 0;
+    private long singles = 0;
+    private long doubles = 0;
+    private long triples = 0;
+    private long quads = 0;
+    private long totalScore = 0;
+    private int maxScore = 0;
+    private long simulatedTimeMs = 0;
+    private long wallTimeNanos = 0;
+
+    SimulationReport() {
+    }
+
+    /**
+     * Acumula o resultado de uma partida encerrada.
+     */
+    void addGame(HeadlessGame game) {
+        GameStatistics statistics = game.getStatistics();
+        games++;
+        if (game.isGameOver()) gamesOver++;
+        piecesPlaced += statistics.getPiecesPlaced();
+        singles += statistics.getSingles();
+        doubles += statistics.getDoubles();
+        triples += statistics.getTriples();
+        quads += statistics.getQuads();
+        int score = game.getGameState().getScore();
+        totalScore += score;
+        maxScore = Math.max(maxScore, score);
+        simulatedTimeMs += game.getGameState().getGameTimeMs();
+    }
+
+    /**
+     * Soma outro relatório a este.
+     */
+    void merge(SimulationReport other) {
+        games += other.games;
+        gamesOver += other.gamesOver;
+        piecesPlaced += other.piecesPlaced;
+        singles += other.singles;
+        doubles += other.doubles;
+        triples += other.triples;
+        quads += other.quads;
+        totalScore += other.totalScore;
+        maxScore = Math.max(maxScore, other.maxScore);
+        simulatedTimeMs += other.simulatedTimeMs;
+    }
+
+    void setWallTimeNanos(long wallTimeNanos) {
+        this.wallTimeNanos = wallTimeNanos;
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    /**
+     * Retorna quantas partidas terminaram em game over (as demais atingiram o tempo limite).
+     */
+    public int getGamesOver() {
+        return gamesOver;
+    }
+
+    public long getPiecesPlaced() {
+        return piecesPlaced;
+    }
+
+    public long getSingles() {
+        return singles;
+    }
+
+    public long getDoubles() {
+        return doubles;
+    }
+
+    public long getTriples() {
+        return triples;
+    }
+
+    public long getQuads() {
+        return quads;
+    }
+
+    /**
+     * Calcula o total de linhas eliminadas.
+     */
+    public long getTotalLinesCleared() {
+        return singles + (doubles * 2) + (triples * 3) + (quads * 4);
+    }
+
+    public long getTotalScore() {
+        return totalScore;
+    }
+
+    public int getMaxScore() {
+        return maxScore;
+    }
+
+    public double getAverageScore() {
+        if (games == 0) return 0.0;
+        return (double) totalScore / games;
+    }
+
+    /**
+     * Retorna o tempo de jogo somado de todas as partidas, em milissegundos.
+     */
+    public long getSimulatedTimeMs() {
+        return simulatedTimeMs;
+    }
+
+    /**
+     * Retorna o tempo real gasto para simular o lote, em nanossegundos.
+     */
+    public long getWallTimeNanos() {
+        return wallTimeNanos;
+    }
+
+    /**
+     * Calcula peças por segundo de tempo de jogo, considerando todas as partidas.
+     */
+    public double getPiecesPerSecond() {
+        if (simulatedTimeMs == 0) return 0.0;
+        return (double) piecesPlaced / (simulatedTimeMs / 1000.0);
+    }
+
+    /**
+     * Calcula quantas partidas foram simuladas por segundo de tempo real.
+     */
+    public double getGamesPerWallSecond() {
+        if (wallTimeNanos == 0) return 0.0;
+        return games / (wallTimeNanos / 1_000_000_000.0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "Partidas: %d (game over: %d) | Peças: %d (%.2f PPS) | Linhas: %d "
+                        + "[1x: %d, 2x: %d, 3x: %d, 4x: %d] | Pontuação média: %.1f (máx. %d) | %.1f partidas/s",
+                games, gamesOver, piecesPlaced, getPiecesPerSecond(), getTotalLinesCleared(),
+                singles, doubles, triples, quads, getAverageScore(), maxScore, getGamesPerWallSecond());
+    }
+}
@@ -0,0 +1,170 @@
+package com.uneb.fluxblocks.game.headless;
+
+import com.uneb.fluxblocks.architecture.mediators.GameMediator;
+import com.uneb.fluxblocks.game.core.FixedStepGameTimer;
+import com.uneb.fluxblocks.game.logic.FixedStepScheduler;
+import com.uneb.fluxblocks.game.logic.GameState;
+
+/**
+ * GameTimer sobre um relógio virtual, para simulação sem interface e verificação de replays.
+ *
+ * <p>Nenhum relógio de parede alimenta o agendador: o tempo simulado só passa em
+ * {@link #advance(double)} e {@link #advanceTicks(long)}, que executam os ticks em sequência,
+ * tão rápido quanto a CPU permitir. Gravidade, lock delay e tempo de jogo andam pelos mesmos
+ * ticks da partida gráfica, então a mesma sequência de entradas produz o mesmo resultado
+ * independente da velocidade em que a simulação roda.</p>
+ *
+ * <p>Para acompanhar a simulação em tempo real (por exemplo, ao exibir um replay),
+ * {@link #advanceRealTime(double)} converte o tempo real em tempo simulado pelo
+ * multiplicador de {@link #setSpeed(double)}, sem o limite de 10x do timer padrão. No modo de
+ * velocidade máxima, cada chamada usa o tempo real informado como orçamento de CPU e executa
+ * quantos ticks couberem nele.</p>
+ */
+public class VirtualGameTimer extends FixedStepGameTimer {
+    /** Tolerância para intervalos que são múltiplos exatos do tick não perderem um tick por arredondamento */
+    private static final double TICK_EPSILON = 1e-9;
+
+    private double speed = 1.0;
+    private boolean maxSpeed = false;
+
+    /** Tempo simulado pedido que ainda não completou um tick, em segundos */
+    private double remainderSeconds = 0;
+    /** Tick do agendador em que o timer foi iniciado */
+    private long startTick = 0;
+
+    /**
+     * Cria o timer virtual de um jogador.
+     *
+     * @param mediator O mediador para comunicação entre componentes
+     * @param gameState O estado do jogo
+     * @param scheduler O agendador de passo fixo da partida, compartilhado com o sistema de peças
+     * @param playerId Id do jogador
+     */
+    public VirtualGameTimer(GameMediator mediator, GameState gameState, FixedStepScheduler scheduler, int playerId) {
+        super(mediator, gameState, scheduler, playerId);
+    }
+
+    @Override
+    protected void startDriver() {
+        startTick = scheduler.getTick();
+    }
+
+    @Override
+    protected void stopDriver() {
+        // Não há driver: o tempo só passa quando a simulação pede
+    }
+
+    @Override
+    protected void resetLoopState() {
+        super.resetLoopState();
+        remainderSeconds = 0;
+    }
+
+    /**
+     * Avança a simulação pelo tempo simulado informado, em ticks completos.
+     * O resto que não completa um tick é guardado para a próxima chamada.
+     * Para antes do fim se a partida terminar.
+     *
+     * @param simulatedSeconds Quanto tempo simular, em segundos
+     * @return Quantos ticks foram executados
+     */
+    public long advance(double simulatedSeconds) {
+        if (simulatedSeconds < 0) {
+            throw new IllegalArgumentException("Não é possível voltar no tempo: " + simulatedSeconds);
+        }
+        double tickSeconds = scheduler.getTickSeconds();
+        remainderSeconds += simulatedSeconds;
+        long ticks = (long) (remainderSeconds / tickSeconds + TICK_EPSILON);
+        remainderSeconds = Math.max(0, remainderSeconds - ticks * tickSeconds);
+        return advanceTicks(ticks);
+    }
+
+    /**
+     * Executa o número de ticks informado, parando antes se a partida terminar.
+     *
+     * @param ticks Quantos ticks executar
+     * @return Quantos ticks foram executados
+     */
+    public long advanceTicks(long ticks) {
+        if (ticks < 0) {
+            throw new IllegalArgumentException("Número de ticks não pode ser negativo: " + ticks);
+        }
+        long executed = 0;
+        while (executed < ticks && !gameState.isGameOver()) {
+            scheduler.step();
+            executed++;
+        }
+        return executed;
+    }
+
+    /**
+     * Avança a simulação a partir do tempo real decorrido.
+     *
+     * <p>No modo normal, simula {@code realSeconds * speed} segundos. No modo de velocidade
+     * máxima, executa ticks até a partida terminar ou até gastar {@code realSeconds} de tempo
+     * real, o que vier primeiro.</p>
+     *
+     * @param realSeconds O tempo real desde a chamada anterior, em segundos
+     * @return Quantos ticks foram executados
+     */
+    public long advanceRealTime(double realSeconds) {
+        if (realSeconds < 0) {
+            throw new IllegalArgumentException("Não é possível voltar no tempo: " + realSeconds);
+        }
+        if (!maxSpeed) {
+            return advance(realSeconds * speed);
+        }
+        long deadline = System.nanoTime() + (long) (realSeconds * 1_000_000_000L);
+        long executed = 0;
+        while (!gameState.isGameOver() && System.nanoTime() < deadline) {
+            scheduler.step();
+            executed++;
+        }
+        return executed;
+    }
+
+    /**
+     * Define o multiplicador do tempo simulado por segundo real em {@link #advanceRealTime(double)}.
+     * Diferente do timer padrão, o valor não é limitado.
+     *
+     * @throws IllegalArgumentException Se a velocidade não for positiva
+     */
+    @Override
+    public void setSpeed(double speed) {
+        if (!(speed > 0) || Double.isInfinite(speed)) {
+            throw new IllegalArgumentException("Velocidade deve ser positiva e finita: " + speed);
+        }
+        this.speed = speed;
+    }
+
+    public double getSpeed() {
+        return speed;
+    }
+
+    /**
+     * Liga ou desliga o modo de velocidade máxima de {@link #advanceRealTime(double)}.
+     */
+    public void setMaxSpeed(boolean maxSpeed) {
+        this.maxSpeed = maxSpeed;
+    }
+
+    public boolean isMaxSpeed() {
+        return maxSpeed;
+    }
+
+    /**
+     * Retorna o tempo simulado desde o início do timer, em milissegundos.
+     */
+    @Override
+    public long getElapsedTime() {
+        if (!isRunning()) return 0;
+        return Math.round((scheduler.getTick() - startTick) * scheduler.getTickSeconds() * 1000.0);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        speed = 1.0;
+        maxSpeed = false;
+    }
+}
@@ -0,0 +1,245 @@
+package com.uneb.fluxblocks.game.logic;
+
+import com.uneb.fluxblocks.architecture.interfaces.GameClock;
+import com.uneb.fluxblocks.configuration.GameConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Agendador de passo fixo da simulação de uma partida.
+ *
+ * <p>O tempo de quadro informado em {@link #update(double)} é somado a um acumulador e
+ * consumido em ticks de duração fixa. A cada tick rodam, nessa ordem, os prazos vencidos
+ * (como o lock delay), as ações periódicas vencidas e os {@link TickListener}s (gravidade,
+ * tempo de jogo, repetição automática das teclas). Assim a velocidade do jogo não depende da taxa de
+ * atualização do monitor: a 50 Hz, 60 Hz ou 144 Hz o número de ticks por segundo é o mesmo.</p>
+ *
+ * <p>Os prazos de {@link #runAfter} ficam em um min-heap ordenado pelo tick de vencimento:
+ * um tick sem prazo vencido custa apenas uma olhada no topo do heap, e prazos cancelados
+ * são descartados quando chegam ao topo.</p>
+ *
+ * <p>Como {@link GameClock}, o tempo só anda de tick em tick: {@link #getNow()} retorna o
+ * instante do último tick executado. O resto do acumulador fica disponível em
+ * {@link #getInterpolationAlpha()} para a renderização interpolar entre dois ticks.</p>
+ */
+public class FixedStepScheduler implements GameClock {
+    /** Máximo de ticks executados em uma única atualização, para não travar após um quadro muito lento */
+    private static final int DEFAULT_MAX_TICKS_PER_UPDATE = 10;
+
+    /**
+     * Participante da simulação chamado uma vez por tick.
+     */
+    @FunctionalInterface
+    public interface TickListener {
+        /**
+         * Executa um tick.
+         *
+         * @param tickSeconds A duração do tick, em segundos
+         */
+        void onTick(double tickSeconds);
+    }
+
+    private final double tickSeconds;
+    private final int maxTicksPerUpdate;
+    private final List<TickListener> listeners = new ArrayList<>();
+    private final List<IntervalAction> actions = new ArrayList<>();
+    private final PriorityQueue<Deadline> deadlines = new PriorityQueue<>();
+
+    private long tick = 0;
+    private long deadlineSequence = 0;
+    private double accumulator = 0;
+
+    /**
+     * Cria um agendador com o tick padrão de {@link GameConfig#GAME_TICK_INTERVAL}.
+     */
+    public FixedStepScheduler() {
+        this(GameConfig.GAME_TICK_INTERVAL / 1000.0, DEFAULT_MAX_TICKS_PER_UPDATE);
+    }
+
+    /**
+     * Cria um agendador com a duração de tick informada.
+     *
+     * @param tickSeconds Duração de cada tick, em segundos
+     * @param maxTicksPerUpdate Máximo de ticks por chamada de {@link #update(double)}
+     * @throws IllegalArgumentException Se algum valor não for positivo
+     */
+    public FixedStepScheduler(double tickSeconds, int maxTicksPerUpdate) {
+        if (tickSeconds <= 0) {
+            throw new IllegalArgumentException("Duração do tick deve ser positiva: " + tickSeconds);
+        }
+        if (maxTicksPerUpdate <= 0) {
+            throw new IllegalArgumentException("Máximo de ticks por atualização deve ser positivo: " + maxTicksPerUpdate);
+        }
+        this.tickSeconds = tickSeconds;
+        this.maxTicksPerUpdate = maxTicksPerUpdate;
+    }
+
+    /**
+     * Adiciona um participante chamado a cada tick, depois dos já registrados.
+     */
+    public void addTickListener(TickListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeTickListener(TickListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Soma o tempo do quadro ao acumulador e executa os ticks completos.
+     * O tempo acima de {@code maxTicksPerUpdate} ticks é descartado.
+     *
+     * @param frameSeconds O tempo desde a atualização anterior, em segundos
+     * @return Quantos ticks foram executados
+     */
+    public int update(double frameSeconds) {
+        if (frameSeconds < 0) {
+            throw new IllegalArgumentException("Não é possível voltar no tempo: " + frameSeconds);
+        }
+        accumulator = Math.min(accumulator + frameSeconds, tickSeconds * maxTicksPerUpdate);
+
+        int executed = 0;
+        while (accumulator >= tickSeconds) {
+            accumulator -= tickSeconds;
+            step();
+            executed++;
+        }
+        return executed;
+    }
+
+    /**
+     * Executa exatamente um tick, sem passar pelo acumulador.
+     */
+    public void step() {
+        tick++;
+        Deadline deadline;
+        while ((deadline = deadlines.peek()) != null && deadline.dueTick <= tick) {
+            deadlines.poll();
+            if (!deadline.cancelled) {
+                deadline.cancelled = true;
+                deadline.action.run();
+            }
+        }
+        for (int i = 0; i < actions.size(); i++) {
+            IntervalAction action = actions.get(i);
+            if (action.cancelled) {
+                actions.remove(i--);
+            } else if (tick >= action.dueTick) {
+                action.dueTick = tick + action.intervalTicks;
+                action.action.run();
+            }
+        }
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onTick(tickSeconds);
+        }
+    }
+
+    /**
+     * Descarta o tempo acumulado que ainda não completou um tick.
+     */
+    public void clearAccumulator() {
+        accumulator = 0;
+    }
+
+    @Override
+    public double getNow() {
+        return tick * tickSeconds;
+    }
+
+    /**
+     * Agenda uma ação periódica alinhada aos ticks. O intervalo é arredondado para
+     * o número de ticks mais próximo, com no mínimo um tick.
+     */
+    @Override
+    public ScheduledAction runAtInterval(Runnable action, double intervalSeconds) {
+        if (intervalSeconds <= 0) {
+            throw new IllegalArgumentException("Intervalo deve ser positivo: " + intervalSeconds);
+        }
+        long intervalTicks = Math.max(1, Math.round(intervalSeconds / tickSeconds));
+        IntervalAction scheduled = new IntervalAction(action, intervalTicks, tick + intervalTicks);
+        actions.add(scheduled);
+        return scheduled;
+    }
+
+    /**
+     * Agenda uma ação para o primeiro tick em que o atraso tiver passado.
+     */
+    @Override
+    public ScheduledAction runAfter(Runnable action, double delaySeconds) {
+        if (delaySeconds < 0) {
+            throw new IllegalArgumentException("Atraso não pode ser negativo: " + delaySeconds);
+        }
+        long delayTicks = Math.max(1, (long) Math.ceil(delaySeconds / tickSeconds - 1e-9));
+        Deadline deadline = new Deadline(action, tick + delayTicks, deadlineSequence++);
+        deadlines.add(deadline);
+        return deadline;
+    }
+
+    /**
+     * Retorna quantos prazos ainda estão no heap, incluindo os cancelados que não chegaram ao topo.
+     */
+    public int getPendingDeadlineCount() {
+        return deadlines.size();
+    }
+
+    /**
+     * Retorna a fração do próximo tick já acumulada, entre 0 (inclusive) e 1 (exclusive).
+     * A renderização pode usá-la para interpolar entre o estado do tick anterior e o do atual.
+     */
+    public double getInterpolationAlpha() {
+        return accumulator / tickSeconds;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public double getTickSeconds() {
+        return tickSeconds;
+    }
+
+    private static final class Deadline implements ScheduledAction, Comparable<Deadline> {
+        private final Runnable action;
+        private final long dueTick;
+        /** Ordem de agendamento, para prazos do mesmo tick rodarem na ordem em que foram criados */
+        private final long sequence;
+        private boolean cancelled = false;
+
+        private Deadline(Runnable action, long dueTick, long sequence) {
+            this.action = action;
+            this.dueTick = dueTick;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public int compareTo(Deadline other) {
+            int byTick = Long.compare(dueTick, other.dueTick);
+            return byTick != 0 ? byTick : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    private static final class IntervalAction implements ScheduledAction {
+        private final Runnable action;
+        private final long intervalTicks;
+        private long dueTick;
+        private boolean cancelled = false;
+
+        private IntervalAction(Runnable action, long intervalTicks, long dueTick) {
+            this.action = action;
+            this.intervalTicks = intervalTicks;
+            this.dueTick = dueTick;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+}
@@ -1,16 +1,10 @@
 package com.uneb.fluxblocks.game.logic;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 import com.uneb.fluxblocks.architecture.events.UiEvents;
 import com.uneb.fluxblocks.architecture.mediators.GameMediator;
-import com.uneb.fluxblocks.configuration.GameConfig;
-import com.uneb.fluxblocks.ui.effects.Effects;
-import com.uneb.fluxblocks.ui.effects.FloatingTextEffect;
-
-import javafx.application.Platform;
-import javafx.scene.layout.Pane;
+import com.uneb.fluxblocks.configuration.GameRules;
 
 /**
  * Representa o tabuleiro do jogo.
@@ -18,6 +12,25 @@ import javafx.scene.layout.Pane;
  * 
  * <p>O tabuleiro possui uma área visível e uma área de buffer para permitir
  * que peças apareçam gradualmente acima do tabuleiro visível.</p>
+ *
+ * <p>Além da matriz de tipos de célula (usada na renderização), cada linha mantém
+ * uma máscara de ocupação compactada em um {@code int} (bit {@code x} = coluna {@code x}).
+ * Verificações de linha completa, linha vazia e sondagens de colisão viram
+ * comparações de máscara em vez de varreduras por coluna.</p>
+ *
+ * <p>Também são mantidos incrementalmente, em {@link #setCell} e na remoção de linhas,
+ * a ocupação de cada coluna (um {@code long} com um bit por linha), a altura da superfície
+ * e o número de buracos de cada coluna, a contagem de células preenchidas por linha e a
+ * posição dos blocos de vidro. Assim consultas como altura, buracos e presença de vidro
+ * custam O(largura) ou O(1) em vez de varrer todo o tabuleiro.</p>
+ *
+ * <p>Os componentes conectados de vidro são mantidos por um {@link GlassComponentIndex}
+ * e só os componentes em colunas alteradas desde a última verificação são avaliados
+ * para remoção de blocos frágeis.</p>
+ *
+ * <p>Cada alteração incrementa um contador de versão e marca a linha como suja. As
+ * notificações para a interface carregam apenas a máscara das linhas alteradas desde
+ * a última notificação, sem copiar o tabuleiro inteiro.</p>
  * 
  * @author Bruno Bispo
  */
@@ -27,13 +40,37 @@ public class GameBoard {
     
     /** Valor retornado quando a posição está fora dos limites do tabuleiro */
     public static final int INVALID_POSITION = -1;
+
+    /** Valor que representa um bloco de vidro */
+    public static final int GLASS_CELL = 10;
     
     private final GameMediator mediator;
-    private final int width = GameConfig.BOARD_WIDTH;
-    private final int bufferHeight = GameConfig.BOARD_VISIBLE_ROW;
-    private final int visibleHeight = GameConfig.BOARD_HEIGHT;
-    private final int height = visibleHeight + bufferHeight;
+    private final int width;
+    private final int bufferHeight;
+    private final int visibleHeight;
+    private final int height;
     private final int[][] grid;
+    private final int[] rowMasks;
+    private final int fullRowMask;
+    private final int[] rowFillCounts;
+    private final int[] glassRowMasks;
+    private final long[] columnMasks;
+    private final int[] columnHeights;
+    private final int[] columnHoles;
+    private int totalHoles;
+    private int glassCellCount;
+    private final long allRowsMask;
+    private long dirtyRows;
+    private long version;
+    private long lastClearedRows;
+    private final long[] glassColumnMasks;
+    private final GlassComponentIndex glassIndex;
+    /** Colunas alteradas desde a última verificação de vidro frágil (bit x = coluna x) */
+    private int glassCheckColumns;
+    private boolean removingGlass;
+    private final int[] glassCandidates;
+    private final int[] glassCandidateKeys;
+    private final int[] componentTops;
     private final int playerId;
     
     private boolean hasChanges = false;
@@ -45,9 +82,43 @@ public class GameBoard {
      * @param playerId O ID do jogador associado a este tabuleiro
      */
     public GameBoard(GameMediator mediator, int playerId) {
+        this(mediator, GameRules.fromConfig(), playerId);
+    }
+
+    /**
+     * Constrói um novo tabuleiro de jogo com as dimensões das regras informadas.
+     *
+     * @param mediator O mediador para comunicação entre componentes
+     * @param rules As regras da partida
+     * @param playerId O ID do jogador associado a este tabuleiro
+     */
+    public GameBoard(GameMediator mediator, GameRules rules, int playerId) {
+        this.width = rules.getBoardWidth();
+        this.bufferHeight = rules.getBufferRows();
+        this.visibleHeight = rules.getBoardHeight();
+        this.height = visibleHeight + bufferHeight;
+        if (width <= 0 || width > Integer.SIZE) {
+            throw new IllegalArgumentException("Largura do tabuleiro deve estar entre 1 e " + Integer.SIZE + " colunas: " + width);
+        }
+        if (height <= 0 || height > Long.SIZE) {
+            throw new IllegalArgumentException("Altura total do tabuleiro deve estar entre 1 e " + Long.SIZE + " linhas: " + height);
+        }
         this.mediator = mediator;
         this.playerId = playerId;
         this.grid = new int[height][width];
+        this.rowMasks = new int[height];
+        this.fullRowMask = width == Integer.SIZE ? -1 : (1 << width) - 1;
+        this.rowFillCounts = new int[height];
+        this.glassRowMasks = new int[height];
+        this.columnMasks = new long[width];
+        this.columnHeights = new int[width];
+        this.columnHoles = new int[width];
+        this.allRowsMask = height == Long.SIZE ? -1L : (1L << height) - 1;
+        this.glassColumnMasks = new long[width];
+        this.glassIndex = new GlassComponentIndex(width, height);
+        this.glassCandidates = new int[width * height];
+        this.glassCandidateKeys = new int[width * height];
+        this.componentTops = new int[width];
         clearGrid();
     }
 
@@ -69,6 +140,15 @@ public class GameBoard {
         return height;
     }
 
+    /**
+     * Retorna o número de linhas de buffer acima da área visível.
+     *
+     * @return A altura do buffer em células
+     */
+    public int getBufferHeight() {
+        return bufferHeight;
+    }
+
     /**
      * Obtém o valor de uma célula na posição especificada.
      * 
@@ -106,7 +186,7 @@ public class GameBoard {
     public boolean setCell(int x, int y, int value) {
         int realY = y + bufferHeight;
         if (x >= 0 && x < width && realY >= 0 && realY < height) {
-            grid[realY][x] = value;
+            writeCell(x, realY, value);
             hasChanges = true;
             return true;
         }
@@ -114,54 +194,269 @@ public class GameBoard {
     }
 
     /**
-     * Remove linhas completas do tabuleiro com efeitos visuais.
-     * 
-     * @param effectsLayer A camada de efeitos para aplicar animações visuais
-     * @return O número de linhas removidas
+     * Escreve uma célula usando a coordenada interna e atualiza os índices incrementais.
+     *
+     * @param x A coordenada X (coluna)
+     * @param realY A coordenada Y interna (0 = topo do buffer)
+     * @param value O valor a ser definido
      */
-    public int removeCompletedLines(Pane effectsLayer) {
-        int linesRemoved = 0;
-        boolean[] isLineComplete = new boolean[height];
-        List<Integer> clearedLines = new ArrayList<>();
+    private void writeCell(int x, int realY, int value) {
+        int previous = grid[realY][x];
+        if (previous == value) {
+            return;
+        }
+        grid[realY][x] = value;
+        dirtyRows |= 1L << realY;
+        version++;
 
-        for (int y = height - 1; y >= 0; y--) {
-            if (isLineComplete(y)) {
-                isLineComplete[y] = true;
-                linesRemoved++;
-                clearedLines.add(y - bufferHeight);
+        int bit = 1 << x;
+        if ((previous == GLASS_CELL) != (value == GLASS_CELL)) {
+            if (value == GLASS_CELL) {
+                glassRowMasks[realY] |= bit;
+                glassColumnMasks[x] |= 1L << realY;
+                glassCellCount++;
+                glassIndex.add(x, realY, glassRowMasks);
+                // Um bloco trocado por vidro não muda a ocupação, mas cria um componente a avaliar
+                glassCheckColumns |= bit;
+            } else {
+                glassRowMasks[realY] &= ~bit;
+                glassColumnMasks[x] &= ~(1L << realY);
+                glassCellCount--;
+                if (!removingGlass) {
+                    glassIndex.invalidate();
+                }
             }
         }
 
-        if (linesRemoved > 0) {
-            int finalLinesRemoved = linesRemoved;
-            Platform.runLater(() -> {
-                // Aplica efeito visual em todas as linhas limpas
-                for (int y = 0; y < height; y++) {
-                    if (isLineComplete[y]) {
-                        Effects.applyLineClearEffect(effectsLayer, y - bufferHeight, GameConfig.CELL_SIZE);
-                    }
-                }
+        if ((previous == EMPTY_CELL) == (value == EMPTY_CELL)) {
+            return;
+        }
+        glassCheckColumns |= bit;
+        if (value == EMPTY_CELL) {
+            rowMasks[realY] &= ~bit;
+            rowFillCounts[realY]--;
+            columnMasks[x] &= ~(1L << realY);
+        } else {
+            rowMasks[realY] |= bit;
+            rowFillCounts[realY]++;
+            columnMasks[x] |= 1L << realY;
+        }
+        refreshColumn(x);
+    }
 
-                // Exibe o texto flutuante apenas na linha central das linhas limpas
-                if (!clearedLines.isEmpty()) {
-                    int middleIdx = clearedLines.size() / 2;
-                    int lineIdx = clearedLines.get(middleIdx);
-                    FloatingTextEffect.showLineClearText(effectsLayer, lineIdx, GameConfig.CELL_SIZE, finalLinesRemoved);
-                }
+    /**
+     * Recalcula a altura e os buracos de uma coluna a partir da sua máscara de ocupação.
+     *
+     * @param x A coluna a recalcular
+     */
+    private void refreshColumn(int x) {
+        long mask = columnMasks[x];
+        int columnHeight = mask == 0 ? 0 : height - Long.numberOfTrailingZeros(mask);
+        int holes = columnHeight - Long.bitCount(mask);
 
-                // Screen shake
-                double intensity = Effects.SHAKE_INTENSITY_BASE +
-                        (finalLinesRemoved - 1) * Effects.SHAKE_INTENSITY_MULTIPLIER;
-                mediator.emit(UiEvents.SCREEN_SHAKE, new UiEvents.ScreenShakeEvent(playerId, intensity));
-            });
+        totalHoles += holes - columnHoles[x];
+        columnHeights[x] = columnHeight;
+        columnHoles[x] = holes;
+    }
 
-            removeCompleteLines(isLineComplete);
-            hasChanges = true;
+    /**
+     * Retorna a máscara de ocupação de uma linha (bit {@code x} ligado = coluna {@code x} ocupada).
+     *
+     * <p>Linhas abaixo do fundo do tabuleiro são tratadas como totalmente ocupadas e
+     * linhas acima do buffer como vazias, de modo que sondagens de colisão podem
+     * usar a máscara diretamente.</p>
+     *
+     * @param y A coordenada Y (linha) - pode ser negativa para área de buffer
+     * @return A máscara de ocupação da linha
+     */
+    public int getRowMask(int y) {
+        int realY = y + bufferHeight;
+        if (realY >= height) {
+            return fullRowMask;
+        }
+        if (realY < 0) {
+            return 0;
+        }
+        return rowMasks[realY];
+    }
+
+    /**
+     * Retorna a máscara correspondente a uma linha totalmente preenchida.
+     *
+     * @return A máscara com um bit ligado para cada coluna
+     */
+    public int getFullRowMask() {
+        return fullRowMask;
+    }
+
+    /**
+     * Verifica se uma linha está totalmente preenchida.
+     *
+     * @param y A coordenada Y (linha) - pode ser negativa para área de buffer
+     * @return true se todas as colunas da linha estiverem ocupadas
+     */
+    public boolean isRowFull(int y) {
+        int realY = y + bufferHeight;
+        return realY >= 0 && realY < height && rowMasks[realY] == fullRowMask;
+    }
+
+    /**
+     * Verifica se uma linha está vazia.
+     *
+     * @param y A coordenada Y (linha) - pode ser negativa para área de buffer
+     * @return true se nenhuma coluna da linha estiver ocupada
+     */
+    public boolean isRowEmpty(int y) {
+        int realY = y + bufferHeight;
+        return realY >= 0 && realY < height && rowMasks[realY] == 0;
+    }
+
+    /**
+     * Verifica se uma máscara de colunas colide com as células ocupadas de uma linha.
+     *
+     * @param y A coordenada Y (linha) - pode ser negativa para área de buffer
+     * @param mask Máscara de colunas a testar (bit {@code x} = coluna {@code x})
+     * @return true se alguma coluna da máscara já estiver ocupada
+     */
+    public boolean collidesWithRow(int y, int mask) {
+        return (getRowMask(y) & mask) != 0;
+    }
+
+    /**
+     * Retorna a altura da superfície de uma coluna, contada a partir do fundo do tabuleiro.
+     *
+     * @param x A coordenada X (coluna)
+     * @return O número de linhas entre o fundo e o bloco mais alto da coluna (0 se vazia)
+     */
+    public int getColumnHeight(int x) {
+        return columnHeights[x];
+    }
+
+    /**
+     * Retorna o número de buracos (células vazias abaixo do bloco mais alto) de uma coluna.
+     *
+     * @param x A coordenada X (coluna)
+     * @return O número de buracos da coluna
+     */
+    public int getColumnHoles(int x) {
+        return columnHoles[x];
+    }
+
+    /**
+     * Retorna o número total de buracos do tabuleiro.
+     *
+     * @return A soma dos buracos de todas as colunas
+     */
+    public int getTotalHoles() {
+        return totalHoles;
+    }
+
+    /**
+     * Retorna quantas células de uma linha estão preenchidas.
+     *
+     * @param y A coordenada Y (linha) - pode ser negativa para área de buffer
+     * @return O número de células ocupadas, ou 0 se a linha estiver fora do tabuleiro
+     */
+    public int getRowFillCount(int y) {
+        int realY = y + bufferHeight;
+        if (realY < 0 || realY >= height) {
+            return 0;
+        }
+        return rowFillCounts[realY];
+    }
+
+    /**
+     * Retorna a linha do primeiro bloco ocupado estritamente abaixo de uma posição da coluna.
+     * O fundo do tabuleiro conta como ocupado.
+     *
+     * @param x A coordenada X (coluna)
+     * @param y A coordenada Y (linha) - pode ser negativa para área de buffer
+     * @return A coordenada Y do primeiro bloco abaixo, ou a altura visível se não houver nenhum
+     */
+    public int getFirstOccupiedBelow(int x, int y) {
+        int realY = y + bufferHeight;
+        long below = realY < 0 ? columnMasks[x] : realY >= height - 1 ? 0 : columnMasks[x] & (-1L << (realY + 1));
+        if (below == 0) {
+            return visibleHeight;
+        }
+        return Long.numberOfTrailingZeros(below) - bufferHeight;
+    }
+
+    /**
+     * Conta os blocos ocupados acima de uma posição da coluna.
+     *
+     * @param x A coordenada X (coluna)
+     * @param y A coordenada Y (linha) - pode ser negativa para área de buffer
+     * @return O número de células ocupadas estritamente acima da posição
+     */
+    public int getBlocksAbove(int x, int y) {
+        int realY = y + bufferHeight;
+        if (realY <= 0) {
+            return 0;
+        }
+        long above = realY >= height ? columnMasks[x] : columnMasks[x] & ((1L << realY) - 1);
+        return Long.bitCount(above);
+    }
+
+    /**
+     * Retorna o número de blocos de vidro presentes no tabuleiro.
+     *
+     * @return A quantidade de células de vidro
+     */
+    public int getGlassCellCount() {
+        return glassCellCount;
+    }
+
+    /**
+     * Verifica se há algum bloco de vidro no tabuleiro.
+     *
+     * @return true se existir pelo menos um bloco de vidro
+     */
+    public boolean hasGlass() {
+        return glassCellCount > 0;
+    }
+
+    /**
+     * Remove as linhas completas do tabuleiro.
+     *
+     * <p>A passagem não aloca memória: as linhas completas são marcadas em uma máscara
+     * de bits e o tabuleiro é compactado no próprio lugar. Quando há linhas removidas,
+     * {@link UiEvents#LINE_CLEAR_EFFECT} é postado na fila de interface com o resultado
+     * compacto, para que a camada visual toque os efeitos no próximo quadro sem depender
+     * do estado interno do tabuleiro.</p>
+     *
+     * @return O número de linhas removidas
+     */
+    public int removeCompletedLines() {
+        long clearedRows = 0;
+        for (int y = 0; y < height; y++) {
+            if (isLineComplete(y)) {
+                clearedRows |= 1L << y;
+            }
+        }
+
+        lastClearedRows = clearedRows;
+        if (clearedRows == 0) {
+            return 0;
         }
 
+        int linesRemoved = Long.bitCount(clearedRows);
+        removeCompleteLines(clearedRows);
+        hasChanges = true;
+
+        mediator.post(UiEvents.LINE_CLEAR_EFFECT, new UiEvents.LineClearEffectEvent(playerId, clearedRows, linesRemoved, bufferHeight));
         return linesRemoved;
     }
 
+    /**
+     * Retorna a máscara das linhas removidas na última chamada de {@link #removeCompletedLines()}.
+     *
+     * @return Máscara de linhas (bit r = linha interna r, incluindo o buffer)
+     */
+    public long getLastClearedRows() {
+        return lastClearedRows;
+    }
+
     /**
      * Verifica se uma linha está completa.
      * 
@@ -169,38 +464,80 @@ public class GameBoard {
      * @return true se a linha estiver completa
      */
     private boolean isLineComplete(int y) {
-        for (int x = 0; x < width; x++) {
-            if (grid[y][x] == EMPTY_CELL) {
-                return false;
-            }
-        }
-        return true;
+        return rowMasks[y] == fullRowMask;
     }
 
     /**
-     * Remove as linhas completas e move as linhas acima para baixo.
+     * Remove as linhas completas e move as linhas acima para baixo, no próprio grid.
      * 
-     * @param isLineComplete Array indicando quais linhas estão completas
+     * @param clearedRows Máscara das linhas completas (coordenada interna)
      */
-    private void removeCompleteLines(boolean[] isLineComplete) {
+    private void removeCompleteLines(long clearedRows) {
         int writeY = height - 1;  // Começamos do fundo
 
         for (int readY = height - 1; readY >= 0; readY--) {
-            if (!isLineComplete[readY]) {
+            if ((clearedRows & (1L << readY)) == 0) {
                 if (writeY != readY) {
                     System.arraycopy(grid[readY], 0, grid[writeY], 0, width);
+                    rowMasks[writeY] = rowMasks[readY];
+                    rowFillCounts[writeY] = rowFillCounts[readY];
+                    glassRowMasks[writeY] = glassRowMasks[readY];
                 }
                 writeY--;
+            } else {
+                glassCellCount -= Integer.bitCount(glassRowMasks[readY]);
             }
         }
 
         // Preenche as linhas restantes com células vazias
         while (writeY >= 0) {
-            for (int x = 0; x < width; x++) {
-                grid[writeY][x] = EMPTY_CELL;
-            }
+            Arrays.fill(grid[writeY], EMPTY_CELL);
+            rowMasks[writeY] = 0;
+            rowFillCounts[writeY] = 0;
+            glassRowMasks[writeY] = 0;
             writeY--;
         }
+
+        // Todas as linhas acima da última linha eliminada mudaram de posição
+        int lowestCleared = Long.SIZE - 1 - Long.numberOfLeadingZeros(clearedRows);
+        dirtyRows |= lowestCleared == Long.SIZE - 1 ? -1L : (1L << (lowestCleared + 1)) - 1;
+        version++;
+
+        // Remove os bits das linhas eliminadas de cada coluna, descendo as linhas acima
+        boolean hadGlass = false;
+        for (int x = 0; x < width; x++) {
+            columnMasks[x] = compactColumn(columnMasks[x], clearedRows);
+            if (glassColumnMasks[x] != 0) {
+                glassColumnMasks[x] = compactColumn(glassColumnMasks[x], clearedRows);
+                hadGlass = true;
+            }
+            refreshColumn(x);
+        }
+
+        // Componentes de vidro cortados pela limpeza podem ter se dividido e são reavaliados
+        if (hadGlass) {
+            glassCheckColumns |= glassIndex.removeRows(clearedRows, glassRowMasks);
+        }
+    }
+
+    /**
+     * Remove de uma máscara de coluna os bits das linhas eliminadas,
+     * deslocando os bits acima de cada linha removida uma posição para baixo.
+     *
+     * @param columnMask A máscara de ocupação da coluna
+     * @param clearedRows Máscara das linhas eliminadas (coordenada interna)
+     * @return A máscara compactada
+     */
+    private static long compactColumn(long columnMask, long clearedRows) {
+        long remaining = clearedRows;
+        while (remaining != 0) {
+            int row = Long.numberOfTrailingZeros(remaining);
+            long above = (1L << row) - 1;
+            long below = row == Long.SIZE - 1 ? 0 : -1L << (row + 1);
+            columnMask = (columnMask & below) | ((columnMask & above) << 1);
+            remaining &= remaining - 1;
+        }
+        return columnMask;
     }
 
     /**
@@ -211,23 +548,40 @@ public class GameBoard {
             for (int x = 0; x < width; x++) {
                 grid[y][x] = EMPTY_CELL;
             }
+            rowMasks[y] = 0;
+            rowFillCounts[y] = 0;
+            glassRowMasks[y] = 0;
+        }
+        for (int x = 0; x < width; x++) {
+            columnMasks[x] = 0;
+            columnHeights[x] = 0;
+            columnHoles[x] = 0;
+            glassColumnMasks[x] = 0;
         }
+        totalHoles = 0;
+        glassCellCount = 0;
+        glassCheckColumns = 0;
+        glassIndex.clear();
+        dirtyRows = allRowsMask;
+        version++;
         hasChanges = true;
         notifyBoardUpdated();
     }
 
     /**
-     * Notifica que o tabuleiro foi atualizado, enviando uma cópia do estado atual.
+     * Notifica que o tabuleiro foi atualizado, enviando apenas as linhas alteradas.
      * Só envia notificação se houve mudanças desde a última notificação.
+     *
+     * <p>O evento referencia o grid interno; os consumidores devem copiar as linhas
+     * marcadas durante o tratamento do evento.</p>
      */
     public void notifyBoardUpdated() {
         if (hasChanges) {
-            int[][] gridCopy = new int[height][width];
-            for (int y = 0; y < height; y++) {
-                System.arraycopy(grid[y], 0, gridCopy[y], 0, width);
+            if (dirtyRows != 0) {
+                mediator.emit(UiEvents.BOARD_DELTA_UPDATE,
+                        new UiEvents.BoardDeltaEvent(playerId, dirtyRows, grid));
             }
-
-            mediator.emit(UiEvents.BOARD_UPDATE, new UiEvents.BoardUpdateEvent(playerId, gridCopy));
+            dirtyRows = 0;
             hasChanges = false;
         }
     }
@@ -237,69 +591,169 @@ public class GameBoard {
      */
     public void forceBoardUpdate() {
         hasChanges = true;
+        dirtyRows = allRowsMask;
         notifyBoardUpdated();
     }
 
+    /**
+     * Retorna a versão atual do tabuleiro, incrementada a cada alteração de célula.
+     * Permite que caches derivados do tabuleiro detectem quando precisam ser recalculados.
+     *
+     * @return O contador de versão do tabuleiro
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Copia uma linha do tabuleiro para o array informado.
+     * Linhas fora do tabuleiro são preenchidas com {@link #INVALID_POSITION}.
+     *
+     * @param y A coordenada Y (linha) - pode ser negativa para área de buffer
+     * @param target Array de destino com pelo menos {@link #getWidth()} posições
+     */
+    public void copyRow(int y, int[] target) {
+        int realY = y + bufferHeight;
+        if (realY < 0 || realY >= height) {
+            Arrays.fill(target, 0, width, INVALID_POSITION);
+            return;
+        }
+        System.arraycopy(grid[realY], 0, target, 0, width);
+    }
+
     /**
      * Remove blocos de vidro que tenham 2 ou mais blocos acima deles.
+     *
+     * <p>Um componente conectado de vidro é removido inteiro quando todas as colunas que ele
+     * ocupa têm pelo menos 2 blocos acima da sua célula mais alta. Como essa contagem só
+     * aumenta quando algo é colocado na coluna, apenas os componentes com células em colunas
+     * alteradas desde a última chamada são avaliados, na mesma ordem da varredura completa
+     * (coluna crescente, de baixo para cima). Uma limpeza de linhas marca as colunas dos
+     * componentes que ela cortou; descer ou unir componentes não cria componentes frágeis.
+     * Depois de uma reconstrução do índice todos os componentes são avaliados.</p>
      */
     public void removeFragileGlassBlocks() {
-        boolean[][] visited = new boolean[height][width];
-        for (int x = 0; x < width; x++) {
-            for (int y = height - 1; y >= 0; y--) {
-                if (grid[y][x] == 10 && !visited[y][x]) {
-                    // Busca todas as células conectadas de vidro (BFS)
-                    List<int[]> pieceCells = new ArrayList<>();
-                    List<int[]> toVisit = new ArrayList<>();
-                    toVisit.add(new int[]{x, y});
-                    visited[y][x] = true;
-                    while (!toVisit.isEmpty()) {
-                        int[] cell = toVisit.remove(toVisit.size() - 1);
-                        int cx = cell[0], cy = cell[1];
-                        pieceCells.add(cell);
-                        // Busca vizinhos ortogonais de vidro
-                        int[][] dirs = {{0,1},{1,0},{0,-1},{-1,0}};
-                        for (int[] d : dirs) {
-                            int nx = cx + d[0], ny = cy + d[1];
-                            if (nx >= 0 && nx < width && ny >= 0 && ny < height && grid[ny][nx] == 10 && !visited[ny][nx]) {
-                                toVisit.add(new int[]{nx, ny});
-                                visited[ny][nx] = true;
-                            }
-                        }
-                    }
-                    // Para cada coluna ocupada pela peça, encontre a célula mais alta da peça naquela coluna
-                    boolean shouldRemove = true;
-                    for (int col = 0; col < width; col++) {
-                        int minY = height;
-                        for (int[] cell : pieceCells) {
-                            if (cell[0] == col) {
-                                minY = Math.min(minY, cell[1]);
-                            }
-                        }
-                        if (minY < height) {
-                            // Conta blocos acima da célula mais alta da peça nesta coluna
-                            int blocksAbove = 0;
-                            for (int aboveY = minY - 1; aboveY >= 0; aboveY--) {
-                                if (grid[aboveY][col] != EMPTY_CELL) {
-                                    blocksAbove++;
-                                }
-                            }
-                            if (blocksAbove < 2) {
-                                shouldRemove = false;
-                                break;
-                            }
-                        }
-                    }
-                    // Se todas as colunas ocupadas têm 2+ blocos acima, remove a peça inteira
-                    if (shouldRemove) {
-                        for (int[] cell : pieceCells) {
-                            grid[cell[1]][cell[0]] = EMPTY_CELL;
-                            hasChanges = true;
-                        }
-                    }
+        int columns = glassCheckColumns;
+        glassCheckColumns = 0;
+        if (glassCellCount == 0) {
+            return;
+        }
+        if (glassIndex.isStale()) {
+            // Limpezas de linha podem dividir componentes; todos são reavaliados
+            glassIndex.rebuild(glassRowMasks);
+            columns = fullRowMask;
+        }
+        if (columns == 0) {
+            return;
+        }
+
+        int candidateCount = collectGlassCandidates(columns);
+        for (int i = 0; i < candidateCount; i++) {
+            int root = glassIndex.find(glassCandidates[i]);
+            if (root >= 0 && isFragileGlassComponent(root)) {
+                removeGlassComponent(root);
+            }
+        }
+
+        // A remoção só diminui contagens acima de outros componentes
+        glassCheckColumns = 0;
+    }
+
+    /**
+     * Coleta os componentes de vidro com células nas colunas informadas, ordenados pela
+     * posição em que uma varredura completa os encontraria.
+     *
+     * @param columns Máscara das colunas alteradas
+     * @return O número de componentes coletados em {@link #glassCandidates}
+     */
+    private int collectGlassCandidates(int columns) {
+        int count = 0;
+        glassIndex.beginVisit();
+        while (columns != 0) {
+            int x = Integer.numberOfTrailingZeros(columns);
+            columns &= columns - 1;
+
+            long cells = glassColumnMasks[x];
+            while (cells != 0) {
+                int y = Long.SIZE - 1 - Long.numberOfLeadingZeros(cells);
+                cells &= ~(1L << y);
+
+                int root = glassIndex.find(y * width + x);
+                if (root < 0 || !glassIndex.markVisited(root)) {
+                    continue;
                 }
+
+                // Chave de descoberta: menor coluna e, nela, a célula mais baixa
+                int key = Integer.MAX_VALUE;
+                int member = root;
+                do {
+                    int memberKey = (member % width) * height + (height - 1 - member / width);
+                    key = Math.min(key, memberKey);
+                    member = glassIndex.nextMember(member);
+                } while (member != root);
+
+                // Inserção ordenada (poucos componentes por passagem)
+                int pos = count++;
+                while (pos > 0 && glassCandidateKeys[pos - 1] > key) {
+                    glassCandidateKeys[pos] = glassCandidateKeys[pos - 1];
+                    glassCandidates[pos] = glassCandidates[pos - 1];
+                    pos--;
+                }
+                glassCandidateKeys[pos] = key;
+                glassCandidates[pos] = root;
             }
         }
+        return count;
+    }
+
+    /**
+     * Verifica se todas as colunas ocupadas por um componente de vidro têm
+     * pelo menos 2 blocos acima da célula mais alta do componente.
+     *
+     * @param root Raiz do componente
+     * @return true se o componente deve ser removido
+     */
+    private boolean isFragileGlassComponent(int root) {
+        int touched = 0;
+        int member = root;
+        do {
+            int x = member % width;
+            int y = member / width;
+            if ((touched & (1 << x)) == 0 || y < componentTops[x]) {
+                componentTops[x] = y;
+                touched |= 1 << x;
+            }
+            member = glassIndex.nextMember(member);
+        } while (member != root);
+
+        while (touched != 0) {
+            int col = Integer.numberOfTrailingZeros(touched);
+            touched &= touched - 1;
+            // Conta blocos acima da célula mais alta do componente nesta coluna
+            int blocksAbove = Long.bitCount(columnMasks[col] & ((1L << componentTops[col]) - 1));
+            if (blocksAbove < 2) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Remove todas as células de um componente de vidro.
+     *
+     * @param root Raiz do componente
+     */
+    private void removeGlassComponent(int root) {
+        removingGlass = true;
+        int member = root;
+        do {
+            writeCell(member % width, member / width, EMPTY_CELL);
+            member = glassIndex.nextMember(member);
+        } while (member != root);
+        removingGlass = false;
+
+        glassIndex.removeComponent(root);
+        hasChanges = true;
     }
 
     /**
@@ -308,11 +762,6 @@ public class GameBoard {
      * @return true se houver vidro na linha
      */
     public boolean lineHasGlass(int y) {
-        for (int x = 0; x < width; x++) {
-            if (grid[y][x] == 10) {
-                return true;
-            }
-        }
-        return false;
+        return glassRowMasks[y] != 0;
     }
 }
@@ -1,6 +1,6 @@
 package com.uneb.fluxblocks.game.logic;
 
-import com.uneb.fluxblocks.configuration.GameConfig;
+import com.uneb.fluxblocks.configuration.GameRules;
 
 /**
  * Mantém e gerencia o estado atual do jogo FluxBlocks.
@@ -8,6 +8,9 @@ import com.uneb.fluxblocks.configuration.GameConfig;
  * seguindo o padrão Single Source of Truth.
  */
 public class GameState {
+    /** Regras da partida */
+    private final GameRules rules;
+
     /** Estado de pausa do jogo */
     private volatile boolean isPaused = true;
     
@@ -29,6 +32,22 @@ public class GameState {
     /** Número de linhas eliminadas no nível atual */
     private int linesInCurrentLevel = 0;
 
+    /**
+     * Cria o estado de uma partida com as regras atuais de configuração.
+     */
+    public GameState() {
+        this(GameRules.fromConfig());
+    }
+
+    /**
+     * Cria o estado de uma partida com as regras informadas.
+     *
+     * @param rules As regras da partida
+     */
+    public GameState(GameRules rules) {
+        this.rules = rules;
+    }
+
     /**
      * Reinicia o estado do jogo para seus valores padrão.
      */
@@ -60,9 +79,9 @@ public class GameState {
         totalLinesCleared += lines;
         linesInCurrentLevel += lines;
 
-        if (linesInCurrentLevel >= GameConfig.LINES_PER_LEVEL) {
+        if (linesInCurrentLevel >= rules.getLinesPerLevel()) {
             currentLevel++;
-            linesInCurrentLevel = linesInCurrentLevel % GameConfig.LINES_PER_LEVEL;
+            linesInCurrentLevel = linesInCurrentLevel % rules.getLinesPerLevel();
         }
 
         return currentLevel > oldLevel;
@@ -74,6 +93,7 @@ public class GameState {
     }
 
 
+    public GameRules getRules() { return rules; }
     public boolean isPaused() { return isPaused; }
     public boolean isGameOver() { return isGameOver; }
     public int getCurrentLevel() { return currentLevel; }
@@ -102,7 +122,7 @@ public class GameState {
      * Calcula a velocidade de queda das peças com base no nível atual.
      */
     public double calculateCurrentSpeed() {
-        return GameConfig.INITIAL_GAME_SPEED * Math.pow(0.8, currentLevel - 1);
+        return rules.calculateGameSpeed(currentLevel);
     }
 
     /**
@@ -0,0 +1,284 @@
+package com.uneb.fluxblocks.game.logic;
+
+import java.util.Arrays;
+
+/**
+ * Índice incremental dos componentes conectados de blocos de vidro do tabuleiro.
+ *
+ * <p>Usa uma estrutura union-find sobre os índices das células ({@code y * largura + x},
+ * em coordenada interna). Cada bloco de vidro colocado é unido aos vizinhos ortogonais
+ * de vidro e os membros de cada componente ficam encadeados em uma lista circular,
+ * permitindo percorrer um componente sem varrer o tabuleiro.</p>
+ *
+ * <p>Limpezas de linha são acompanhadas por {@link #removeRows}: só os componentes que
+ * perderam células são refeitos. Union-find não suporta remoções avulsas; quando um bloco
+ * de vidro é sobrescrito fora dessas situações, o índice é marcado como desatualizado e
+ * reconstruído a partir das máscaras de vidro na próxima consulta, com custo proporcional
+ * ao número de blocos de vidro.</p>
+ */
+final class GlassComponentIndex {
+    private static final int NONE = -1;
+
+    private final int width;
+    private final int height;
+    private final int[] parent;
+    private final int[] size;
+    private final int[] next;
+    private final int[] stamps;
+    /** Células restantes dos componentes refeitos em {@link #removeRows} */
+    private final int[] survivors;
+    private int currentStamp;
+    private boolean stale;
+
+    GlassComponentIndex(int width, int height) {
+        this.width = width;
+        this.height = height;
+        int cells = width * height;
+        this.parent = new int[cells];
+        this.size = new int[cells];
+        this.next = new int[cells];
+        this.stamps = new int[cells];
+        this.survivors = new int[cells];
+        clear();
+    }
+
+    /**
+     * Remove todos os componentes do índice.
+     */
+    void clear() {
+        Arrays.fill(parent, NONE);
+        stale = false;
+    }
+
+    /**
+     * Marca o índice como desatualizado, forçando reconstrução na próxima consulta.
+     */
+    void invalidate() {
+        stale = true;
+    }
+
+    /**
+     * Indica se o índice precisa ser reconstruído.
+     */
+    boolean isStale() {
+        return stale;
+    }
+
+    /**
+     * Reconstrói o índice a partir das máscaras de vidro por linha.
+     *
+     * @param glassRowMasks máscara de vidro de cada linha (coordenada interna)
+     */
+    void rebuild(int[] glassRowMasks) {
+        Arrays.fill(parent, NONE);
+        stale = false;
+        for (int y = 0; y < height; y++) {
+            int mask = glassRowMasks[y];
+            while (mask != 0) {
+                int x = Integer.numberOfTrailingZeros(mask);
+                add(x, y, glassRowMasks);
+                mask &= mask - 1;
+            }
+        }
+    }
+
+    /**
+     * Atualiza o índice depois da remoção de linhas completas, sem reconstruí-lo.
+     *
+     * <p>Um componente sem células nas linhas removidas fica inteiro entre duas delas e só
+     * desce junto com a sua faixa. Os componentes que perderam células são desfeitos e as
+     * células restantes são indexadas de novo na nova posição, o que separa as partes que
+     * ficaram desconectadas. Por fim, o vidro logo acima de cada bloco de linhas removidas é
+     * unido ao vidro que passou a ficar logo abaixo dele.</p>
+     *
+     * @param clearedRows máscara das linhas removidas (coordenada interna)
+     * @param glassRowMasks máscara de vidro de cada linha, já compactada
+     * @return máscara das colunas dos componentes refeitos, que precisam ser reavaliados
+     */
+    int removeRows(long clearedRows, int[] glassRowMasks) {
+        if (stale) {
+            return 0;
+        }
+
+        // Desfaz os componentes com células removidas, guardando as que restam
+        int survivorCount = 0;
+        long rows = clearedRows;
+        while (rows != 0) {
+            int row = Long.numberOfTrailingZeros(rows);
+            rows &= rows - 1;
+            for (int x = 0; x < width; x++) {
+                int root = find(row * width + x);
+                if (root == NONE) {
+                    continue;
+                }
+                int member = root;
+                do {
+                    if ((clearedRows & (1L << (member / width))) == 0) {
+                        survivors[survivorCount++] = member;
+                    }
+                    parent[member] = NONE;
+                    member = next[member];
+                } while (member != root);
+            }
+        }
+
+        // Desce os demais componentes, de baixo para cima, marcando as novas junções
+        long seams = 0;
+        int shift = 0;
+        for (int y = height - 1; y >= 0; y--) {
+            if ((clearedRows & (1L << y)) != 0) {
+                shift++;
+                continue;
+            }
+            if (shift == 0) {
+                continue;
+            }
+            if ((clearedRows & (1L << (y + 1))) != 0 && y + shift + 1 < height) {
+                seams |= 1L << (y + shift);
+            }
+            int offset = shift * width;
+            for (int x = 0; x < width; x++) {
+                int from = y * width + x;
+                if (parent[from] == NONE) {
+                    continue;
+                }
+                int to = from + offset;
+                parent[to] = parent[from] + offset;
+                next[to] = next[from] + offset;
+                size[to] = size[from];
+                parent[from] = NONE;
+            }
+        }
+
+        int columns = 0;
+        for (int i = 0; i < survivorCount; i++) {
+            int x = survivors[i] % width;
+            int y = survivors[i] / width;
+            long below = y == Long.SIZE - 1 ? 0 : clearedRows & (-1L << (y + 1));
+            add(x, y + Long.bitCount(below), glassRowMasks);
+            columns |= 1 << x;
+        }
+
+        while (seams != 0) {
+            int y = Long.numberOfTrailingZeros(seams);
+            seams &= seams - 1;
+            int touching = glassRowMasks[y] & glassRowMasks[y + 1];
+            while (touching != 0) {
+                int x = Integer.numberOfTrailingZeros(touching);
+                touching &= touching - 1;
+                union(y * width + x, (y + 1) * width + x);
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Registra um novo bloco de vidro e o une aos vizinhos de vidro já indexados.
+     *
+     * @param x coluna
+     * @param y linha (coordenada interna)
+     * @param glassRowMasks máscara de vidro de cada linha, já incluindo o novo bloco
+     */
+    void add(int x, int y, int[] glassRowMasks) {
+        if (stale) {
+            return;
+        }
+        int index = y * width + x;
+        parent[index] = index;
+        size[index] = 1;
+        next[index] = index;
+
+        if (x > 0 && (glassRowMasks[y] & (1 << (x - 1))) != 0) {
+            union(index, index - 1);
+        }
+        if (x < width - 1 && (glassRowMasks[y] & (1 << (x + 1))) != 0) {
+            union(index, index + 1);
+        }
+        if (y > 0 && (glassRowMasks[y - 1] & (1 << x)) != 0) {
+            union(index, index - width);
+        }
+        if (y < height - 1 && (glassRowMasks[y + 1] & (1 << x)) != 0) {
+            union(index, index + width);
+        }
+    }
+
+    /**
+     * Remove um componente inteiro do índice.
+     *
+     * @param root raiz do componente
+     */
+    void removeComponent(int root) {
+        int member = root;
+        do {
+            int following = next[member];
+            parent[member] = NONE;
+            member = following;
+        } while (member != root);
+    }
+
+    /**
+     * Retorna a raiz do componente que contém a célula, ou -1 se ela não estiver indexada.
+     */
+    int find(int index) {
+        if (parent[index] == NONE) {
+            return NONE;
+        }
+        while (parent[index] != index) {
+            parent[index] = parent[parent[index]];
+            index = parent[index];
+        }
+        return index;
+    }
+
+    /**
+     * Retorna o próximo membro na lista circular do componente.
+     */
+    int nextMember(int index) {
+        return next[index];
+    }
+
+    /**
+     * Inicia uma nova passagem de visita, invalidando as marcações anteriores.
+     */
+    void beginVisit() {
+        currentStamp++;
+        if (currentStamp == 0) {
+            Arrays.fill(stamps, 0);
+            currentStamp = 1;
+        }
+    }
+
+    /**
+     * Marca um componente como visitado na passagem atual.
+     *
+     * @param root raiz do componente
+     * @return true se o componente ainda não havia sido visitado nesta passagem
+     */
+    boolean markVisited(int root) {
+        if (stamps[root] == currentStamp) {
+            return false;
+        }
+        stamps[root] = currentStamp;
+        return true;
+    }
+
+    private void union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA == NONE || rootB == NONE || rootA == rootB) {
+            return;
+        }
+        if (size[rootA] < size[rootB]) {
+            int tmp = rootA;
+            rootA = rootB;
+            rootB = tmp;
+        }
+        parent[rootB] = rootA;
+        size[rootA] += size[rootB];
+
+        // Junta as duas listas circulares de membros
+        int tmp = next[rootA];
+        next[rootA] = next[rootB];
+        next[rootB] = tmp;
+    }
+}
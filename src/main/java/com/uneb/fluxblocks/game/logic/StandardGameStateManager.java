@@ -1,7 +1,7 @@
 package com.uneb.fluxblocks.game.logic;
 
 import com.uneb.fluxblocks.architecture.interfaces.GameStateManager;
-import com.uneb.fluxblocks.configuration.GameConfig;
+import com.uneb.fluxblocks.configuration.GameRules;
 
 /**
  * Implementação padrão do GameStateManager baseada no GameState original.
@@ -17,6 +17,15 @@ public class StandardGameStateManager implements GameStateManager {
     private long gameTimeMs = 0;
     private int linesInCurrentLevel = 0;
     private GameState currentState = GameState.MENU;
+    private final GameRules rules;
+
+    public StandardGameStateManager() {
+        this(GameRules.fromConfig());
+    }
+
+    public StandardGameStateManager(GameRules rules) {
+        this.rules = rules;
+    }
     
     @Override
     public GameState getCurrentState() {
@@ -140,9 +149,9 @@ public class StandardGameStateManager implements GameStateManager {
         totalLinesCleared += linesCleared;
         linesInCurrentLevel += linesCleared;
         
-        if (linesInCurrentLevel >= GameConfig.LINES_PER_LEVEL) {
+        if (linesInCurrentLevel >= rules.getLinesPerLevel()) {
             currentLevel++;
-            linesInCurrentLevel = linesInCurrentLevel % GameConfig.LINES_PER_LEVEL;
+            linesInCurrentLevel = linesInCurrentLevel % rules.getLinesPerLevel();
         }
         
         return currentLevel > oldLevel;
@@ -150,7 +159,7 @@ public class StandardGameStateManager implements GameStateManager {
     
     @Override
     public double calculateCurrentSpeed() {
-        return GameConfig.INITIAL_GAME_SPEED * Math.pow(0.8, currentLevel - 1);
+        return rules.calculateGameSpeed(currentLevel);
     }
     
     @Override
@@ -108,14 +108,7 @@ public class RankingManager {
      * @return ID da entrada criada ou null se falhar
      */
     public Long addRankingEntry(String playerName, int score, int level, int lines, long gameTimeMs) {
-        
-        if (playerName == null || playerName.trim().isEmpty()) {
-            System.err.println("❌ Nome do jogador não pode ser nulo ou vazio");
-            return null;
-        }
-        
-        if (score < 0) {
-            System.err.println("❌ Pontuação não pode ser negativa");
+        if (!isValidEntry(playerName, score)) {
             return null;
         }
         
@@ -123,16 +116,7 @@ public class RankingManager {
         mediator.emit(RankingEventTypes.ADD_RANKING_ENTRY_REQUEST, 
             new RankingEvents.AddRankingEntryRequestEvent(playerName, score, level, lines));
         
-        RankingEntry entry = new RankingEntry();
-        entry.setPlayerName(playerName);
-        entry.setScore(score);
-        entry.setLevel(level);
-        entry.setLinesCleared(lines);
-        entry.setGameTimeMs(gameTimeMs);
-        entry.setDateTime(java.time.LocalDateTime.now());
-        entry.setGameMode("Single Player");
-        
-
+        RankingEntry entry = createEntry(playerName, score, level, lines, gameTimeMs);
         
         // Usa o método com limite
         Long id = rankingDAO.addEntryWithLimit(entry, maxEntriesPerPlayer);
@@ -153,6 +137,54 @@ public class RankingManager {
         return id;
     }
     
+    /**
+     * Grava uma nova entrada no ranking respeitando o limite por jogador, sem emitir eventos.
+     * Pode rodar na thread de I/O do mediador; quem chama avisa a interface ao terminar.
+     * @param playerName Nome do jogador
+     * @param score Pontuação
+     * @param level Nível
+     * @param lines Linhas completadas
+     * @param gameTimeMs Tempo de jogo em milissegundos
+     * @return ID da entrada criada ou null se falhar
+     */
+    public Long saveRankingEntry(String playerName, int score, int level, int lines, long gameTimeMs) {
+        if (!isValidEntry(playerName, score)) {
+            return null;
+        }
+        
+        Long id = rankingDAO.addEntryWithLimit(createEntry(playerName, score, level, lines, gameTimeMs),
+                maxEntriesPerPlayer);
+        if (id == null) {
+            System.err.println("❌ Falha ao adicionar entrada no ranking para: " + playerName);
+        }
+        return id;
+    }
+    
+    private boolean isValidEntry(String playerName, int score) {
+        if (playerName == null || playerName.trim().isEmpty()) {
+            System.err.println("❌ Nome do jogador não pode ser nulo ou vazio");
+            return false;
+        }
+        
+        if (score < 0) {
+            System.err.println("❌ Pontuação não pode ser negativa");
+            return false;
+        }
+        return true;
+    }
+    
+    private RankingEntry createEntry(String playerName, int score, int level, int lines, long gameTimeMs) {
+        RankingEntry entry = new RankingEntry();
+        entry.setPlayerName(playerName);
+        entry.setScore(score);
+        entry.setLevel(level);
+        entry.setLinesCleared(lines);
+        entry.setGameTimeMs(gameTimeMs);
+        entry.setDateTime(java.time.LocalDateTime.now());
+        entry.setGameMode("Single Player");
+        return entry;
+    }
+    
     /**
      * Obtém o ranking geral (top 10)
      */
@@ -17,6 +17,8 @@ import java.util.Optional;
 
 /**
  * Implementação SQLite do RankingDAO.
+ * Os métodos são sincronizados porque a mesma conexão é usada pela thread do JavaFX
+ * (leituras da tela de ranking) e pela thread de I/O do mediador (gravação das partidas).
  */
 public class SQLiteRankingDAO implements RankingDAO {
     
@@ -35,7 +37,7 @@ public class SQLiteRankingDAO implements RankingDAO {
     /**
      * Define o UserManager para buscar user_id
      */
-    public void setUserManager(com.uneb.fluxblocks.user.UserManager userManager) {
+    public synchronized void setUserManager(com.uneb.fluxblocks.user.UserManager userManager) {
         this.userManager = userManager;
     }
     
@@ -60,7 +62,7 @@ public class SQLiteRankingDAO implements RankingDAO {
     }
     
     @Override
-    public boolean initialize() {
+    public synchronized boolean initialize() {
         try {
             // Emite evento de operação iniciada
             mediator.emit(DatabaseEventTypes.DATABASE_OPERATION_STARTED, 
@@ -132,7 +134,7 @@ public class SQLiteRankingDAO implements RankingDAO {
     }
     
     @Override
-    public Long addEntry(RankingEntry entry) {
+    public synchronized Long addEntry(RankingEntry entry) {
         
         if (!initialized) {
             System.err.println("❌ DAO não inicializado");
@@ -192,7 +194,7 @@ public class SQLiteRankingDAO implements RankingDAO {
     }
     
     @Override
-    public Optional<RankingEntry> findById(Long id) {
+    public synchronized Optional<RankingEntry> findById(Long id) {
         if (!initialized) return Optional.empty();
         
         String sql = "SELECT * FROM %s WHERE id = ?".formatted(TABLE_NAME);
@@ -212,7 +214,7 @@ public class SQLiteRankingDAO implements RankingDAO {
     }
     
     @Override
-    public List<RankingEntry> findAllOrderedByScore() {
+    public synchronized List<RankingEntry> findAllOrderedByScore() {
         if (!initialized) return new ArrayList<>();
         
         // Critérios de desempate: score DESC, level DESC, lines_cleared DESC, date_time ASC
@@ -224,7 +226,7 @@ public class SQLiteRankingDAO implements RankingDAO {
     }
     
     @Override
-    public List<RankingEntry> findTopEntries(int limit) {
+    public synchronized List<RankingEntry> findTopEntries(int limit) {
         if (!initialized) return new ArrayList<>();
         
         // Critérios de desempate: score DESC, level DESC, lines_cleared DESC, date_time ASC
@@ -251,7 +253,7 @@ public class SQLiteRankingDAO implements RankingDAO {
     }
     
     @Override
-    public List<RankingEntry> findByGameMode(String gameMode) {
+    public synchronized List<RankingEntry> findByGameMode(String gameMode) {
         if (!initialized) return new ArrayList<>();
         
         // Critérios de desempate: score DESC, level DESC, lines_cleared DESC, date_time ASC
@@ -278,7 +280,7 @@ public class SQLiteRankingDAO implements RankingDAO {
     }
     
     @Override
-    public List<RankingEntry> findByPlayerName(String playerName) {
+    public synchronized List<RankingEntry> findByPlayerName(String playerName) {
         if (!initialized) return new ArrayList<>();
         
         // Critérios de desempate: score DESC, level DESC, lines_cleared DESC, date_time ASC
@@ -305,7 +307,7 @@ public class SQLiteRankingDAO implements RankingDAO {
     }
     
     @Override
-    public List<RankingEntry> findByPlayerAndMode(String playerName, String gameMode) {
+    public synchronized List<RankingEntry> findByPlayerAndMode(String playerName, String gameMode) {
         if (!initialized) return new ArrayList<>();
         
         // Critérios de desempate: score DESC, level DESC, lines_cleared DESC, date_time ASC
@@ -333,7 +335,7 @@ public class SQLiteRankingDAO implements RankingDAO {
     }
     
     @Override
-    public boolean updateEntry(RankingEntry entry) {
+    public synchronized boolean updateEntry(RankingEntry entry) {
         if (!initialized || entry.getId() == null) return false;
         
         String sql = """
@@ -360,7 +362,7 @@ public class SQLiteRankingDAO implements RankingDAO {
     }
     
     @Override
-    public boolean deleteById(Long id) {
+    public synchronized boolean deleteById(Long id) {
         if (!initialized) return false;
         
         String sql = "DELETE FROM %s WHERE id = ?".formatted(TABLE_NAME);
@@ -377,7 +379,7 @@ public class SQLiteRankingDAO implements RankingDAO {
     }
     
     @Override
-    public int deleteAll() {
+    public synchronized int deleteAll() {
         if (!initialized) return 0;
         
         String sql = "DELETE FROM %s".formatted(TABLE_NAME);
@@ -393,7 +395,7 @@ public class SQLiteRankingDAO implements RankingDAO {
     }
     
     @Override
-    public int deleteByGameMode(String gameMode) {
+    public synchronized int deleteByGameMode(String gameMode) {
         if (!initialized) return 0;
         
         String sql = "DELETE FROM %s WHERE game_mode = ?".formatted(TABLE_NAME);
@@ -411,7 +413,7 @@ public class SQLiteRankingDAO implements RankingDAO {
     }
     
     @Override
-    public long count() {
+    public synchronized long count() {
         if (!initialized) return 0;
         
         String sql = "SELECT COUNT(*) FROM %s".formatted(TABLE_NAME);
@@ -428,7 +430,7 @@ public class SQLiteRankingDAO implements RankingDAO {
     }
     
     @Override
-    public long countByGameMode(String gameMode) {
+    public synchronized long countByGameMode(String gameMode) {
         if (!initialized) return 0;
         
         String sql = "SELECT COUNT(*) FROM %s WHERE game_mode = ?".formatted(TABLE_NAME);
@@ -448,12 +450,12 @@ public class SQLiteRankingDAO implements RankingDAO {
     }
     
     @Override
-    public RankingStats getStats() {
+    public synchronized RankingStats getStats() {
         return getStatsByGameMode(null);
     }
     
     @Override
-    public RankingStats getStatsByGameMode(String gameMode) {
+    public synchronized RankingStats getStatsByGameMode(String gameMode) {
         if (!initialized) {
             return new RankingStats(0, 0, 0.0, 0, 0, 0, gameMode);
         }
@@ -496,12 +498,12 @@ public class SQLiteRankingDAO implements RankingDAO {
     }
     
     @Override
-    public boolean isConnected() {
+    public synchronized boolean isConnected() {
         return initialized && connection != null;
     }
     
     @Override
-    public void close() {
+    public synchronized void close() {
         if (connection != null) {
             try {
                 connection.close();
@@ -514,7 +516,7 @@ public class SQLiteRankingDAO implements RankingDAO {
     }
     
     @Override
-    public String getImplementationName() {
+    public synchronized String getImplementationName() {
         return "SQLiteRankingDAO";
     }
     
@@ -523,7 +525,7 @@ public class SQLiteRankingDAO implements RankingDAO {
      * @param playerName Nome do jogador
      * @return Número de entradas do jogador
      */
-    public long countByPlayer(String playerName) {
+    public synchronized long countByPlayer(String playerName) {
         if (!initialized) return 0;
         
         String sql = "SELECT COUNT(*) FROM %s WHERE player_name = ?".formatted(TABLE_NAME);
@@ -548,7 +550,7 @@ public class SQLiteRankingDAO implements RankingDAO {
      * @param keepCount Número de entradas a manter
      * @return Número de entradas removidas
      */
-    public int keepTopEntriesForPlayer(String playerName, int keepCount) {
+    public synchronized int keepTopEntriesForPlayer(String playerName, int keepCount) {
         if (!initialized) return 0;
         
         // Primeiro, obtém as entradas ordenadas por pontuação (melhores primeiro)
@@ -607,7 +609,7 @@ public class SQLiteRankingDAO implements RankingDAO {
      * @param maxEntries Limite máximo de entradas
      * @return true se pode adicionar mais entradas (sempre true agora)
      */
-    public boolean canAddEntry(String playerName, int maxEntries) {
+    public synchronized boolean canAddEntry(String playerName, int maxEntries) {
         // Sempre permite adicionar - o sistema mantém apenas as melhores pontuações
         return true;
     }
@@ -618,7 +620,7 @@ public class SQLiteRankingDAO implements RankingDAO {
      * @param maxEntriesPerPlayer Limite máximo de entradas por jogador
      * @return ID da entrada criada ou null se falhar
      */
-    public Long addEntryWithLimit(RankingEntry entry, int maxEntriesPerPlayer) {
+    public synchronized Long addEntryWithLimit(RankingEntry entry, int maxEntriesPerPlayer) {
         // Sempre adiciona a nova entrada primeiro
         Long id = addEntry(entry);
         
@@ -636,7 +638,7 @@ public class SQLiteRankingDAO implements RankingDAO {
      * @param limit Número máximo de entradas
      * @return Lista das top N entradas do jogador
      */
-    public List<RankingEntry> findTopEntriesByPlayer(String playerName, int limit) {
+    public synchronized List<RankingEntry> findTopEntriesByPlayer(String playerName, int limit) {
         if (!initialized) return new ArrayList<>();
         
         String sql = """
@@ -668,7 +670,7 @@ public class SQLiteRankingDAO implements RankingDAO {
      * @param playerName Nome do jogador
      * @return Número de entradas removidas
      */
-    public int deleteByPlayer(String playerName) {
+    public synchronized int deleteByPlayer(String playerName) {
         if (!initialized) return 0;
         
         String sql = "DELETE FROM %s WHERE player_name = ?".formatted(TABLE_NAME);
@@ -690,7 +692,7 @@ public class SQLiteRankingDAO implements RankingDAO {
      * @param limit Limite de resultados
      * @return Lista de entradas com dados dos usuários
      */
-    public List<RankingWithUserData> getRankingWithUserData(int limit) {
+    public synchronized List<RankingWithUserData> getRankingWithUserData(int limit) {
         if (!initialized) return new ArrayList<>();
         
         String sql = """
@@ -724,7 +726,7 @@ public class SQLiteRankingDAO implements RankingDAO {
      * @param limit Limite de resultados
      * @return Lista das melhores pontuações por usuário
      */
-    public List<RankingWithUserData> getBestScoresByUser(int limit) {
+    public synchronized List<RankingWithUserData> getBestScoresByUser(int limit) {
         if (!initialized) return new ArrayList<>();
         
         String sql = """
@@ -762,7 +764,7 @@ public class SQLiteRankingDAO implements RankingDAO {
      * @param userId ID do usuário
      * @return Estatísticas do usuário ou null se não encontrado
      */
-    public UserRankingStats getUserRankingStats(Long userId) {
+    public synchronized UserRankingStats getUserRankingStats(Long userId) {
         if (!initialized) return null;
         
         String sql = """
@@ -805,7 +807,7 @@ public class SQLiteRankingDAO implements RankingDAO {
      * @param limit Limite de resultados
      * @return Lista das entradas do usuário
      */
-    public List<RankingEntry> getUserRanking(Long userId, int limit) {
+    public synchronized List<RankingEntry> getUserRanking(Long userId, int limit) {
         if (!initialized) return new ArrayList<>();
         
         String sql = """
@@ -5,11 +5,13 @@ import com.uneb.fluxblocks.architecture.events.UiEvents;
 import com.uneb.fluxblocks.architecture.mediators.GameMediator;
 import com.uneb.fluxblocks.game.logic.GameState;
 import com.uneb.fluxblocks.ui.effects.FloatingTextEffect;
-import javafx.application.Platform;
 
 /**
  * Gerencia eventos relacionados à pontuação e níveis.
  * Delega o armazenamento do estado ao GameState.
+ * <p>
+ * As atualizações de pontuação e nível são postadas na fila de interface do mediador,
+ * que entrega só o valor mais recente de cada uma por quadro.
  */
 public class ScoreTracker {
     private final GameMediator mediator;
@@ -24,8 +26,8 @@ public class ScoreTracker {
     }
 
     private void registerEvents() {
-        mediator.receiver(GameplayEvents.SCORE_UPDATED, this::handleScoreUpdate);
-        mediator.receiver(GameplayEvents.LINE_CLEARED, this::handleLinesCleared);
+        mediator.receiver(GameplayEvents.SCORE_UPDATED, playerId, this::handleScoreUpdate);
+        mediator.receiver(GameplayEvents.LINE_CLEARED, playerId, this::handleLinesCleared);
     }
 
     public void reset() {
@@ -34,30 +36,22 @@ public class ScoreTracker {
     }
 
     private void handleScoreUpdate(GameplayEvents.ScoreEvent ev) {
-        if (ev.playerId() != this.playerId) return;
-
-        Platform.runLater(() ->
-            mediator.emit(UiEvents.SCORE_UPDATE, new UiEvents.ScoreUiEvent(playerId, gameState.getScore()))
-        );
+        mediator.post(UiEvents.SCORE_UPDATE, new UiEvents.ScoreUiEvent(playerId, gameState.getScore()));
     }
 
     private void handleLinesCleared(GameplayEvents.LineClearEvent ev) {
-        if (ev.playerId() != this.playerId) return;
-        Platform.runLater(() -> mediator.emit(UiEvents.SCORE_UPDATE,
-            new UiEvents.ScoreUiEvent(playerId, gameState.getScore())));
+        mediator.post(UiEvents.SCORE_UPDATE, new UiEvents.ScoreUiEvent(playerId, gameState.getScore()));
     }
 
     private void handleLevelUp() {
         int newLevel = gameState.getCurrentLevel();
         double newSpeed = gameState.calculateCurrentSpeed();
 
-        Platform.runLater(() -> {
-            FloatingTextEffect.updateLevel(newLevel);
-            mediator.emit(
-                    UiEvents.LEVEL_UPDATE,
-                    new UiEvents.LevelUiEvent(playerId, newLevel)
-            );
-        });
+        FloatingTextEffect.updateLevel(newLevel);
+        mediator.post(
+                UiEvents.LEVEL_UPDATE,
+                new UiEvents.LevelUiEvent(playerId, newLevel)
+        );
         mediator.emit(
                 GameplayEvents.UPDATE_SPEED,
                 new GameplayEvents.UpdateSpeedEvent(playerId, newSpeed)
@@ -75,21 +69,19 @@ public class ScoreTracker {
      * Limpa os recursos do ScoreTracker, removendo os listeners do mediator.
      */
     public void cleanup() {
-        mediator.removeReceiver(GameplayEvents.SCORE_UPDATED, this::handleScoreUpdate);
-        mediator.removeReceiver(GameplayEvents.LINE_CLEARED, this::handleLinesCleared);
+        mediator.removeReceiver(GameplayEvents.SCORE_UPDATED, playerId, this::handleScoreUpdate);
+        mediator.removeReceiver(GameplayEvents.LINE_CLEARED, playerId, this::handleLinesCleared);
     }
 
     private void updateUI() {
-        Platform.runLater(() -> {
-            FloatingTextEffect.updateLevel(gameState.getCurrentLevel());
-            mediator.emit(
-                    UiEvents.SCORE_UPDATE,
-                    new UiEvents.ScoreUiEvent(playerId, gameState.getScore())
-            );
-            mediator.emit(
-                    UiEvents.LEVEL_UPDATE,
-                    new UiEvents.LevelUiEvent(playerId, gameState.getCurrentLevel())
-            );
-        });
+        FloatingTextEffect.updateLevel(gameState.getCurrentLevel());
+        mediator.post(
+                UiEvents.SCORE_UPDATE,
+                new UiEvents.ScoreUiEvent(playerId, gameState.getScore())
+        );
+        mediator.post(
+                UiEvents.LEVEL_UPDATE,
+                new UiEvents.LevelUiEvent(playerId, gameState.getCurrentLevel())
+        );
     }
 }
\ No newline at end of file
@@ -39,27 +39,15 @@ public class GameStatistics {
      */
     private void registerEvents() {
         // Rastreia todas as teclas pressionadas
-        mediator.receiver(InputEvents.KEY_PRESSED, ev -> {
-            if (ev.playerId() == playerId) incrementKeysPressed();
-        });
+        mediator.receiver(InputEvents.KEY_PRESSED, playerId, ev -> incrementKeysPressed());
         
         // Rastreia peças colocadas
-        mediator.receiver(UiEvents.PIECE_LANDED_NORMAL, ev -> {
-            if (ev.playerId() == playerId) incrementPiecesPlaced();
-        });
-        mediator.receiver(UiEvents.PIECE_LANDED_HARD, ev -> {
-            if (ev.playerId() == playerId) incrementPiecesPlaced();
-        });
-        mediator.receiver(UiEvents.PIECE_LANDED_SOFT, ev -> {
-            if (ev.playerId() == playerId) incrementPiecesPlaced();
-        });
+        mediator.receiver(UiEvents.PIECE_LANDED_NORMAL, playerId, ev -> incrementPiecesPlaced());
+        mediator.receiver(UiEvents.PIECE_LANDED_HARD, playerId, ev -> incrementPiecesPlaced());
+        mediator.receiver(UiEvents.PIECE_LANDED_SOFT, playerId, ev -> incrementPiecesPlaced());
         
         // Rastreia linhas eliminadas
-        mediator.receiver(GameplayEvents.LINE_CLEARED, ev -> {
-            if (ev.playerId() == playerId) {
-                recordLinesCleared(ev.lineCleared());
-            }
-        });
+        mediator.receiver(GameplayEvents.LINE_CLEARED, playerId, ev -> recordLinesCleared(ev.lineCleared()));
     }
 
     /**
@@ -234,22 +222,10 @@ public class GameStatistics {
      * Limpa os recursos do GameStatistics, removendo os listeners do mediator.
      */
     public void cleanup() {
-        mediator.removeReceiver(InputEvents.KEY_PRESSED, ev -> {
-            if (ev.playerId() == playerId) incrementKeysPressed();
-        });
-        mediator.removeReceiver(UiEvents.PIECE_LANDED_NORMAL, ev -> {
-            if (ev.playerId() == playerId) incrementPiecesPlaced();
-        });
-        mediator.removeReceiver(UiEvents.PIECE_LANDED_HARD, ev -> {
-            if (ev.playerId() == playerId) incrementPiecesPlaced();
-        });
-        mediator.removeReceiver(UiEvents.PIECE_LANDED_SOFT, ev -> {
-            if (ev.playerId() == playerId) incrementPiecesPlaced();
-        });
-        mediator.removeReceiver(GameplayEvents.LINE_CLEARED, ev -> {
-            if (ev.playerId() == playerId) {
-                recordLinesCleared(ev.lineCleared());
-            }
-        });
+        mediator.removeReceiver(InputEvents.KEY_PRESSED, playerId, ev -> incrementKeysPressed());
+        mediator.removeReceiver(UiEvents.PIECE_LANDED_NORMAL, playerId, ev -> incrementPiecesPlaced());
+        mediator.removeReceiver(UiEvents.PIECE_LANDED_HARD, playerId, ev -> incrementPiecesPlaced());
+        mediator.removeReceiver(UiEvents.PIECE_LANDED_SOFT, playerId, ev -> incrementPiecesPlaced());
+        mediator.removeReceiver(GameplayEvents.LINE_CLEARED, playerId, ev -> recordLinesCleared(ev.lineCleared()));
     }
 } 
\ No newline at end of file
@@ -1,28 +1,30 @@
 package com.uneb.fluxblocks.piece;
 
-import com.almasb.fxgl.dsl.FXGL;
 import com.uneb.fluxblocks.architecture.events.GameplayEvents;
 import com.uneb.fluxblocks.architecture.events.InputEvents;
 import com.uneb.fluxblocks.architecture.events.UiEvents;
+import com.uneb.fluxblocks.architecture.interfaces.GameClock;
 import com.uneb.fluxblocks.architecture.mediators.GameMediator;
+import com.uneb.fluxblocks.configuration.GameRules;
 import com.uneb.fluxblocks.game.logic.GameBoard;
 import com.uneb.fluxblocks.game.logic.GameState;
 import com.uneb.fluxblocks.piece.collision.CollisionDetector;
+import com.uneb.fluxblocks.piece.collision.MaskCollisionDetector;
 import com.uneb.fluxblocks.piece.collision.StandardCollisionDetector;
 import com.uneb.fluxblocks.piece.collision.SpinDetector;
 import com.uneb.fluxblocks.piece.collision.TripleSpinDetector;
 import com.uneb.fluxblocks.piece.entities.BlockShape;
 import com.uneb.fluxblocks.piece.factory.BlockShapeFactory;
+import com.uneb.fluxblocks.piece.factory.provider.BlockShapeProvider;
+import com.uneb.fluxblocks.piece.factory.provider.PieceQueue;
 import com.uneb.fluxblocks.piece.movement.PieceMovementHandler;
 import com.uneb.fluxblocks.piece.movement.PieceRotationHandler;
+import com.uneb.fluxblocks.piece.rendering.PieceRenderer;
 import com.uneb.fluxblocks.piece.rendering.ShadowPieceCalculator;
 import com.uneb.fluxblocks.piece.rendering.StandardPieceRenderer;
 import com.uneb.fluxblocks.piece.timing.LockDelayHandler;
-import com.uneb.fluxblocks.ui.screens.GameBoardScreen;
 import com.uneb.fluxblocks.piece.scoring.StandardScoreCalculator;
 
-import javafx.util.Duration;
-
 /**
  * Gerenciador das peças do FluxBlocks, responsável por orquestrar
  * os diversos componentes que controlam o comportamento das peças.
@@ -43,8 +45,8 @@ public class PieceSystem {
     /** Peça atual em jogo */
     private BlockShape currentPiece;
 
-    /** Próxima peça a entrar em jogo */
-    private BlockShape nextPiece;
+    /** Próximas peças a entrar em jogo, como códigos */
+    private final PieceQueue pieceQueue;
 
     private final int playerId;
 
@@ -52,13 +54,9 @@ public class PieceSystem {
     private final LockDelayHandler lockDelayHandler;
     private final PieceMovementHandler movementHandler;
     private final PieceRotationHandler rotationHandler;
-    private final ShadowPieceCalculator shadowCalculator;
-    private final StandardPieceRenderer renderer;
-    private final GameBoardScreen boardScreen;
+    private final PieceRenderer renderer;
     private final StandardScoreCalculator scoreCalculator;
     private boolean isGameOver = false;
-    
-    private boolean lockDelayTimerActive = false;
 
     /**
      * Cria um gerenciador de peças.
@@ -66,38 +64,77 @@ public class PieceSystem {
      * @param mediator O mediador para comunicação entre componentes do jogo
      * @param board O tabuleiro do jogo onde as peças serão posicionadas
      * @param gameState O estado do jogo, contendo informações como nível atual
+     * @param clock O relógio do jogo, usado pelo lock delay e pelo cooldown de rotação
+     * @param playerId Id do jogador
      */
-    public PieceSystem(GameMediator mediator, GameBoard board, GameState gameState, GameBoardScreen boardScreen, int playerId) {
+    public PieceSystem(GameMediator mediator, GameBoard board, GameState gameState, GameClock clock, int playerId) {
+        this(mediator, board, gameState, clock, BlockShapeFactory.getDefaultProvider(), gameState.getRules(), playerId);
+    }
+
+    /**
+     * Cria um gerenciador de peças com provedor de peças e regras próprios.
+     *
+     * @param mediator O mediador para comunicação entre componentes do jogo
+     * @param board O tabuleiro do jogo onde as peças serão posicionadas
+     * @param gameState O estado do jogo, contendo informações como nível atual
+     * @param clock O relógio do jogo, usado pelo lock delay e pelo cooldown de rotação
+     * @param pieceProvider O provedor da sequência de peças deste jogador
+     * @param rules As regras da partida (lock delay, rotação e pontuação)
+     * @param playerId Id do jogador
+     */
+    public PieceSystem(GameMediator mediator, GameBoard board, GameState gameState, GameClock clock,
+                       BlockShapeProvider pieceProvider, GameRules rules, int playerId) {
+        this(mediator, board, gameState, clock, pieceProvider, rules, playerId,
+                createStandardRenderer(mediator, board, playerId));
+    }
+
+    /**
+     * Cria um gerenciador de peças com o renderizador informado.
+     *
+     * @param mediator O mediador para comunicação entre componentes do jogo
+     * @param board O tabuleiro do jogo onde as peças serão posicionadas
+     * @param gameState O estado do jogo, contendo informações como nível atual
+     * @param clock O relógio do jogo, usado pelo lock delay e pelo cooldown de rotação
+     * @param pieceProvider O provedor da sequência de peças deste jogador
+     * @param rules As regras da partida (lock delay, rotação e pontuação)
+     * @param playerId Id do jogador
+     * @param renderer O renderizador que recebe a peça atual a cada mudança
+     */
+    public PieceSystem(GameMediator mediator, GameBoard board, GameState gameState, GameClock clock,
+                       BlockShapeProvider pieceProvider, GameRules rules, int playerId, PieceRenderer renderer) {
+        if (renderer == null) {
+            throw new IllegalArgumentException("O renderizador não pode ser null");
+        }
         this.mediator = mediator;
+        this.pieceQueue = new PieceQueue(pieceProvider, rules.getNextPieceCount());
         this.board = board;
         this.gameState = gameState;
-        this.boardScreen = boardScreen;
-        this.collisionDetector = new StandardCollisionDetector(board);
+        this.collisionDetector = new MaskCollisionDetector(board);
         this.playerId = playerId;
-        this.lockDelayHandler = new LockDelayHandler();
+        this.lockDelayHandler = new LockDelayHandler(clock, rules);
+        this.lockDelayHandler.setOnLockExpired(this::onLockDelayExpired);
         this.movementHandler = new PieceMovementHandler(collisionDetector, lockDelayHandler, mediator, playerId);
-        this.rotationHandler = new PieceRotationHandler(collisionDetector, lockDelayHandler);
-        this.shadowCalculator = new ShadowPieceCalculator(collisionDetector);
-        this.renderer = new StandardPieceRenderer(board, shadowCalculator, playerId);
-        this.scoreCalculator = new StandardScoreCalculator();
-
-        this.renderer.setMediator(mediator);
+        this.rotationHandler = new PieceRotationHandler(collisionDetector, lockDelayHandler, clock, rules);
+        this.renderer = renderer;
+        this.scoreCalculator = new StandardScoreCalculator(rules);
 
         initialize();
         registerEvents();
     }
 
     /**
-     * Inicializa o sistema de peças, gerando a primeira peça e a próxima peça.
+     * Cria o renderizador padrão, que emite as linhas alteradas do tabuleiro pelo mediador.
      */
-    private void initialize() {
-        int spawnX = board.getWidth() / 2 - 1;
-        int spawnY = -2;
-        
-        nextPiece = BlockShapeFactory.createRandomBlockShape();
-        nextPiece.setPosition(spawnX, spawnY);
-        mediator.emit(UiEvents.NEXT_PIECE_UPDATE, new UiEvents.NextPieceEvent(playerId, nextPiece));
+    private static PieceRenderer createStandardRenderer(GameMediator mediator, GameBoard board, int playerId) {
+        StandardPieceRenderer renderer = new StandardPieceRenderer(board, new ShadowPieceCalculator(board), playerId);
+        renderer.setMediator(mediator);
+        return renderer;
+    }
 
+    /**
+     * Inicializa o sistema de peças, colocando em jogo a primeira peça da fila.
+     */
+    private void initialize() {
         spawnNewPiece();
     }
 
@@ -105,44 +142,38 @@ public class PieceSystem {
      * Registra os eventos necessários no mediador para controle das peças.
      */
     private void registerEvents() {
-        mediator.receiver(GameplayEvents.MOVE_LEFT, (ev) -> {
-            if (ev.playerId() == playerId && !isGameOver) moveLeft();
+        mediator.receiver(GameplayEvents.MOVE_LEFT, playerId, (ev) -> {
+            if (!isGameOver) moveLeft();
         });
 
-        mediator.receiver(GameplayEvents.MOVE_RIGHT, (ev) -> {
-            if (ev.playerId() == playerId && !isGameOver) moveRight();
+        mediator.receiver(GameplayEvents.MOVE_RIGHT, playerId, (ev) -> {
+            if (!isGameOver) moveRight();
         });
 
-        mediator.receiver(GameplayEvents.MOVE_DOWN, (ev) -> {
-            if (ev.playerId() == playerId && !isGameOver && !gameState.isPaused()) {
+        mediator.receiver(GameplayEvents.MOVE_DOWN, playerId, (ev) -> {
+            if (!isGameOver && !gameState.isPaused()) {
                 moveDown();
             }
         });
-        mediator.receiver(GameplayEvents.AUTO_MOVE_DOWN, (GameplayEvents.MoveEvent ev) -> {
-            if (ev.playerId() == playerId && !isGameOver && !gameState.isPaused()) {
+        mediator.receiver(GameplayEvents.AUTO_MOVE_DOWN, playerId, (GameplayEvents.MoveEvent ev) -> {
+            if (!isGameOver && !gameState.isPaused()) {
                 moveDown();
             }
         });
 
-        mediator.receiver(GameplayEvents.ROTATE, (ev) -> {
-            if (ev.playerId() == playerId && !isGameOver) rotate();
+        mediator.receiver(GameplayEvents.ROTATE, playerId, (ev) -> {
+            if (!isGameOver) rotate();
         });
-        mediator.receiver(GameplayEvents.DROP, (ev) -> {
-            if (ev.playerId() == playerId && !isGameOver) hardDrop();
+        mediator.receiver(GameplayEvents.DROP, playerId, (ev) -> {
+            if (!isGameOver) hardDrop();
         });
         mediator.receiver(InputEvents.ROTATE_RESET, unused ->
                 rotationHandler.resetRotateDelay()
         );
-        mediator.receiver(UiEvents.LEVEL_UPDATE, ev -> {
-            if (ev.playerId() != this.playerId) return;
-            updateLevel(ev.level());
-        });
+        mediator.receiver(UiEvents.LEVEL_UPDATE, playerId, ev -> updateLevel(ev.level()));
 
         mediator.receiver(UiEvents.GAME_STARTED, unused -> {
         });
-
-        // Inicia o timer de lock delay
-        startLockDelayTimer();
     }
 
     /**
@@ -155,15 +186,16 @@ public class PieceSystem {
     }
 
     /**
-     * Verifica se o lock delay expirou, fixando a peça se necessário.
+     * Fixa a peça quando o prazo do lock delay vence.
      */
-    private void checkLockDelay() {
-        if (!lockDelayTimerActive || gameState.isPaused()) return;
-        
-        // Só verifica se há uma peça atual e se o lock delay está pendente
-        if (currentPiece != null && lockDelayHandler.isLockPending() && lockDelayHandler.isLockDelayExpired()) {
-            lockPiece(false);
+    private void onLockDelayExpired() {
+        if (currentPiece == null || isGameOver) return;
+        if (gameState.isPaused()) {
+            // Venceu durante uma pausa ainda não repassada ao handler: fixa ao retomar
+            lockDelayHandler.setPaused(true);
+            return;
         }
+        lockPiece(false);
     }
 
     /**
@@ -184,16 +216,13 @@ public class PieceSystem {
         int spawnX = board.getWidth() / 2 - 1;
         int spawnY = -2;
         
-        // Gera uma nova peça para nextPiece
-        nextPiece = BlockShapeFactory.createRandomBlockShape();
-        nextPiece.setPosition(spawnX, spawnY);
-        
-        // Gera uma nova peça para currentPiece
-        currentPiece = BlockShapeFactory.createRandomBlockShape();
+        // Descarta a fila antiga e coloca a primeira peça da nova em jogo
+        pieceQueue.refill();
+        currentPiece = BlockShapeFactory.fromCode(pieceQueue.poll());
         currentPiece.setPosition(spawnX, spawnY);
 
-        // Emite evento de atualização da próxima peça
-        mediator.emit(UiEvents.NEXT_PIECE_UPDATE, new UiEvents.NextPieceEvent(playerId, nextPiece));
+        // Emite evento de atualização das próximas peças
+        emitNextPieces();
         
         // Atualiza o tabuleiro com a nova peça
         updateBoardWithCurrentPiece();
@@ -205,15 +234,12 @@ public class PieceSystem {
     public void spawnNewPiece() {
         if (isGameOver) return;
 
-        currentPiece = nextPiece;
+        currentPiece = BlockShapeFactory.fromCode(pieceQueue.poll());
 
         int spawnX = board.getWidth() / 2 - 1;
         int spawnY = -2;
 
-        nextPiece = BlockShapeFactory.createRandomBlockShape();
-        nextPiece.setPosition(board.getWidth() / 2 - 1, spawnY);
-
-        mediator.emit(UiEvents.NEXT_PIECE_UPDATE, new UiEvents.NextPieceEvent(playerId, nextPiece));
+        emitNextPieces();
         movementHandler.resetWallPushState();
 
         if (!((StandardCollisionDetector) collisionDetector).canSpawn(currentPiece, spawnX, spawnY)) {
@@ -231,6 +257,14 @@ public class PieceSystem {
         updateBoardWithCurrentPiece();
     }
 
+    /**
+     * Notifica a fila de próximas peças como um array de códigos, pela fila de interface
+     * (várias peças no mesmo quadro resultam em uma única atualização da prévia).
+     */
+    private void emitNextPieces() {
+        mediator.post(UiEvents.NEXT_PIECE_UPDATE, new UiEvents.NextPieceEvent(playerId, pieceQueue.toArray()));
+    }
+
     /**
      * Atualiza o tabuleiro com a posição atual da peça e sua sombra.
      */
@@ -269,11 +303,14 @@ public class PieceSystem {
      * Coloca a peça atual no tabuleiro.
      */
     private void placePieceOnBoard() {
-        currentPiece.getCells().forEach(cell -> {
-            if (board.isValidPosition(cell.getX(), cell.getY())) {
-                board.setCell(cell.getX(), cell.getY(), currentPiece.isGlass() ? 10 : cell.getType());
+        int cellValue = currentPiece.isGlass() ? GameBoard.GLASS_CELL : currentPiece.getType();
+        for (int i = 0; i < currentPiece.getCellCount(); i++) {
+            int x = currentPiece.getCellX(i);
+            int y = currentPiece.getCellY(i);
+            if (board.isValidPosition(x, y)) {
+                board.setCell(x, y, cellValue);
             }
-        });
+        }
         board.removeFragileGlassBlocks();
         board.notifyBoardUpdated();
     }
@@ -282,15 +319,15 @@ public class PieceSystem {
      * Emite eventos relacionados ao estado da peça.
      */
     private void emitPieceStateEvents(boolean isHardDrop) {
-        mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_LEFT, new UiEvents.BoardEvent(playerId));
-        mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_RIGHT, new UiEvents.BoardEvent(playerId));
+        mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_LEFT, UiEvents.BoardEvent.of(playerId));
+        mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_RIGHT, UiEvents.BoardEvent.of(playerId));
 
         if (isHardDrop) {
-            mediator.emit(UiEvents.PIECE_LANDED_HARD, new UiEvents.BoardEvent(playerId));
+            mediator.emit(UiEvents.PIECE_LANDED_HARD, UiEvents.BoardEvent.of(playerId));
         } else if (movementHandler.isSoftDropping() && movementHandler.getSoftDropDistance() > 0) {
-            mediator.emit(UiEvents.PIECE_LANDED_SOFT, new UiEvents.BoardEvent(playerId));
+            mediator.emit(UiEvents.PIECE_LANDED_SOFT, UiEvents.BoardEvent.of(playerId));
         } else {
-            mediator.emit(UiEvents.PIECE_LANDED_NORMAL, new UiEvents.BoardEvent(playerId));
+            mediator.emit(UiEvents.PIECE_LANDED_NORMAL, UiEvents.BoardEvent.of(playerId));
         }
     }
     
@@ -298,17 +335,9 @@ public class PieceSystem {
      * Processa a eliminação de linhas e calcula pontuação.
      */
     private void processLineClearing(SpinDetector.SpinType spinType, TripleSpinDetector.TripleSpinType tripleSpinType) {
-        int linesCleared = board.removeCompletedLines(boardScreen.getEffectsLayer());
-        boolean glassBonus = false;
+        int linesCleared = board.removeCompletedLines();
         if (linesCleared > 0) {
-            // Descobrir as linhas eliminadas
-            int boardHeight = board.getHeight();
-            for (int y = boardHeight - 1; y >= 0; y--) {
-                if (board.lineHasGlass(y)) {
-                    glassBonus = true;
-                    break;
-                }
-            }
+            boolean glassBonus = board.hasGlass();
             boolean levelUp = gameState.processLinesCleared(linesCleared);
             int totalScore = calculateScore(linesCleared, spinType, tripleSpinType);
             if (glassBonus) {
@@ -329,9 +358,9 @@ public class PieceSystem {
      */
     private int calculateScore(int linesCleared, SpinDetector.SpinType spinType, TripleSpinDetector.TripleSpinType tripleSpinType) {
         if (tripleSpinType != TripleSpinDetector.TripleSpinType.NONE) {
-            return StandardScoreCalculator.calculateTotalScoreWithTripleSpin(linesCleared, tripleSpinType, gameState.getCurrentLevel());
+            return scoreCalculator.calculateTotalScoreWithTripleSpin(linesCleared, tripleSpinType, gameState.getCurrentLevel());
         } else {
-            return StandardScoreCalculator.calculateTotalScore(linesCleared, spinType, gameState.getCurrentLevel());
+            return scoreCalculator.calculateTotalScore(linesCleared, spinType, gameState.getCurrentLevel());
         }
     }
     
@@ -433,11 +462,21 @@ public class PieceSystem {
 
     /**
      * Retorna a próxima peça que entrará em jogo.
+     * A peça é criada a cada chamada; para olhar a fila sem alocar, use {@link #getPieceQueue()}.
      *
-     * @return A próxima peça
+     * @return Uma nova instância da próxima peça
      */
     public BlockShape getNextPiece() {
-        return nextPiece;
+        return BlockShapeFactory.fromCode(pieceQueue.peek(0));
+    }
+
+    /**
+     * Retorna a fila das próximas peças deste jogador.
+     *
+     * @return A fila de códigos das próximas peças
+     */
+    public PieceQueue getPieceQueue() {
+        return pieceQueue;
     }
 
     /**
@@ -450,30 +489,10 @@ public class PieceSystem {
     }
 
     /**
-     * Inicia o timer de verificação de lock delay.
-     */
-    private void startLockDelayTimer() {
-        lockDelayTimerActive = true;
-        FXGL.getGameTimer().runAtInterval(this::checkLockDelay, Duration.millis(16.67)); // 60 FPS
-    }
-    
-    /**
-     * Para o timer de lock delay.
-     */
-    private void stopLockDelayTimer() {
-        lockDelayTimerActive = false;
-        FXGL.getGameTimer().clear();
-    }
-    
-    /**
-     * Pausa ou despausa o timer de lock delay baseado no estado do jogo.
+     * Suspende ou retoma o prazo do lock delay baseado no estado do jogo.
      */
     public void handlePauseState(boolean isPaused) {
-        if (isPaused) {
-            stopLockDelayTimer();
-        } else {
-            startLockDelayTimer();
-        }
+        lockDelayHandler.setPaused(isPaused);
     }
 
     /**
@@ -484,10 +503,9 @@ public class PieceSystem {
     }
 
     public void cleanup() {
-        stopLockDelayTimer();
+        lockDelayHandler.reset();
         
         isGameOver = true;
         currentPiece = null;
-        nextPiece = null;
     }
 }
\ No newline at end of file
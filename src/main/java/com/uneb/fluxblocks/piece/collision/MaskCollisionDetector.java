@@ -0,0 +1,117 @@
+package com.uneb.fluxblocks.piece.collision;
+
+import com.uneb.fluxblocks.game.logic.GameBoard;
+import com.uneb.fluxblocks.piece.entities.BlockShape;
+
+/**
+ * Detector de colisão baseado em máscaras de bits.
+ *
+ * <p>Em vez de percorrer as células da peça, usa as máscaras pré-calculadas da
+ * {@link PieceMaskTable} para o tipo e rotação da peça e as compara, linha a linha,
+ * com as máscaras de ocupação do {@link GameBoard}. Nenhum objeto é alocado por teste.</p>
+ *
+ * <p>As regras de validade são as mesmas do {@link StandardCollisionDetector}: paredes
+ * laterais e fundo bloqueiam, o buffer acima do tabuleiro é livre até 4 linhas acima
+ * da área visível. Peças cujo layout não corresponde à tabela usam a verificação padrão.</p>
+ */
+public class MaskCollisionDetector extends StandardCollisionDetector {
+    /** Linha mais alta (coordenada do tabuleiro) em que uma célula ainda pode estar */
+    private static final int MIN_CELL_Y = -4;
+
+    private final GameBoard board;
+
+    public MaskCollisionDetector(GameBoard board) {
+        super(board);
+        this.board = board;
+    }
+
+    /**
+     * Verifica se uma peça de determinado tipo e rotação cabe na posição informada.
+     *
+     * @param type O valor do tipo da peça
+     * @param rotation O estado de rotação (0-3)
+     * @param x A coordenada X do centro da peça
+     * @param y A coordenada Y do centro da peça
+     * @return true se a posição for válida
+     */
+    public boolean fits(int type, int rotation, int x, int y) {
+        int left = x + PieceMaskTable.getMinOffsetX(type, rotation);
+        if (left < 0 || left + PieceMaskTable.getSpanWidth(type, rotation) > board.getWidth()) {
+            return false;
+        }
+
+        int top = y + PieceMaskTable.getMinOffsetY(type, rotation);
+        int[] rowMasks = PieceMaskTable.getRowMasks(type, rotation);
+        for (int i = 0; i < rowMasks.length; i++) {
+            int rowMask = rowMasks[i];
+            if (rowMask == 0) {
+                continue;
+            }
+            int row = top + i;
+            if (row < MIN_CELL_Y || board.collidesWithRow(row, rowMask << left)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isValidPosition(BlockShape piece) {
+        if (piece == null) {
+            return false;
+        }
+        if (!PieceMaskTable.matchesLayout(piece)) {
+            return super.isValidPosition(piece);
+        }
+        return fits(piece.getType(), piece.getRotation(), piece.getX(), piece.getY());
+    }
+
+    @Override
+    public boolean checkPieceCollision(BlockShape shape, GameBoard board) {
+        if (shape == null || board == null) {
+            return false;
+        }
+        return !isValidPosition(shape);
+    }
+
+    @Override
+    public boolean isAtRestingPosition(BlockShape piece) {
+        if (piece == null) return false;
+        if (!PieceMaskTable.matchesLayout(piece)) {
+            return super.isAtRestingPosition(piece);
+        }
+        return !fits(piece.getType(), piece.getRotation(), piece.getX(), piece.getY() + 1);
+    }
+
+    @Override
+    public boolean canSpawn(BlockShape piece, int spawnX, int spawnY) {
+        if (piece == null) return false;
+        if (!PieceMaskTable.matchesLayout(piece)) {
+            return super.canSpawn(piece, spawnX, spawnY);
+        }
+        return fits(piece.getType(), piece.getRotation(), spawnX, spawnY);
+    }
+
+    @Override
+    public int getDistanceToCollision(BlockShape shape, GameBoard board, int directionX, int directionY) {
+        if (shape == null || board == null) return -1;
+        if (!PieceMaskTable.matchesLayout(shape)) {
+            return super.getDistanceToCollision(shape, board, directionX, directionY);
+        }
+
+        int type = shape.getType();
+        int rotation = shape.getRotation();
+        int x = shape.getX();
+        int y = shape.getY();
+        int distance = 0;
+        while (fits(type, rotation, x + directionX * (distance + 1), y + directionY * (distance + 1))) {
+            distance++;
+        }
+        return distance;
+    }
+
+    @Override
+    public String getName() {
+        return "MaskCollisionDetector";
+    }
+}
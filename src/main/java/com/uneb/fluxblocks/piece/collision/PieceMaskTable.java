@@ -0,0 +1,144 @@
+package com.uneb.fluxblocks.piece.collision;
+
+import com.uneb.fluxblocks.piece.entities.BlockShape;
+import com.uneb.fluxblocks.piece.entities.ShapeDefinition;
+
+import java.util.Arrays;
+
+/**
+ * Tabela pré-calculada das máscaras de linha de cada tipo de peça em cada estado de rotação.
+ *
+ * <p>Para cada tipo (I, J, L, O, S, T, Z e X) e rotação (0-3) são guardados os deslocamentos
+ * relativos das células e uma máscara por linha ocupada, alinhada à coluna mais à esquerda
+ * da peça. Testar uma posição se resume a deslocar essas máscaras e compará-las com as
+ * máscaras de ocupação do {@link com.uneb.fluxblocks.game.logic.GameBoard}.</p>
+ *
+ * <p>As tabelas são geradas uma única vez a partir das definições compartilhadas de
+ * {@link ShapeDefinition}, as mesmas usadas por {@link BlockShape}.</p>
+ */
+public final class PieceMaskTable {
+    /** Número de estados de rotação por peça */
+    public static final int ROTATIONS = 4;
+
+    private static final int TYPE_COUNT = BlockShape.Type.X.getValue() + 1;
+
+    private static final int[][][] OFFSETS_X = new int[TYPE_COUNT][ROTATIONS][];
+    private static final int[][][] OFFSETS_Y = new int[TYPE_COUNT][ROTATIONS][];
+    private static final int[][][] ROW_MASKS = new int[TYPE_COUNT][ROTATIONS][];
+    private static final int[][] MIN_OFFSET_X = new int[TYPE_COUNT][ROTATIONS];
+    private static final int[][] MIN_OFFSET_Y = new int[TYPE_COUNT][ROTATIONS];
+    private static final int[][] SPAN_WIDTH = new int[TYPE_COUNT][ROTATIONS];
+    private static final int[][][] BOTTOM_OFFSETS_Y = new int[TYPE_COUNT][ROTATIONS][];
+
+    static {
+        for (int type = 1; type < TYPE_COUNT; type++) {
+            for (int rotation = 0; rotation < ROTATIONS; rotation++) {
+                buildEntry(type, rotation, ShapeDefinition.get(type, rotation));
+            }
+        }
+    }
+
+    private PieceMaskTable() {
+    }
+
+    private static void buildEntry(int type, int rotation, ShapeDefinition definition) {
+        int count = definition.getCellCount();
+        int[] xs = new int[count];
+        int[] ys = new int[count];
+        for (int i = 0; i < count; i++) {
+            xs[i] = definition.getOffsetX(i);
+            ys[i] = definition.getOffsetY(i);
+        }
+        int minX = definition.getMinOffsetX(), maxX = definition.getMaxOffsetX();
+        int minY = definition.getMinOffsetY(), maxY = definition.getMaxOffsetY();
+
+        int[] masks = new int[maxY - minY + 1];
+        int[] bottom = new int[maxX - minX + 1];
+        Arrays.fill(bottom, Integer.MIN_VALUE);
+        for (int i = 0; i < count; i++) {
+            masks[ys[i] - minY] |= 1 << (xs[i] - minX);
+            bottom[xs[i] - minX] = Math.max(bottom[xs[i] - minX], ys[i]);
+        }
+
+        OFFSETS_X[type][rotation] = xs;
+        OFFSETS_Y[type][rotation] = ys;
+        ROW_MASKS[type][rotation] = masks;
+        MIN_OFFSET_X[type][rotation] = minX;
+        MIN_OFFSET_Y[type][rotation] = minY;
+        SPAN_WIDTH[type][rotation] = maxX - minX + 1;
+        BOTTOM_OFFSETS_Y[type][rotation] = bottom;
+    }
+
+    /**
+     * Verifica se existe entrada na tabela para o tipo informado.
+     *
+     * @param type O valor do tipo da peça
+     * @return true se o tipo for uma peça jogável
+     */
+    public static boolean isSupportedType(int type) {
+        return type > 0 && type < TYPE_COUNT;
+    }
+
+    /**
+     * Verifica se a peça usa uma das definições padrão compartilhadas, e portanto
+     * é representada pelas máscaras da tabela. Peças montadas manualmente com layouts
+     * diferentes dos da fábrica não podem usar as máscaras.
+     *
+     * @param piece A peça a verificar
+     * @return true se as máscaras pré-calculadas representam a peça
+     */
+    public static boolean matchesLayout(BlockShape piece) {
+        return piece.getDefinition().isStandard();
+    }
+
+    /**
+     * Retorna as máscaras de linha da peça, de cima para baixo, alinhadas à coluna mais à esquerda.
+     * O array retornado é compartilhado e não deve ser modificado.
+     */
+    public static int[] getRowMasks(int type, int rotation) {
+        return ROW_MASKS[type][rotation & 3];
+    }
+
+    /**
+     * Retorna o menor deslocamento X das células em relação ao centro da peça.
+     */
+    public static int getMinOffsetX(int type, int rotation) {
+        return MIN_OFFSET_X[type][rotation & 3];
+    }
+
+    /**
+     * Retorna o menor deslocamento Y das células em relação ao centro da peça.
+     */
+    public static int getMinOffsetY(int type, int rotation) {
+        return MIN_OFFSET_Y[type][rotation & 3];
+    }
+
+    /**
+     * Retorna a largura, em colunas, ocupada pela peça.
+     */
+    public static int getSpanWidth(int type, int rotation) {
+        return SPAN_WIDTH[type][rotation & 3];
+    }
+
+    /**
+     * Retorna o perfil inferior da peça: para cada coluna, a partir da coluna mais à esquerda,
+     * o deslocamento Y da célula mais baixa. O array retornado é compartilhado e não deve ser modificado.
+     */
+    public static int[] getBottomOffsetsY(int type, int rotation) {
+        return BOTTOM_OFFSETS_Y[type][rotation & 3];
+    }
+
+    /**
+     * Retorna os deslocamentos X das células. O array retornado é compartilhado e não deve ser modificado.
+     */
+    public static int[] getOffsetsX(int type, int rotation) {
+        return OFFSETS_X[type][rotation & 3];
+    }
+
+    /**
+     * Retorna os deslocamentos Y das células. O array retornado é compartilhado e não deve ser modificado.
+     */
+    public static int[] getOffsetsY(int type, int rotation) {
+        return OFFSETS_Y[type][rotation & 3];
+    }
+}
@@ -0,0 +1,114 @@
+package com.uneb.fluxblocks.piece.collision;
+
+import com.uneb.fluxblocks.game.logic.GameBoard;
+
+/**
+ * Leitura dos 4 cantos diagonais ao centro de uma peça T como máscara de bits.
+ *
+ * <p>Os cantos são extraídos diretamente das máscaras de linha do {@link GameBoard}
+ * (duas leituras de linha e alguns deslocamentos) e o tipo de Spin sai de uma tabela
+ * de 16 entradas indexada pela máscara. Assim o caso comum, sem Spin, não percorre
+ * células nem aloca objetos.</p>
+ *
+ * <p>As regras são as mesmas dos detectores originais: cantos fora das laterais ou no
+ * buffer acima do tabuleiro contam como vazios, e linhas abaixo da área visível
+ * (até a altura total do tabuleiro) contam como preenchidas. Com 2 ou mais cantos
+ * preenchidos a peça já está confinada, então nenhuma verificação extra é necessária.</p>
+ */
+public final class SpinCorners {
+    /** Canto superior esquerdo */
+    public static final int TOP_LEFT = 1;
+    /** Canto superior direito */
+    public static final int TOP_RIGHT = 1 << 1;
+    /** Canto inferior esquerdo */
+    public static final int BOTTOM_LEFT = 1 << 2;
+    /** Canto inferior direito */
+    public static final int BOTTOM_RIGHT = 1 << 3;
+
+    /** Ordinal de {@link SpinDetector.SpinType} para cada máscara de cantos */
+    private static final byte[] SPIN_BY_CORNERS = new byte[16];
+
+    static {
+        for (int mask = 0; mask < SPIN_BY_CORNERS.length; mask++) {
+            int corners = Integer.bitCount(mask);
+            SpinDetector.SpinType type;
+            if (corners >= 3) {
+                type = SpinDetector.SpinType.SPIN;
+            } else if (corners == 2) {
+                type = SpinDetector.SpinType.SPIN_MINI;
+            } else {
+                type = SpinDetector.SpinType.NONE;
+            }
+            SPIN_BY_CORNERS[mask] = (byte) type.ordinal();
+        }
+    }
+
+    private SpinCorners() {
+    }
+
+    /**
+     * Monta a máscara dos cantos preenchidos em volta de uma posição.
+     *
+     * @param board O tabuleiro
+     * @param x A coordenada X do centro da peça
+     * @param y A coordenada Y do centro da peça
+     * @return A combinação de {@link #TOP_LEFT}, {@link #TOP_RIGHT}, {@link #BOTTOM_LEFT} e {@link #BOTTOM_RIGHT}
+     */
+    public static int cornerMask(GameBoard board, int x, int y) {
+        int top = cornerBits(board, x, y - 1);
+        int bottom = cornerBits(board, x, y + 1);
+        return top | (bottom << 2);
+    }
+
+    /**
+     * Verifica se a peça está em uma posição onde pode ser confinada: próxima às
+     * paredes, ao fundo ou com algum bloco entre os 8 vizinhos do centro.
+     *
+     * @param board O tabuleiro
+     * @param x A coordenada X do centro da peça
+     * @param y A coordenada Y do centro da peça
+     * @return true se a posição é confinada
+     */
+    public static boolean isConfined(GameBoard board, int x, int y) {
+        if (x <= 1 || x >= board.getWidth() - 3 || y >= board.getHeight() - 4) {
+            return true;
+        }
+        return cornerMask(board, x, y) != 0
+                || cornerBits(board, x, y) != 0
+                || isFilled(board, x, y - 1)
+                || isFilled(board, x, y + 1);
+    }
+
+    private static boolean isFilled(GameBoard board, int x, int y) {
+        if (y < 0 || y >= board.getHeight() || x < 0 || x >= board.getWidth()) {
+            return false;
+        }
+        return (board.getRowMask(y) & (1 << x)) != 0;
+    }
+
+    /**
+     * Retorna os bits das colunas x-1 (bit 0) e x+1 (bit 1) de uma linha.
+     */
+    private static int cornerBits(GameBoard board, int x, int y) {
+        if (y < 0 || y >= board.getHeight()) {
+            return 0;
+        }
+        int row = board.getRowMask(y);
+        int width = board.getWidth();
+        int bits = 0;
+        if (x - 1 >= 0 && x - 1 < width && (row & (1 << (x - 1))) != 0) {
+            bits |= 1;
+        }
+        if (x + 1 >= 0 && x + 1 < width && (row & (1 << (x + 1))) != 0) {
+            bits |= 2;
+        }
+        return bits;
+    }
+
+    /**
+     * Retorna o ordinal de {@link SpinDetector.SpinType} correspondente à máscara de cantos.
+     */
+    public static int spinOrdinal(int cornerMask) {
+        return SPIN_BY_CORNERS[cornerMask];
+    }
+}
@@ -1,9 +1,7 @@
 package com.uneb.fluxblocks.piece.collision;
 
-import com.uneb.fluxblocks.configuration.GameConfig;
 import com.uneb.fluxblocks.game.logic.GameBoard;
 import com.uneb.fluxblocks.piece.entities.BlockShape;
-import com.uneb.fluxblocks.piece.entities.Cell;
 
 /**
  * Implementação padrão do detector de colisão.
@@ -28,8 +26,7 @@ public class StandardCollisionDetector implements CollisionDetector {
             return false;
         }
 
-        return shape.getCells().stream()
-                .anyMatch(this::isCellInvalid);
+        return !isValidPosition(shape);
     }
 
     @Override
@@ -61,8 +58,7 @@ public class StandardCollisionDetector implements CollisionDetector {
         if (shape == null || board == null) return -1;
 
         int distance = 0;
-        BlockShape testShape = new BlockShape(shape.getCells(), shape.getType(), shape.isGlass());
-        testShape.setPosition(shape.getX(), shape.getY());
+        BlockShape testShape = shape.copy();
         
         while (true) {
             testShape.move(directionX, directionY);
@@ -97,14 +93,15 @@ public class StandardCollisionDetector implements CollisionDetector {
             return false;
         }
 
-        return piece.getCells().stream()
-                .noneMatch(this::isCellInvalid);
+        for (int i = 0; i < piece.getCellCount(); i++) {
+            if (isCellInvalid(piece.getCellX(i), piece.getCellY(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    private boolean isCellInvalid(Cell cell) {
-        int x = cell.getX();
-        int y = cell.getY();
-
+    private boolean isCellInvalid(int x, int y) {
         if (x < 0 || x >= board.getWidth()) {
             return true;
         }
@@ -117,7 +114,7 @@ public class StandardCollisionDetector implements CollisionDetector {
             return board.getCell(x, y) != 0;
         }
 
-        return y >= board.getHeight() - GameConfig.BOARD_VISIBLE_ROW;
+        return y >= board.getHeight() - board.getBufferHeight();
     }
 
     /**
@@ -7,10 +7,43 @@ import com.uneb.fluxblocks.piece.entities.BlockShape;
 /**
  * Implementação padrão do SpinDetector baseada no SpinDetector original.
  * Detecta Spins seguindo as regras oficiais do Tetris.
+ *
+ * <p>Os cantos são lidos como máscara por {@link SpinCorners}. Os objetos {@link SpinResult}
+ * são criados uma vez por tipo de resultado e quantidade de linhas e depois reaproveitados;
+ * quem precisa apenas do tipo deve usar {@link #detectSpinOrdinal(BlockShape)}.</p>
  */
 public class StandardSpinDetector implements SpinDetector {
+    private static final int T_TYPE = BlockShape.Type.T.getValue();
+    private static final SpinType[] SPIN_TYPES = SpinType.values();
+    private static final int NONE_ORDINAL = SpinType.NONE.ordinal();
+    private static final int CORNER_SPIN = com.uneb.fluxblocks.piece.collision.SpinDetector.SpinType.SPIN.ordinal();
+    private static final int CORNER_SPIN_MINI = com.uneb.fluxblocks.piece.collision.SpinDetector.SpinType.SPIN_MINI.ordinal();
+    
+    /** Ordinal de {@link SpinType} para cada ordinal retornado por {@link SpinCorners#spinOrdinal(int)} */
+    private static final int[] SPIN_ORDINALS = new int[3];
+    
+    static {
+        SPIN_ORDINALS[com.uneb.fluxblocks.piece.collision.SpinDetector.SpinType.NONE.ordinal()] = SpinType.NONE.ordinal();
+        SPIN_ORDINALS[CORNER_SPIN] = SpinType.SPIN.ordinal();
+        SPIN_ORDINALS[CORNER_SPIN_MINI] = SpinType.MINI_SPIN.ordinal();
+    }
+    
+    private static final int RESULT_NOT_T = 0;
+    private static final int RESULT_NOT_CONFINED = 1;
+    private static final int RESULT_NONE = 2;
+    private static final int RESULT_SPIN = 3;
+    private static final int RESULT_MINI_SPIN = 4;
+    private static final SpinType[] RESULT_TYPES = {
+        SpinType.NONE, SpinType.NONE, SpinType.NONE, SpinType.SPIN, SpinType.MINI_SPIN
+    };
+    private static final String[] RESULT_DESCRIPTIONS = {
+        "Não é peça T", "Peça não está confinada", "Nenhum spin detectado", "T-Spin detectado", "T-Spin Mini detectado"
+    };
+    /** Linhas eliminadas (0-4) cujos resultados ficam guardados */
+    private static final int CACHED_LINES = 5;
     
     private final GameBoard board;
+    private final SpinResult[][] results = new SpinResult[RESULT_DESCRIPTIONS.length][CACHED_LINES];
     
     public StandardSpinDetector(GameBoard board) {
         this.board = board;
@@ -19,70 +52,56 @@ public class StandardSpinDetector implements SpinDetector {
     @Override
     public SpinResult detectSpin(BlockShape piece, int linesCleared) {
         // Só detecta Spins para peças T
-        if (piece.getType() != BlockShape.Type.T.getValue()) {
-            return new SpinResult(SpinType.NONE, false, linesCleared, "Não é peça T");
+        if (piece.getType() != T_TYPE) {
+            return getResult(RESULT_NOT_T, linesCleared);
         }
         
-        // Verifica se a peça está em uma posição confinada
-        if (!isPieceConfined(piece)) {
-            return new SpinResult(SpinType.NONE, false, linesCleared, "Peça não está confinada");
+        int spin = SpinCorners.spinOrdinal(SpinCorners.cornerMask(board, piece.getX(), piece.getY()));
+        if (spin == CORNER_SPIN) {
+            return getResult(RESULT_SPIN, linesCleared);
+        } else if (spin == CORNER_SPIN_MINI) {
+            return getResult(RESULT_MINI_SPIN, linesCleared);
         }
         
-        // Determina o tipo de Spin baseado no número de cantos preenchidos
-        int filledCorners = countFilledCorners(piece);
-        
-        // Regras oficiais do Tetris Guideline para Spins:
-        // - Spin: 3 ou 4 cantos preenchidos
-        // - Spin Mini: exatamente 2 cantos preenchidos
-        if (filledCorners >= 3) {
-            return new SpinResult(SpinType.SPIN, true, linesCleared, "T-Spin detectado");
-        } else if (filledCorners == 2) {
-            return new SpinResult(SpinType.MINI_SPIN, true, linesCleared, "T-Spin Mini detectado");
+        // Só monta a descrição detalhada quando não há Spin
+        if (!SpinCorners.isConfined(board, piece.getX(), piece.getY())) {
+            return getResult(RESULT_NOT_CONFINED, linesCleared);
         }
-        
-        return new SpinResult(SpinType.NONE, false, linesCleared, "Nenhum spin detectado");
+        return getResult(RESULT_NONE, linesCleared);
+    }
+    
+    /**
+     * Detecta o Spin da peça na posição atual sem alocar objetos.
+     *
+     * @param piece A peça a ser analisada
+     * @return O ordinal de {@link SpinType} detectado
+     */
+    public int detectSpinOrdinal(BlockShape piece) {
+        if (piece.getType() != T_TYPE) {
+            return NONE_ORDINAL;
+        }
+        return SPIN_ORDINALS[SpinCorners.spinOrdinal(SpinCorners.cornerMask(board, piece.getX(), piece.getY()))];
     }
     
     @Override
     public boolean isInSpinPosition(BlockShape piece) {
         // Só peças T podem estar em posição de spin
-        if (piece.getType() != BlockShape.Type.T.getValue()) {
+        if (piece.getType() != T_TYPE) {
             return false;
         }
         
-        return isPieceConfined(piece);
+        return SpinCorners.isConfined(board, piece.getX(), piece.getY());
     }
     
     @Override
     public boolean canSpin(BlockShape piece) {
-        // Só peças T podem fazer spin
-        if (piece.getType() != BlockShape.Type.T.getValue()) {
-            return false;
-        }
-        
-        // Verifica se está em posição confinada e tem cantos preenchidos
-        return isPieceConfined(piece) && countFilledCorners(piece) >= 2;
+        // Com 2 ou mais cantos preenchidos a peça já está confinada
+        return detectSpinOrdinal(piece) != NONE_ORDINAL;
     }
     
     @Override
     public SpinType getSpinType(BlockShape piece) {
-        if (piece.getType() != BlockShape.Type.T.getValue()) {
-            return SpinType.NONE;
-        }
-        
-        if (!isPieceConfined(piece)) {
-            return SpinType.NONE;
-        }
-        
-        int filledCorners = countFilledCorners(piece);
-        
-        if (filledCorners >= 3) {
-            return SpinType.SPIN;
-        } else if (filledCorners == 2) {
-            return SpinType.MINI_SPIN;
-        }
-        
-        return SpinType.NONE;
+        return SPIN_TYPES[detectSpinOrdinal(piece)];
     }
     
     @Override
@@ -139,87 +158,19 @@ public class StandardSpinDetector implements SpinDetector {
         // Não há recursos para limpar
     }
     
-    private boolean isPieceConfined(BlockShape piece) {
-        int pieceX = piece.getX();
-        int pieceY = piece.getY();
-        
-        // Verifica se a peça está em uma posição onde pode ser confinada
-        // (próxima a paredes ou outras peças)
-        boolean nearLeftWall = pieceX <= 1;
-        boolean nearRightWall = pieceX >= board.getWidth() - 3;
-        boolean nearBottom = pieceY >= board.getHeight() - 3;
-        
-        // Verifica se há peças adjacentes que podem confinar
-        boolean hasAdjacentPieces = hasAdjacentPieces(piece);
-        
-        // Verifica se está próximo ao fundo (importante para Spins)
-        boolean nearBottomArea = pieceY >= board.getHeight() - 4;
-        
-        boolean isConfined = nearLeftWall || nearRightWall || nearBottom || hasAdjacentPieces || nearBottomArea;
-        
-        return isConfined;
-    }
-    
     /**
-     * Verifica se há peças adjacentes que podem confinar a peça T.
+     * Retorna o resultado compartilhado para o tipo de resultado e linhas eliminadas,
+     * criando-o apenas na primeira vez.
      */
-    private boolean hasAdjacentPieces(BlockShape piece) {
-        int pieceX = piece.getX();
-        int pieceY = piece.getY();
-        
-        // Verifica se há peças nas posições adjacentes e diagonais
-        // Adjacentes
-        boolean left = isValidPosition(pieceX - 1, pieceY) && board.getCell(pieceX - 1, pieceY) != 0;
-        boolean right = isValidPosition(pieceX + 1, pieceY) && board.getCell(pieceX + 1, pieceY) != 0;
-        boolean below = isValidPosition(pieceX, pieceY + 1) && board.getCell(pieceX, pieceY + 1) != 0;
-        boolean above = isValidPosition(pieceX, pieceY - 1) && board.getCell(pieceX, pieceY - 1) != 0;
-        
-        // Diagonais (importante para confinamento)
-        boolean topLeft = isValidPosition(pieceX - 1, pieceY - 1) && board.getCell(pieceX - 1, pieceY - 1) != 0;
-        boolean topRight = isValidPosition(pieceX + 1, pieceY - 1) && board.getCell(pieceX + 1, pieceY - 1) != 0;
-        boolean bottomLeft = isValidPosition(pieceX - 1, pieceY + 1) && board.getCell(pieceX - 1, pieceY + 1) != 0;
-        boolean bottomRight = isValidPosition(pieceX + 1, pieceY + 1) && board.getCell(pieceX + 1, pieceY + 1) != 0;
-        
-        return left || right || below || above || topLeft || topRight || bottomLeft || bottomRight;
-    }
-    
-    private int countFilledCorners(BlockShape piece) {
-        int pieceX = piece.getX();
-        int pieceY = piece.getY();
-        int filledCorners = 0;
-        
-        // Verifica os 4 cantos adjacentes à peça T
-        // Canto superior esquerdo
-        boolean topLeft = isValidPosition(pieceX - 1, pieceY - 1) && board.getCell(pieceX - 1, pieceY - 1) != 0;
-        if (topLeft) {
-            filledCorners++;
+    private SpinResult getResult(int kind, int linesCleared) {
+        if (linesCleared < 0 || linesCleared >= CACHED_LINES) {
+            return new SpinResult(RESULT_TYPES[kind], kind >= RESULT_SPIN, linesCleared, RESULT_DESCRIPTIONS[kind]);
         }
-        
-        // Canto superior direito
-        boolean topRight = isValidPosition(pieceX + 1, pieceY - 1) && board.getCell(pieceX + 1, pieceY - 1) != 0;
-        if (topRight) {
-            filledCorners++;
-        }
-        
-        // Canto inferior esquerdo
-        boolean bottomLeft = isValidPosition(pieceX - 1, pieceY + 1) && board.getCell(pieceX - 1, pieceY + 1) != 0;
-        if (bottomLeft) {
-            filledCorners++;
-        }
-        
-        // Canto inferior direito
-        boolean bottomRight = isValidPosition(pieceX + 1, pieceY + 1) && board.getCell(pieceX + 1, pieceY + 1) != 0;
-        if (bottomRight) {
-            filledCorners++;
+        SpinResult result = results[kind][linesCleared];
+        if (result == null) {
+            result = new SpinResult(RESULT_TYPES[kind], kind >= RESULT_SPIN, linesCleared, RESULT_DESCRIPTIONS[kind]);
+            results[kind][linesCleared] = result;
         }
-        
-        return filledCorners;
-    }
-    
-    /**
-     * Verifica se uma posição está dentro dos limites válidos do tabuleiro.
-     */
-    private boolean isValidPosition(int x, int y) {
-        return x >= 0 && x < board.getWidth() && y >= 0 && y < board.getHeight();
+        return result;
     }
-} 
\ No newline at end of file
+}
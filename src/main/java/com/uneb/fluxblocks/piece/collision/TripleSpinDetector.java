@@ -11,6 +11,14 @@ import com.uneb.fluxblocks.piece.entities.BlockShape;
  * - A rotação foi bem-sucedida (não foi um wall kick)
  */
 public class TripleSpinDetector {
+    private static final TripleSpinType[] TRIPLE_SPIN_TYPES = TripleSpinType.values();
+    private static final int NONE_ORDINAL = TripleSpinType.NONE.ordinal();
+    private static final int TRIPLE_SPIN_ORDINAL = TripleSpinType.TRIPLE_SPIN.ordinal();
+    private static final int TRIPLE_SPIN_MINI_ORDINAL = TripleSpinType.TRIPLE_SPIN_MINI.ordinal();
+    private static final int SPIN_NONE_ORDINAL = SpinDetector.SpinType.NONE.ordinal();
+    private static final int SPIN_ORDINAL = SpinDetector.SpinType.SPIN.ordinal();
+    private static final int T_TYPE = BlockShape.Type.T.getValue();
+
     private final GameBoard board;
     private int consecutiveSpins = 0;
     private int lastSpinX = -1;
@@ -25,36 +33,37 @@ public class TripleSpinDetector {
      *
      * @param piece A peça que foi rotacionada
      * @param wasRotationSuccessful Se a rotação foi bem-sucedida
-     * @param originalPosition Posição original antes da rotação
+     * @param originalX Coluna da peça antes da rotação
+     * @param originalY Linha da peça antes da rotação
      * @return Tipo de Triple Spin detectado
      */
-    public TripleSpinType detectTripleSpin(BlockShape piece, boolean wasRotationSuccessful, int[] originalPosition) {
-        // Só detecta Triple Spins para peças T
-        if (piece.getType() != BlockShape.Type.T.getValue()) {
-            resetConsecutiveSpins();
-            return TripleSpinType.NONE;
-        }
-
+    public TripleSpinType detectTripleSpin(BlockShape piece, boolean wasRotationSuccessful, int originalX, int originalY) {
         // Só detecta se a rotação foi bem-sucedida (não foi wall kick)
         if (!wasRotationSuccessful) {
             resetConsecutiveSpins();
             return TripleSpinType.NONE;
         }
+        return TRIPLE_SPIN_TYPES[detectTripleSpinOrdinal(piece)];
+    }
 
-        // Verifica se a peça está em uma posição confinada
-        if (!isPieceConfined(piece)) {
+    /**
+     * Detecta o Triple Spin da peça na posição atual sem alocar objetos.
+     *
+     * @param piece A peça que foi rotacionada
+     * @return O ordinal de {@link TripleSpinType} detectado
+     */
+    public int detectTripleSpinOrdinal(BlockShape piece) {
+        // Só detecta Triple Spins para peças T
+        if (piece.getType() != T_TYPE) {
             resetConsecutiveSpins();
-            return TripleSpinType.NONE;
+            return NONE_ORDINAL;
         }
 
-        // Verifica se é um Spin válido
-        int filledCorners = countFilledCorners(piece);
-        boolean isSpin = filledCorners >= 3;
-        boolean isSpinMini = filledCorners == 2;
-
-        if (!isSpin && !isSpinMini) {
+        // Spin (3+ cantos) ou Spin Mini (2 cantos); com menos cantos a peça não está confinada
+        int spin = SpinCorners.spinOrdinal(SpinCorners.cornerMask(board, piece.getX(), piece.getY()));
+        if (spin == SPIN_NONE_ORDINAL) {
             resetConsecutiveSpins();
-            return TripleSpinType.NONE;
+            return NONE_ORDINAL;
         }
 
         // Verifica se é na mesma posição ou posição adjacente
@@ -82,14 +91,10 @@ public class TripleSpinDetector {
 
         // Determina o tipo de Triple Spin
         if (consecutiveSpins >= 3) {
-            if (isSpin) {
-                return TripleSpinType.TRIPLE_SPIN;
-            } else {
-                return TripleSpinType.TRIPLE_SPIN_MINI;
-            }
+            return spin == SPIN_ORDINAL ? TRIPLE_SPIN_ORDINAL : TRIPLE_SPIN_MINI_ORDINAL;
         }
 
-        return TripleSpinType.NONE;
+        return NONE_ORDINAL;
     }
 
     /**
@@ -101,90 +106,6 @@ public class TripleSpinDetector {
         lastSpinY = -1;
     }
 
-    private boolean isPieceConfined(BlockShape piece) {
-        int pieceX = piece.getX();
-        int pieceY = piece.getY();
-
-        // Verifica se a peça está em uma posição onde pode ser confinada
-        // (próxima a paredes ou outras peças)
-        boolean nearLeftWall = pieceX <= 1;
-        boolean nearRightWall = pieceX >= board.getWidth() - 3;
-        boolean nearBottom = pieceY >= board.getHeight() - 3;
-        
-        // Verifica se há peças adjacentes que podem confinar
-        boolean hasAdjacentPieces = hasAdjacentPieces(piece);
-        
-        // Verifica se está próximo ao fundo (importante para Spins)
-        boolean nearBottomArea = pieceY >= board.getHeight() - 4;
-
-        boolean isConfined = nearLeftWall || nearRightWall || nearBottom || hasAdjacentPieces || nearBottomArea;
-        
-        return isConfined;
-    }
-
-    /**
-     * Verifica se há peças adjacentes que podem confinar a peça T.
-     */
-    private boolean hasAdjacentPieces(BlockShape piece) {
-        int pieceX = piece.getX();
-        int pieceY = piece.getY();
-        
-        // Verifica se há peças nas posições adjacentes e diagonais
-        // Adjacentes
-        boolean left = isValidPosition(pieceX - 1, pieceY) && board.getCell(pieceX - 1, pieceY) != 0;
-        boolean right = isValidPosition(pieceX + 1, pieceY) && board.getCell(pieceX + 1, pieceY) != 0;
-        boolean below = isValidPosition(pieceX, pieceY + 1) && board.getCell(pieceX, pieceY + 1) != 0;
-        boolean above = isValidPosition(pieceX, pieceY - 1) && board.getCell(pieceX, pieceY - 1) != 0;
-        
-        // Diagonais (importante para confinamento)
-        boolean topLeft = isValidPosition(pieceX - 1, pieceY - 1) && board.getCell(pieceX - 1, pieceY - 1) != 0;
-        boolean topRight = isValidPosition(pieceX + 1, pieceY - 1) && board.getCell(pieceX + 1, pieceY - 1) != 0;
-        boolean bottomLeft = isValidPosition(pieceX - 1, pieceY + 1) && board.getCell(pieceX - 1, pieceY + 1) != 0;
-        boolean bottomRight = isValidPosition(pieceX + 1, pieceY + 1) && board.getCell(pieceX + 1, pieceY + 1) != 0;
-        
-        return left || right || below || above || topLeft || topRight || bottomLeft || bottomRight;
-    }
-
-    private int countFilledCorners(BlockShape piece) {
-        int pieceX = piece.getX();
-        int pieceY = piece.getY();
-        int filledCorners = 0;
-
-        // Verifica os 4 cantos adjacentes à peça T
-        // Canto superior esquerdo
-        boolean topLeft = isValidPosition(pieceX - 1, pieceY - 1) && board.getCell(pieceX - 1, pieceY - 1) != 0;
-        if (topLeft) {
-            filledCorners++;
-        }
-
-        // Canto superior direito
-        boolean topRight = isValidPosition(pieceX + 1, pieceY - 1) && board.getCell(pieceX + 1, pieceY - 1) != 0;
-        if (topRight) {
-            filledCorners++;
-        }
-
-        // Canto inferior esquerdo
-        boolean bottomLeft = isValidPosition(pieceX - 1, pieceY + 1) && board.getCell(pieceX - 1, pieceY + 1) != 0;
-        if (bottomLeft) {
-            filledCorners++;
-        }
-
-        // Canto inferior direito
-        boolean bottomRight = isValidPosition(pieceX + 1, pieceY + 1) && board.getCell(pieceX + 1, pieceY + 1) != 0;
-        if (bottomRight) {
-            filledCorners++;
-        }
-
-        return filledCorners;
-    }
-
-    /**
-     * Verifica se uma posição está dentro dos limites válidos do tabuleiro.
-     */
-    private boolean isValidPosition(int x, int y) {
-        return x >= 0 && x < board.getWidth() && y >= 0 && y < board.getHeight();
-    }
-
     /**
      * Tipos de Triple Spin possíveis.
      */
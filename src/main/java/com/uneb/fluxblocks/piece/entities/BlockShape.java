@@ -3,6 +3,15 @@ package com.uneb.fluxblocks.piece.entities;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Peça do jogo: uma referência à {@link ShapeDefinition} compartilhada da rotação atual
+ * mais a posição do centro no tabuleiro.
+ *
+ * <p>Mover ou girar a peça só altera esses campos; nenhuma célula é recalculada.
+ * A lista de {@link Cell} retornada por {@link #getCells()} é materializada sob demanda,
+ * reaproveitando os mesmos objetos, e serve apenas para leitura. Código sensível a
+ * desempenho deve usar {@link #getCellCount()}, {@link #getCellX(int)} e {@link #getCellY(int)}.</p>
+ */
 public class BlockShape implements Shape {
     public enum Type {
         EMPTY(0),
@@ -25,11 +34,11 @@ public class BlockShape implements Shape {
             return value;
         }
 
+        private static final Type[] VALUES = values();
+
         public static Type fromOrdinal(int ordinal) {
-            for (Type type : values()) {
-                if (type.ordinal() == ordinal) {
-                    return type;
-                }
+            if (ordinal >= 0 && ordinal < VALUES.length) {
+                return VALUES[ordinal];
             }
             return EMPTY;
         }
@@ -37,27 +46,29 @@ public class BlockShape implements Shape {
 
     private int centerX;
     private int centerY;
-    private final List<Cell> cells;
-    private final int typeValue;
-    private final Type type;
-    private final List<int[]> initialRelativePositions;
-    private final boolean glass;
+    private ShapeDefinition definition;
+    private boolean glass;
+    private final List<Cell> cells = new ArrayList<>(ShapeDefinition.MAX_CELLS);
+    private boolean cellsDirty = true;
+
     /**
-     * Construtor que recebe uma lista de células, o valor do tipo e se é vidro.
+     * Cria uma peça a partir de uma definição compartilhada.
      * Este construtor é chamado pela BlockShapeFactory.
      */
-    public BlockShape(List<Cell> cells, int typeValue, boolean glass) {
-        this.cells = new ArrayList<>(cells);
-        this.typeValue = typeValue;
-        this.type = Type.fromOrdinal(typeValue);
-        this.glass = glass;
-
-        this.initialRelativePositions = new ArrayList<>(cells.size());
-        for (Cell cell : cells) {
-            initialRelativePositions.add(new int[]{cell.getRelativeX(), cell.getRelativeY()});
+    public BlockShape(ShapeDefinition definition, boolean glass) {
+        if (definition == null) {
+            throw new IllegalArgumentException("ShapeDefinition não pode ser null");
         }
+        this.definition = definition;
+        this.glass = glass;
+    }
 
-        updateCellPositions();
+    /**
+     * Construtor que recebe uma lista de células, o valor do tipo e se é vidro.
+     * As posições relativas das células formam a rotação inicial da peça.
+     */
+    public BlockShape(List<Cell> cells, int typeValue, boolean glass) {
+        this(toDefinition(cells, typeValue), glass);
     }
 
     /**
@@ -67,6 +78,75 @@ public class BlockShape implements Shape {
         this(cells, typeValue, false);
     }
 
+    private static ShapeDefinition toDefinition(List<Cell> cells, int typeValue) {
+        int[] offsetsX = new int[cells.size()];
+        int[] offsetsY = new int[cells.size()];
+        for (int i = 0; i < cells.size(); i++) {
+            offsetsX[i] = cells.get(i).getRelativeX();
+            offsetsY[i] = cells.get(i).getRelativeY();
+        }
+        return ShapeDefinition.fromOffsets(typeValue, offsetsX, offsetsY);
+    }
+
+    /**
+     * Cria uma peça padrão a partir de um estado empacotado por {@link PieceState}.
+     *
+     * @param state O estado empacotado
+     * @return Uma nova peça no estado informado
+     */
+    public static BlockShape fromState(long state) {
+        BlockShape shape = new BlockShape(
+                ShapeDefinition.get(PieceState.type(state), PieceState.rotation(state)),
+                PieceState.isGlass(state));
+        shape.centerX = PieceState.x(state);
+        shape.centerY = PieceState.y(state);
+        return shape;
+    }
+
+    /**
+     * Empacota o estado da peça (tipo, rotação, posição e vidro) em um long.
+     * Só representa completamente peças com definição padrão.
+     */
+    public long toState() {
+        return PieceState.pack(definition.getType(), definition.getRotation(), centerX, centerY, glass);
+    }
+
+    /**
+     * Aplica um estado empacotado à peça, podendo trocar inclusive o tipo.
+     *
+     * @param state O estado empacotado por {@link PieceState}
+     */
+    public void applyState(long state) {
+        this.definition = ShapeDefinition.get(PieceState.type(state), PieceState.rotation(state));
+        this.glass = PieceState.isGlass(state);
+        this.centerX = PieceState.x(state);
+        this.centerY = PieceState.y(state);
+        cellsDirty = true;
+    }
+
+    /**
+     * Copia forma, rotação e posição de outra peça, sem alocar.
+     *
+     * @param source A peça de origem
+     */
+    public void copyStateFrom(BlockShape source) {
+        this.definition = source.definition;
+        this.glass = source.glass;
+        this.centerX = source.centerX;
+        this.centerY = source.centerY;
+        cellsDirty = true;
+    }
+
+    /**
+     * Cria uma cópia independente da peça, compartilhando a mesma definição.
+     */
+    public BlockShape copy() {
+        BlockShape copy = new BlockShape(definition, glass);
+        copy.centerX = centerX;
+        copy.centerY = centerY;
+        return copy;
+    }
+
     @Override
     public int getX() {
         return centerX;
@@ -79,40 +159,35 @@ public class BlockShape implements Shape {
 
     public void setY(int y) {
         this.centerY = y;
-        updateCellPositions();
+        cellsDirty = true;
     }
 
     @Override
     public void setPosition(int x, int y) {
         this.centerX = x;
         this.centerY = y;
-        updateCellPositions();
+        cellsDirty = true;
     }
 
     @Override
     public void move(int deltaX, int deltaY) {
         this.centerX += deltaX;
         this.centerY += deltaY;
-        updateCellPositions();
-    }
-
-    private void updateCellPositions() {
-        for (Cell cell : cells) {
-            cell.setPosition(centerX + cell.getRelativeX(), centerY + cell.getRelativeY());
-        }
+        cellsDirty = true;
     }
 
     @Override
     public void rotate() {
-        if (type == Type.O) {
-            return;
-        }
-
-        for (Cell cell : cells) {
-            cell.rotate();
-        }
+        definition = definition.rotatedClockwise();
+        cellsDirty = true;
+    }
 
-        updateCellPositions();
+    /**
+     * Gira a peça 90° no sentido anti-horário.
+     */
+    public void rotateCounterClockwise() {
+        definition = definition.rotatedCounterClockwise();
+        cellsDirty = true;
     }
 
     public void resetState() {
@@ -122,28 +197,93 @@ public class BlockShape implements Shape {
     }
 
     public void resetRotation() {
-        if (type == Type.O) return;
+        definition = definition.withRotation(0);
+        cellsDirty = true;
+    }
 
-        for (int i = 0; i < cells.size(); i++) {
-            Cell cell = cells.get(i);
-            int[] initialPos = initialRelativePositions.get(i);
-            cell.setRelativePosition(initialPos[0], initialPos[1]);
-        }
+    /**
+     * Define o estado de rotação da peça a partir do layout inicial.
+     *
+     * @param targetRotation Estado de rotação desejado (0-3)
+     */
+    public void setRotation(int targetRotation) {
+        definition = definition.withRotation(targetRotation);
+        cellsDirty = true;
+    }
+
+    /**
+     * Retorna o estado de rotação atual (0-3) em relação ao layout inicial.
+     * A peça O nunca sai do estado 0.
+     */
+    public int getRotation() {
+        return definition.getRotation();
     }
+
+    /**
+     * Retorna a definição compartilhada da forma na rotação atual.
+     */
+    public ShapeDefinition getDefinition() {
+        return definition;
+    }
+
     @Override
     public int getType() {
-        return typeValue;
+        return definition.getType();
     }
 
+    public int getCellCount() {
+        return definition.getCellCount();
+    }
+
+    /**
+     * Retorna a coordenada X absoluta de uma célula.
+     */
+    public int getCellX(int index) {
+        return centerX + definition.getOffsetX(index);
+    }
+
+    /**
+     * Retorna a coordenada Y absoluta de uma célula.
+     */
+    public int getCellY(int index) {
+        return centerY + definition.getOffsetY(index);
+    }
+
+    /**
+     * Retorna as células da peça com posições atualizadas.
+     * A lista e as células são reaproveitadas pela peça e não devem ser modificadas.
+     */
     @Override
     public List<Cell> getCells() {
+        if (cellsDirty) {
+            refreshCells();
+        }
         return cells;
     }
 
+    private void refreshCells() {
+        int count = definition.getCellCount();
+        int type = definition.getType();
+        if (cells.size() != count || (count > 0 && cells.get(0).getType() != type)) {
+            cells.clear();
+            for (int i = 0; i < count; i++) {
+                cells.add(new Cell(0, 0, type));
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            Cell cell = cells.get(i);
+            int offsetX = definition.getOffsetX(i);
+            int offsetY = definition.getOffsetY(i);
+            cell.setRelativePosition(offsetX, offsetY);
+            cell.setPosition(centerX + offsetX, centerY + offsetY);
+        }
+        cellsDirty = false;
+    }
+
     public List<int[]> getCellPositions() {
         List<int[]> positions = new ArrayList<>();
-        for (Cell cell : cells) {
-            positions.add(new int[]{ cell.getX(), cell.getY() });
+        for (int i = 0; i < definition.getCellCount(); i++) {
+            positions.add(new int[]{ getCellX(i), getCellY(i) });
         }
         return positions;
     }
@@ -151,4 +291,4 @@ public class BlockShape implements Shape {
     public boolean isGlass() {
         return glass;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,81 @@
+package com.uneb.fluxblocks.piece.entities;
+
+/**
+ * Representação compacta do estado de uma peça padrão em um único {@code long}.
+ *
+ * <p>Guarda tipo, rotação, posição do centro e se a peça é de vidro. Como as formas são
+ * definições compartilhadas ({@link ShapeDefinition}), esses campos bastam para
+ * reconstruir a peça, o que torna o estado barato de copiar para replays, busca de
+ * jogadas e sincronização em rede.</p>
+ *
+ * <p>Layout dos bits (do menos significativo): tipo (4), rotação (2), vidro (1),
+ * X (12, com sinal) e Y (12, com sinal).</p>
+ */
+public final class PieceState {
+    private static final int TYPE_SHIFT = 0;
+    private static final int ROTATION_SHIFT = 4;
+    private static final int GLASS_SHIFT = 6;
+    private static final int X_SHIFT = 7;
+    private static final int Y_SHIFT = 19;
+    private static final int COORD_BITS = 12;
+    private static final int COORD_MASK = (1 << COORD_BITS) - 1;
+
+    private PieceState() {
+    }
+
+    /**
+     * Empacota o estado de uma peça.
+     *
+     * @param type O valor do tipo da peça
+     * @param rotation O estado de rotação (0-3)
+     * @param x A coordenada X do centro
+     * @param y A coordenada Y do centro
+     * @param glass Se a peça é de vidro
+     * @return O estado empacotado
+     */
+    public static long pack(int type, int rotation, int x, int y, boolean glass) {
+        return ((long) (type & 0xF) << TYPE_SHIFT)
+                | ((long) (rotation & 3) << ROTATION_SHIFT)
+                | ((glass ? 1L : 0L) << GLASS_SHIFT)
+                | ((long) (x & COORD_MASK) << X_SHIFT)
+                | ((long) (y & COORD_MASK) << Y_SHIFT);
+    }
+
+    public static int type(long state) {
+        return (int) (state >>> TYPE_SHIFT) & 0xF;
+    }
+
+    public static int rotation(long state) {
+        return (int) (state >>> ROTATION_SHIFT) & 3;
+    }
+
+    public static boolean isGlass(long state) {
+        return ((state >>> GLASS_SHIFT) & 1) != 0;
+    }
+
+    public static int x(long state) {
+        return signExtend((int) (state >>> X_SHIFT) & COORD_MASK);
+    }
+
+    public static int y(long state) {
+        return signExtend((int) (state >>> Y_SHIFT) & COORD_MASK);
+    }
+
+    /**
+     * Retorna o estado com o centro da peça em outra posição.
+     */
+    public static long withPosition(long state, int x, int y) {
+        return pack(type(state), rotation(state), x, y, isGlass(state));
+    }
+
+    /**
+     * Retorna o estado com outra rotação.
+     */
+    public static long withRotation(long state, int rotation) {
+        return pack(type(state), rotation, x(state), y(state), isGlass(state));
+    }
+
+    private static int signExtend(int value) {
+        return (value << (32 - COORD_BITS)) >> (32 - COORD_BITS);
+    }
+}
@@ -0,0 +1,290 @@
+package com.uneb.fluxblocks.piece.entities;
+
+/**
+ * Definição imutável e compartilhada da forma de uma peça em um estado de rotação.
+ *
+ * <p>Cada tipo de peça padrão (I, J, L, O, S, T, Z e X) possui exatamente quatro instâncias,
+ * uma por rotação, criadas uma única vez e reutilizadas por todas as peças do jogo
+ * (flyweight). Uma peça ativa guarda apenas uma referência à definição da rotação atual
+ * e a posição do centro; girar a peça é trocar a referência pela próxima definição.</p>
+ *
+ * <p>Os deslocamentos das células em relação ao centro ficam em arrays primitivos e também
+ * empacotados em um {@code long}, com 6 bits por coordenada (12 bits por célula), o que
+ * permite comparar ou transmitir um layout inteiro como um único valor.</p>
+ */
+public final class ShapeDefinition {
+    /** Número de estados de rotação */
+    public static final int ROTATIONS = 4;
+    /** Número máximo de células que cabem no layout empacotado */
+    public static final int MAX_CELLS = 5;
+
+    private static final int COORD_BITS = 6;
+    private static final int COORD_MASK = (1 << COORD_BITS) - 1;
+    private static final int COORD_BIAS = 1 << (COORD_BITS - 1);
+
+    private static final int TYPE_COUNT = BlockShape.Type.X.getValue() + 1;
+    private static final ShapeDefinition[][] STANDARD = new ShapeDefinition[TYPE_COUNT][];
+
+    static {
+        // [ ][ ][ ][ ]
+        // [I][I][I][I]
+        register(BlockShape.Type.I, new int[]{-1, 0, 1, 2}, new int[]{0, 0, 0, 0});
+        // [J][ ][ ]
+        // [J][J][J]
+        register(BlockShape.Type.J, new int[]{-1, -1, 0, 1}, new int[]{-1, 0, 0, 0});
+        // [ ][ ][L]
+        // [L][L][L]
+        register(BlockShape.Type.L, new int[]{1, -1, 0, 1}, new int[]{-1, 0, 0, 0});
+        // [O][O]
+        // [O][O]
+        register(BlockShape.Type.O, new int[]{0, 1, 0, 1}, new int[]{-1, -1, 0, 0});
+        // [ ][S][S]
+        // [S][S][ ]
+        register(BlockShape.Type.S, new int[]{0, 1, -1, 0}, new int[]{-1, -1, 0, 0});
+        // [ ][T][ ]
+        // [T][T][T]
+        register(BlockShape.Type.T, new int[]{0, -1, 0, 1}, new int[]{-1, 0, 0, 0});
+        // [Z][Z][ ]
+        // [ ][Z][Z]
+        register(BlockShape.Type.Z, new int[]{-1, 0, 0, 1}, new int[]{-1, -1, 0, 0});
+        // [ ][X][ ]
+        // [X][X][X]
+        // [ ][X][ ]
+        register(BlockShape.Type.X, new int[]{0, -1, 0, 1, 0}, new int[]{-1, 0, 0, 0, 1});
+    }
+
+    private final int type;
+    private final int rotation;
+    private final int[] offsetsX;
+    private final int[] offsetsY;
+    private final long packedOffsets;
+    private final int minOffsetX;
+    private final int maxOffsetX;
+    private final int minOffsetY;
+    private final int maxOffsetY;
+    private final boolean standard;
+    /** Definições das quatro rotações da mesma forma, compartilhadas entre elas */
+    private final ShapeDefinition[] family;
+
+    private ShapeDefinition(int type, int rotation, int[] offsetsX, int[] offsetsY,
+                            boolean standard, ShapeDefinition[] family) {
+        this.type = type;
+        this.rotation = rotation;
+        this.offsetsX = offsetsX;
+        this.offsetsY = offsetsY;
+        this.packedOffsets = pack(offsetsX, offsetsY);
+        this.standard = standard;
+        this.family = family;
+
+        int minX = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE;
+        int minY = Integer.MAX_VALUE, maxY = Integer.MIN_VALUE;
+        for (int i = 0; i < offsetsX.length; i++) {
+            minX = Math.min(minX, offsetsX[i]);
+            maxX = Math.max(maxX, offsetsX[i]);
+            minY = Math.min(minY, offsetsY[i]);
+            maxY = Math.max(maxY, offsetsY[i]);
+        }
+        this.minOffsetX = offsetsX.length == 0 ? 0 : minX;
+        this.maxOffsetX = offsetsX.length == 0 ? 0 : maxX;
+        this.minOffsetY = offsetsY.length == 0 ? 0 : minY;
+        this.maxOffsetY = offsetsY.length == 0 ? 0 : maxY;
+    }
+
+    private static void register(BlockShape.Type type, int[] offsetsX, int[] offsetsY) {
+        STANDARD[type.getValue()] = createFamily(type.getValue(), offsetsX, offsetsY, type != BlockShape.Type.O, true);
+    }
+
+    /**
+     * Gera as quatro rotações de um layout, girando 90° no sentido horário
+     * ((x, y) -> (-y, x)) a cada passo. Formas que não giram repetem o layout inicial.
+     */
+    private static ShapeDefinition[] createFamily(int type, int[] offsetsX, int[] offsetsY,
+                                                  boolean rotates, boolean standard) {
+        ShapeDefinition[] family = new ShapeDefinition[ROTATIONS];
+        int[] xs = offsetsX.clone();
+        int[] ys = offsetsY.clone();
+        family[0] = new ShapeDefinition(type, 0, xs, ys, standard, family);
+
+        for (int rotation = 1; rotation < ROTATIONS; rotation++) {
+            if (!rotates) {
+                family[rotation] = family[0];
+                continue;
+            }
+            int[] rotatedX = new int[xs.length];
+            int[] rotatedY = new int[ys.length];
+            for (int i = 0; i < xs.length; i++) {
+                rotatedX[i] = -ys[i];
+                rotatedY[i] = xs[i];
+            }
+            xs = rotatedX;
+            ys = rotatedY;
+            family[rotation] = new ShapeDefinition(type, rotation, xs, ys, standard, family);
+        }
+        return family;
+    }
+
+    /**
+     * Retorna a definição compartilhada de uma peça padrão.
+     *
+     * @param type O valor do tipo da peça (1-8)
+     * @param rotation O estado de rotação (0-3)
+     * @return A definição da peça nessa rotação
+     * @throws IllegalArgumentException Se o tipo não for uma peça padrão
+     */
+    public static ShapeDefinition get(int type, int rotation) {
+        if (!isStandardType(type)) {
+            throw new IllegalArgumentException("Tipo de peça não suportado: " + type);
+        }
+        return STANDARD[type][rotation & 3];
+    }
+
+    /**
+     * Retorna a definição compartilhada de uma peça padrão na rotação inicial.
+     *
+     * @param type O tipo da peça
+     * @return A definição da peça na rotação 0
+     */
+    public static ShapeDefinition of(BlockShape.Type type) {
+        return get(type.getValue(), 0);
+    }
+
+    /**
+     * Verifica se existe definição padrão para o tipo informado.
+     *
+     * @param type O valor do tipo da peça
+     * @return true se o tipo for uma peça jogável
+     */
+    public static boolean isStandardType(int type) {
+        return type > 0 && type < TYPE_COUNT;
+    }
+
+    /**
+     * Cria a definição de uma forma personalizada a partir dos deslocamentos da rotação inicial.
+     * Se os deslocamentos corresponderem à peça padrão do tipo, a definição compartilhada é retornada.
+     *
+     * @param type O valor do tipo da peça
+     * @param offsetsX Deslocamentos X das células
+     * @param offsetsY Deslocamentos Y das células
+     * @return A definição da forma na rotação 0
+     * @throws IllegalArgumentException Se os arrays tiverem tamanhos diferentes ou células demais
+     */
+    public static ShapeDefinition fromOffsets(int type, int[] offsetsX, int[] offsetsY) {
+        if (offsetsX.length != offsetsY.length || offsetsX.length > MAX_CELLS) {
+            throw new IllegalArgumentException("Layout de peça inválido: " + offsetsX.length + " células");
+        }
+        if (isStandardType(type) && STANDARD[type][0].packedOffsets == pack(offsetsX, offsetsY)
+                && STANDARD[type][0].offsetsX.length == offsetsX.length) {
+            return STANDARD[type][0];
+        }
+        return createFamily(type, offsetsX, offsetsY, type != BlockShape.Type.O.getValue(), false)[0];
+    }
+
+    /**
+     * Empacota os deslocamentos de até {@link #MAX_CELLS} células em um long,
+     * 6 bits por coordenada, na ordem x0, y0, x1, y1...
+     */
+    public static long pack(int[] offsetsX, int[] offsetsY) {
+        long packed = 0;
+        for (int i = 0; i < offsetsX.length; i++) {
+            packed |= (long) ((offsetsX[i] + COORD_BIAS) & COORD_MASK) << (i * 2 * COORD_BITS);
+            packed |= (long) ((offsetsY[i] + COORD_BIAS) & COORD_MASK) << ((i * 2 + 1) * COORD_BITS);
+        }
+        return packed;
+    }
+
+    /**
+     * Extrai o deslocamento X de uma célula de um layout empacotado.
+     */
+    public static int unpackX(long packed, int index) {
+        return (int) ((packed >>> (index * 2 * COORD_BITS)) & COORD_MASK) - COORD_BIAS;
+    }
+
+    /**
+     * Extrai o deslocamento Y de uma célula de um layout empacotado.
+     */
+    public static int unpackY(long packed, int index) {
+        return (int) ((packed >>> ((index * 2 + 1) * COORD_BITS)) & COORD_MASK) - COORD_BIAS;
+    }
+
+    /**
+     * Retorna a definição da mesma forma no estado de rotação informado.
+     */
+    public ShapeDefinition withRotation(int rotation) {
+        return family[rotation & 3];
+    }
+
+    /**
+     * Retorna a definição após uma rotação horária.
+     */
+    public ShapeDefinition rotatedClockwise() {
+        return family[(rotation + 1) & 3];
+    }
+
+    /**
+     * Retorna a definição após uma rotação anti-horária.
+     */
+    public ShapeDefinition rotatedCounterClockwise() {
+        return family[(rotation + 3) & 3];
+    }
+
+    public int getType() {
+        return type;
+    }
+
+    /**
+     * Retorna o estado de rotação (0-3). Formas que não giram ficam sempre em 0.
+     */
+    public int getRotation() {
+        return rotation;
+    }
+
+    public int getCellCount() {
+        return offsetsX.length;
+    }
+
+    public int getOffsetX(int index) {
+        return offsetsX[index];
+    }
+
+    public int getOffsetY(int index) {
+        return offsetsY[index];
+    }
+
+    /**
+     * Retorna os deslocamentos empacotados das células.
+     */
+    public long getPackedOffsets() {
+        return packedOffsets;
+    }
+
+    public int getMinOffsetX() {
+        return minOffsetX;
+    }
+
+    public int getMaxOffsetX() {
+        return maxOffsetX;
+    }
+
+    public int getMinOffsetY() {
+        return minOffsetY;
+    }
+
+    public int getMaxOffsetY() {
+        return maxOffsetY;
+    }
+
+    public int getWidth() {
+        return maxOffsetX - minOffsetX + 1;
+    }
+
+    public int getHeight() {
+        return maxOffsetY - minOffsetY + 1;
+    }
+
+    /**
+     * Indica se esta é uma das definições padrão compartilhadas (e não uma forma personalizada).
+     */
+    public boolean isStandard() {
+        return standard;
+    }
+}
@@ -1,16 +1,15 @@
 package com.uneb.fluxblocks.piece.factory;
 
-import com.uneb.fluxblocks.piece.entities.Cell;
 import com.uneb.fluxblocks.piece.entities.BlockShape;
+import com.uneb.fluxblocks.piece.entities.ShapeDefinition;
+import com.uneb.fluxblocks.piece.factory.provider.BlockShapeProvider;
 import com.uneb.fluxblocks.piece.factory.provider.FixedExtendedBagBlockShapeProvider;
 import com.uneb.fluxblocks.piece.factory.provider.SevenBagBlockShapeProvider;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Fábrica responsável por criar diferentes tipos de peças BlockShape.
  * Implementa o padrão Factory Method para encapsular a criação de objetos.
+ * Os layouts das peças ficam nas definições compartilhadas de {@link ShapeDefinition}.
  */
 public class BlockShapeFactory {
     private static final FixedExtendedBagBlockShapeProvider fixedExtendedBagProvider = new FixedExtendedBagBlockShapeProvider();
@@ -28,150 +27,42 @@ public class BlockShapeFactory {
             throw new IllegalArgumentException("Tipo de peça não pode ser null");
         }
         
-        List<Cell> cells = new ArrayList<>();
-        switch (type) {
-            case I -> createIPiece(cells);
-            case J -> createJPiece(cells);
-            case L -> createLPiece(cells);
-            case O -> createOPiece(cells);
-            case S -> createSPiece(cells);
-            case T -> createTPiece(cells);
-            case Z -> createZPiece(cells);
-            case X -> createXPiece(cells);
-            default -> throw new IllegalArgumentException("Tipo de peça não suportado: " + type);
+        if (!ShapeDefinition.isStandardType(type.getValue())) {
+            throw new IllegalArgumentException("Tipo de peça não suportado: " + type);
         }
 
-        return new BlockShape(cells, type.getValue(), glass);
+        return new BlockShape(ShapeDefinition.of(type), glass);
     }
 
     /**
-     * Cria um BlockShape aleatório.
+     * Materializa uma peça a partir do código gerado por um {@link BlockShapeProvider}.
      *
-     * @return Um novo BlockShape de tipo aleatório
-     */
-    public static BlockShape createRandomBlockShape() {
-        return sevenBagProvider.next();
-    }
-
-    /**
-     * Configuração da peça I (linha).
-     * Forma:
-     * [ ][ ][ ][ ]
-     * [I][I][I][I]
-     * [ ][ ][ ][ ]
-     * [ ][ ][ ][ ]
+     * @param code O código da peça (tipo e marcação de vidro)
+     * @return Um novo BlockShape correspondente ao código
+     * @throws IllegalArgumentException Se o tipo codificado não for suportado
+     * @see BlockShapeProvider#encode(int, boolean)
      */
-    private static void createIPiece(List<Cell> cells) {
-        int type = BlockShape.Type.I.getValue();
-        cells.add(new Cell(-1, 0, type));
-        cells.add(new Cell(0, 0, type));
-        cells.add(new Cell(1, 0, type));
-        cells.add(new Cell(2, 0, type));
+    public static BlockShape fromCode(int code) {
+        BlockShape.Type type = BlockShape.Type.fromOrdinal(BlockShapeProvider.typeOf(code));
+        return createBlockShape(type, BlockShapeProvider.isGlass(code));
     }
 
     /**
-     * Configuração da peça J.
-     * Forma:
-     * [J][ ][ ]
-     * [J][J][J]
-     * [ ][ ][ ]
-     */
-    private static void createJPiece(List<Cell> cells) {
-        int type = BlockShape.Type.J.getValue();
-        cells.add(new Cell(-1, -1, type));
-        cells.add(new Cell(-1, 0, type));
-        cells.add(new Cell(0, 0, type));
-        cells.add(new Cell(1, 0, type));
-    }
-
-    /**
-     * Configuração da peça L.
-     * Forma:
-     * [ ][ ][L]
-     * [L][L][L]
-     * [ ][ ][ ]
-     */
-    private static void createLPiece(List<Cell> cells) {
-        int type = BlockShape.Type.L.getValue();
-        cells.add(new Cell(1, -1, type));
-        cells.add(new Cell(-1, 0, type));
-        cells.add(new Cell(0, 0, type));
-        cells.add(new Cell(1, 0, type));
-    }
-
-    /**
-     * Configuração da peça O (quadrado).
-     * Forma:
-     * [O][O]
-     * [O][O]
-     */
-    private static void createOPiece(List<Cell> cells) {
-        int type = BlockShape.Type.O.getValue();
-        cells.add(new Cell(0, -1, type));
-        cells.add(new Cell(1, -1, type));
-        cells.add(new Cell(0, 0, type));
-        cells.add(new Cell(1, 0, type));
-    }
-
-    /**
-     * Configuração da peça S.
-     * Forma:
-     * [ ][S][S]
-     * [S][S][ ]
-     * [ ][ ][ ]
-     */
-    private static void createSPiece(List<Cell> cells) {
-        int type = BlockShape.Type.S.getValue();
-        cells.add(new Cell(0, -1, type));
-        cells.add(new Cell(1, -1, type));
-        cells.add(new Cell(-1, 0, type));
-        cells.add(new Cell(0, 0, type));
-    }
-
-    /**
-     * Configuração da peça T.
-     * Forma:
-     * [ ][T][ ]
-     * [T][T][T]
-     * [ ][ ][ ]
-     */
-    private static void createTPiece(List<Cell> cells) {
-        int type = BlockShape.Type.T.getValue();
-        cells.add(new Cell(0, -1, type));
-        cells.add(new Cell(-1, 0, type));
-        cells.add(new Cell(0, 0, type));
-        cells.add(new Cell(1, 0, type));
-    }
-
-    /**
-     * Configuração da peça Z.
-     * Forma:
-     * [Z][Z][ ]
-     * [ ][Z][Z]
-     * [ ][ ][ ]
+     * Cria um BlockShape aleatório.
+     *
+     * @return Um novo BlockShape de tipo aleatório
      */
-    private static void createZPiece(List<Cell> cells) {
-        int type = BlockShape.Type.Z.getValue();
-        cells.add(new Cell(-1, -1, type));
-        cells.add(new Cell(0, -1, type));
-        cells.add(new Cell(0, 0, type));
-        cells.add(new Cell(1, 0, type));
+    public static BlockShape createRandomBlockShape() {
+        return sevenBagProvider.next();
     }
 
     /**
-     * Configuração da peça X (cruz).
-     * Forma:
-     * [ ][X][ ]
-     * [X][X][X]
-     * [ ][X][ ]
+     * Retorna o provedor de peças compartilhado usado por {@link #createRandomBlockShape()}.
+     *
+     * @return O provedor Seven Bag padrão do jogo
      */
-    private static void createXPiece(List<Cell> cells) {
-        int type = BlockShape.Type.X.getValue();
-        cells.add(new Cell(0, -1, type));  // Topo
-        cells.add(new Cell(-1, 0, type));  // Esquerda
-        cells.add(new Cell(0, 0, type));   // Centro
-        cells.add(new Cell(1, 0, type));   // Direita
-        cells.add(new Cell(0, 1, type));   // Baixo
+    public static BlockShapeProvider getDefaultProvider() {
+        return sevenBagProvider;
     }
 
     /**
@@ -0,0 +1,160 @@
+package com.uneb.fluxblocks.piece.factory.provider;
+
+import com.uneb.fluxblocks.piece.entities.BlockShape;
+import com.uneb.fluxblocks.piece.factory.BlockShapeFactory;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Base dos provedores de peças: mantém os códigos já sorteados em um buffer circular de
+ * inteiros e deixa para as subclasses apenas a regra de geração.
+ *
+ * <p>Cada provedor usa o seu próprio {@link RandomGenerator}. Com a mesma semente a
+ * sequência é sempre a mesma, o que permite reproduzir partidas (replays, torneios,
+ * simulações) sem depender da aleatoriedade global de {@code Math.random()}.</p>
+ */
+public abstract class AbstractBlockShapeProvider implements BlockShapeProvider {
+    private static final int INITIAL_CAPACITY = 32;
+
+    /** Gerador de números aleatórios do provedor */
+    protected final RandomGenerator random;
+
+    private int[] queue = new int[INITIAL_CAPACITY];
+    private int head = 0;
+    private int size = 0;
+
+    /**
+     * Cria o provedor com um gerador com semente aleatória.
+     */
+    protected AbstractBlockShapeProvider() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Cria o provedor com semente fixa.
+     *
+     * @param seed A semente do gerador
+     */
+    protected AbstractBlockShapeProvider(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    /**
+     * Cria o provedor com o gerador informado.
+     *
+     * @param random O gerador de números aleatórios
+     * @throws IllegalArgumentException Se o gerador for null
+     */
+    protected AbstractBlockShapeProvider(RandomGenerator random) {
+        if (random == null) {
+            throw new IllegalArgumentException("Gerador de números aleatórios não pode ser null");
+        }
+        this.random = random;
+    }
+
+    /**
+     * Gera uma ou mais peças e as adiciona ao final da fila com {@link #enqueue(int)}.
+     */
+    protected abstract void generate();
+
+    /**
+     * Limpa o estado próprio da subclasse (histórico, saco atual) durante o {@link #reset()}.
+     */
+    protected void resetGenerator() {
+    }
+
+    /**
+     * Adiciona o código de uma peça ao final da fila.
+     */
+    protected final void enqueue(int code) {
+        if (size == queue.length) {
+            grow();
+        }
+        queue[(head + size) & (queue.length - 1)] = code;
+        size++;
+    }
+
+    private void grow() {
+        int[] larger = new int[queue.length * 2];
+        for (int i = 0; i < size; i++) {
+            larger[i] = queue[(head + i) & (queue.length - 1)];
+        }
+        queue = larger;
+        head = 0;
+    }
+
+    private void ensure(int count) {
+        while (size < count) {
+            generate();
+        }
+    }
+
+    @Override
+    public int nextCode() {
+        ensure(1);
+        int code = queue[head];
+        head = (head + 1) & (queue.length - 1);
+        size--;
+        return code;
+    }
+
+    @Override
+    public int peekCode(int offset) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Deslocamento não pode ser negativo: " + offset);
+        }
+        ensure(offset + 1);
+        return queue[(head + offset) & (queue.length - 1)];
+    }
+
+    @Override
+    public void peekCodes(int[] dest, int count) {
+        if (count < 0 || count > dest.length) {
+            throw new IllegalArgumentException("Quantidade de peças inválida: " + count);
+        }
+        ensure(count);
+        int mask = queue.length - 1;
+        for (int i = 0; i < count; i++) {
+            dest[i] = queue[(head + i) & mask];
+        }
+    }
+
+    @Override
+    public BlockShape next() {
+        return BlockShapeFactory.fromCode(nextCode());
+    }
+
+    @Override
+    public BlockShape peek() {
+        return BlockShapeFactory.fromCode(peekCode(0));
+    }
+
+    /**
+     * Descarta as peças já sorteadas e o estado da regra de geração.
+     * O gerador não volta ao início: para repetir uma sequência, crie um provedor com a mesma semente.
+     */
+    @Override
+    public void reset() {
+        head = 0;
+        size = 0;
+        resetGenerator();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return true; // Sempre tem peças disponíveis
+    }
+
+    /**
+     * Embaralha um array de valores de tipo (Fisher-Yates) com o gerador do provedor.
+     */
+    protected final void shuffle(int[] types) {
+        for (int i = types.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = types[i];
+            types[i] = types[j];
+            types[j] = tmp;
+        }
+    }
+}
@@ -2,7 +2,65 @@ package com.uneb.fluxblocks.piece.factory.provider;
 
 import com.uneb.fluxblocks.piece.entities.BlockShape;
 
+/**
+ * Fonte da sequência de peças de uma partida.
+ *
+ * <p>As peças são produzidas como códigos inteiros (valor do tipo mais o bit de vidro),
+ * e só viram um {@link BlockShape} quando são de fato usadas ({@link #next()}, {@link #peek()}
+ * ou {@link com.uneb.fluxblocks.piece.factory.BlockShapeFactory#fromCode(int)}). Assim
+ * olhar as próximas peças não aloca objetos.</p>
+ */
 public interface BlockShapeProvider {
+    /** Bits do código que guardam o valor do tipo da peça */
+    int TYPE_MASK = 0xF;
+    /** Bit do código que indica uma peça de vidro */
+    int GLASS_FLAG = 1 << 4;
+
+    /**
+     * Monta o código de uma peça.
+     *
+     * @param type O valor do tipo da peça
+     * @param glass Se a peça é de vidro
+     * @return O código da peça
+     */
+    static int encode(int type, boolean glass) {
+        return (type & TYPE_MASK) | (glass ? GLASS_FLAG : 0);
+    }
+
+    /**
+     * Extrai o valor do tipo de um código de peça.
+     */
+    static int typeOf(int code) {
+        return code & TYPE_MASK;
+    }
+
+    /**
+     * Verifica se um código de peça representa uma peça de vidro.
+     */
+    static boolean isGlass(int code) {
+        return (code & GLASS_FLAG) != 0;
+    }
+
+    /**
+     * Retorna o código da próxima peça na sequência, consumindo-a.
+     */
+    int nextCode();
+
+    /**
+     * Retorna o código de uma peça à frente na sequência sem consumi-la.
+     *
+     * @param offset Quantas peças à frente olhar (0 = próxima peça)
+     */
+    int peekCode(int offset);
+
+    /**
+     * Copia os códigos das próximas peças para um array, sem consumi-las nem alocar objetos.
+     *
+     * @param dest O array de destino
+     * @param count Quantas peças copiar, a partir da próxima
+     */
+    void peekCodes(int[] dest, int count);
+
     /**
      * Retorna a próxima peça na sequência
      */
@@ -1,62 +1,57 @@
 package com.uneb.fluxblocks.piece.factory.provider;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-
-import com.uneb.fluxblocks.piece.entities.BlockShape;
-import com.uneb.fluxblocks.piece.factory.BlockShapeFactory;
 import com.uneb.fluxblocks.piece.factory.util.BlockShapeUtil;
 
+import java.util.random.RandomGenerator;
+
 /**
  * Provedor com Seven Bag modificado: inclui a peça X exatamente uma vez por ciclo.
  *
  * <p>Cada ciclo contém as 7 peças padrão do FluxBlocks + 1 peça X,
  * embaralhadas em uma sequência aleatória de 8 peças.</p>
  */
-public class FixedExtendedBagBlockShapeProvider implements BlockShapeProvider {
+public class FixedExtendedBagBlockShapeProvider extends AbstractBlockShapeProvider {
+    /** Saco atual (7 peças padrão + 1 peça X), reutilizado a cada reabastecimento */
+    private final int[] bag = BlockShapeUtil.toTypeValues(BlockShapeUtil.EXTENDED_TYPES);
 
-    private final List<BlockShape.Type> bag = new ArrayList<>();
-    private int index = 0;
-
-    @Override
-    public BlockShape next() {
-        if (index >= bag.size()) {
-            refillBag();
-        }
-        return BlockShapeFactory.createBlockShape(bag.get(index++));
+    /**
+     * Cria um provedor com semente aleatória.
+     */
+    public FixedExtendedBagBlockShapeProvider() {
+        super();
     }
-    
-    @Override
-    public BlockShape peek() {
-        if (index >= bag.size()) {
-            refillBag();
-        }
-        return BlockShapeFactory.createBlockShape(bag.get(index));
+
+    /**
+     * Cria um provedor com semente fixa, gerando sempre a mesma sequência.
+     *
+     * @param seed A semente do gerador
+     */
+    public FixedExtendedBagBlockShapeProvider(long seed) {
+        super(seed);
     }
-    
-    @Override
-    public void reset() {
-        index = 0;
-        bag.clear();
-        refillBag();
+
+    /**
+     * Cria um provedor com o gerador informado.
+     *
+     * @param random O gerador de números aleatórios
+     */
+    public FixedExtendedBagBlockShapeProvider(RandomGenerator random) {
+        super(random);
     }
-    
+
     @Override
     public String getName() {
         return "FixedExtendedBagBlockShapeProvider";
     }
-    
-    @Override
-    public boolean hasNext() {
-        return true;
-    }
 
-    private void refillBag() {
-        bag.clear();
-        bag.addAll(BlockShapeUtil.STANDARD_TYPES); // 7 peças padrão
-        bag.add(BlockShape.Type.X);                // +1 peça X
-        Collections.shuffle(bag);
-        index = 0;
+    /**
+     * Reabastece a fila com um novo ciclo de 8 peças em ordem aleatória.
+     */
+    @Override
+    protected void generate() {
+        shuffle(bag);
+        for (int type : bag) {
+            enqueue(BlockShapeProvider.encode(type, false));
+        }
     }
 }
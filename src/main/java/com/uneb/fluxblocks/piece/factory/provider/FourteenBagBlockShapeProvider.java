@@ -1,16 +1,9 @@
 package com.uneb.fluxblocks.piece.factory.provider;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Objects;
-import java.util.Queue;
-
-import com.uneb.fluxblocks.piece.entities.BlockShape;
-import com.uneb.fluxblocks.piece.factory.BlockShapeFactory;
 import com.uneb.fluxblocks.piece.factory.util.BlockShapeUtil;
 
+import java.util.random.RandomGenerator;
+
 /**
  * Implementação de um provedor de peças que utiliza o sistema "Fourteen Bag".
  * 
@@ -24,56 +17,55 @@ import com.uneb.fluxblocks.piece.factory.util.BlockShapeUtil;
  *   <li>Reduz a previsibilidade mantendo o balanceamento</li>
  * </ul>
  */
-public class FourteenBagBlockShapeProvider implements BlockShapeProvider {
-    /** Fila que armazena as peças do saco atual */
-    private final Queue<BlockShape.Type> bag = new LinkedList<>();
+public class FourteenBagBlockShapeProvider extends AbstractBlockShapeProvider {
+    /** Saco atual com duas cópias de cada peça, reutilizado a cada reabastecimento */
+    private final int[] bag = new int[BlockShapeUtil.STANDARD_TYPES.size() * 2];
+
+    {
+        int[] types = BlockShapeUtil.toTypeValues(BlockShapeUtil.STANDARD_TYPES);
+        System.arraycopy(types, 0, bag, 0, types.length);
+        System.arraycopy(types, 0, bag, types.length, types.length);
+    }
 
     /**
-     * Retorna a próxima peça do saco.
-     * Se o saco estiver vazio, um novo conjunto de 14 peças
-     * é gerado automaticamente.
-     *
-     * @return A próxima peça do FluxBlocks a ser jogada
+     * Cria um provedor com semente aleatória.
      */
-    @Override
-    public BlockShape next() {
-        if (bag.isEmpty()) refillBag();
-        return BlockShapeFactory.createBlockShape(Objects.requireNonNull(bag.poll()));
+    public FourteenBagBlockShapeProvider() {
+        super();
     }
-    
-    @Override
-    public BlockShape peek() {
-        if (bag.isEmpty()) refillBag();
-        return BlockShapeFactory.createBlockShape(bag.peek());
+
+    /**
+     * Cria um provedor com semente fixa, gerando sempre a mesma sequência.
+     *
+     * @param seed A semente do gerador
+     */
+    public FourteenBagBlockShapeProvider(long seed) {
+        super(seed);
     }
-    
-    @Override
-    public void reset() {
-        bag.clear();
-        refillBag();
+
+    /**
+     * Cria um provedor com o gerador informado.
+     *
+     * @param random O gerador de números aleatórios
+     */
+    public FourteenBagBlockShapeProvider(RandomGenerator random) {
+        super(random);
     }
-    
+
     @Override
     public String getName() {
         return "FourteenBagBlockShapeProvider";
     }
-    
-    @Override
-    public boolean hasNext() {
-        return true;
-    }
 
     /**
-     * Reabastece o saco com um novo conjunto de 14 peças em ordem aleatória.
-     * O método cria duas cópias do conjunto básico de 7 peças, combina-as
-     * e então embaralha a ordem.
+     * Reabastece a fila com um novo conjunto de 14 peças em ordem aleatória:
+     * duas cópias do conjunto básico de 7 peças, embaralhadas juntas.
      */
-    private void refillBag() {
-        List<BlockShape.Type> doubleBag = new ArrayList<>();
-        for (int i = 0; i < 2; i++) {
-            doubleBag.addAll(BlockShapeUtil.STANDARD_TYPES);
+    @Override
+    protected void generate() {
+        shuffle(bag);
+        for (int type : bag) {
+            enqueue(BlockShapeProvider.encode(type, false));
         }
-        Collections.shuffle(doubleBag);
-        bag.addAll(doubleBag);
     }
-}
\ No newline at end of file
+}
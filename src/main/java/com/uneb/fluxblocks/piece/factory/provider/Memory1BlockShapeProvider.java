@@ -1,10 +1,8 @@
 package com.uneb.fluxblocks.piece.factory.provider;
 
-import com.uneb.fluxblocks.piece.entities.BlockShape;
-import com.uneb.fluxblocks.piece.factory.BlockShapeFactory;
 import com.uneb.fluxblocks.piece.factory.util.BlockShapeUtil;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Implementação de um provedor de peças com memória da última peça gerada.
@@ -18,54 +16,61 @@ import java.util.Random;
  *   <li>Oferece um equilíbrio entre aleatoriedade e controle de repetição</li>
  * </ul>
  */
-public class Memory1BlockShapeProvider implements BlockShapeProvider {
-    /** Gerador de números aleatórios para seleção das peças */
-    private final Random random = new Random();
-    
-    /** Armazena o tipo da última peça gerada */
-    private BlockShape.Type lastType = null;
+public class Memory1BlockShapeProvider extends AbstractBlockShapeProvider {
+    /** Valores dos tipos sorteáveis */
+    private final int[] types = BlockShapeUtil.toTypeValues(BlockShapeUtil.STANDARD_TYPES);
+
+    /** Índice em {@link #types} da última peça gerada, ou -1 */
+    private int lastIndex = -1;
 
     /**
-     * Gera e retorna um novo Tetrominó aleatório, garantindo que não seja
-     * igual à última peça gerada.
-     * 
-     * <p>O método continua gerando peças aleatórias até encontrar uma
-     * que seja diferente da última peça gerada.</p>
-     *
-     * @return Um novo Tetrominó de tipo aleatório, diferente da última peça
+     * Cria um provedor com semente aleatória.
      */
-    @Override
-    public BlockShape next() {
-        BlockShape.Type next;
-        do {
-            next = BlockShapeUtil.STANDARD_TYPES.get(random.nextInt(BlockShapeUtil.STANDARD_TYPES.size()));
-        } while (next == lastType);
-
-        lastType = next;
-        return BlockShapeFactory.createBlockShape(next);
+    public Memory1BlockShapeProvider() {
+        super();
     }
-    
-    @Override
-    public BlockShape peek() {
-        BlockShape.Type next;
-        do {
-            next = BlockShapeUtil.STANDARD_TYPES.get(random.nextInt(BlockShapeUtil.STANDARD_TYPES.size()));
-        } while (next == lastType);
-        return BlockShapeFactory.createBlockShape(next);
+
+    /**
+     * Cria um provedor com semente fixa, gerando sempre a mesma sequência.
+     *
+     * @param seed A semente do gerador
+     */
+    public Memory1BlockShapeProvider(long seed) {
+        super(seed);
     }
-    
-    @Override
-    public void reset() {
-        lastType = null;
+
+    /**
+     * Cria um provedor com o gerador informado.
+     *
+     * @param random O gerador de números aleatórios
+     */
+    public Memory1BlockShapeProvider(RandomGenerator random) {
+        super(random);
     }
-    
+
     @Override
     public String getName() {
         return "Memory1BlockShapeProvider";
     }
-    
+
+    @Override
+    protected void resetGenerator() {
+        lastIndex = -1;
+    }
+
+    /**
+     * Sorteia uma peça diferente da última, escolhendo diretamente entre os tipos restantes.
+     */
     @Override
-    public boolean hasNext() {
-        return true;
+    protected void generate() {
+        int index;
+        if (lastIndex < 0) {
+            index = random.nextInt(types.length);
+        } else {
+            index = random.nextInt(types.length - 1);
+            if (index >= lastIndex) index++;
+        }
+        lastIndex = index;
+        enqueue(BlockShapeProvider.encode(types[index], false));
     }
-}
\ No newline at end of file
+}
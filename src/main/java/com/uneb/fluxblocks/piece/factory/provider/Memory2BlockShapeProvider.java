@@ -1,12 +1,8 @@
 package com.uneb.fluxblocks.piece.factory.provider;
 
-import com.uneb.fluxblocks.piece.entities.BlockShape;
-import com.uneb.fluxblocks.piece.factory.BlockShapeFactory;
 import com.uneb.fluxblocks.piece.factory.util.BlockShapeUtil;
 
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Implementação de um provedor de peças com memória das duas últimas peças geradas.
@@ -21,61 +17,66 @@ import java.util.Random;
  *   <li>Combina aleatoriedade com controle de repetição</li>
  * </ul>
  */
-public class Memory2BlockShapeProvider implements BlockShapeProvider {
-    /** Gerador de números aleatórios para seleção das peças */
-    private final Random random = new Random();
-    
-    /** Lista que mantém o histórico das duas últimas peças geradas */
-    private final LinkedList<BlockShape.Type> history = new LinkedList<>();
+public class Memory2BlockShapeProvider extends AbstractBlockShapeProvider {
+    /** Valores dos tipos sorteáveis */
+    private final int[] types = BlockShapeUtil.toTypeValues(BlockShapeUtil.STANDARD_TYPES);
+
+    /** Índices em {@link #types} da penúltima e da última peça geradas, ou -1 */
+    private int olderIndex = -1;
+    private int lastIndex = -1;
 
     /**
-     * Gera e retorna um novo Tetrominó aleatório, garantindo que não seja
-     * igual a nenhuma das duas últimas peças geradas.
-     * 
-     * <p>O método continua gerando peças aleatórias até encontrar uma
-     * que não esteja no histórico das duas últimas peças.</p>
-     *
-     * @return Um novo Tetrominó de tipo aleatório, diferente das duas últimas peças
+     * Cria um provedor com semente aleatória.
      */
-    @Override
-    public BlockShape next() {
-        BlockShape.Type next;
-
-        do {
-            List<BlockShape.Type> validTypes = BlockShapeUtil.STANDARD_TYPES;
-            next = validTypes.get(random.nextInt(validTypes.size()));
-        } while (history.contains(next));
-
-        if (history.size() == 2) {
-            history.removeFirst();
-        }
-
-        history.addLast(next);
-        return BlockShapeFactory.createBlockShape(next);
+    public Memory2BlockShapeProvider() {
+        super();
     }
-    
-    @Override
-    public BlockShape peek() {
-        BlockShape.Type next;
-        do {
-            List<BlockShape.Type> validTypes = BlockShapeUtil.STANDARD_TYPES;
-            next = validTypes.get(random.nextInt(validTypes.size()));
-        } while (history.contains(next));
-        return BlockShapeFactory.createBlockShape(next);
+
+    /**
+     * Cria um provedor com semente fixa, gerando sempre a mesma sequência.
+     *
+     * @param seed A semente do gerador
+     */
+    public Memory2BlockShapeProvider(long seed) {
+        super(seed);
     }
-    
-    @Override
-    public void reset() {
-        history.clear();
+
+    /**
+     * Cria um provedor com o gerador informado.
+     *
+     * @param random O gerador de números aleatórios
+     */
+    public Memory2BlockShapeProvider(RandomGenerator random) {
+        super(random);
     }
-    
+
     @Override
     public String getName() {
         return "Memory2BlockShapeProvider";
     }
-    
+
+    @Override
+    protected void resetGenerator() {
+        olderIndex = -1;
+        lastIndex = -1;
+    }
+
+    /**
+     * Sorteia uma peça fora do histórico das duas últimas, escolhendo diretamente
+     * entre os tipos restantes (sem sortear de novo em caso de repetição).
+     */
     @Override
-    public boolean hasNext() {
-        return true;
+    protected void generate() {
+        int low = Math.min(olderIndex, lastIndex);
+        int high = Math.max(olderIndex, lastIndex);
+        int excluded = (low >= 0 ? 1 : 0) + (high >= 0 ? 1 : 0);
+
+        int index = random.nextInt(types.length - excluded);
+        if (low >= 0 && index >= low) index++;
+        if (high >= 0 && index >= high) index++;
+
+        olderIndex = lastIndex;
+        lastIndex = index;
+        enqueue(BlockShapeProvider.encode(types[index], false));
     }
-}
\ No newline at end of file
+}
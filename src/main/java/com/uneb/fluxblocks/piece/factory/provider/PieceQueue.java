@@ -0,0 +1,92 @@
+package com.uneb.fluxblocks.piece.factory.provider;
+
+/**
+ * Fila de prévia das próximas peças de um jogador, guardada como códigos de peça.
+ *
+ * <p>É um buffer circular de capacidade fixa que está sempre cheio: cada peça consumida
+ * em {@link #poll()} é reposta por uma nova peça do {@link BlockShapeProvider}, que por sua
+ * vez gera as peças em blocos do tamanho do saco. Como a fila pertence ao jogador, a prévia
+ * continua correta mesmo quando o provedor é compartilhado entre jogadores.</p>
+ */
+public class PieceQueue {
+    private final BlockShapeProvider provider;
+    private final int[] codes;
+    private int head = 0;
+
+    /**
+     * Cria uma fila já preenchida com as próximas peças do provedor.
+     *
+     * @param provider O provedor da sequência de peças
+     * @param capacity Quantas peças a fila mostra
+     * @throws IllegalArgumentException Se o provedor for null ou a capacidade não for positiva
+     */
+    public PieceQueue(BlockShapeProvider provider, int capacity) {
+        if (provider == null) {
+            throw new IllegalArgumentException("Provedor de peças não pode ser null");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacidade da fila deve ser maior que zero: " + capacity);
+        }
+        this.provider = provider;
+        this.codes = new int[capacity];
+        refill();
+    }
+
+    /**
+     * Descarta as peças da fila e a preenche novamente com as próximas peças do provedor.
+     */
+    public void refill() {
+        head = 0;
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = provider.nextCode();
+        }
+    }
+
+    /**
+     * Retira a primeira peça da fila e repõe uma nova no final.
+     *
+     * @return O código da peça retirada
+     */
+    public int poll() {
+        int code = codes[head];
+        codes[head] = provider.nextCode();
+        head = (head + 1) % codes.length;
+        return code;
+    }
+
+    /**
+     * Retorna o código de uma peça da fila sem retirá-la.
+     *
+     * @param index A posição na fila (0 = próxima peça)
+     */
+    public int peek(int index) {
+        if (index < 0 || index >= codes.length) {
+            throw new IllegalArgumentException("Posição fora da fila: " + index);
+        }
+        return codes[(head + index) % codes.length];
+    }
+
+    /**
+     * Copia a fila, da próxima peça para a última, para o array informado.
+     *
+     * @param dest O array de destino, com pelo menos {@link #capacity()} posições
+     */
+    public void copyTo(int[] dest) {
+        for (int i = 0; i < codes.length; i++) {
+            dest[i] = codes[(head + i) % codes.length];
+        }
+    }
+
+    /**
+     * Retorna uma cópia da fila, da próxima peça para a última.
+     */
+    public int[] toArray() {
+        int[] copy = new int[codes.length];
+        copyTo(copy);
+        return copy;
+    }
+
+    public int capacity() {
+        return codes.length;
+    }
+}
@@ -1,10 +1,8 @@
 package com.uneb.fluxblocks.piece.factory.provider;
 
-import com.uneb.fluxblocks.piece.entities.BlockShape;
-import com.uneb.fluxblocks.piece.factory.BlockShapeFactory;
 import com.uneb.fluxblocks.piece.factory.util.BlockShapeUtil;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Implementação de um provedor de peças que gera Tetrominós de forma completamente aleatória.
@@ -19,44 +17,45 @@ import java.util.Random;
  *   <li>Oferece maior imprevisibilidade na sequência de peças</li>
  * </ul>
  */
-public class RandomBlockShapeProvider implements BlockShapeProvider {
-    /** Gerador de números aleatórios utilizado para selecionar as peças */
-    private final Random random = new Random();
+public class RandomBlockShapeProvider extends AbstractBlockShapeProvider {
+    /** Valores dos tipos sorteáveis */
+    private final int[] types = BlockShapeUtil.toTypeValues(BlockShapeUtil.STANDARD_TYPES);
 
     /**
-     * Gera e retorna um novo Tetrominó aleatório.
-     * 
-     * <p>O tipo do Tetrominó é selecionado aleatoriamente dentre todos
-     * os tipos válidos disponíveis no jogo.</p>
-     *
-     * @return Um novo Tetrominó de tipo aleatório
+     * Cria um provedor com semente aleatória.
      */
-    @Override
-    public BlockShape next() {
-        BlockShape.Type randomType = BlockShapeUtil.STANDARD_TYPES.get(
-                random.nextInt(BlockShapeUtil.STANDARD_TYPES.size())
-        );
-        return BlockShapeFactory.createBlockShape(randomType);
+    public RandomBlockShapeProvider() {
+        super();
     }
-    
-    @Override
-    public BlockShape peek() {
-        // Para random, peek é o mesmo que next
-        return next();
+
+    /**
+     * Cria um provedor com semente fixa, gerando sempre a mesma sequência.
+     *
+     * @param seed A semente do gerador
+     */
+    public RandomBlockShapeProvider(long seed) {
+        super(seed);
     }
-    
-    @Override
-    public void reset() {
-        // Random provider não precisa de reset
+
+    /**
+     * Cria um provedor com o gerador informado.
+     *
+     * @param random O gerador de números aleatórios
+     */
+    public RandomBlockShapeProvider(RandomGenerator random) {
+        super(random);
     }
-    
+
     @Override
     public String getName() {
         return "RandomBlockShapeProvider";
     }
-    
+
+    /**
+     * Sorteia uma peça dentre todos os tipos válidos.
+     */
     @Override
-    public boolean hasNext() {
-        return true; // Sempre tem peças disponíveis
+    protected void generate() {
+        enqueue(BlockShapeProvider.encode(types[random.nextInt(types.length)], false));
     }
-}
\ No newline at end of file
+}
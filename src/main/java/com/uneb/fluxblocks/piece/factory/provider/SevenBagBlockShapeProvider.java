@@ -1,11 +1,7 @@
 package com.uneb.fluxblocks.piece.factory.provider;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.random.RandomGenerator;
 
-import com.uneb.fluxblocks.piece.entities.BlockShape;
-import com.uneb.fluxblocks.piece.factory.BlockShapeFactory;
 import com.uneb.fluxblocks.piece.factory.util.BlockShapeUtil;
 
 /**
@@ -22,80 +18,52 @@ import com.uneb.fluxblocks.piece.factory.util.BlockShapeUtil;
  *   <li>A sequência dentro de cada conjunto de 7 peças é aleatória</li>
  *   <li>Nunca haverá uma "seca" muito longa de qualquer peça específica</li>
  * </ul>
+ * <p>Em cada saco, uma das peças (sorteada) é de vidro.</p>
  */
-public class SevenBagBlockShapeProvider implements BlockShapeProvider {
-    /** Fila que armazena as peças do saco atual */
-    private final List<BlockShape.Type> bag = new ArrayList<>();
-    private final List<Boolean> glassBag = new ArrayList<>();
-    private int index = 0;
+public class SevenBagBlockShapeProvider extends AbstractBlockShapeProvider {
+    /** Saco atual, reutilizado a cada reabastecimento */
+    private final int[] bag = BlockShapeUtil.toTypeValues(BlockShapeUtil.STANDARD_TYPES);
 
     /**
-     * Retorna a próxima peça do saco.
-     * Se o saco estiver vazio, um novo conjunto de 7 peças
-     * é gerado automaticamente.
-     *
-     * @return A próxima peça do FluxBlocks a ser jogada
+     * Cria um provedor com semente aleatória.
      */
-    @Override
-    public BlockShape next() {
-        if (index >= bag.size()) {
-            refillBag();
-        }
-        BlockShape.Type type = bag.get(index);
-        boolean isGlass = glassBag.get(index);
-        index++;
-        return BlockShapeFactory.createBlockShape(type, isGlass);
+    public SevenBagBlockShapeProvider() {
+        super();
     }
-    
-    @Override
-    public BlockShape peek() {
-        if (index >= bag.size()) {
-            refillBag();
-        }
-        BlockShape.Type type = bag.get(index);
-        boolean isGlass = glassBag.get(index);
-        return BlockShapeFactory.createBlockShape(type, isGlass);
+
+    /**
+     * Cria um provedor com semente fixa, gerando sempre a mesma sequência.
+     *
+     * @param seed A semente do gerador
+     */
+    public SevenBagBlockShapeProvider(long seed) {
+        super(seed);
     }
-    
-    @Override
-    public void reset() {
-        index = 0;
-        bag.clear();
-        glassBag.clear();
-        refillBag();
+
+    /**
+     * Cria um provedor com o gerador informado.
+     *
+     * @param random O gerador de números aleatórios
+     */
+    public SevenBagBlockShapeProvider(RandomGenerator random) {
+        super(random);
     }
-    
+
     @Override
     public String getName() {
         return "SevenBagBlockShapeProvider";
     }
-    
-    @Override
-    public boolean hasNext() {
-        return true; // Sempre tem peças disponíveis
-    }
 
     /**
-     * Reabastece o saco com um novo conjunto de 7 peças em ordem aleatória.
-     * Este método é chamado automaticamente quando o saco fica vazio.
+     * Reabastece a fila com um novo conjunto de 7 peças em ordem aleatória,
+     * sorteando qual delas será de vidro.
      */
-    private void refillBag() {
-        bag.clear();
-        glassBag.clear();
-        List<BlockShape.Type> allTypes = new ArrayList<>(BlockShapeUtil.STANDARD_TYPES);
-        bag.addAll(allTypes);
-        // Sorteia um índice para ser vidro
-        int glassIndex = (int) (Math.random() * allTypes.size());
-        for (int i = 0; i < allTypes.size(); i++) {
-            glassBag.add(i == glassIndex);
-        }
-        Collections.shuffle(bag);
-        // Embaralha glassBag na mesma ordem de bag
-        List<Boolean> tempGlassBag = new ArrayList<>(glassBag);
-        for (int i = 0; i < bag.size(); i++) {
-            int originalIndex = allTypes.indexOf(bag.get(i));
-            glassBag.set(i, tempGlassBag.get(originalIndex));
+    @Override
+    protected void generate() {
+        int glassType = bag[random.nextInt(bag.length)];
+        shuffle(bag);
+        for (int type : bag) {
+            enqueue(BlockShapeProvider.encode(type, type == glassType));
         }
-        index = 0;
     }
-}
\ No newline at end of file
+}
@@ -18,4 +18,18 @@ public class BlockShapeUtil {
             BlockShape.Type.O, BlockShape.Type.S, BlockShape.Type.T,
             BlockShape.Type.Z, BlockShape.Type.X
     );
+
+    /**
+     * Converte uma lista de tipos no array dos seus valores, para uso em sorteios sem alocação.
+     *
+     * @param types Os tipos de peça
+     * @return Um novo array com o valor de cada tipo, na mesma ordem
+     */
+    public static int[] toTypeValues(List<BlockShape.Type> types) {
+        int[] values = new int[types.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = types.get(i).getValue();
+        }
+        return values;
+    }
 }
@@ -5,6 +5,7 @@ import com.uneb.fluxblocks.architecture.mediators.GameMediator;
 import com.uneb.fluxblocks.piece.collision.CollisionDetector;
 import com.uneb.fluxblocks.piece.collision.StandardCollisionDetector;
 import com.uneb.fluxblocks.piece.entities.BlockShape;
+import com.uneb.fluxblocks.piece.entities.ShapeDefinition;
 import com.uneb.fluxblocks.piece.timing.LockDelayHandler;
 
 /**
@@ -47,12 +48,12 @@ public class PieceMovementHandler {
         boolean moved = tryMove(piece, -1, 0);
 
         if (moved) {
-            mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_LEFT, new UiEvents.BoardEvent(playerId));
-            mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_RIGHT, new UiEvents.BoardEvent(playerId));
+            mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_LEFT, UiEvents.BoardEvent.of(playerId));
+            mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_RIGHT, UiEvents.BoardEvent.of(playerId));
             boolean isAtRest = ((StandardCollisionDetector) collisionDetector).isAtRestingPosition(piece);
             lockDelayHandler.resetLockDelay(piece, isAtRest);
         } else {
-            mediator.emit(UiEvents.PIECE_PUSHING_WALL_LEFT, new UiEvents.BoardEvent(playerId));
+            mediator.emit(UiEvents.PIECE_PUSHING_WALL_LEFT, UiEvents.BoardEvent.of(playerId));
         }
         return moved;
     }
@@ -67,12 +68,12 @@ public class PieceMovementHandler {
         boolean moved = tryMove(piece, 1, 0);
 
         if (moved) {
-            mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_RIGHT, new UiEvents.BoardEvent(playerId));
-            mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_LEFT, new UiEvents.BoardEvent(playerId));
+            mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_RIGHT, UiEvents.BoardEvent.of(playerId));
+            mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_LEFT, UiEvents.BoardEvent.of(playerId));
             boolean isAtRest = ((StandardCollisionDetector) collisionDetector).isAtRestingPosition(piece);
             lockDelayHandler.resetLockDelay(piece, isAtRest);
         } else {
-            mediator.emit(UiEvents.PIECE_PUSHING_WALL_RIGHT, new UiEvents.BoardEvent(playerId));
+            mediator.emit(UiEvents.PIECE_PUSHING_WALL_RIGHT, UiEvents.BoardEvent.of(playerId));
         }
         return moved;
     }
@@ -92,8 +93,8 @@ public class PieceMovementHandler {
         if (moved) {
             lockDelayHandler.resetLockDelay(piece, ((StandardCollisionDetector) collisionDetector).isAtRestingPosition(piece));
             softDropDistance++;
-            mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_LEFT, new UiEvents.BoardEvent(playerId));
-            mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_RIGHT, new UiEvents.BoardEvent(playerId));
+            mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_LEFT, UiEvents.BoardEvent.of(playerId));
+            mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_RIGHT, UiEvents.BoardEvent.of(playerId));
         }
         return moved;
     }
@@ -129,8 +130,8 @@ public class PieceMovementHandler {
             ));
             distance++;
         }
-        mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_LEFT, new UiEvents.BoardEvent(this.playerId));
-        mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_RIGHT, new UiEvents.BoardEvent(this.playerId));
+        mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_LEFT, UiEvents.BoardEvent.of(this.playerId));
+        mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_RIGHT, UiEvents.BoardEvent.of(this.playerId));
 
         resetSoftDropTracking();
         return distance;
@@ -143,30 +144,12 @@ public class PieceMovementHandler {
      * @return Array com [largura, altura] da peça
      */
     private int[] calculatePieceDimensions(BlockShape piece) {
-        if (piece.getCells().isEmpty()) {
+        if (piece.getCellCount() == 0) {
             return new int[]{1, 1}; // Fallback
         }
 
-        int minX = Integer.MAX_VALUE;
-        int maxX = Integer.MIN_VALUE;
-        int minY = Integer.MAX_VALUE;
-        int maxY = Integer.MIN_VALUE;
-
-        // Encontra os limites da peça baseado nas posições relativas das células
-        for (var cell : piece.getCells()) {
-            int relativeX = cell.getX() - piece.getX(); // Posição relativa ao centro
-            int relativeY = cell.getY() - piece.getY(); // Posição relativa ao centro
-
-            minX = Math.min(minX, relativeX);
-            maxX = Math.max(maxX, relativeX);
-            minY = Math.min(minY, relativeY);
-            maxY = Math.max(maxY, relativeY);
-        }
-
-        int width = maxX - minX + 1;
-        int height = maxY - minY + 1;
-
-        return new int[]{width, height};
+        ShapeDefinition definition = piece.getDefinition();
+        return new int[]{definition.getWidth(), definition.getHeight()};
     }
 
     /**
@@ -221,7 +204,7 @@ public class PieceMovementHandler {
      * Chamado quando uma nova peça é gerada ou rotacionada.
      */
     public void resetWallPushState() {
-        mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_LEFT, new UiEvents.BoardEvent(playerId));
-        mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_RIGHT, new UiEvents.BoardEvent(playerId));
+        mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_LEFT, UiEvents.BoardEvent.of(playerId));
+        mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_RIGHT, UiEvents.BoardEvent.of(playerId));
     }
 }
\ No newline at end of file
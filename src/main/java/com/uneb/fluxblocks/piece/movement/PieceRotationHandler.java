@@ -1,7 +1,7 @@
 package com.uneb.fluxblocks.piece.movement;
 
-import com.almasb.fxgl.dsl.FXGL;
-import com.uneb.fluxblocks.configuration.GameConfig;
+import com.uneb.fluxblocks.architecture.interfaces.GameClock;
+import com.uneb.fluxblocks.configuration.GameRules;
 import com.uneb.fluxblocks.piece.collision.CollisionDetector;
 import com.uneb.fluxblocks.piece.collision.SpinDetector;
 import com.uneb.fluxblocks.piece.collision.TripleSpinDetector;
@@ -13,16 +13,24 @@ import com.uneb.fluxblocks.piece.timing.LockDelayHandler;
  * Gerencia a rotação das peças no jogo FluxBlocks.
  * 
  * <p>Esta classe implementa o sistema SRS (Super Rotation System) completo,
- * incluindo wall kicks específicos para cada tipo de peça e detecção de Spins.</p>
+ * incluindo wall kicks específicos para cada tipo de peça e detecção de Spins.
+ * O estado de rotação (0-3) de cada peça escolhe a linha da {@link SrsKickTable} usada.</p>
  * 
  * <p>O sistema SRS permite que as peças sejam rotacionadas mesmo quando
  * há obstáculos próximos, desde que haja espaço suficiente após o wall kick.</p>
  */
 public class PieceRotationHandler {
+    private static final SpinDetector.SpinType[] SPIN_TYPES = SpinDetector.SpinType.values();
+    private static final TripleSpinDetector.TripleSpinType[] TRIPLE_SPIN_TYPES = TripleSpinDetector.TripleSpinType.values();
+
     private final CollisionDetector collisionDetector;
     private final SpinDetector spinDetector;
     private final TripleSpinDetector tripleSpinDetector;
     private final LockDelayHandler lockDelayHandler;
+    private final GameClock clock;
+    /** Atraso da primeira rotação e das repetições, em segundos */
+    private final double rotateInitialDelay;
+    private final double rotateRepeatDelay;
 
     /** Timestamp da última rotação realizada */
     private double lastRotateTime = 0;
@@ -36,54 +44,25 @@ public class PieceRotationHandler {
     /** Último Triple Spin detectado */
     private TripleSpinDetector.TripleSpinType lastTripleSpin = TripleSpinDetector.TripleSpinType.NONE;
 
-    /** Tabelas de wall kicks do SRS para cada tipo de peça */
-    private static final int[][][] SRS_WALL_KICKS = {
-        // I-Piece (específico)
-        {
-            // 0>>1
-            {0, 0}, {-2, 0}, {1, 0}, {-2, -1}, {1, 2},
-            // 1>>2
-            {0, 0}, {-1, 0}, {2, 0}, {-1, 2}, {2, -1},
-            // 2>>3
-            {0, 0}, {2, 0}, {-1, 0}, {2, 1}, {-1, -2},
-            // 3>>0
-            {0, 0}, {1, 0}, {-2, 0}, {1, -2}, {-2, 1}
-        },
-        // J, L, S, T, Z (compartilham a mesma tabela)
-        {
-            // 0>>1
-            {0, 0}, {-1, 0}, {-1, 1}, {0, -2}, {-1, -2},
-            // 1>>2
-            {0, 0}, {1, 0}, {1, -1}, {0, 2}, {1, 2},
-            // 2>>3
-            {0, 0}, {1, 0}, {1, 1}, {0, -2}, {1, -2},
-            // 3>>0
-            {0, 0}, {-1, 0}, {-1, -1}, {0, 2}, {-1, 2}
-        },
-        // X-Piece (específico - wall kicks mais conservadores)
-        {
-            // 0>>1 (rotação 0 para 1)
-            {0, 0}, {-1, 0}, {1, 0}, {0, -1}, {0, 1},
-            // 1>>2 (rotação 1 para 2)
-            {0, 0}, {0, -1}, {0, 1}, {-1, 0}, {1, 0},
-            // 2>>3 (rotação 2 para 3)
-            {0, 0}, {1, 0}, {-1, 0}, {0, 1}, {0, -1},
-            // 3>>0 (rotação 3 para 0)
-            {0, 0}, {0, 1}, {0, -1}, {1, 0}, {-1, 0}
-        }
-    };
-
     /**
      * Cria um novo gerenciador de rotação de peças.
      *
      * @param collisionDetector Detector de colisão para verificar posições válidas
+     * @param lockDelayHandler Gerenciador de lock delay da peça atual
+     * @param clock Relógio usado para o cooldown de rotação
+     * @param rules Regras da partida (atrasos de rotação)
      */
     public PieceRotationHandler(CollisionDetector collisionDetector,
-                                LockDelayHandler lockDelayHandler) {
+                                LockDelayHandler lockDelayHandler,
+                                GameClock clock,
+                                GameRules rules) {
         this.collisionDetector = collisionDetector;
         this.spinDetector = new SpinDetector(((StandardCollisionDetector) collisionDetector).getBoard());
         this.tripleSpinDetector = new TripleSpinDetector(((StandardCollisionDetector) collisionDetector).getBoard());
         this.lockDelayHandler = lockDelayHandler;
+        this.clock = clock;
+        this.rotateInitialDelay = rules.getRotateInitialDelay() / 1000.0;
+        this.rotateRepeatDelay = rules.getRotateRepeatDelay() / 1000.0;
     }
 
     /**
@@ -94,29 +73,7 @@ public class PieceRotationHandler {
      */
     public boolean rotateClockwise(BlockShape piece) {
         if (!canRotate(piece)) return false;
-
-        // Guarda a posição original para detecção de Spin
-        int originalX = piece.getX();
-        int originalY = piece.getY();
-        int[] originalPosition = {originalX, originalY};
-
-        RotationResult result = attemptRotationWithSRS(piece);
-        
-        if (!result.success) {
-            resetToOriginalPosition(piece, result.originalX, result.originalY);
-            lastSpin = SpinDetector.SpinType.NONE;
-            lastTripleSpin = TripleSpinDetector.TripleSpinType.NONE;
-            return false;
-        }
-
-        // Detecta Spin após rotação bem-sucedida
-        lastSpin = spinDetector.detectSpin(piece, true, originalPosition);
-        
-        // Detecta Triple Spin
-        lastTripleSpin = tripleSpinDetector.detectTripleSpin(piece, true, originalPosition);
-
-        completeSuccessfulRotation(piece);
-        return true;
+        return rotateTo(piece, (piece.getRotation() + 1) & 3);
     }
 
     /**
@@ -127,118 +84,44 @@ public class PieceRotationHandler {
      */
     public boolean rotateCounterClockwise(BlockShape piece) {
         if (!canRotate(piece)) return false;
-
-        // Guarda a posição original para detecção de Spin
-        int originalX = piece.getX();
-        int originalY = piece.getY();
-        int[] originalPosition = {originalX, originalY};
-
-        // Para rotação anti-horária, fazemos 3 rotações horárias
-        piece.rotate();
-        piece.rotate();
-        piece.rotate();
-
-        // Verifica se a nova posição é válida
-        if (((StandardCollisionDetector) collisionDetector).isValidPosition(piece)) {
-            // Detecta Spin após rotação bem-sucedida
-            lastSpin = spinDetector.detectSpin(piece, true, originalPosition);
-            lastTripleSpin = tripleSpinDetector.detectTripleSpin(piece, true, originalPosition);
-            completeSuccessfulRotation(piece);
-            return true;
-        }
-
-        // Tenta wall kicks se a posição não for válida
-        RotationResult result = trySRSWallKicks(piece, originalX, originalY);
-        
-        if (!result.success) {
-            // Reverte as 3 rotações
-            piece.rotate();
-            piece.rotate();
-            piece.rotate();
-            resetToOriginalPosition(piece, result.originalX, result.originalY);
-            lastSpin = SpinDetector.SpinType.NONE;
-            lastTripleSpin = TripleSpinDetector.TripleSpinType.NONE;
-            return false;
-        }
-
-        // Detecta Spin após rotação bem-sucedida
-        lastSpin = spinDetector.detectSpin(piece, true, originalPosition);
-        lastTripleSpin = tripleSpinDetector.detectTripleSpin(piece, true, originalPosition);
-        completeSuccessfulRotation(piece);
-        return true;
+        return rotateTo(piece, (piece.getRotation() + 3) & 3);
     }
 
     /**
-     * Tenta rotacionar a peça com sistema SRS completo.
+     * Rotaciona uma peça em 180°.
      *
-     * @param piece A peça a rotacionar
-     * @return Resultado da tentativa de rotação
+     * @param piece A peça a ser rotacionada
+     * @return true se a rotação foi bem-sucedida
      */
-    private RotationResult attemptRotationWithSRS(BlockShape piece) {
-        int originalX = piece.getX();
-        int originalY = piece.getY();
-
-        piece.rotate();
-        if (((StandardCollisionDetector) collisionDetector).isValidPosition(piece)) {
-            return new RotationResult(true, originalX, originalY);
-        }
-
-        return trySRSWallKicks(piece, originalX, originalY);
+    public boolean rotate180(BlockShape piece) {
+        if (!canRotate(piece)) return false;
+        return rotateTo(piece, (piece.getRotation() + 2) & 3);
     }
 
     /**
-     * Tenta aplicar wall kicks do SRS para permitir a rotação.
+     * Resolve a rotação pela tabela de wall kicks da transição, testando os deslocamentos
+     * contra as máscaras de colisão antes de alterar a peça. Só o deslocamento vencedor é aplicado.
      *
      * @param piece A peça atual
-     * @param originalX Posição X original
-     * @param originalY Posição Y original
-     * @return Resultado da tentativa de rotação
+     * @param toRotation O estado de rotação desejado (0-3)
+     * @return true se algum deslocamento levou a uma posição válida
      */
-    private RotationResult trySRSWallKicks(BlockShape piece, int originalX, int originalY) {
-        int[][] wallKicks = getWallKicksForPiece(piece);
-        
-        for (int[] kick : wallKicks) {
-            piece.move(kick[0], kick[1]);
-            if (((StandardCollisionDetector) collisionDetector).isValidPosition(piece)) {
-                return new RotationResult(true, originalX, originalY);
-            }
-            piece.move(-kick[0], -kick[1]); // Volta à posição anterior
+    private boolean rotateTo(BlockShape piece, int toRotation) {
+        int kick = SrsKickTable.findKick((StandardCollisionDetector) collisionDetector, piece, toRotation);
+        if (kick == SrsKickTable.NO_KICK) {
+            lastSpin = SpinDetector.SpinType.NONE;
+            lastTripleSpin = TripleSpinDetector.TripleSpinType.NONE;
+            return false;
         }
 
-        return new RotationResult(false, originalX, originalY);
-    }
+        SrsKickTable.applyKick(piece, toRotation, kick);
 
-    /**
-     * Obtém a tabela de wall kicks apropriada para o tipo de peça.
-     *
-     * @param piece A peça atual
-     * @return Array de wall kicks para testar
-     */
-    private int[][] getWallKicksForPiece(BlockShape piece) {
-        if (piece.getType() == BlockShape.Type.I.getValue()) {
-            return SRS_WALL_KICKS[0]; // I-piece tem tabela específica
-        } else if (piece.getType() == BlockShape.Type.O.getValue()) {
-            return new int[0][0]; // O-piece não tem wall kicks (não rotaciona)
-        } else if (piece.getType() == BlockShape.Type.X.getValue()) {
-            return SRS_WALL_KICKS[2]; // X-piece tem tabela específica
-        } else {
-            return SRS_WALL_KICKS[1]; // J, L, S, T, Z compartilham tabela
-        }
-    }
+        // Os cantos da T são lidos na posição final; a posição de origem não entra na regra
+        lastSpin = SPIN_TYPES[spinDetector.detectSpinOrdinal(piece)];
+        lastTripleSpin = TRIPLE_SPIN_TYPES[tripleSpinDetector.detectTripleSpinOrdinal(piece)];
 
-    /**
-     * Retorna a peça à posição original caso a rotação falhe.
-     *
-     * @param piece A peça atual
-     * @param x Posição X original
-     * @param y Posição Y original
-     */
-    private void resetToOriginalPosition(BlockShape piece, int x, int y) {
-        // Reverte a rotação (3 rotações no sentido horário = 1 no anti-horário)
-        piece.rotate();
-        piece.rotate();
-        piece.rotate();
-        piece.setPosition(x, y);
+        completeSuccessfulRotation(piece);
+        return true;
     }
 
     /**
@@ -259,8 +142,8 @@ public class PieceRotationHandler {
      * @return true se a rotação está em cooldown
      */
     private boolean isRotationOnCooldown() {
-        double currentTime = FXGL.getGameTimer().getNow();
-        double requiredDelay = isFirstRotate ? GameConfig.ROTATE_INITIAL_DELAY / 1000.0 : GameConfig.ROTATE_REPEAT_DELAY / 1000.0;
+        double currentTime = clock.getNow();
+        double requiredDelay = isFirstRotate ? rotateInitialDelay : rotateRepeatDelay;
         return currentTime - lastRotateTime < requiredDelay;
     }
 
@@ -273,7 +156,7 @@ public class PieceRotationHandler {
         boolean isAtRest = ((StandardCollisionDetector) collisionDetector).isAtRestingPosition(piece);
         lockDelayHandler.resetLockDelay(piece, isAtRest);
 
-        lastRotateTime = FXGL.getGameTimer().getNow();
+        lastRotateTime = clock.getNow();
         isFirstRotate = false;
     }
 
@@ -316,19 +199,4 @@ public class PieceRotationHandler {
         lastTripleSpin = TripleSpinDetector.TripleSpinType.NONE;
         tripleSpinDetector.resetConsecutiveSpins();
     }
-
-    /**
-     * Classe interna para armazenar o resultado de uma tentativa de rotação.
-     */
-    private static class RotationResult {
-        boolean success;
-        int originalX;
-        int originalY;
-
-        RotationResult(boolean success, int originalX, int originalY) {
-            this.success = success;
-            this.originalX = originalX;
-            this.originalY = originalY;
-        }
-    }
-}
\ No newline at end of file
+}
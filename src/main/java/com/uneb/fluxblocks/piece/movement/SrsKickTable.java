@@ -0,0 +1,171 @@
+package com.uneb.fluxblocks.piece.movement;
+
+import com.uneb.fluxblocks.piece.collision.MaskCollisionDetector;
+import com.uneb.fluxblocks.piece.collision.PieceMaskTable;
+import com.uneb.fluxblocks.piece.collision.StandardCollisionDetector;
+import com.uneb.fluxblocks.piece.entities.BlockShape;
+
+/**
+ * Tabelas de wall kicks do SRS (Super Rotation System) pré-calculadas por transição de rotação.
+ *
+ * <p>Para cada família de peças (I; J, L, S, T, Z; X) e cada par de estados (origem, destino)
+ * existe uma lista de deslocamentos {@code dx, dy} a testar em ordem. A rotação horária usa a
+ * linha da tabela SRS do estado de origem; a anti-horária usa a mesma linha da transição
+ * inversa com os deslocamentos negados; a de 180° usa uma tabela curta comum a todas as peças.</p>
+ *
+ * <p>{@link #findKick} testa os deslocamentos contra as máscaras de colisão sem alterar a peça,
+ * e {@link #applyKick} aplica apenas o deslocamento vencedor.</p>
+ */
+public final class SrsKickTable {
+    /** Indica que nenhum deslocamento da tabela leva a uma posição válida */
+    public static final int NO_KICK = -1;
+
+    private static final int FAMILY_I = 0;
+    private static final int FAMILY_JLSTZ = 1;
+    private static final int FAMILY_X = 2;
+
+    /** Deslocamentos das rotações horárias (estado r para r+1), por família */
+    private static final int[][][] CLOCKWISE_KICKS = {
+        // I-Piece (específico)
+        {
+            // 0>>1
+            {0, 0, -2, 0, 1, 0, -2, -1, 1, 2},
+            // 1>>2
+            {0, 0, -1, 0, 2, 0, -1, 2, 2, -1},
+            // 2>>3
+            {0, 0, 2, 0, -1, 0, 2, 1, -1, -2},
+            // 3>>0
+            {0, 0, 1, 0, -2, 0, 1, -2, -2, 1}
+        },
+        // J, L, S, T, Z (compartilham a mesma tabela)
+        {
+            // 0>>1
+            {0, 0, -1, 0, -1, 1, 0, -2, -1, -2},
+            // 1>>2
+            {0, 0, 1, 0, 1, -1, 0, 2, 1, 2},
+            // 2>>3
+            {0, 0, 1, 0, 1, 1, 0, -2, 1, -2},
+            // 3>>0
+            {0, 0, -1, 0, -1, -1, 0, 2, -1, 2}
+        },
+        // X-Piece (específico - wall kicks mais conservadores)
+        {
+            // 0>>1
+            {0, 0, -1, 0, 1, 0, 0, -1, 0, 1},
+            // 1>>2
+            {0, 0, 0, -1, 0, 1, -1, 0, 1, 0},
+            // 2>>3
+            {0, 0, 1, 0, -1, 0, 0, 1, 0, -1},
+            // 3>>0
+            {0, 0, 0, 1, 0, -1, 1, 0, -1, 0}
+        }
+    };
+
+    /** Deslocamentos da rotação de 180°: primeiro no lugar, depois subindo e para os lados */
+    private static final int[] HALF_TURN_KICKS = {0, 0, 0, -1, 1, -1, -1, -1, 1, 0, -1, 0};
+
+    private static final int[] NO_ROTATION_KICKS = {0, 0};
+
+    /** Deslocamentos por família, estado de origem e estado de destino */
+    private static final int[][][][] KICKS = new int[3][4][4][];
+
+    static {
+        for (int family = 0; family < KICKS.length; family++) {
+            for (int from = 0; from < 4; from++) {
+                KICKS[family][from][from] = NO_ROTATION_KICKS;
+                KICKS[family][from][(from + 1) & 3] = CLOCKWISE_KICKS[family][from];
+                KICKS[family][from][(from + 2) & 3] = HALF_TURN_KICKS;
+                KICKS[family][from][(from + 3) & 3] = negate(CLOCKWISE_KICKS[family][(from + 3) & 3]);
+            }
+        }
+    }
+
+    private SrsKickTable() {
+    }
+
+    private static int[] negate(int[] kicks) {
+        int[] negated = new int[kicks.length];
+        for (int i = 0; i < kicks.length; i++) {
+            negated[i] = -kicks[i];
+        }
+        return negated;
+    }
+
+    private static int familyOf(int type) {
+        if (type == BlockShape.Type.I.getValue()) {
+            return FAMILY_I;
+        } else if (type == BlockShape.Type.X.getValue()) {
+            return FAMILY_X;
+        }
+        return FAMILY_JLSTZ;
+    }
+
+    /**
+     * Retorna os deslocamentos a testar para uma transição de rotação, como pares
+     * {@code dx, dy} consecutivos. O array retornado é compartilhado e não deve ser modificado.
+     *
+     * @param type O valor do tipo da peça
+     * @param fromRotation O estado de rotação atual (0-3)
+     * @param toRotation O estado de rotação desejado (0-3)
+     * @return Os deslocamentos da transição
+     */
+    public static int[] getKicks(int type, int fromRotation, int toRotation) {
+        if (type == BlockShape.Type.O.getValue()) {
+            return NO_ROTATION_KICKS;
+        }
+        return KICKS[familyOf(type)][fromRotation & 3][toRotation & 3];
+    }
+
+    /**
+     * Procura o primeiro deslocamento que deixa a peça em posição válida no estado de destino,
+     * sem alterar a peça.
+     *
+     * @param detector O detector de colisão do tabuleiro
+     * @param piece A peça a rotacionar
+     * @param toRotation O estado de rotação desejado (0-3)
+     * @return O índice do deslocamento vencedor, ou {@link #NO_KICK}
+     */
+    public static int findKick(StandardCollisionDetector detector, BlockShape piece, int toRotation) {
+        int[] kicks = getKicks(piece.getType(), piece.getRotation(), toRotation);
+        int x = piece.getX();
+        int y = piece.getY();
+
+        if (detector instanceof MaskCollisionDetector maskDetector && PieceMaskTable.matchesLayout(piece)) {
+            int type = piece.getType();
+            for (int i = 0; i < kicks.length; i += 2) {
+                if (maskDetector.fits(type, toRotation, x + kicks[i], y + kicks[i + 1])) {
+                    return i >> 1;
+                }
+            }
+            return NO_KICK;
+        }
+
+        // Layouts fora da tabela: testa na própria peça e restaura o estado
+        int originalRotation = piece.getRotation();
+        piece.setRotation(toRotation);
+        int found = NO_KICK;
+        for (int i = 0; i < kicks.length; i += 2) {
+            piece.setPosition(x + kicks[i], y + kicks[i + 1]);
+            if (detector.isValidPosition(piece)) {
+                found = i >> 1;
+                break;
+            }
+        }
+        piece.setRotation(originalRotation);
+        piece.setPosition(x, y);
+        return found;
+    }
+
+    /**
+     * Aplica a rotação e o deslocamento encontrados por {@link #findKick}.
+     *
+     * @param piece A peça a rotacionar
+     * @param toRotation O estado de rotação desejado (0-3)
+     * @param kickIndex O índice do deslocamento vencedor
+     */
+    public static void applyKick(BlockShape piece, int toRotation, int kickIndex) {
+        int[] kicks = getKicks(piece.getType(), piece.getRotation(), toRotation);
+        piece.setRotation(toRotation);
+        piece.move(kicks[kickIndex * 2], kicks[kickIndex * 2 + 1]);
+    }
+}
@@ -6,6 +6,7 @@ import com.uneb.fluxblocks.architecture.mediators.GameMediator;
 import com.uneb.fluxblocks.piece.collision.CollisionDetector;
 import com.uneb.fluxblocks.piece.collision.StandardCollisionDetector;
 import com.uneb.fluxblocks.piece.entities.BlockShape;
+import com.uneb.fluxblocks.piece.entities.ShapeDefinition;
 import com.uneb.fluxblocks.piece.timing.LockDelayHandler;
 
 /**
@@ -73,12 +74,12 @@ public class StandardMovementStrategy implements MovementStrategy {
         MovementResult result = move(piece, -1, 0);
         
         if (result == MovementResult.SUCCESS) {
-            mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_LEFT, new UiEvents.BoardEvent(playerId));
-            mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_RIGHT, new UiEvents.BoardEvent(playerId));
+            mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_LEFT, UiEvents.BoardEvent.of(playerId));
+            mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_RIGHT, UiEvents.BoardEvent.of(playerId));
             boolean isAtRest = ((StandardCollisionDetector) collisionDetector).isAtRestingPosition(piece);
             lockDelayHandler.resetLockDelay(piece, isAtRest);
         } else {
-            mediator.emit(UiEvents.PIECE_PUSHING_WALL_LEFT, new UiEvents.BoardEvent(playerId));
+            mediator.emit(UiEvents.PIECE_PUSHING_WALL_LEFT, UiEvents.BoardEvent.of(playerId));
         }
         
         return result;
@@ -89,12 +90,12 @@ public class StandardMovementStrategy implements MovementStrategy {
         MovementResult result = move(piece, 1, 0);
         
         if (result == MovementResult.SUCCESS) {
-            mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_RIGHT, new UiEvents.BoardEvent(playerId));
-            mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_LEFT, new UiEvents.BoardEvent(playerId));
+            mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_RIGHT, UiEvents.BoardEvent.of(playerId));
+            mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_LEFT, UiEvents.BoardEvent.of(playerId));
             boolean isAtRest = ((StandardCollisionDetector) collisionDetector).isAtRestingPosition(piece);
             lockDelayHandler.resetLockDelay(piece, isAtRest);
         } else {
-            mediator.emit(UiEvents.PIECE_PUSHING_WALL_RIGHT, new UiEvents.BoardEvent(playerId));
+            mediator.emit(UiEvents.PIECE_PUSHING_WALL_RIGHT, UiEvents.BoardEvent.of(playerId));
         }
         
         return result;
@@ -110,8 +111,8 @@ public class StandardMovementStrategy implements MovementStrategy {
         if (result == MovementResult.SUCCESS) {
             lockDelayHandler.resetLockDelay(piece, ((StandardCollisionDetector) collisionDetector).isAtRestingPosition(piece));
             softDropDistance++;
-            mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_LEFT, new UiEvents.BoardEvent(playerId));
-            mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_RIGHT, new UiEvents.BoardEvent(playerId));
+            mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_LEFT, UiEvents.BoardEvent.of(playerId));
+            mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_RIGHT, UiEvents.BoardEvent.of(playerId));
         }
         
         return result;
@@ -142,8 +143,8 @@ public class StandardMovementStrategy implements MovementStrategy {
             distance++;
         }
         
-        mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_LEFT, new UiEvents.BoardEvent(this.playerId));
-        mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_RIGHT, new UiEvents.BoardEvent(this.playerId));
+        mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_LEFT, UiEvents.BoardEvent.of(this.playerId));
+        mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_RIGHT, UiEvents.BoardEvent.of(this.playerId));
         
         resetSoftDropTracking();
         return distance;
@@ -183,29 +184,12 @@ public class StandardMovementStrategy implements MovementStrategy {
     }
     
     private int[] calculatePieceDimensions(BlockShape piece) {
-        if (piece.getCells().isEmpty()) {
-            return new int[]{1, 1};
+        if (piece.getCellCount() == 0) {
+            return new int[]{1, 1}; // Fallback
         }
-        
-        int minX = Integer.MAX_VALUE;
-        int maxX = Integer.MIN_VALUE;
-        int minY = Integer.MAX_VALUE;
-        int maxY = Integer.MIN_VALUE;
-        
-        for (var cell : piece.getCells()) {
-            int relativeX = cell.getX() - piece.getX();
-            int relativeY = cell.getY() - piece.getY();
-            
-            minX = Math.min(minX, relativeX);
-            maxX = Math.max(maxX, relativeX);
-            minY = Math.min(minY, relativeY);
-            maxY = Math.max(maxY, relativeY);
-        }
-        
-        int width = maxX - minX + 1;
-        int height = maxY - minY + 1;
-        
-        return new int[]{width, height};
+
+        ShapeDefinition definition = piece.getDefinition();
+        return new int[]{definition.getWidth(), definition.getHeight()};
     }
     
     private void resetSoftDropTracking() {
@@ -1,148 +1,65 @@
 package com.uneb.fluxblocks.piece.movement;
 
-import com.almasb.fxgl.dsl.FXGL;
+import com.uneb.fluxblocks.architecture.interfaces.GameClock;
 import com.uneb.fluxblocks.architecture.interfaces.RotationStrategy;
-import com.uneb.fluxblocks.configuration.GameConfig;
+import com.uneb.fluxblocks.configuration.GameRules;
 import com.uneb.fluxblocks.piece.collision.CollisionDetector;
 import com.uneb.fluxblocks.piece.collision.SpinDetector;
 import com.uneb.fluxblocks.piece.collision.TripleSpinDetector;
 import com.uneb.fluxblocks.piece.collision.StandardCollisionDetector;
 import com.uneb.fluxblocks.piece.entities.BlockShape;
-import com.uneb.fluxblocks.piece.entities.Cell;
+import com.uneb.fluxblocks.piece.entities.ShapeDefinition;
 import com.uneb.fluxblocks.piece.timing.LockDelayHandler;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * Implementação padrão do RotationStrategy baseada no PieceRotationHandler original.
- * Implementa o sistema SRS (Super Rotation System) completo.
+ * Implementa o sistema SRS (Super Rotation System) completo, com os wall kicks
+ * resolvidos pelo estado de rotação da peça na {@link SrsKickTable}.
  */
 public class StandardRotationStrategy implements RotationStrategy {
+    private static final SpinDetector.SpinType[] SPIN_TYPES = SpinDetector.SpinType.values();
+    private static final TripleSpinDetector.TripleSpinType[] TRIPLE_SPIN_TYPES = TripleSpinDetector.TripleSpinType.values();
     
     private final CollisionDetector collisionDetector;
     private final SpinDetector spinDetector;
     private final TripleSpinDetector tripleSpinDetector;
     private final LockDelayHandler lockDelayHandler;
+    private final GameClock clock;
+    /** Atraso da primeira rotação e das repetições, em segundos */
+    private final double rotateInitialDelay;
+    private final double rotateRepeatDelay;
     
     private double lastRotateTime = 0;
     private boolean isFirstRotate = true;
     private SpinDetector.SpinType lastSpin = SpinDetector.SpinType.NONE;
     private TripleSpinDetector.TripleSpinType lastTripleSpin = TripleSpinDetector.TripleSpinType.NONE;
     
-    // Tabelas de wall kicks do SRS para cada tipo de peça
-    private static final int[][][] SRS_WALL_KICKS = {
-        // I-Piece (específico)
-        {
-            // 0>>1
-            {0, 0}, {-2, 0}, {1, 0}, {-2, -1}, {1, 2},
-            // 1>>2
-            {0, 0}, {-1, 0}, {2, 0}, {-1, 2}, {2, -1},
-            // 2>>3
-            {0, 0}, {2, 0}, {-1, 0}, {2, 1}, {-1, -2},
-            // 3>>0
-            {0, 0}, {1, 0}, {-2, 0}, {1, -2}, {-2, 1}
-        },
-        // J, L, S, T, Z (compartilham a mesma tabela)
-        {
-            // 0>>1
-            {0, 0}, {-1, 0}, {-1, 1}, {0, -2}, {-1, -2},
-            // 1>>2
-            {0, 0}, {1, 0}, {1, -1}, {0, 2}, {1, 2},
-            // 2>>3
-            {0, 0}, {1, 0}, {1, 1}, {0, -2}, {1, -2},
-            // 3>>0
-            {0, 0}, {-1, 0}, {-1, -1}, {0, 2}, {-1, 2}
-        },
-        // X-Piece (específico - wall kicks mais conservadores)
-        {
-            // 0>>1
-            {0, 0}, {-1, 0}, {1, 0}, {0, -1}, {0, 1},
-            // 1>>2
-            {0, 0}, {0, -1}, {0, 1}, {-1, 0}, {1, 0},
-            // 2>>3
-            {0, 0}, {1, 0}, {-1, 0}, {0, 1}, {0, -1},
-            // 3>>0
-            {0, 0}, {0, 1}, {0, -1}, {1, 0}, {-1, 0}
-        }
-    };
-    
-    public StandardRotationStrategy(CollisionDetector collisionDetector, LockDelayHandler lockDelayHandler) {
+    public StandardRotationStrategy(CollisionDetector collisionDetector, LockDelayHandler lockDelayHandler, GameClock clock, GameRules rules) {
         this.collisionDetector = collisionDetector;
         this.spinDetector = new SpinDetector(((StandardCollisionDetector) collisionDetector).getBoard());
         this.tripleSpinDetector = new TripleSpinDetector(((StandardCollisionDetector) collisionDetector).getBoard());
         this.lockDelayHandler = lockDelayHandler;
+        this.clock = clock;
+        this.rotateInitialDelay = rules.getRotateInitialDelay() / 1000.0;
+        this.rotateRepeatDelay = rules.getRotateRepeatDelay() / 1000.0;
     }
     
     @Override
     public RotationResult rotateClockwise(BlockShape piece) {
         if (!canRotate(piece)) return RotationResult.INVALID_STATE;
-        
-        int originalX = piece.getX();
-        int originalY = piece.getY();
-        int[] originalPosition = {originalX, originalY};
-        
-        RotationResult result = attemptRotationWithSRS(piece);
-        
-        if (result == RotationResult.SUCCESS) {
-            lastSpin = spinDetector.detectSpin(piece, true, originalPosition);
-            lastTripleSpin = tripleSpinDetector.detectTripleSpin(piece, true, originalPosition);
-            completeSuccessfulRotation(piece);
-        } else {
-            lastSpin = SpinDetector.SpinType.NONE;
-            lastTripleSpin = TripleSpinDetector.TripleSpinType.NONE;
-        }
-        
-        return result;
+        return rotateTo(piece, (piece.getRotation() + 1) & 3);
     }
     
     @Override
     public RotationResult rotateCounterClockwise(BlockShape piece) {
         if (!canRotate(piece)) return RotationResult.INVALID_STATE;
-        
-        int originalX = piece.getX();
-        int originalY = piece.getY();
-        int[] originalPosition = {originalX, originalY};
-        
-        // Para rotação anti-horária, fazemos 3 rotações horárias
-        piece.rotate();
-        piece.rotate();
-        piece.rotate();
-        
-        if (((StandardCollisionDetector) collisionDetector).isValidPosition(piece)) {
-            lastSpin = spinDetector.detectSpin(piece, true, originalPosition);
-            lastTripleSpin = tripleSpinDetector.detectTripleSpin(piece, true, originalPosition);
-            completeSuccessfulRotation(piece);
-            return RotationResult.SUCCESS;
-        }
-        
-        // Tenta wall kicks se a posição não for válida
-        RotationResult result = trySRSWallKicks(piece, originalX, originalY);
-        
-        if (result == RotationResult.SUCCESS) {
-            lastSpin = spinDetector.detectSpin(piece, true, originalPosition);
-            lastTripleSpin = tripleSpinDetector.detectTripleSpin(piece, true, originalPosition);
-            completeSuccessfulRotation(piece);
-        } else {
-            // Reverte as 3 rotações
-            piece.rotate();
-            piece.rotate();
-            piece.rotate();
-            lastSpin = SpinDetector.SpinType.NONE;
-            lastTripleSpin = TripleSpinDetector.TripleSpinType.NONE;
-        }
-        
-        return result;
+        return rotateTo(piece, (piece.getRotation() + 3) & 3);
     }
     
     @Override
     public RotationResult rotate180(BlockShape piece) {
         if (!canRotate(piece)) return RotationResult.INVALID_STATE;
-        
-        // Faz duas rotações horárias para 180 graus
-        RotationResult result1 = rotateClockwise(piece);
-        if (result1 != RotationResult.SUCCESS) return result1;
-        
-        return rotateClockwise(piece);
+        return rotateTo(piece, (piece.getRotation() + 2) & 3);
     }
     
     @Override
@@ -155,19 +72,8 @@ public class StandardRotationStrategy implements RotationStrategy {
     public RotationResult validateRotation(BlockShape piece, boolean clockwise) {
         if (!canRotate(piece)) return RotationResult.INVALID_STATE;
         
-        int originalX = piece.getX();
-        int originalY = piece.getY();
-        
-        if (clockwise) {
-            piece.rotate();
-        } else {
-            piece.rotate();
-            piece.rotate();
-            piece.rotate();
-        }
-        
-        boolean isValid = ((StandardCollisionDetector) collisionDetector).isValidPosition(piece);
-        piece.setPosition(originalX, originalY);
+        int toRotation = (piece.getRotation() + (clockwise ? 1 : 3)) & 3;
+        boolean isValid = isValidWithKick(piece, toRotation, 0);
         
         return isValid ? RotationResult.SUCCESS : RotationResult.COLLISION;
     }
@@ -176,38 +82,24 @@ public class StandardRotationStrategy implements RotationStrategy {
     public RotationResult applyWallKick(BlockShape piece, boolean clockwise) {
         if (!canRotate(piece)) return RotationResult.INVALID_STATE;
         
-        int originalX = piece.getX();
-        int originalY = piece.getY();
-        
-        if (clockwise) {
-            piece.rotate();
-        } else {
-            piece.rotate();
-            piece.rotate();
-            piece.rotate();
+        int toRotation = (piece.getRotation() + (clockwise ? 1 : 3)) & 3;
+        int kick = SrsKickTable.findKick((StandardCollisionDetector) collisionDetector, piece, toRotation);
+        if (kick == SrsKickTable.NO_KICK) {
+            return RotationResult.COLLISION;
         }
-        
-        return trySRSWallKicks(piece, originalX, originalY);
+        SrsKickTable.applyKick(piece, toRotation, kick);
+        return RotationResult.SUCCESS;
     }
     
     @Override
     public int getCurrentRotation(BlockShape piece) {
-        // BlockShape não mantém rotação como número, mas sim como estado das células
-        // Retorna 0 como padrão, já que a rotação é gerenciada pelas células
-        return 0;
+        return piece == null ? 0 : piece.getRotation();
     }
     
     @Override
     public void setRotation(BlockShape piece, int rotation) {
-        // BlockShape não suporta definir rotação por número
-        // A rotação é gerenciada pelo método rotate()
         if (piece == null) return;
-        
-        // Reseta para posição inicial e aplica rotações
-        piece.resetRotation();
-        for (int i = 0; i < rotation; i++) {
-            piece.rotate();
-        }
+        piece.setRotation(rotation);
     }
     
     @Override
@@ -216,13 +108,12 @@ public class StandardRotationStrategy implements RotationStrategy {
         // Esta é uma implementação simplificada baseada nas posições das células
         if (piece == null) return new int[0][0];
         
-        List<Cell> cells = piece.getCells();
-        int[][] shape = new int[cells.size()][2];
+        ShapeDefinition definition = piece.getDefinition().withRotation(rotation);
+        int[][] shape = new int[definition.getCellCount()][2];
         
-        for (int i = 0; i < cells.size(); i++) {
-            Cell cell = cells.get(i);
-            shape[i][0] = cell.getRelativeX();
-            shape[i][1] = cell.getRelativeY();
+        for (int i = 0; i < definition.getCellCount(); i++) {
+            shape[i][0] = definition.getOffsetX(i);
+            shape[i][1] = definition.getOffsetY(i);
         }
         
         return shape;
@@ -232,28 +123,12 @@ public class StandardRotationStrategy implements RotationStrategy {
     public boolean wouldCollide(BlockShape piece, int rotation) {
         if (piece == null) return true;
         
-        // Salva estado atual
-        List<int[]> originalPositions = new ArrayList<>();
-        for (Cell cell : piece.getCells()) {
-            originalPositions.add(new int[]{cell.getRelativeX(), cell.getRelativeY()});
-        }
-        
-        // Aplica rotação
-        piece.resetRotation();
-        for (int i = 0; i < rotation; i++) {
-            piece.rotate();
-        }
+        int originalRotation = piece.getRotation();
+        piece.setRotation(rotation);
         
         boolean wouldCollide = !((StandardCollisionDetector) collisionDetector).isValidPosition(piece);
         
-        // Restaura estado original
-        for (int i = 0; i < piece.getCells().size(); i++) {
-            Cell cell = piece.getCells().get(i);
-            int[] originalPos = originalPositions.get(i);
-            cell.setRelativePosition(originalPos[0], originalPos[1]);
-        }
-        // Atualiza posições das células movendo a peça para a posição atual
-        piece.setPosition(piece.getX(), piece.getY());
+        piece.setRotation(originalRotation);
         
         return wouldCollide;
     }
@@ -271,58 +146,52 @@ public class StandardRotationStrategy implements RotationStrategy {
         reset();
     }
     
-    private RotationResult attemptRotationWithSRS(BlockShape piece) {
-        int originalX = piece.getX();
-        int originalY = piece.getY();
-        
-        piece.rotate();
-        if (((StandardCollisionDetector) collisionDetector).isValidPosition(piece)) {
-            return RotationResult.SUCCESS;
+    /**
+     * Resolve a rotação pela tabela de wall kicks da transição, sem alterar a peça
+     * até que um deslocamento válido seja encontrado.
+     */
+    private RotationResult rotateTo(BlockShape piece, int toRotation) {
+        int kick = SrsKickTable.findKick((StandardCollisionDetector) collisionDetector, piece, toRotation);
+        if (kick == SrsKickTable.NO_KICK) {
+            lastSpin = SpinDetector.SpinType.NONE;
+            lastTripleSpin = TripleSpinDetector.TripleSpinType.NONE;
+            return RotationResult.COLLISION;
         }
         
-        return trySRSWallKicks(piece, originalX, originalY);
+        SrsKickTable.applyKick(piece, toRotation, kick);
+        
+        lastSpin = SPIN_TYPES[spinDetector.detectSpinOrdinal(piece)];
+        lastTripleSpin = TRIPLE_SPIN_TYPES[tripleSpinDetector.detectTripleSpinOrdinal(piece)];
+        completeSuccessfulRotation(piece);
+        return RotationResult.SUCCESS;
     }
     
-    private RotationResult trySRSWallKicks(BlockShape piece, int originalX, int originalY) {
-        int[][] wallKicks = getWallKicksForPiece(piece);
+    private boolean isValidWithKick(BlockShape piece, int toRotation, int kickIndex) {
+        int originalRotation = piece.getRotation();
+        int originalX = piece.getX();
+        int originalY = piece.getY();
         
-        for (int[] kick : wallKicks) {
-            piece.setPosition(originalX + kick[0], originalY + kick[1]);
-            
-            if (((StandardCollisionDetector) collisionDetector).isValidPosition(piece)) {
-                return RotationResult.SUCCESS;
-            }
-        }
+        SrsKickTable.applyKick(piece, toRotation, kickIndex);
+        boolean isValid = ((StandardCollisionDetector) collisionDetector).isValidPosition(piece);
         
+        piece.setRotation(originalRotation);
         piece.setPosition(originalX, originalY);
-        return RotationResult.COLLISION;
-    }
-    
-    private int[][] getWallKicksForPiece(BlockShape piece) {
-        int pieceType = piece.getType();
-        
-        if (pieceType == 1) { // I-Piece
-            return SRS_WALL_KICKS[0];
-        } else if (pieceType == 10) { // X-Piece (Glass)
-            return SRS_WALL_KICKS[2];
-        } else { // J, L, S, T, Z
-            return SRS_WALL_KICKS[1];
-        }
+        return isValid;
     }
     
     private boolean isRotationOnCooldown() {
-        double currentTime = FXGL.getGameTimer().getNow();
+        double currentTime = clock.getNow();
         double timeSinceLastRotate = currentTime - lastRotateTime;
         
         if (isFirstRotate) {
-            return timeSinceLastRotate < GameConfig.ROTATE_INITIAL_DELAY / 1000.0;
+            return timeSinceLastRotate < rotateInitialDelay;
         } else {
-            return timeSinceLastRotate < GameConfig.ROTATE_REPEAT_DELAY / 1000.0;
+            return timeSinceLastRotate < rotateRepeatDelay;
         }
     }
     
     private void completeSuccessfulRotation(BlockShape piece) {
-        double currentTime = FXGL.getGameTimer().getNow();
+        double currentTime = clock.getNow();
         lastRotateTime = currentTime;
         isFirstRotate = false;
         
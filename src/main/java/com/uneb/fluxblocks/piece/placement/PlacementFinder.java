@@ -0,0 +1,521 @@
+package com.uneb.fluxblocks.piece.placement;
+
+import com.uneb.fluxblocks.configuration.GameRules;
+import com.uneb.fluxblocks.game.logic.GameBoard;
+import com.uneb.fluxblocks.piece.collision.PieceMaskTable;
+import com.uneb.fluxblocks.piece.entities.BlockShape;
+import com.uneb.fluxblocks.piece.movement.SrsKickTable;
+
+import java.util.Arrays;
+
+/**
+ * Gerador de jogadas: encontra todas as posições finais que uma peça consegue alcançar.
+ *
+ * <p>A busca é uma BFS sobre os estados {@code (x, y, rotação)} a partir da posição de
+ * surgimento, usando as entradas do jogador como arestas: mover para os lados, descer uma
+ * linha e girar com os wall kicks da {@link SrsKickTable}, os mesmos usados pelo
+ * {@code StandardRotationStrategy}. Assim tucks, slides e encaixes por kick são encontrados
+ * naturalmente. De cada estado visitado a peça pode ser solta com hard drop, o que define
+ * uma posição final; como a BFS visita os estados em ordem de número de entradas, o primeiro
+ * caminho que chega a uma posição final é o mais curto.</p>
+ *
+ * <p>Posições finais que ocupam as mesmas células em rotações diferentes (O em qualquer
+ * rotação, I, S e Z em rotações opostas) são contadas uma única vez.</p>
+ *
+ * <p>O tabuleiro é copiado como uma máscara de bloqueio por coluna. No início de cada busca,
+ * para cada rotação e coluna, as máscaras das colunas cobertas pela peça são deslocadas e
+ * combinadas em um {@code long} com um bit por linha do centro: testar uma posição vira um
+ * teste de bit e a linha de queda sai de uma contagem de zeros. Todos os buffers (visitados
+ * em bitset, fila, pais e resultados) são alocados no construtor e reutilizados: uma busca
+ * não aloca objetos. Por isso cada instância deve ser usada por uma única thread.</p>
+ */
+public class PlacementFinder {
+
+    /**
+     * Entradas que compõem o caminho até uma posição final.
+     */
+    public enum Input {
+        LEFT, RIGHT, SOFT_DROP, ROTATE_CW, ROTATE_CCW, ROTATE_180, HARD_DROP;
+
+        private static final Input[] VALUES = values();
+
+        /**
+         * Retorna a entrada correspondente ao valor guardado em um caminho.
+         */
+        public static Input fromOrdinal(int ordinal) {
+            return VALUES[ordinal];
+        }
+
+        /**
+         * Indica se a entrada é uma rotação.
+         */
+        public boolean isRotation() {
+            return this == ROTATE_CW || this == ROTATE_CCW || this == ROTATE_180;
+        }
+    }
+
+    /** Linha do centro da peça ao surgir, a mesma do {@code PieceSystem} */
+    public static final int SPAWN_Y = -2;
+
+    /** Linha mais alta (coordenada do tabuleiro) em que uma célula ainda pode estar */
+    private static final int MIN_CELL_Y = -4;
+    /** Folga, em colunas, em volta da área em que o centro de uma peça válida pode estar */
+    private static final int MARGIN = 3;
+    /** Maior distância vertical entre uma célula e o centro da peça */
+    private static final int MAX_OFFSET_Y = 2;
+    private static final int ROTATIONS = PieceMaskTable.ROTATIONS;
+    private static final int TYPE_COUNT = BlockShape.Type.X.getValue() + 1;
+    private static final int NO_PARENT = -1;
+
+    /** Rotação de menor índice com as mesmas células, por tipo e rotação */
+    private static final int[][] CANONICAL_ROTATION = new int[TYPE_COUNT][ROTATIONS];
+
+    static {
+        for (int type = 1; type < TYPE_COUNT; type++) {
+            for (int rotation = 0; rotation < ROTATIONS; rotation++) {
+                CANONICAL_ROTATION[type][rotation] = rotation;
+                for (int other = 0; other < rotation; other++) {
+                    if (Arrays.equals(PieceMaskTable.getRowMasks(type, rotation), PieceMaskTable.getRowMasks(type, other))) {
+                        CANONICAL_ROTATION[type][rotation] = other;
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    private final int width;
+    private final int bufferHeight;
+    private final int totalHeight;
+    private final int minX;
+    private final int visibleHeight;
+    private final int minY;
+    private final int spanX;
+    private final int spanY;
+    private final int stateCount;
+
+    /** Máscaras de ocupação, do topo do buffer ao fundo do tabuleiro */
+    private final int[] rows;
+    /**
+     * Linhas bloqueadas de cada coluna: bit {@code k} = linha {@code minY - MAX_OFFSET_Y + k},
+     * bloqueada se estiver ocupada, abaixo do fundo ou acima do limite do buffer
+     */
+    private final long[] blockedColumns;
+    /** Linhas do centro em que a peça cabe, por rotação e coluna, para a busca atual */
+    private final long[] fitMasks;
+    private final long[] visited;
+    private final long[] landed;
+    private final int[] queue;
+    private final int[] parent;
+    private final byte[] parentInput;
+    private final short[] depth;
+
+    private final int[] placementX;
+    private final int[] placementY;
+    private final byte[] placementRotation;
+    private final int[] placementSource;
+    private final boolean[] placementSpin;
+    private int placementCount = 0;
+
+    private boolean counterClockwiseEnabled = false;
+    private boolean halfTurnEnabled = false;
+
+    /**
+     * Cria um gerador para tabuleiros com as dimensões das regras informadas.
+     *
+     * @param rules As regras da partida
+     */
+    public PlacementFinder(GameRules rules) {
+        this(rules.getBoardWidth(), rules.getBoardHeight(), rules.getBufferRows());
+    }
+
+    /**
+     * Cria um gerador para tabuleiros com as dimensões informadas.
+     *
+     * @param width Largura do tabuleiro, em colunas
+     * @param visibleHeight Altura da área visível, em linhas
+     * @param bufferHeight Linhas de buffer acima da área visível
+     * @throws IllegalArgumentException Se as dimensões forem inválidas
+     */
+    public PlacementFinder(int width, int visibleHeight, int bufferHeight) {
+        if (width <= 0 || width > Integer.SIZE) {
+            throw new IllegalArgumentException("Largura do tabuleiro deve estar entre 1 e " + Integer.SIZE + " colunas: " + width);
+        }
+        // O centro vai de MIN_CELL_Y até uma linha abaixo do fundo, e as máscaras de coluna
+        // precisam de MAX_OFFSET_Y linhas de folga em cada lado dentro de um long
+        int spanY = visibleHeight + 1 - MIN_CELL_Y;
+        if (visibleHeight <= 0 || bufferHeight < 0 || spanY + 2 * MAX_OFFSET_Y > Long.SIZE) {
+            throw new IllegalArgumentException("Altura do tabuleiro inválida: " + visibleHeight + " + " + bufferHeight);
+        }
+        this.width = width;
+        this.bufferHeight = bufferHeight;
+        this.visibleHeight = visibleHeight;
+        this.totalHeight = visibleHeight + bufferHeight;
+        this.minX = -MARGIN;
+        this.minY = MIN_CELL_Y;
+        this.spanX = width + 2 * MARGIN;
+        this.spanY = spanY;
+        this.stateCount = spanX * spanY * ROTATIONS;
+
+        this.rows = new int[totalHeight];
+        this.blockedColumns = new long[width];
+        this.fitMasks = new long[ROTATIONS * spanX];
+        this.visited = new long[(stateCount + 63) >>> 6];
+        this.landed = new long[visited.length];
+        this.queue = new int[stateCount];
+        this.parent = new int[stateCount];
+        this.parentInput = new byte[stateCount];
+        this.depth = new short[stateCount];
+
+        this.placementX = new int[stateCount];
+        this.placementY = new int[stateCount];
+        this.placementRotation = new byte[stateCount];
+        this.placementSource = new int[stateCount];
+        this.placementSpin = new boolean[stateCount];
+    }
+
+    /**
+     * Define quais rotações além da horária podem ser usadas nos caminhos.
+     * Por padrão apenas a rotação horária é usada, como no controle do jogo.
+     *
+     * @param counterClockwise Se a rotação anti-horária está disponível
+     * @param halfTurn Se a rotação de 180° está disponível
+     */
+    public void setRotationInputs(boolean counterClockwise, boolean halfTurn) {
+        this.counterClockwiseEnabled = counterClockwise;
+        this.halfTurnEnabled = halfTurn;
+    }
+
+    /**
+     * Copia a ocupação atual do tabuleiro para o gerador.
+     *
+     * @param board O tabuleiro, com as mesmas dimensões do gerador
+     */
+    public void setBoard(GameBoard board) {
+        for (int i = 0; i < totalHeight; i++) {
+            rows[i] = board.getRowMask(i - bufferHeight);
+        }
+        buildBlockedColumns();
+    }
+
+    /**
+     * Copia as máscaras de linha informadas para o gerador.
+     *
+     * @param rowMasks Uma máscara por linha, do topo do buffer ao fundo do tabuleiro
+     * @throws IllegalArgumentException Se o número de linhas for diferente da altura total
+     */
+    public void setRows(int[] rowMasks) {
+        if (rowMasks.length != totalHeight) {
+            throw new IllegalArgumentException("Esperadas " + totalHeight + " linhas, recebidas " + rowMasks.length);
+        }
+        System.arraycopy(rowMasks, 0, rows, 0, totalHeight);
+        buildBlockedColumns();
+    }
+
+    private void buildBlockedColumns() {
+        int firstRow = minY - MAX_OFFSET_Y;
+        for (int x = 0; x < width; x++) {
+            long blocked = 0;
+            for (int k = 0; k < Long.SIZE; k++) {
+                int row = firstRow + k;
+                int realRow = row + bufferHeight;
+                if (row < MIN_CELL_Y || row >= visibleHeight
+                        || (realRow >= 0 && (rows[realRow] & (1 << x)) != 0)) {
+                    blocked |= 1L << k;
+                }
+            }
+            blockedColumns[x] = blocked;
+        }
+    }
+
+    /**
+     * Calcula, para cada rotação e coluna do centro, as linhas em que a peça cabe.
+     */
+    private void buildFitMasks(int type) {
+        long validRows = spanY == Long.SIZE ? -1L : (1L << spanY) - 1;
+        for (int rotation = 0; rotation < ROTATIONS; rotation++) {
+            int minOffsetX = PieceMaskTable.getMinOffsetX(type, rotation);
+            int spanWidth = PieceMaskTable.getSpanWidth(type, rotation);
+            int[] offsetsX = PieceMaskTable.getOffsetsX(type, rotation);
+            int[] offsetsY = PieceMaskTable.getOffsetsY(type, rotation);
+            for (int i = 0; i < spanX; i++) {
+                int x = minX + i;
+                int left = x + minOffsetX;
+                long fit = 0;
+                if (left >= 0 && left + spanWidth <= width) {
+                    fit = validRows;
+                    for (int c = 0; c < offsetsX.length; c++) {
+                        fit &= ~(blockedColumns[x + offsetsX[c]] >>> (offsetsY[c] + MAX_OFFSET_Y));
+                    }
+                }
+                fitMasks[rotation * spanX + i] = fit;
+            }
+        }
+    }
+
+    /**
+     * Busca as posições finais de uma peça a partir da posição de surgimento.
+     *
+     * @param type O valor do tipo da peça
+     * @return O número de posições encontradas
+     */
+    public int find(int type) {
+        return find(type, width / 2 - 1, SPAWN_Y, 0);
+    }
+
+    /**
+     * Busca as posições finais de uma peça a partir de um estado qualquer, por exemplo a
+     * posição atual da peça em jogo.
+     *
+     * @param type O valor do tipo da peça
+     * @param startX A coordenada X do centro da peça
+     * @param startY A coordenada Y do centro da peça
+     * @param startRotation O estado de rotação (0-3)
+     * @return O número de posições encontradas (0 se o estado inicial não for válido)
+     * @throws IllegalArgumentException Se o tipo não for uma peça padrão
+     */
+    public int find(int type, int startX, int startY, int startRotation) {
+        if (!PieceMaskTable.isSupportedType(type)) {
+            throw new IllegalArgumentException("Tipo de peça não suportado: " + type);
+        }
+        Arrays.fill(visited, 0L);
+        Arrays.fill(landed, 0L);
+        placementCount = 0;
+        buildFitMasks(type);
+
+        startRotation &= 3;
+        if (!fits(startRotation, startX, startY)) {
+            return 0;
+        }
+
+        int head = 0;
+        int tail = 0;
+        int start = index(startX, startY, startRotation);
+        mark(visited, start);
+        parent[start] = NO_PARENT;
+        depth[start] = 0;
+        queue[tail++] = start;
+
+        while (head < tail) {
+            int state = queue[head++];
+            int rotation = state & 3;
+            int cell = state >>> 2;
+            int x = cell % spanX + minX;
+            int y = cell / spanX + minY;
+
+            recordDrop(type, state, x, y, rotation);
+
+            tail = visit(state, x - 1, y, rotation, Input.LEFT, tail);
+            tail = visit(state, x + 1, y, rotation, Input.RIGHT, tail);
+            tail = visit(state, x, y + 1, rotation, Input.SOFT_DROP, tail);
+            tail = rotate(type, state, x, y, rotation, 1, Input.ROTATE_CW, tail);
+            if (counterClockwiseEnabled) {
+                tail = rotate(type, state, x, y, rotation, 3, Input.ROTATE_CCW, tail);
+            }
+            if (halfTurnEnabled) {
+                tail = rotate(type, state, x, y, rotation, 2, Input.ROTATE_180, tail);
+            }
+        }
+        return placementCount;
+    }
+
+    /**
+     * Tenta a rotação pela tabela de kicks e enfileira o primeiro deslocamento válido.
+     */
+    private int rotate(int type, int state, int x, int y, int rotation, int turn, Input input, int tail) {
+        int toRotation = (rotation + turn) & 3;
+        int[] kicks = SrsKickTable.getKicks(type, rotation, toRotation);
+        for (int i = 0; i < kicks.length; i += 2) {
+            int kickedX = x + kicks[i];
+            int kickedY = y + kicks[i + 1];
+            if (fits(toRotation, kickedX, kickedY)) {
+                return enqueue(state, index(kickedX, kickedY, toRotation), input, tail);
+            }
+        }
+        return tail;
+    }
+
+    private int visit(int state, int x, int y, int rotation, Input input, int tail) {
+        if (!fits(rotation, x, y)) {
+            return tail;
+        }
+        return enqueue(state, index(x, y, rotation), input, tail);
+    }
+
+    private int enqueue(int from, int to, Input input, int tail) {
+        if (isMarked(visited, to)) {
+            return tail;
+        }
+        mark(visited, to);
+        parent[to] = from;
+        parentInput[to] = (byte) input.ordinal();
+        depth[to] = (short) (depth[from] + 1);
+        queue[tail] = to;
+        return tail + 1;
+    }
+
+    /**
+     * Solta a peça do estado até o fundo e registra a posição final, se ainda não encontrada.
+     */
+    private void recordDrop(int type, int state, int x, int y, int rotation) {
+        // A peça cabe na linha atual: a queda para antes da primeira linha em que não cabe
+        long below = fitMasks[rotation * spanX + (x - minX)] >>> (y - minY);
+        int dropY = y + Long.numberOfTrailingZeros(~below) - 1;
+
+        // Normaliza para a menor rotação com as mesmas células
+        int canonical = CANONICAL_ROTATION[type][rotation];
+        int canonicalX = x + PieceMaskTable.getMinOffsetX(type, rotation) - PieceMaskTable.getMinOffsetX(type, canonical);
+        int canonicalY = dropY + PieceMaskTable.getMinOffsetY(type, rotation) - PieceMaskTable.getMinOffsetY(type, canonical);
+        int key = index(canonicalX, canonicalY, canonical);
+        if (isMarked(landed, key)) {
+            return;
+        }
+        mark(landed, key);
+
+        int i = placementCount++;
+        placementX[i] = x;
+        placementY[i] = dropY;
+        placementRotation[i] = (byte) rotation;
+        placementSource[i] = state;
+        placementSpin[i] = dropY == y && parent[state] != NO_PARENT
+                && Input.fromOrdinal(parentInput[state]).isRotation();
+    }
+
+    /**
+     * Verifica se a peça cabe na posição, com as mesmas regras do {@code MaskCollisionDetector}.
+     */
+    private boolean fits(int rotation, int x, int y) {
+        int column = x - minX;
+        int row = y - minY;
+        if (column < 0 || column >= spanX || row < 0 || row >= spanY) {
+            return false;
+        }
+        return (fitMasks[rotation * spanX + column] & (1L << row)) != 0;
+    }
+
+    private int index(int x, int y, int rotation) {
+        return (((y - minY) * spanX + (x - minX)) << 2) | rotation;
+    }
+
+    private static boolean isMarked(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private static void mark(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    /**
+     * Retorna o número de posições encontradas na última busca.
+     */
+    public int getCount() {
+        return placementCount;
+    }
+
+    /**
+     * Retorna o maior número de posições que uma busca pode encontrar, isto é, o número de
+     * estados da peça no tabuleiro. Serve para dimensionar buffers que copiam o resultado.
+     */
+    public int getMaxPlacements() {
+        return stateCount;
+    }
+
+    /**
+     * Retorna a coordenada X do centro da peça na posição final.
+     */
+    public int getX(int placement) {
+        checkPlacement(placement);
+        return placementX[placement];
+    }
+
+    /**
+     * Retorna a coordenada Y do centro da peça na posição final.
+     */
+    public int getY(int placement) {
+        checkPlacement(placement);
+        return placementY[placement];
+    }
+
+    /**
+     * Retorna o estado de rotação da peça na posição final.
+     */
+    public int getRotation(int placement) {
+        checkPlacement(placement);
+        return placementRotation[placement];
+    }
+
+    /**
+     * Indica se o caminho mais curto termina com uma rotação que já deixa a peça apoiada,
+     * isto é, se a posição é candidata a Spin.
+     */
+    public boolean isSpin(int placement) {
+        checkPlacement(placement);
+        return placementSpin[placement];
+    }
+
+    /**
+     * Retorna o número de entradas do caminho até a posição, incluindo o hard drop final.
+     */
+    public int getPathLength(int placement) {
+        checkPlacement(placement);
+        return depth[placementSource[placement]] + 1;
+    }
+
+    /**
+     * Copia o caminho mais curto até a posição, como ordinais de {@link Input}, terminando
+     * com {@link Input#HARD_DROP}.
+     *
+     * @param placement O índice da posição
+     * @param dest O array de destino, com pelo menos {@link #getPathLength(int)} posições
+     * @return O número de entradas copiadas
+     */
+    public int copyPath(int placement, byte[] dest) {
+        int length = getPathLength(placement);
+        if (dest.length < length) {
+            throw new IllegalArgumentException("Destino pequeno demais para o caminho: " + dest.length + " < " + length);
+        }
+        dest[length - 1] = (byte) Input.HARD_DROP.ordinal();
+        int state = placementSource[placement];
+        for (int i = length - 2; i >= 0; i--) {
+            dest[i] = parentInput[state];
+            state = parent[state];
+        }
+        return length;
+    }
+
+    /**
+     * Retorna uma cópia do caminho mais curto até a posição.
+     *
+     * @see #copyPath(int, byte[])
+     */
+    public Input[] getPath(int placement) {
+        byte[] ordinals = new byte[getPathLength(placement)];
+        copyPath(placement, ordinals);
+        Input[] path = new Input[ordinals.length];
+        for (int i = 0; i < ordinals.length; i++) {
+            path[i] = Input.fromOrdinal(ordinals[i]);
+        }
+        return path;
+    }
+
+    private void checkPlacement(int placement) {
+        if (placement < 0 || placement >= placementCount) {
+            throw new IllegalArgumentException("Posição fora do resultado: " + placement);
+        }
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Retorna a altura total (buffer mais área visível) esperada por {@link #setRows(int[])}.
+     */
+    public int getTotalHeight() {
+        return totalHeight;
+    }
+
+    public int getBufferHeight() {
+        return bufferHeight;
+    }
+}
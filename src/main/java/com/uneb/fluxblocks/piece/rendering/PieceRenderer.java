@@ -0,0 +1,26 @@
+package com.uneb.fluxblocks.piece.rendering;
+
+import com.uneb.fluxblocks.piece.entities.BlockShape;
+
+/**
+ * Recebe do {@link com.uneb.fluxblocks.piece.PieceSystem} a peça atual sempre que ela muda,
+ * para montar o quadro do tabuleiro com a peça e a sombra.
+ *
+ * <p>Não depende do JavaFX: a implementação padrão ({@link StandardPieceRenderer}) apenas
+ * emite as linhas alteradas pelo mediador, e a camada de interface desenha a partir delas.
+ * Partidas sem interface podem passar uma implementação vazia.</p>
+ */
+public interface PieceRenderer {
+
+    /**
+     * Atualiza o quadro com a peça atual.
+     *
+     * @param currentPiece A peça atual
+     */
+    void updateBoardWithCurrentPiece(BlockShape currentPiece);
+
+    /**
+     * Força que o próximo quadro seja montado por completo.
+     */
+    void invalidate();
+}
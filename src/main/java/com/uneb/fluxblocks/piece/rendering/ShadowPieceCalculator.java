@@ -1,24 +1,43 @@
 package com.uneb.fluxblocks.piece.rendering;
 
-import com.uneb.fluxblocks.piece.collision.CollisionDetector;
-import com.uneb.fluxblocks.piece.collision.StandardCollisionDetector;
+import com.uneb.fluxblocks.game.logic.GameBoard;
+import com.uneb.fluxblocks.piece.collision.PieceMaskTable;
 import com.uneb.fluxblocks.piece.entities.BlockShape;
-import com.uneb.fluxblocks.piece.entities.Cell;
+import com.uneb.fluxblocks.piece.entities.ShapeDefinition;
 import com.uneb.fluxblocks.piece.factory.BlockShapeFactory;
-import java.util.List;
 
 /**
  * Calcula a posição da peça fantasma (shadow piece).
+ *
+ * <p>A distância de queda é obtida diretamente: para cada coluna ocupada pela peça,
+ * o tabuleiro informa a primeira célula ocupada abaixo da célula mais baixa da peça
+ * naquela coluna (perfil inferior), e a menor folga entre as colunas é a distância final.
+ * Não há simulação passo a passo.</p>
+ *
+ * <p>Cada calculadora mantém uma única peça fantasma, reaproveitada entre
+ * chamadas, e guarda o último resultado até que a peça (tipo, rotação ou posição)
+ * ou a versão do tabuleiro mude. A peça retornada pertence à calculadora e não
+ * deve ser armazenada pelo chamador.</p>
  */
 public class ShadowPieceCalculator {
-    private final CollisionDetector collisionDetector;
-    private static final int MAX_FALL_DISTANCE = 40;
+    private final GameBoard board;
+    private final BlockShape shadow = BlockShapeFactory.createBlockShape(BlockShape.Type.T);
 
-    public ShadowPieceCalculator(CollisionDetector collisionDetector) {
-        if (collisionDetector == null) {
-            throw new IllegalArgumentException("CollisionDetector não pode ser null");
+    private BlockShape lastShadow;
+    private int lastType = -1;
+    private int lastRotation;
+    private int lastX;
+    private int lastY;
+    private long lastBoardVersion = -1;
+
+    /**
+     * @param board O tabuleiro sobre o qual a sombra é calculada
+     */
+    public ShadowPieceCalculator(GameBoard board) {
+        if (board == null) {
+            throw new IllegalArgumentException("GameBoard não pode ser null");
         }
-        this.collisionDetector = collisionDetector;
+        this.board = board;
     }
 
     /**
@@ -30,51 +49,72 @@ public class ShadowPieceCalculator {
     public BlockShape calculateShadowPiece(BlockShape currentPiece) {
         if (currentPiece == null) return null;
 
-        // Cria a peça fantasma com o mesmo tipo
-        BlockShape shadow = BlockShapeFactory.createBlockShape(
-                BlockShape.Type.values()[currentPiece.getType()]);
-        
-        // Copia a posição e estado da peça atual
-        shadow.setPosition(currentPiece.getX(), currentPiece.getY());
-        copyBlockShapeState(currentPiece, shadow);
+        int type = currentPiece.getType();
+        int rotation = currentPiece.getRotation();
+        int x = currentPiece.getX();
+        int y = currentPiece.getY();
+        boolean tableLayout = PieceMaskTable.matchesLayout(currentPiece);
 
-        // Move a peça fantasma para baixo até encontrar colisão
-        int fallDistance = 0;
-        while (fallDistance < MAX_FALL_DISTANCE) {
-            shadow.move(0, 1);
-            if (!((StandardCollisionDetector) collisionDetector).isValidPosition(shadow)) {
-                shadow.move(0, -1); // Volta uma posição
-                break;
-            }
-            fallDistance++;
+        if (tableLayout && lastShadow != null && type == lastType && rotation == lastRotation
+                && x == lastX && y == lastY && board.getVersion() == lastBoardVersion) {
+            return lastShadow;
         }
 
-        // Se atingiu o limite máximo, algo está errado
-        if (fallDistance >= MAX_FALL_DISTANCE) {
-            return null;
-        }
+        int dropDistance = tableLayout
+                ? getDropDistance(type, rotation, x, y)
+                : getDropDistance(currentPiece, x, y);
+        shadow.copyStateFrom(currentPiece);
+        shadow.setPosition(x, y + dropDistance);
 
+        if (tableLayout) {
+            lastShadow = shadow;
+            lastType = type;
+            lastRotation = rotation;
+            lastX = x;
+            lastY = y;
+            lastBoardVersion = board.getVersion();
+        } else {
+            lastShadow = null;
+        }
         return shadow;
     }
 
     /**
-     * Copia o estado (orientação/rotação) de uma peça para outra.
-     *
-     * @param source Peça fonte
-     * @param target Peça destino
+     * Descarta o resultado guardado, forçando o recálculo na próxima chamada.
      */
-    private void copyBlockShapeState(BlockShape source, BlockShape target) {
-        List<Cell> sourceCells = source.getCells();
-        List<Cell> targetCells = target.getCells();
-        
-        int cellCount = Math.min(sourceCells.size(), targetCells.size());
-        
-        for (int i = 0; i < cellCount; i++) {
-            Cell originalCell = sourceCells.get(i);
-            Cell shadowCell = targetCells.get(i);
+    public void invalidate() {
+        lastShadow = null;
+    }
 
-            shadowCell.setRelativeX(originalCell.getRelativeX());
-            shadowCell.setRelativeY(originalCell.getRelativeY());
+    /**
+     * Calcula a distância de queda usando o perfil inferior pré-calculado da peça.
+     */
+    private int getDropDistance(int type, int rotation, int x, int y) {
+        int left = x + PieceMaskTable.getMinOffsetX(type, rotation);
+        int[] bottom = PieceMaskTable.getBottomOffsetsY(type, rotation);
+
+        int distance = Integer.MAX_VALUE;
+        for (int i = 0; i < bottom.length; i++) {
+            int cellY = y + bottom[i];
+            distance = Math.min(distance, board.getFirstOccupiedBelow(left + i, cellY) - cellY - 1);
+        }
+        return Math.max(distance, 0);
+    }
+
+    /**
+     * Calcula a distância de queda a partir das células da peça, para layouts fora da tabela.
+     */
+    private int getDropDistance(BlockShape piece, int x, int y) {
+        ShapeDefinition definition = piece.getDefinition();
+        int distance = Integer.MAX_VALUE;
+        for (int i = 0; i < definition.getCellCount(); i++) {
+            int cellX = x + definition.getOffsetX(i);
+            int cellY = y + definition.getOffsetY(i);
+            if (cellX < 0 || cellX >= board.getWidth()) {
+                return 0;
+            }
+            distance = Math.min(distance, board.getFirstOccupiedBelow(cellX, cellY) - cellY - 1);
         }
+        return Math.max(distance, 0);
     }
-}
\ No newline at end of file
+}
@@ -2,16 +2,16 @@ package com.uneb.fluxblocks.piece.rendering;
 
 import com.uneb.fluxblocks.architecture.events.UiEvents;
 import com.uneb.fluxblocks.architecture.mediators.GameMediator;
-import com.uneb.fluxblocks.configuration.GameConfig;
 import com.uneb.fluxblocks.game.logic.GameBoard;
-import com.uneb.fluxblocks.piece.entities.Cell;
 import com.uneb.fluxblocks.piece.entities.BlockShape;
 
+import java.util.Arrays;
+
 
 /**
  * Responsável pela renderização das peças no tabuleiro.
  */
-public class StandardPieceRenderer implements Renderer {
+public class StandardPieceRenderer implements PieceRenderer {
     private final GameBoard board;
     private final ShadowPieceCalculator shadowCalculator;
     private GameMediator mediator;
@@ -23,8 +23,18 @@ public class StandardPieceRenderer implements Renderer {
 
     /** Grid reutilizável para evitar alocações frequentes */
     private int[][] reusableGrid;
+    /** Última versão de cada linha enviada à interface, usada para detectar linhas sujas */
+    private final int[][] emittedGrid;
     private final int gridWidth;
     private final int gridHeight;
+    /** Linhas de buffer do tabuleiro acima da área visível */
+    private final int bufferHeight;
+    private final long allRowsMask;
+
+    /** Linhas ocupadas pela peça e pela sombra no último quadro */
+    private long overlayRows;
+    /** Versão do tabuleiro copiada para o grid reutilizável */
+    private long lastBoardVersion = -1;
 
     /**
      * Cria um novo renderizador de peças.
@@ -39,8 +49,15 @@ public class StandardPieceRenderer implements Renderer {
         
         // Inicializa o grid reutilizável
         this.gridWidth = board.getWidth();
-        this.gridHeight = board.getHeight() + GameConfig.BOARD_VISIBLE_ROW;
+        this.bufferHeight = board.getBufferHeight();
+        this.gridHeight = board.getHeight() + bufferHeight;
+        if (gridHeight > Long.SIZE) {
+            throw new IllegalArgumentException("Altura do grid excede " + Long.SIZE + " linhas: " + gridHeight);
+        }
         this.reusableGrid = new int[gridHeight][gridWidth];
+        this.emittedGrid = new int[gridHeight][gridWidth];
+        this.allRowsMask = gridHeight == Long.SIZE ? -1L : (1L << gridHeight) - 1;
+        invalidate();
     }
 
     /**
@@ -54,9 +71,11 @@ public class StandardPieceRenderer implements Renderer {
 
     /**
      * Atualiza o tabuleiro com a peça atual e sua sombra.
+     * Emite apenas as linhas que mudaram em relação ao último quadro enviado.
      *
      * @param currentPiece A peça atual
      */
+    @Override
     public void updateBoardWithCurrentPiece(BlockShape currentPiece) {
         if (currentPiece == null) {
             throw new IllegalArgumentException("A peça atual não pode ser null");
@@ -66,183 +85,134 @@ public class StandardPieceRenderer implements Renderer {
             throw new IllegalStateException("O mediador deve ser configurado antes de usar o renderizador");
         }
 
-        updateGridWithPiece(currentPiece);
-        mediator.emit(UiEvents.BOARD_UPDATE, new UiEvents.BoardUpdateEvent(playerId, reusableGrid));
+        long dirtyRows = updateGridWithPiece(currentPiece);
+        if (dirtyRows != 0) {
+            mediator.emit(UiEvents.BOARD_DELTA_UPDATE,
+                    new UiEvents.BoardDeltaEvent(playerId, dirtyRows, reusableGrid));
+        }
+    }
+
+    /**
+     * Força que o próximo quadro envie todas as linhas, por exemplo após a interface ser recriada.
+     */
+    @Override
+    public void invalidate() {
+        lastBoardVersion = -1;
+        for (int r = 0; r < gridHeight; r++) {
+            Arrays.fill(emittedGrid[r], Integer.MIN_VALUE);
+        }
     }
 
     /**
      * Atualiza o grid com a peça atual e sua sombra.
+     * Enquanto o tabuleiro não muda, só as linhas afetadas pela peça anterior e pela
+     * nova peça são reconstruídas. Quando o tabuleiro muda (o que também gera uma
+     * notificação própria do {@link GameBoard}), o quadro inteiro é reenviado.
+     *
      * @param currentPiece A peça atual
+     * @return A máscara das linhas que mudaram desde o último quadro
      */
-    private void updateGridWithPiece(BlockShape currentPiece) {
-        // Limpa o grid reutilizável
-        clearGrid();
-        
-        // Copia o estado do tabuleiro
-        copyBoardStateToGrid();
-        
+    private long updateGridWithPiece(BlockShape currentPiece) {
+        long candidateRows = overlayRows;
+        long boardVersion = board.getVersion();
+        boolean boardChanged = boardVersion != lastBoardVersion;
+        if (boardChanged) {
+            candidateRows = allRowsMask;
+            lastBoardVersion = boardVersion;
+        }
+
+        // Restaura as linhas candidatas a partir do tabuleiro
+        copyBoardRows(candidateRows);
+
         // Adiciona a sombra da peça
+        long newOverlayRows = 0;
         BlockShape shadow = shadowCalculator.calculateShadowPiece(currentPiece);
         if (shadow != null) {
-            addShadowToGrid(shadow);
+            newOverlayRows |= addCellsToGrid(shadow, true);
         }
         
         // Adiciona a peça atual
-        addPieceToGrid(currentPiece);
-    }
+        newOverlayRows |= addCellsToGrid(currentPiece, false);
 
-    /**
-     * Limpa o grid, preenchendo com zeros.
-     */
-    private void clearGrid() {
-        for (int r = 0; r < gridHeight; r++) {
-            for (int c = 0; c < gridWidth; c++) {
-                reusableGrid[r][c] = 0;
-            }
-        }
+        overlayRows = newOverlayRows;
+        long dirtyRows = collectDirtyRows(candidateRows | newOverlayRows);
+        return boardChanged ? allRowsMask : dirtyRows;
     }
 
     /**
-     * Copia o estado atual do tabuleiro para o grid.
+     * Copia as linhas indicadas do tabuleiro para o grid.
+     *
+     * @param rows Máscara das linhas do grid a copiar
      */
-    private void copyBoardStateToGrid() {
-        for (int r = 0; r < gridHeight; r++) {
-            for (int c = 0; c < gridWidth; c++) {
-                int logicalY = r - GameConfig.BOARD_VISIBLE_ROW;
-                reusableGrid[r][c] = board.getCell(c, logicalY);
-            }
+    private void copyBoardRows(long rows) {
+        long remaining = rows;
+        while (remaining != 0) {
+            int r = Long.numberOfTrailingZeros(remaining);
+            board.copyRow(r - bufferHeight, reusableGrid[r]);
+            remaining &= remaining - 1;
         }
     }
 
     /**
-     * Adiciona a sombra da peça ao grid.
+     * Compara as linhas indicadas com o último quadro emitido.
      *
-     * @param shadow A peça sombra
+     * @param rows Máscara das linhas a comparar
+     * @return A máscara das linhas que mudaram
      */
-    private void addShadowToGrid(BlockShape shadow) {
-        shadow.getCells().forEach(cell -> {
-            int gridY = cell.getY() + GameConfig.BOARD_VISIBLE_ROW;
-            if (isWithinBounds(cell) && gridY >= 0 && gridY < gridHeight) {
-                reusableGrid[gridY][cell.getX()] = SHADOW_CELL_CODE;
+    private long collectDirtyRows(long rows) {
+        long dirtyRows = 0;
+        long remaining = rows;
+        while (remaining != 0) {
+            int r = Long.numberOfTrailingZeros(remaining);
+            if (!Arrays.equals(reusableGrid[r], emittedGrid[r])) {
+                System.arraycopy(reusableGrid[r], 0, emittedGrid[r], 0, gridWidth);
+                dirtyRows |= 1L << r;
             }
-        });
+            remaining &= remaining - 1;
+        }
+        return dirtyRows;
     }
 
     /**
-     * Adiciona a peça atual ao grid.
+     * Adiciona as células de uma peça (ou da sua sombra) ao grid.
      *
      * @param piece A peça a ser adicionada
+     * @param asShadow true para desenhar a peça como sombra
+     * @return A máscara das linhas do grid tocadas pela peça
      */
-    private void addPieceToGrid(BlockShape piece) {
-        piece.getCells().forEach(cell -> {
-            int gridY = cell.getY() + GameConfig.BOARD_VISIBLE_ROW;
-            if (isWithinBounds(cell) && gridY >= 0 && gridY < gridHeight) {
-                if (piece.isGlass()) {
-                    reusableGrid[gridY][cell.getX()] = GLASS_CELL_CODE;
-                } else {
-                    reusableGrid[gridY][cell.getX()] = cell.getType();
-                }
+    private long addCellsToGrid(BlockShape piece, boolean asShadow) {
+        long rows = 0;
+        int code;
+        if (asShadow) {
+            code = SHADOW_CELL_CODE;
+        } else if (piece.isGlass()) {
+            code = GLASS_CELL_CODE;
+        } else {
+            code = piece.getType();
+        }
+        for (int i = 0; i < piece.getCellCount(); i++) {
+            int x = piece.getCellX(i);
+            int y = piece.getCellY(i);
+            int gridY = y + bufferHeight;
+            if (isWithinBounds(x, y) && gridY >= 0 && gridY < gridHeight) {
+                reusableGrid[gridY][x] = code;
+                rows |= 1L << gridY;
             }
-        });
+        }
+        return rows;
     }
 
     /**
      * Verifica se uma célula está dentro dos limites do tabuleiro.
      *
-     * @param cell A célula a verificar
+     * @param x A coordenada X da célula
+     * @param y A coordenada Y da célula
      * @return true se a célula está dentro dos limites
      */
-    private boolean isWithinBounds(Cell cell) {
-        return cell.getY() >= -GameConfig.BOARD_VISIBLE_ROW
-            && cell.getY() < board.getHeight()
-            && cell.getX() >= 0 
-            && cell.getX() < board.getWidth();
-    }
-    
-    // Implementação dos métodos da interface Renderer
-    
-    @Override
-    public void renderPiece(BlockShape shape, javafx.scene.canvas.GraphicsContext gc, double x, double y, double cellSize) {
-        // Implementação básica - pode ser expandida conforme necessário
-        if (shape != null) {
-            shape.getCells().forEach(cell -> {
-                double cellX = x + cell.getX() * cellSize;
-                double cellY = y + cell.getY() * cellSize;
-                renderCell(cell.getType(), gc, cellX, cellY, cellSize);
-            });
-        }
-    }
-    
-    @Override
-    public void renderBoard(GameBoard board, javafx.scene.canvas.GraphicsContext gc, double x, double y, double cellSize) {
-        // Implementação básica - renderiza o tabuleiro
-        for (int row = 0; row < board.getHeight(); row++) {
-            for (int col = 0; col < board.getWidth(); col++) {
-                int cellValue = board.getCell(col, row);
-                double cellX = x + col * cellSize;
-                double cellY = y + row * cellSize;
-                renderCell(cellValue, gc, cellX, cellY, cellSize);
-            }
-        }
-    }
-    
-    @Override
-    public void renderCell(int cellValue, javafx.scene.canvas.GraphicsContext gc, double x, double y, double cellSize) {
-        // Implementação básica - renderiza uma célula
-        if (cellValue > 0) {
-            gc.setFill(javafx.scene.paint.Color.BLUE);
-            gc.fillRect(x, y, cellSize, cellSize);
-        }
-    }
-    
-    @Override
-    public void renderShadow(BlockShape shape, javafx.scene.canvas.GraphicsContext gc, double x, double y, double cellSize) {
-        // Implementação básica - renderiza a sombra
-        if (shape != null) {
-            BlockShape shadow = shadowCalculator.calculateShadowPiece(shape);
-            if (shadow != null) {
-                renderPiece(shadow, gc, x, y, cellSize);
-            }
-        }
-    }
-    
-    @Override
-    public void renderNextPiece(BlockShape shape, javafx.scene.canvas.GraphicsContext gc, double x, double y, double cellSize) {
-        renderPiece(shape, gc, x, y, cellSize);
-    }
-    
-    @Override
-    public void renderHoldPiece(BlockShape shape, javafx.scene.canvas.GraphicsContext gc, double x, double y, double cellSize) {
-        renderPiece(shape, gc, x, y, cellSize);
-    }
-    
-    @Override
-    public void clearArea(javafx.scene.canvas.GraphicsContext gc, double x, double y, double width, double height) {
-        gc.clearRect(x, y, width, height);
-    }
-    
-    @Override
-    public String getName() {
-        return "StandardPieceRenderer";
-    }
-    
-    @Override
-    public boolean isActive() {
-        return true; // Sempre ativo por padrão
-    }
-    
-    @Override
-    public void setActive(boolean active) {
-        // Implementação básica - pode ser expandida conforme necessário
-    }
-    
-    @Override
-    public void setStyle(String style) {
-        // Implementação básica - pode ser expandida conforme necessário
-    }
-    
-    @Override
-    public String getStyle() {
-        return "default";
+    private boolean isWithinBounds(int x, int y) {
+        return y >= -bufferHeight
+            && y < board.getHeight()
+            && x >= 0
+            && x < board.getWidth();
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,6 @@
 package com.uneb.fluxblocks.piece.scoring;
 
-import com.uneb.fluxblocks.configuration.GameConfig;
+import com.uneb.fluxblocks.configuration.GameRules;
 import com.uneb.fluxblocks.game.logic.GameState;
 import com.uneb.fluxblocks.game.scoring.ScoringStrategy;
 import com.uneb.fluxblocks.piece.collision.SpinDetector;
@@ -14,7 +14,24 @@ import com.uneb.fluxblocks.piece.collision.TripleSpinDetector;
  */
 public class StandardScoreCalculator implements ScoringStrategy {
     
-    public StandardScoreCalculator() {}
+    /** Regras da partida, com as tabelas de pontuação */
+    private final GameRules rules;
+
+    /**
+     * Cria uma calculadora com as regras atuais de configuração.
+     */
+    public StandardScoreCalculator() {
+        this(GameRules.fromConfig());
+    }
+
+    /**
+     * Cria uma calculadora com as tabelas de pontuação das regras informadas.
+     *
+     * @param rules As regras da partida
+     */
+    public StandardScoreCalculator(GameRules rules) {
+        this.rules = rules;
+    }
 
     /**
      * Calcula pontuação base para linhas completadas.
@@ -23,14 +40,14 @@ public class StandardScoreCalculator implements ScoringStrategy {
      * @param level Nível atual do jogo
      * @return Pontuação base calculada
      */
-    public static int calculateBaseScore(int linesCleared, int level) {
+    public int calculateBaseScore(int linesCleared, int level) {
         if (linesCleared <= 0) return 0;
         
         int baseScore = switch (linesCleared) {
-            case 1 -> GameConfig.SCORE_SINGLE_LINE;
-            case 2 -> GameConfig.SCORE_DOUBLE_LINE;
-            case 3 -> GameConfig.SCORE_TRIPLE_LINE; 
-            case 4 -> GameConfig.SCORE_QUADRA_LINE; 
+            case 1 -> rules.getScoreSingleLine();
+            case 2 -> rules.getScoreDoubleLine();
+            case 3 -> rules.getScoreTripleLine(); 
+            case 4 -> rules.getScoreQuadraLine(); 
             default -> 0;
         };
         
@@ -45,23 +62,23 @@ public class StandardScoreCalculator implements ScoringStrategy {
      * @param level Nível atual do jogo
      * @return Pontuação calculada para Spin
      */
-    public static int calculateSpinScore(SpinDetector.SpinType spinType, int linesCleared, int level) {
+    public int calculateSpinScore(SpinDetector.SpinType spinType, int linesCleared, int level) {
         if (spinType == SpinDetector.SpinType.NONE) {
             return 0;
         }
         
         int baseScore = switch (spinType) {
             case SPIN -> switch (linesCleared) {
-                case 0 -> GameConfig.SCORE_SPIN_BASE;
-                case 1 -> GameConfig.SCORE_SPIN_SINGLE;
-                case 2 -> GameConfig.SCORE_SPIN_DOUBLE;
-                case 3 -> GameConfig.SCORE_SPIN_TRIPLE; 
+                case 0 -> rules.getScoreSpinBase();
+                case 1 -> rules.getScoreSpinSingle();
+                case 2 -> rules.getScoreSpinDouble();
+                case 3 -> rules.getScoreSpinTriple(); 
                 default -> 0;
             };
             case SPIN_MINI -> switch (linesCleared) {
-                case 0 -> GameConfig.SCORE_SPIN_MINI_BASE;
-                case 1 -> GameConfig.SCORE_SPIN_MINI_SINGLE;
-                case 2 -> GameConfig.SCORE_SPIN_MINI_DOUBLE;
+                case 0 -> rules.getScoreSpinMiniBase();
+                case 1 -> rules.getScoreSpinMiniSingle();
+                case 2 -> rules.getScoreSpinMiniDouble();
                 default -> 0;
             };
             case NONE -> 0;
@@ -78,23 +95,23 @@ public class StandardScoreCalculator implements ScoringStrategy {
      * @param level Nível atual do jogo
      * @return Pontuação calculada para Triple Spin
      */
-    public static int calculateTripleSpinScore(TripleSpinDetector.TripleSpinType tripleSpinType, int linesCleared, int level) {
+    public int calculateTripleSpinScore(TripleSpinDetector.TripleSpinType tripleSpinType, int linesCleared, int level) {
         if (tripleSpinType == TripleSpinDetector.TripleSpinType.NONE) {
             return 0;
         }
         
         int baseScore = switch (tripleSpinType) {
             case TRIPLE_SPIN -> switch (linesCleared) {
-                case 0 -> GameConfig.SCORE_TRIPLE_SPIN_BASE;
-                case 1 -> GameConfig.SCORE_TRIPLE_SPIN_SINGLE;
-                case 2 -> GameConfig.SCORE_TRIPLE_SPIN_DOUBLE;
-                case 3 -> GameConfig.SCORE_TRIPLE_SPIN_TRIPLE; 
+                case 0 -> rules.getScoreTripleSpinBase();
+                case 1 -> rules.getScoreTripleSpinSingle();
+                case 2 -> rules.getScoreTripleSpinDouble();
+                case 3 -> rules.getScoreTripleSpinTriple(); 
                 default -> 0;
             };
             case TRIPLE_SPIN_MINI -> switch (linesCleared) {
-                case 0 -> GameConfig.SCORE_TRIPLE_SPIN_MINI_BASE;
-                case 1 -> GameConfig.SCORE_TRIPLE_SPIN_MINI_SINGLE;
-                case 2 -> GameConfig.SCORE_TRIPLE_SPIN_MINI_DOUBLE;
+                case 0 -> rules.getScoreTripleSpinMiniBase();
+                case 1 -> rules.getScoreTripleSpinMiniSingle();
+                case 2 -> rules.getScoreTripleSpinMiniDouble();
                 default -> 0;
             };
             case NONE -> 0;
@@ -111,7 +128,7 @@ public class StandardScoreCalculator implements ScoringStrategy {
      * @param level Nível atual do jogo
      * @return Pontuação total calculada
      */
-    public static int calculateTotalScore(int linesCleared, SpinDetector.SpinType spinType, int level) {
+    public int calculateTotalScore(int linesCleared, SpinDetector.SpinType spinType, int level) {
         int baseScore = calculateBaseScore(linesCleared, level);
         int spinScore = calculateSpinScore(spinType, linesCleared, level);
         
@@ -126,7 +143,7 @@ public class StandardScoreCalculator implements ScoringStrategy {
      * @param level Nível atual do jogo
      * @return Pontuação total calculada
      */
-    public static int calculateTotalScoreWithTripleSpin(int linesCleared, TripleSpinDetector.TripleSpinType tripleSpinType, int level) {
+    public int calculateTotalScoreWithTripleSpin(int linesCleared, TripleSpinDetector.TripleSpinType tripleSpinType, int level) {
         int baseScore = calculateBaseScore(linesCleared, level);
         int tripleSpinScore = calculateTripleSpinScore(tripleSpinType, linesCleared, level);
         
@@ -139,8 +156,8 @@ public class StandardScoreCalculator implements ScoringStrategy {
      * @param level Nível atual do jogo
      * @return Pontuação por célula de soft drop
      */
-    public static int calculateSoftDropScore(int level) {
-        return GameConfig.SCORE_SOFT_DROP * level;
+    public int calculateSoftDropScore(int level) {
+        return rules.getScoreSoftDrop() * level;
     }
     
 
@@ -165,15 +182,15 @@ public class StandardScoreCalculator implements ScoringStrategy {
     
     @Override
     public int calculateHardDropScore(int distance, int level) {
-        return distance * GameConfig.SCORE_HARD_DROP * level;
+        return distance * rules.getScoreHardDrop() * level;
     }
     
     @Override
     public int calculateTSpinScore(int level, boolean isMini) {
         if (isMini) {
-            return GameConfig.SCORE_SPIN_MINI_BASE * level;
+            return rules.getScoreSpinMiniBase() * level;
         } else {
-            return GameConfig.SCORE_SPIN_BASE * level;
+            return rules.getScoreSpinBase() * level;
         }
     }
     
@@ -1,14 +1,27 @@
 package com.uneb.fluxblocks.piece.timing;
 
-import com.almasb.fxgl.dsl.FXGL;
-import com.uneb.fluxblocks.configuration.GameConfig;
+import com.uneb.fluxblocks.architecture.interfaces.GameClock;
+import com.uneb.fluxblocks.configuration.GameRules;
 import com.uneb.fluxblocks.piece.entities.BlockShape;
 
 /**
  * Gerencia o sistema de lock delay, controlando quando uma peça
  * deve ser fixada no tabuleiro após atingir uma posição de descanso.
+ *
+ * <p>Em vez de ser consultado a cada quadro, o handler arma um prazo no {@link GameClock}
+ * quando a peça pousa e o rearma a cada reset. Quando o prazo vence, a ação registrada em
+ * {@link #setOnLockExpired(Runnable)} é chamada. Sem peça pousada não há nada agendado.</p>
  */
 public class LockDelayHandler {
+    /** Relógio usado para medir o lock delay */
+    private final GameClock clock;
+
+    /** Tempo até a peça ser fixada, em segundos */
+    private final double lockDelaySeconds;
+
+    /** Número máximo de resets do lock delay por peça */
+    private final int maxLockResets;
+
     /** Timer para controlar o lock delay */
     private double lockTimer = 0;
 
@@ -21,6 +34,36 @@ public class LockDelayHandler {
     /** Contador de resets do lock delay para a peça atual */
     private int lockResets = 0;
 
+    /** Ação chamada quando o lock delay vence */
+    private Runnable onLockExpired = () -> { };
+
+    /** Prazo armado no relógio, ou null */
+    private GameClock.ScheduledAction deadline;
+
+    /** Tempo restante do lock delay guardado durante a pausa, em segundos (negativo = sem pausa) */
+    private double pausedRemaining = -1;
+
+    /**
+     * Cria um gerenciador de lock delay.
+     *
+     * @param clock O relógio do jogo
+     * @param rules As regras da partida (lock delay e limite de resets)
+     */
+    public LockDelayHandler(GameClock clock, GameRules rules) {
+        this.clock = clock;
+        this.lockDelaySeconds = rules.getLockDelay() / 1000.0;
+        this.maxLockResets = rules.getMaxLockResets();
+    }
+
+    /**
+     * Define a ação chamada quando o lock delay vence.
+     *
+     * @param onLockExpired A ação que fixa a peça
+     */
+    public void setOnLockExpired(Runnable onLockExpired) {
+        this.onLockExpired = onLockExpired;
+    }
+
     /**
      * Inicia o temporizador de lock delay.
      *
@@ -28,8 +71,9 @@ public class LockDelayHandler {
      */
     public void startLockDelay(BlockShape piece) {
         lockPending = true;
-        lockTimer = FXGL.getGameTimer().getNow();
+        lockTimer = clock.getNow();
         lastLandedY = piece.getY();
+        armDeadline(lockDelaySeconds);
     }
 
     /**
@@ -43,18 +87,22 @@ public class LockDelayHandler {
     public boolean resetLockDelay(BlockShape piece, boolean isAtRest) {
         if (!isAtRest) {
             lockPending = false;
+            cancelDeadline();
             return true;
         }
 
         int currentY = piece.getY();
 
         if (currentY != lastLandedY) {
-            if (lockResets >= GameConfig.MAX_LOCK_RESETS) {
+            if (lockResets >= maxLockResets) {
                 return false;
             }
-            lockTimer = FXGL.getGameTimer().getNow();
+            lockTimer = clock.getNow();
             lastLandedY = currentY;
             lockResets++;
+            if (lockPending) {
+                armDeadline(lockDelaySeconds);
+            }
         }
         return true;
     }
@@ -67,8 +115,8 @@ public class LockDelayHandler {
     public boolean isLockDelayExpired() {
         if (!lockPending) return false;
 
-        double currentTime = FXGL.getGameTimer().getNow();
-        return (currentTime - lockTimer >= GameConfig.LOCK_DELAY / 1000.0);
+        double currentTime = clock.getNow();
+        return (currentTime - lockTimer >= lockDelaySeconds);
     }
 
     /**
@@ -80,6 +128,27 @@ public class LockDelayHandler {
         return lockPending;
     }
 
+    /**
+     * Suspende ou retoma o prazo do lock delay, preservando o tempo que faltava.
+     *
+     * @param paused true para pausar, false para retomar
+     */
+    public void setPaused(boolean paused) {
+        if (paused) {
+            if (lockPending && pausedRemaining < 0) {
+                pausedRemaining = Math.max(0, lockTimer + lockDelaySeconds - clock.getNow());
+                cancelDeadline();
+            }
+        } else if (pausedRemaining >= 0) {
+            double remaining = pausedRemaining;
+            pausedRemaining = -1;
+            if (lockPending) {
+                lockTimer = clock.getNow() - (lockDelaySeconds - remaining);
+                armDeadline(remaining);
+            }
+        }
+    }
+
     /**
      * Reseta o estado de lock delay após uma peça ser fixada.
      */
@@ -87,5 +156,31 @@ public class LockDelayHandler {
         lockPending = false;
         lastLandedY = -1;
         lockResets = 0;
+        pausedRemaining = -1;
+        cancelDeadline();
+    }
+
+    private void armDeadline(double delaySeconds) {
+        cancelDeadline();
+        if (pausedRemaining >= 0) {
+            // Pausado: o prazo é armado de novo ao retomar
+            pausedRemaining = delaySeconds;
+            return;
+        }
+        deadline = clock.runAfter(this::expire, delaySeconds);
+    }
+
+    private void cancelDeadline() {
+        if (deadline != null) {
+            deadline.cancel();
+            deadline = null;
+        }
+    }
+
+    private void expire() {
+        deadline = null;
+        if (lockPending) {
+            onLockExpired.run();
+        }
     }
 }
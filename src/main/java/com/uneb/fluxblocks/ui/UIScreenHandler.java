@@ -52,7 +52,10 @@ public class UIScreenHandler {
             showGameModeScreen();
         });
         mediator.receiver(UiEvents.START_SINGLE_PLAYER, event -> startSinglePlayerGame());
-        mediator.receiver(UiEvents.START_LOCAL_MULTIPLAYER, event -> startLocalMultiplayerGame());
+        mediator.receiver(UiEvents.START_LOCAL_MULTIPLAYER, event -> startLocalMultiplayerGame(false));
+        mediator.receiver(UiEvents.START_CPU_MULTIPLAYER, event -> startLocalMultiplayerGame(true));
+        mediator.receiver(UiEvents.RESTART_LOCAL_MULTIPLAYER,
+                event -> startLocalMultiplayerGame(gameManager.isCpuOpponent()));
         mediator.receiver(UiEvents.OPTIONS, event -> {
             modalAutomaticoHabilitado = false;
             showOptionsScreen();
@@ -137,10 +140,10 @@ public class UIScreenHandler {
         gameManager.startSinglePlayerGame();
     }
 
-    private void startLocalMultiplayerGame() {
+    private void startLocalMultiplayerGame(boolean cpuOpponent) {
         cleanup();
         gameOverManager.reset();
-        gameManager.startLocalMultiplayerGame();
+        gameManager.startLocalMultiplayerGame(cpuOpponent);
     }
 
     private void handleGameOver(UiEvents.GameOverEvent event) {
@@ -4,6 +4,7 @@ import com.almasb.fxgl.dsl.FXGL;
 import com.almasb.fxgl.entity.Entity;
 import javafx.scene.canvas.Canvas;
 import com.uneb.fluxblocks.configuration.GameConfig;
+import com.uneb.fluxblocks.ui.theme.CacheHints;
 
 
 public class BoardCanvas {
@@ -32,7 +33,7 @@ public class BoardCanvas {
         
         if (GameConfig.ENABLE_CANVAS_CACHE) {
             this.canvas.setCache(true);
-            this.canvas.setCacheHint(GameConfig.getCacheHint());
+            this.canvas.setCacheHint(CacheHints.getCacheHint());
         }
 
         int[][] initialGrid = new int[height][width];
@@ -57,6 +58,19 @@ public class BoardCanvas {
         renderComponent.updateGrid(grid);
     }
 
+    /**
+     * Aplica ao canvas apenas as linhas alteradas do grid.
+     *
+     * @param dirtyRows máscara das linhas alteradas (bit r = linha r)
+     * @param grid matriz bidimensional com o estado atual do tabuleiro
+     */
+    public void applyDelta(long dirtyRows, int[][] grid) {
+        if (grid == null || grid.length == 0 || grid[0].length == 0) {
+            return;
+        }
+        renderComponent.applyDelta(dirtyRows, grid);
+    }
+
     /**
      * Limpa o conteúdo do canvas, restaurando o fundo e redesenhando todas as células como vazias.
      */
@@ -25,6 +25,9 @@ public class BoardRenderComponent extends Component {
 
     private boolean firstDraw = true;
     private final int[][] previousGrid;
+    /** Linhas alteradas desde o último desenho (bit r = linha r) */
+    private long pendingRows;
+    private final long allRowsMask;
 
     // Cores e estilos do tabuleiro
     private static final Color BOARD_BACKGROUND_COLOR = Color.web("#15202b");
@@ -52,6 +55,8 @@ public class BoardRenderComponent extends Component {
                 this.previousGrid[y][x] = -1;
             }
         }
+        this.allRowsMask = height >= Long.SIZE ? -1L : (1L << height) - 1;
+        this.pendingRows = allRowsMask;
     }
 
     @Override
@@ -61,7 +66,18 @@ public class BoardRenderComponent extends Component {
             firstDraw = false;
         }
 
-        for (int r = 0; r < height; r++) {
+        if (pendingRows == 0) {
+            return;
+        }
+
+        long rows = pendingRows;
+        pendingRows = 0;
+        while (rows != 0) {
+            int r = Long.numberOfTrailingZeros(rows);
+            rows &= rows - 1;
+            if (r >= height) {
+                break;
+            }
             for (int c = 0; c < width; c++) {
                 if (previousGrid[r][c] != grid[r][c]) {
                     if (r < GameConfig.BOARD_VISIBLE_ROW) {
@@ -285,6 +301,7 @@ public class BoardRenderComponent extends Component {
                 previousGrid[y][x] = 0;
             }
         }
+        pendingRows = allRowsMask;
     }
 
     /**
@@ -296,5 +313,26 @@ public class BoardRenderComponent extends Component {
         for (int y = 0; y < height; y++) {
             if (width >= 0) System.arraycopy(newGrid[y], 0, this.grid[y], 0, width);
         }
+        pendingRows = allRowsMask;
+    }
+
+    /**
+     * Aplica uma atualização incremental, copiando apenas as linhas marcadas como sujas.
+     *
+     * @param dirtyRows máscara das linhas alteradas (bit r = linha r)
+     * @param source matriz de origem com o estado atual do tabuleiro
+     */
+    public void applyDelta(long dirtyRows, int[][] source) {
+        long rows = dirtyRows & allRowsMask;
+        long remaining = rows;
+        while (remaining != 0) {
+            int y = Long.numberOfTrailingZeros(remaining);
+            remaining &= remaining - 1;
+            if (y >= source.length) {
+                break;
+            }
+            System.arraycopy(source[y], 0, this.grid[y], 0, width);
+        }
+        pendingRows |= rows;
     }
 }
\ No newline at end of file
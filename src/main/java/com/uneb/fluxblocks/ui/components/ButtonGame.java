@@ -4,6 +4,7 @@ import com.almasb.fxgl.dsl.FXGL;
 import com.almasb.fxgl.entity.Entity;
 import com.almasb.fxgl.entity.component.Component;
 import com.uneb.fluxblocks.configuration.GameConfig;
+import com.uneb.fluxblocks.ui.theme.CacheHints;
 
 import javafx.scene.control.Button;
 
@@ -62,7 +63,7 @@ public class ButtonGame {
             
             if (GameConfig.ENABLE_UI_CACHE) {
                 button.setCache(true);
-                button.setCacheHint(GameConfig.getCacheHint());
+                button.setCacheHint(CacheHints.getCacheHint());
             }
         }
 
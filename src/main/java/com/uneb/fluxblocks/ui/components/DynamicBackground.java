@@ -8,6 +8,7 @@ import com.uneb.fluxblocks.piece.entities.BlockShape;
 import com.uneb.fluxblocks.piece.entities.Cell;
 import com.uneb.fluxblocks.piece.factory.BlockShapeFactory;
 import com.uneb.fluxblocks.ui.theme.BlockShapeColors;
+import com.uneb.fluxblocks.ui.theme.CacheHints;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.*;
@@ -48,7 +49,7 @@ public class DynamicBackground {
             
             if (GameConfig.ENABLE_CANVAS_CACHE) {
                 this.canvas.setCache(true);
-                this.canvas.setCacheHint(GameConfig.getCacheHint());
+                this.canvas.setCacheHint(CacheHints.getCacheHint());
             }
             
             calculateBlockSize(width, height);
@@ -223,7 +224,7 @@ public class DynamicBackground {
             List<Cell> cells = new ArrayList<>();
             int colorType = random.nextInt(7);
             cells.add(new Cell(0, 0, colorType));
-            return new BlockShape(cells, colorType + 1);
+            return new BlockShape(cells, colorType);
         }
 
         private void addFallingPieces(int gridCols, int gridRows, boolean[][] occupiedGrid) {
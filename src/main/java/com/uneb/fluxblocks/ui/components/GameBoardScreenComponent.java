@@ -4,6 +4,7 @@ import com.almasb.fxgl.entity.component.Component;
 import com.uneb.fluxblocks.architecture.events.UiEvents;
 import com.uneb.fluxblocks.architecture.mediators.GameMediator;
 import com.uneb.fluxblocks.configuration.GameConfig;
+import com.uneb.fluxblocks.ui.effects.LineClearEffectConsumer;
 import com.uneb.fluxblocks.ui.effects.LineClearEffects;
 import javafx.animation.TranslateTransition;
 import javafx.geometry.Pos;
@@ -23,6 +24,10 @@ public class GameBoardScreenComponent extends Component {
     private final StackPane root;
     private final Pane effectsLayer;
     private final int playerId;
+    private final GameMediator.Listener<UiEvents.BoardUpdateEvent> boardUpdateListener;
+    private final GameMediator.Listener<UiEvents.BoardDeltaEvent> boardDeltaListener;
+    private final GameMediator.Listener<UiEvents.ScreenShakeEvent> screenShakeListener;
+    private final LineClearEffectConsumer lineClearEffectConsumer;
     
     public GameBoardScreenComponent(GameMediator mediator, int playerId) {
         this.mediator = mediator;
@@ -32,9 +37,13 @@ public class GameBoardScreenComponent extends Component {
         this.boardCanvas = new BoardCanvas(GameConfig.BOARD_WIDTH, totalHeight, GameConfig.CELL_SIZE);
         this.effectsLayer = new Pane();
         this.root = new StackPane(boardCanvas.getCanvas(), effectsLayer);
+        this.boardUpdateListener = ev -> updateBoard(ev.grid());
+        this.boardDeltaListener = ev -> boardCanvas.applyDelta(ev.dirtyRows(), ev.grid());
+        this.screenShakeListener = this::handleScreenShake;
 
         setupBasicUI();
         registerEvents();
+        this.lineClearEffectConsumer = new LineClearEffectConsumer(mediator, effectsLayer, playerId);
     }
 
     @Override
@@ -74,16 +83,9 @@ public class GameBoardScreenComponent extends Component {
     }
 
     private void registerEvents() {
-        mediator.receiver(UiEvents.BOARD_UPDATE, (ev) -> {
-            if (ev.playerId() == playerId) {
-                updateBoard(ev.grid());
-            }
-        });
-        mediator.receiver(UiEvents.SCREEN_SHAKE, (ev) -> {
-            if (ev.playerId() == playerId) {
-                handleScreenShake(ev);
-            }
-        });
+        mediator.receiver(UiEvents.BOARD_UPDATE, playerId, boardUpdateListener);
+        mediator.receiver(UiEvents.BOARD_DELTA_UPDATE, playerId, boardDeltaListener);
+        mediator.receiver(UiEvents.SCREEN_SHAKE, playerId, screenShakeListener);
     }
 
     private void handleScreenShake(UiEvents.ScreenShakeEvent event) {
@@ -145,15 +147,9 @@ public class GameBoardScreenComponent extends Component {
             root.setStyle("");
         }
 
-        mediator.removeReceiver(UiEvents.BOARD_UPDATE, (ev) -> {
-            if (ev.playerId() == playerId) {
-                updateBoard(ev.grid());
-            }
-        });
-        mediator.removeReceiver(UiEvents.SCREEN_SHAKE, (ev) -> {
-            if (ev.playerId() == playerId) {
-                handleScreenShake(ev);
-            }
-        });
+        mediator.removeReceiver(UiEvents.BOARD_UPDATE, playerId, boardUpdateListener);
+        mediator.removeReceiver(UiEvents.BOARD_DELTA_UPDATE, playerId, boardDeltaListener);
+        mediator.removeReceiver(UiEvents.SCREEN_SHAKE, playerId, screenShakeListener);
+        lineClearEffectConsumer.dispose();
     }
 }
\ No newline at end of file
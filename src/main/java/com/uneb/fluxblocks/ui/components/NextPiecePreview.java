@@ -5,8 +5,8 @@ import com.almasb.fxgl.entity.Entity;
 import com.almasb.fxgl.entity.component.Component;
 import com.uneb.fluxblocks.architecture.events.UiEvents;
 import com.uneb.fluxblocks.architecture.mediators.GameMediator;
-import com.uneb.fluxblocks.piece.entities.BlockShape;
-import com.uneb.fluxblocks.piece.entities.Cell;
+import com.uneb.fluxblocks.piece.entities.ShapeDefinition;
+import com.uneb.fluxblocks.piece.factory.provider.BlockShapeProvider;
 import com.uneb.fluxblocks.ui.theme.BlockShapeColors;
 import javafx.geometry.Pos;
 import javafx.scene.canvas.Canvas;
@@ -15,8 +15,10 @@ import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
 
 /**
- * Componente responsável por exibir uma prévia da próxima peça no jogo.
- * Ele escuta eventos de atualização da próxima peça e renderiza a visualização correspondente.
+ * Componente responsável por exibir a fila das próximas peças no jogo.
+ * Ele escuta eventos de atualização da fila e desenha cada peça a partir da sua
+ * {@link ShapeDefinition}, sem criar instâncias de peça: a primeira em tamanho normal
+ * e as seguintes menores, empilhadas abaixo dela.
  */
 public class NextPiecePreview {
 
@@ -28,23 +30,22 @@ public class NextPiecePreview {
         private final int playerId;
         private final GameMediator mediator;
         private final StackPane container;
-        private final int cellSize = 30;
+        private final int cellSize = 24;
+        private final int queueCellSize = 14;
+        private final int pieceSpacing = 10;
         private final GameMediator.Listener<UiEvents.NextPieceEvent> nextPieceListener;
 
         public NextPiecePreviewComponent(GameMediator mediator, StackPane container, int playerId) {
             this.mediator = mediator;
             this.container = container;
             this.playerId = playerId;
-            this.nextPieceListener = ev -> {
-                if (ev.playerId() != this.playerId) return;
-                updateNextPiecePreview(ev.nextPiece());
-            };
+            this.nextPieceListener = ev -> updateNextPiecePreview(ev.queue());
             initializePreview();
         }
 
         @Override
         public void onAdded() {
-            mediator.receiver(UiEvents.NEXT_PIECE_UPDATE, nextPieceListener);
+            mediator.receiver(UiEvents.NEXT_PIECE_UPDATE, playerId, nextPieceListener);
         }
 
         @Override
@@ -56,49 +57,53 @@ public class NextPiecePreview {
             container.setAlignment(Pos.CENTER);
         }
 
-        public void updateNextPiecePreview(BlockShape nextPiece) {
+        public void updateNextPiecePreview(int[] queue) {
             container.getChildren().clear();
 
-            if (nextPiece == null) {
+            if (queue == null || queue.length == 0) {
                 return;
             }
 
-            int minX = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE;
-            int minY = Integer.MAX_VALUE, maxY = Integer.MIN_VALUE;
-
-            for (Cell cell : nextPiece.getCells()) {
-                minX = Math.min(minX, cell.getRelativeX());
-                maxX = Math.max(maxX, cell.getRelativeX());
-                minY = Math.min(minY, cell.getRelativeY());
-                maxY = Math.max(maxY, cell.getRelativeY());
+            double width = 0;
+            double height = 0;
+            for (int i = 0; i < queue.length; i++) {
+                ShapeDefinition shape = ShapeDefinition.get(BlockShapeProvider.typeOf(queue[i]), 0);
+                int size = i == 0 ? cellSize : queueCellSize;
+                width = Math.max(width, shape.getWidth() * size);
+                height += shape.getHeight() * size + (i > 0 ? pieceSpacing : 0);
             }
 
-            int pieceWidth = maxX - minX + 1;
-            int pieceHeight = maxY - minY + 1;
-
-            Canvas previewCanvas = new Canvas(pieceWidth * cellSize, pieceHeight * cellSize);
+            Canvas previewCanvas = new Canvas(width, height);
             GraphicsContext gc = previewCanvas.getGraphicsContext2D();
 
-            for (Cell cell : nextPiece.getCells()) {
-                int x = cell.getRelativeX() - minX;
-                int y = cell.getRelativeY() - minY;
-                int cellType = nextPiece.isGlass() ? 10 : cell.getType();
-                drawCell(gc, x, y, cellType);
+            double top = 0;
+            for (int i = 0; i < queue.length; i++) {
+                ShapeDefinition shape = ShapeDefinition.get(BlockShapeProvider.typeOf(queue[i]), 0);
+                int size = i == 0 ? cellSize : queueCellSize;
+                double left = (width - shape.getWidth() * size) / 2;
+                int cellType = BlockShapeProvider.isGlass(queue[i]) ? 10 : shape.getType();
+
+                for (int c = 0; c < shape.getCellCount(); c++) {
+                    double x = left + (shape.getOffsetX(c) - shape.getMinOffsetX()) * size;
+                    double y = top + (shape.getOffsetY(c) - shape.getMinOffsetY()) * size;
+                    drawCell(gc, x, y, size, cellType);
+                }
+                top += shape.getHeight() * size + pieceSpacing;
             }
 
             container.getChildren().add(previewCanvas);
         }
 
-        private void drawCell(GraphicsContext gc, int x, int y, int type) {
+        private void drawCell(GraphicsContext gc, double px, double py, int size, int type) {
             int spacing = 1;
-            int innerSize = cellSize - (spacing * 2);
+            int innerSize = size - (spacing * 2);
 
             if (type == 10) {
                 Color glassColor = BlockShapeColors.getGlassColor();
                 gc.setFill(glassColor);
                 gc.fillRoundRect(
-                        x * cellSize + spacing,
-                        y * cellSize + spacing,
+                        px + spacing,
+                        py + spacing,
                         innerSize,
                         innerSize,
                         10, 10);
@@ -107,16 +112,16 @@ public class NextPiecePreview {
                 gc.save();
                 gc.setGlobalAlpha(0.35);
                 javafx.scene.paint.LinearGradient shine = new javafx.scene.paint.LinearGradient(
-                    x * cellSize + spacing, y * cellSize + spacing, 
-                    x * cellSize + spacing, y * cellSize + spacing + innerSize / 2, 
+                    px + spacing, py + spacing, 
+                    px + spacing, py + spacing + innerSize / 2, 
                     false, javafx.scene.paint.CycleMethod.NO_CYCLE,
                     new javafx.scene.paint.Stop(0, Color.rgb(255, 255, 255, 0.9)),
                     new javafx.scene.paint.Stop(1, Color.rgb(255, 255, 255, 0.0))
                 );
                 gc.setFill(shine);
                 gc.fillRoundRect(
-                        x * cellSize + spacing,
-                        y * cellSize + spacing,
+                        px + spacing,
+                        py + spacing,
                         innerSize,
                         innerSize / 2,
                         10, 10);
@@ -127,8 +132,8 @@ public class NextPiecePreview {
                 gc.setStroke(Color.rgb(255, 255, 255, 0.25));
                 gc.setLineWidth(0.8);
             
-                double cx = x * cellSize + spacing + innerSize / 2;
-                double cy = y * cellSize + spacing + innerSize / 2;
+                double cx = px + spacing + innerSize / 2;
+                double cy = py + spacing + innerSize / 2;
                 int cracks = 6;
                 double radius = innerSize / 2;
             
@@ -155,8 +160,8 @@ public class NextPiecePreview {
 
                 gc.setFill(tetroColor);
                 gc.fillRoundRect(
-                        x * cellSize + spacing,
-                        y * cellSize + spacing,
+                        px + spacing,
+                        py + spacing,
                         innerSize,
                         innerSize,
                         10, 10);
@@ -164,8 +169,8 @@ public class NextPiecePreview {
                 gc.setStroke(Color.web("#ffffff", 0.3));
                 gc.setLineWidth(0.5);
                 gc.strokeRoundRect(
-                        x * cellSize + spacing,
-                        y * cellSize + spacing,
+                        px + spacing,
+                        py + spacing,
                         innerSize,
                         innerSize,
                         10, 10);
@@ -178,7 +183,7 @@ public class NextPiecePreview {
             }
 
             if (mediator != null) {
-                mediator.removeReceiver(UiEvents.NEXT_PIECE_UPDATE, nextPieceListener);
+                mediator.removeReceiver(UiEvents.NEXT_PIECE_UPDATE, playerId, nextPieceListener);
             }
         }
 
@@ -206,12 +211,12 @@ public class NextPiecePreview {
     }
 
     /**
-     * Atualiza a prévia da próxima peça.
+     * Atualiza a prévia das próximas peças.
      *
-     * @param nextPiece Próxima peça a ser exibida
+     * @param queue Códigos das próximas peças, da primeira para a última
      */
-    public void updateNextPiecePreview(BlockShape nextPiece) {
-        previewComponent.updateNextPiecePreview(nextPiece);
+    public void updateNextPiecePreview(int[] queue) {
+        previewComponent.updateNextPiecePreview(queue);
     }
 
     /**
@@ -66,6 +66,13 @@ public interface InputHandler {
      */
     void handleRestart();
     
+    /**
+     * Avança a repetição automática das teclas mantidas em um tick da simulação.
+     * @param tickSeconds Duração do tick, em segundos
+     */
+    default void update(double tickSeconds) {
+    }
+    
     /**
      * Ativa/desativa o processamento de input
      * @param enabled true para ativar, false para desativar
@@ -15,6 +15,10 @@ import java.util.UUID;
 /**
  * Implementação padrão do InputHandler usando teclado.
  * Baseada na implementação original do InputHandler.
+ *
+ * <p>O FXGL só informa quando as teclas são pressionadas e soltas; a repetição automática
+ * de movimento lateral e soft drop (DAS/ARR) é contada em {@link #update(double)}, a cada tick
+ * do {@link com.uneb.fluxblocks.game.logic.FixedStepScheduler}, e não a cada quadro.</p>
  */
 public class KeyboardInputHandler implements InputHandler {
     private final GameMediator mediator;
@@ -32,6 +36,9 @@ public class KeyboardInputHandler implements InputHandler {
     private boolean leftKeyPressed = false;
     private boolean rightKeyPressed = false;
     private KeyCode lastHorizontalKeyPressed = null;
+    private final KeyRepeat leftRepeat = new KeyRepeat();
+    private final KeyRepeat rightRepeat = new KeyRepeat();
+    private final KeyRepeat softDropRepeat = new KeyRepeat();
     private boolean actionsRegistered = false;
     private final String uniqueId = UUID.randomUUID().toString();
     private boolean inputEnabled = true;
@@ -88,31 +95,31 @@ public class KeyboardInputHandler implements InputHandler {
     @Override
     public void handleMoveLeft() {
         if (isGameNotPlayable()) return;
-        mediator.emit(GameplayEvents.MOVE_LEFT, new GameplayEvents.MoveEvent(playerId));
+        mediator.emit(GameplayEvents.MOVE_LEFT, GameplayEvents.MoveEvent.of(playerId));
     }
 
     @Override
     public void handleMoveRight() {
         if (isGameNotPlayable()) return;
-        mediator.emit(GameplayEvents.MOVE_RIGHT, new GameplayEvents.MoveEvent(playerId));
+        mediator.emit(GameplayEvents.MOVE_RIGHT, GameplayEvents.MoveEvent.of(playerId));
     }
 
     @Override
     public void handleMoveDown() {
         if (isGameNotPlayable()) return;
-        mediator.emit(GameplayEvents.MOVE_DOWN, new GameplayEvents.MoveEvent(playerId));
+        mediator.emit(GameplayEvents.MOVE_DOWN, GameplayEvents.MoveEvent.of(playerId));
     }
 
     @Override
     public void handleRotate() {
         if (isGameNotPlayable()) return;
-        mediator.emit(GameplayEvents.ROTATE, new GameplayEvents.MoveEvent(playerId));
+        mediator.emit(GameplayEvents.ROTATE, GameplayEvents.MoveEvent.of(playerId));
     }
 
     @Override
     public void handleHardDrop() {
         if (isGameNotPlayable()) return;
-        mediator.emit(GameplayEvents.DROP, new GameplayEvents.MoveEvent(playerId));
+        mediator.emit(GameplayEvents.DROP, GameplayEvents.MoveEvent.of(playerId));
     }
 
     @Override
@@ -132,6 +139,24 @@ public class KeyboardInputHandler implements InputHandler {
         mediator.emit(GameplayEvents.RESTART, null);
     }
 
+    @Override
+    public void update(double tickSeconds) {
+        double elapsedMs = tickSeconds * 1000.0;
+        int left = leftRepeat.advance(elapsedMs, GameConfig.MOVE_INITIAL_DELAY, GameConfig.MOVE_REPEAT_DELAY);
+        int right = rightRepeat.advance(elapsedMs, GameConfig.MOVE_INITIAL_DELAY, GameConfig.MOVE_REPEAT_DELAY);
+        int down = softDropRepeat.advance(elapsedMs, GameConfig.SOFT_DROP_INITIAL_DELAY, GameConfig.SOFT_DROP_DELAY);
+
+        if (isGameNotPlayable()) return;
+
+        // Só a última direção pressionada se repete
+        if (lastHorizontalKeyPressed == keyLeft) {
+            for (int i = 0; i < left; i++) handleMoveLeft();
+        } else if (lastHorizontalKeyPressed == keyRight) {
+            for (int i = 0; i < right; i++) handleMoveRight();
+        }
+        for (int i = 0; i < down; i++) handleMoveDown();
+    }
+
     @Override
     public void setInputEnabled(boolean enabled) {
         this.inputEnabled = enabled;
@@ -158,9 +183,6 @@ public class KeyboardInputHandler implements InputHandler {
 
     private void setupMoveLeftAction() {
         FXGL.getInput().addAction(new UserAction("Move Left P"+ playerId + " " + uniqueId) {
-            private double lastMoveTime = 0;
-            private boolean isFirstMove = true;
-
             @Override
             protected void onActionBegin() {
                 if (isGameNotPlayable()) return;
@@ -169,29 +191,14 @@ public class KeyboardInputHandler implements InputHandler {
                 lastHorizontalKeyPressed = keyLeft;
                 handleMoveLeft();
                 mediator.emit(InputEvents.KEY_PRESSED, new InputEvents.KeyPressEvent(playerId, "LEFT"));
-                lastMoveTime = FXGL.getGameTimer().getNow();
-                isFirstMove = false;
-            }
-
-            @Override
-            protected void onAction() {
-                if (isGameNotPlayable()) return;
-                if (lastHorizontalKeyPressed != keyLeft) return;
-
-                double now = FXGL.getGameTimer().getNow();
-                double delay = isFirstMove ? GameConfig.MOVE_INITIAL_DELAY / 1000.0 : GameConfig.MOVE_REPEAT_DELAY / 1000.0;
-
-                if (now - lastMoveTime >= delay) {
-                    handleMoveLeft();
-                    lastMoveTime = now;
-                }
+                leftRepeat.press();
             }
 
             @Override
             protected void onActionEnd() {
                 leftKeyPressed = false;
-                isFirstMove = true;
-                mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_LEFT, new UiEvents.BoardEvent(playerId));
+                leftRepeat.release();
+                mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_LEFT, UiEvents.BoardEvent.of(playerId));
                 if (!rightKeyPressed) {
                     lastHorizontalKeyPressed = null;
                 } else {
@@ -203,9 +210,6 @@ public class KeyboardInputHandler implements InputHandler {
 
     private void setupMoveRightAction() {
         FXGL.getInput().addAction(new UserAction("Move Right P"+ playerId + " " + uniqueId) {
-            private double lastMoveTime = 0;
-            private boolean isFirstMove = true;
-
             @Override
             protected void onActionBegin() {
                 if (isGameNotPlayable()) return;
@@ -214,29 +218,14 @@ public class KeyboardInputHandler implements InputHandler {
                 lastHorizontalKeyPressed = keyRight;
                 handleMoveRight();
                 mediator.emit(InputEvents.KEY_PRESSED, new InputEvents.KeyPressEvent(playerId, "RIGHT"));
-                lastMoveTime = FXGL.getGameTimer().getNow();
-                isFirstMove = false;
-            }
-
-            @Override
-            protected void onAction() {
-                if (isGameNotPlayable()) return;
-                if (lastHorizontalKeyPressed != keyRight) return;
-
-                double now = FXGL.getGameTimer().getNow();
-                double delay = isFirstMove ? GameConfig.MOVE_INITIAL_DELAY / 1000.0 : GameConfig.MOVE_REPEAT_DELAY / 1000.0;
-
-                if (now - lastMoveTime >= delay) {
-                    handleMoveRight();
-                    lastMoveTime = now;
-                }
+                rightRepeat.press();
             }
 
             @Override
             protected void onActionEnd() {
                 rightKeyPressed = false;
-                isFirstMove = true;
-                mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_RIGHT, new UiEvents.BoardEvent(playerId));
+                rightRepeat.release();
+                mediator.emit(UiEvents.PIECE_NOT_PUSHING_WALL_RIGHT, UiEvents.BoardEvent.of(playerId));
                 if (!leftKeyPressed) {
                     lastHorizontalKeyPressed = null;
                 } else {
@@ -248,34 +237,17 @@ public class KeyboardInputHandler implements InputHandler {
 
     private void setupSoftDropAction() {
         FXGL.getInput().addAction(new UserAction("Soft Drop P"+ playerId + " " + uniqueId) {
-            private double lastMoveTime = 0;
-            private boolean isFirstMove = true;
-
             @Override
             protected void onActionBegin() {
                 if (isGameNotPlayable()) return;
                 handleMoveDown();
                 mediator.emit(InputEvents.KEY_PRESSED, new InputEvents.KeyPressEvent(playerId, "DOWN"));
-                lastMoveTime = FXGL.getGameTimer().getNow();
-                isFirstMove = false;
-            }
-
-            @Override
-            protected void onAction() {
-                if (isGameNotPlayable()) return;
-
-                double now = FXGL.getGameTimer().getNow();
-                double delay = isFirstMove ? GameConfig.SOFT_DROP_INITIAL_DELAY / 1000.0 : GameConfig.SOFT_DROP_DELAY / 1000.0;
-
-                if (now - lastMoveTime >= delay) {
-                    handleMoveDown();
-                    lastMoveTime = now;
-                }
+                softDropRepeat.press();
             }
 
             @Override
             protected void onActionEnd() {
-                isFirstMove = true;
+                softDropRepeat.release();
             }
         }, keyDown);
     }
@@ -292,7 +264,7 @@ public class KeyboardInputHandler implements InputHandler {
             @Override
             protected void onActionEnd() {
                 if (isGameNotPlayable()) return;
-                mediator.emit(InputEvents.ROTATE_RESET, new InputEvents.MoveEvent(playerId));
+                mediator.emit(InputEvents.ROTATE_RESET, InputEvents.MoveEvent.of(playerId));
             }
         }, keyRotate);
     }
@@ -332,6 +304,9 @@ public class KeyboardInputHandler implements InputHandler {
         leftKeyPressed = false;
         rightKeyPressed = false;
         lastHorizontalKeyPressed = null;
+        leftRepeat.release();
+        rightRepeat.release();
+        softDropRepeat.release();
         inputEnabled = true;
     }
 
@@ -342,4 +317,49 @@ public class KeyboardInputHandler implements InputHandler {
     public void setupInputHandling() {
         registerInputEvents();
     }
-} 
\ No newline at end of file
+
+    /**
+     * Contagem da repetição automática de uma tecla mantida pressionada: a primeira
+     * repetição sai após o atraso inicial (DAS) e as seguintes a cada atraso de repetição (ARR).
+     */
+    private static final class KeyRepeat {
+        private boolean held = false;
+        private boolean repeating = false;
+        private double heldMs = 0;
+
+        void press() {
+            held = true;
+            repeating = false;
+            heldMs = 0;
+        }
+
+        void release() {
+            held = false;
+        }
+
+        /**
+         * Avança o tempo da tecla e retorna quantas repetições venceram nesse intervalo.
+         */
+        int advance(double elapsedMs, double initialDelayMs, double repeatDelayMs) {
+            if (!held) return 0;
+            heldMs += elapsedMs;
+
+            int count = 0;
+            if (!repeating) {
+                if (heldMs < initialDelayMs) return 0;
+                heldMs -= initialDelayMs;
+                repeating = true;
+                count++;
+            }
+            if (repeatDelayMs <= 0) {
+                heldMs = 0;
+                return count + 1;
+            }
+            while (heldMs >= repeatDelayMs) {
+                heldMs -= repeatDelayMs;
+                count++;
+            }
+            return count;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
 import com.uneb.fluxblocks.configuration.GameConfig;
+import com.uneb.fluxblocks.ui.theme.CacheHints;
 
 import java.util.Map;
 import java.util.WeakHashMap;
@@ -34,7 +35,7 @@ public class EffectObjectPool {
             Circle particle = new Circle();
             if (GameConfig.ENABLE_EFFECTS_CACHE) {
                 particle.setCache(true);
-                particle.setCacheHint(GameConfig.getCacheHint());
+                particle.setCacheHint(CacheHints.getCacheHint());
             }
             particlePool.offer(particle);
         }
@@ -43,7 +44,7 @@ public class EffectObjectPool {
             Rectangle trail = new Rectangle();
             if (GameConfig.ENABLE_EFFECTS_CACHE) {
                 trail.setCache(true);
-                trail.setCacheHint(GameConfig.getCacheHint());
+                trail.setCacheHint(CacheHints.getCacheHint());
             }
             trailPool.offer(trail);
         }
@@ -55,7 +56,7 @@ public class EffectObjectPool {
             particle = new Circle();
             if (GameConfig.ENABLE_EFFECTS_CACHE) {
                 particle.setCache(true);
-                particle.setCacheHint(GameConfig.getCacheHint());
+                particle.setCacheHint(CacheHints.getCacheHint());
             }
         }
         if (particle != null) {
@@ -70,7 +71,7 @@ public class EffectObjectPool {
             trail = new Rectangle();
             if (GameConfig.ENABLE_EFFECTS_CACHE) {
                 trail.setCache(true);
-                trail.setCacheHint(GameConfig.getCacheHint());
+                trail.setCacheHint(CacheHints.getCacheHint());
             }
         }
         if (trail != null) {
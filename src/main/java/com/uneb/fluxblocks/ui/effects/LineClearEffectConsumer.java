@@ -0,0 +1,68 @@
+package com.uneb.fluxblocks.ui.effects;
+
+import com.uneb.fluxblocks.architecture.events.UiEvents;
+import com.uneb.fluxblocks.architecture.mediators.GameMediator;
+import com.uneb.fluxblocks.configuration.GameConfig;
+
+import javafx.scene.layout.Pane;
+
+/**
+ * Consumidor dos resultados de limpeza de linhas.
+ *
+ * <p>Recebe o {@link UiEvents.LineClearEffectEvent} postado pelo tabuleiro na fila de
+ * interface e, já na thread do JavaFX, aplica os efeitos visuais (brilho das linhas, texto
+ * flutuante e tremor da tela), lendo apenas a máscara de linhas removidas.</p>
+ */
+public class LineClearEffectConsumer {
+    private final GameMediator mediator;
+    private final Pane effectsLayer;
+    private final int playerId;
+    private final GameMediator.Listener<UiEvents.LineClearEffectEvent> lineClearListener;
+
+    public LineClearEffectConsumer(GameMediator mediator, Pane effectsLayer, int playerId) {
+        this.mediator = mediator;
+        this.effectsLayer = effectsLayer;
+        this.playerId = playerId;
+        this.lineClearListener = ev -> playEffects(ev.clearedRows(), ev.linesCleared(), ev.bufferHeight());
+
+        mediator.receiver(UiEvents.LINE_CLEAR_EFFECT, playerId, lineClearListener);
+    }
+
+    /**
+     * Remove o consumidor do mediador. Deve ser chamado quando a tela do tabuleiro é removida.
+     */
+    public void dispose() {
+        mediator.removeReceiver(UiEvents.LINE_CLEAR_EFFECT, playerId, lineClearListener);
+    }
+
+    /**
+     * Aplica os efeitos visuais para as linhas removidas.
+     *
+     * @param clearedRows Máscara das linhas removidas (coordenada interna do tabuleiro)
+     * @param linesCleared Número de linhas removidas
+     * @param bufferHeight Número de linhas de buffer do tabuleiro
+     */
+    private void playEffects(long clearedRows, int linesCleared, int bufferHeight) {
+        // Aplica efeito visual em todas as linhas limpas
+        long remaining = clearedRows;
+        while (remaining != 0) {
+            int y = Long.numberOfTrailingZeros(remaining);
+            Effects.applyLineClearEffect(effectsLayer, y - bufferHeight, GameConfig.CELL_SIZE);
+            remaining &= remaining - 1;
+        }
+
+        // Exibe o texto flutuante apenas na linha central das linhas limpas (contando de baixo para cima)
+        int middleIdx = linesCleared / 2;
+        remaining = clearedRows;
+        for (int i = 0; i < middleIdx; i++) {
+            remaining &= ~Long.highestOneBit(remaining);
+        }
+        int lineIdx = Long.SIZE - 1 - Long.numberOfLeadingZeros(remaining) - bufferHeight;
+        FloatingTextEffect.showLineClearText(effectsLayer, lineIdx, GameConfig.CELL_SIZE, linesCleared);
+
+        // Screen shake
+        double intensity = Effects.SHAKE_INTENSITY_BASE +
+                (linesCleared - 1) * Effects.SHAKE_INTENSITY_MULTIPLIER;
+        mediator.emit(UiEvents.SCREEN_SHAKE, new UiEvents.ScreenShakeEvent(playerId, intensity));
+    }
+}
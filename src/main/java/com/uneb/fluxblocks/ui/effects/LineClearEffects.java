@@ -1,6 +1,7 @@
 package com.uneb.fluxblocks.ui.effects;
 
 import com.uneb.fluxblocks.configuration.GameConfig;
+import com.uneb.fluxblocks.ui.theme.CacheHints;
 
 import javafx.animation.*;
 import javafx.application.Platform;
@@ -51,7 +52,7 @@ public class LineClearEffects {
         flash.setBlendMode(BlendMode.ADD);
         if (GameConfig.ENABLE_EFFECTS_CACHE) {
             flash.setCache(true);
-            flash.setCacheHint(GameConfig.getCacheHint());
+            flash.setCacheHint(CacheHints.getCacheHint());
         }
         boardPane.getChildren().add(flash);
 
@@ -67,7 +68,7 @@ public class LineClearEffects {
         glow.setBlendMode(BlendMode.ADD);
         if (GameConfig.ENABLE_EFFECTS_CACHE) {
             glow.setCache(true);
-            glow.setCacheHint(GameConfig.getCacheHint());
+            glow.setCacheHint(CacheHints.getCacheHint());
         }
         boardPane.getChildren().add(glow);
 
@@ -40,6 +40,8 @@ public class GameManager {
     
     // Controle de estado para evitar múltiplos controllers ativos
     private boolean isGameActive = false;
+    /** Se o jogador 2 do multiplayer local é controlado pelo computador */
+    private boolean cpuOpponent = false;
     private static int activeControllerCount = 0; // Contador global de controllers ativos
 
     public GameManager(GameMediator mediator, InputManager inputManager, 
@@ -98,7 +100,7 @@ public class GameManager {
             pauseOverlay.destroy();
             pauseOverlay = null;
             inputManager.getHandler(1).setInputEnabled(true);
-            if (inputManager.getHandler(2) != null) {
+            if (inputManager.getHandler(2) != null && !cpuOpponent) {
                 inputManager.getHandler(2).setInputEnabled(true);
             }
         }
@@ -164,9 +166,20 @@ public class GameManager {
     }
 
     /**
-     * Inicia um jogo multiplayer local.
+     * Inicia um jogo multiplayer local entre dois jogadores.
      */
     public void startLocalMultiplayerGame() {
+        startLocalMultiplayerGame(false);
+    }
+
+    /**
+     * Inicia um jogo multiplayer local.
+     *
+     * @param cpuOpponent true para o jogador 2 ser controlado pelo computador
+     */
+    public void startLocalMultiplayerGame(boolean cpuOpponent) {
+        this.cpuOpponent = cpuOpponent;
+
         // FORÇA limpeza completa se há controllers ativos
         if (activeControllerCount > 0 || isGameActive) {
             forceCleanup();
@@ -193,6 +206,9 @@ public class GameManager {
 
         GameController controller1 = new GameController(mediator, screenP1.getGameBoardScreen(), 1, gameState1, handler1);
         GameController controller2 = new GameController(mediator, screenP2.getGameBoardScreen(), 2, gameState2, handler2);
+        if (cpuOpponent) {
+            controller2.attachBot();
+        }
 
         screenP1.initialize();
         screenP2.initialize();
@@ -205,7 +221,7 @@ public class GameManager {
         isGameActive = true;
 
         PlayerContainer player1Container = new PlayerContainer("Jogador 1", screenP1, true, 0.7);
-        PlayerContainer player2Container = new PlayerContainer("Jogador 2", screenP2, true, 0.7);
+        PlayerContainer player2Container = new PlayerContainer(cpuOpponent ? "CPU" : "Jogador 2", screenP2, true, 0.7);
 
         HBox playersContainer = createPlayersContainer(player1Container, player2Container);
 
@@ -248,6 +264,13 @@ public class GameManager {
         screenP2 = null;
     }
 
+    /**
+     * Verifica se o último multiplayer local foi contra o computador.
+     */
+    public boolean isCpuOpponent() {
+        return cpuOpponent;
+    }
+
     /**
      * Obtém o número total de jogadores ativos.
      */
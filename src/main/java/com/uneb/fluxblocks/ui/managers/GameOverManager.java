@@ -131,6 +131,8 @@ public class GameOverManager {
     
     /**
      * Salva a pontuação no ranking se houver usuário logado.
+     * A escrita roda na thread de I/O; ao terminar, {@link UiEvents#RANKING_UPDATED} é postado
+     * na fila de interface.
      * @param statistics Estatísticas do jogo
      */
     private void saveScoreToRanking(GameStatistics statistics) {
@@ -147,14 +149,13 @@ public class GameOverManager {
                 return;
             }
             
-            String playerName = userManager.getCurrentUser().getName();
             int score = statistics.getScore();
             int level = statistics.getLevel();
             int linesCleared = statistics.getTotalLinesCleared();
             long gameTimeMs = statistics.getGameTimeMs();
             
             // Usa o UserManager para salvar (que já faz tudo: ranking + estatísticas)
-            userManager.saveGameResult(score, level, linesCleared, gameTimeMs);
+            userManager.saveGameResultAsync(score, level, linesCleared, gameTimeMs);
             
         } catch (Exception e) {
             System.err.println("❌ Erro ao salvar pontuação: " + e.getMessage());
@@ -26,6 +26,8 @@ public class ScreenManager {
     // Referências às telas de Game Over para destruí-las corretamente
     private GameOverScreen gameOverScreen = null;
     private GameOverMultiplayerScreen gameOverMultiplayerScreen = null;
+    // Tela de ranking aberta, destruída ao sair para liberar o listener de RANKING_UPDATED
+    private RankingScreen rankingScreen = null;
 
     public ScreenManager(GameScene gameScene, GameMediator mediator) {
         this.gameScene = gameScene;
@@ -101,7 +103,7 @@ public class ScreenManager {
         }
         
         try {
-            RankingScreen rankingScreen = new RankingScreen(mediator, rankingManager, userManager);
+            rankingScreen = new RankingScreen(mediator, rankingManager, userManager);
             gameScene.addUINode(rankingScreen.getNode());
         } catch (Exception e) {
             System.err.println("Erro ao criar tela de ranking: " + e.getMessage());
@@ -162,6 +164,10 @@ public class ScreenManager {
      * Limpa todos os nós da UI.
      */
     public void clearScreen() {
+        if (rankingScreen != null) {
+            rankingScreen.destroy();
+            rankingScreen = null;
+        }
         gameScene.clearUINodes();
     }
 
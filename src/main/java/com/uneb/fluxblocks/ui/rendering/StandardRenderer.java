@@ -1,4 +1,4 @@
-package com.uneb.fluxblocks.piece.rendering;
+package com.uneb.fluxblocks.ui.rendering;
 
 import com.uneb.fluxblocks.piece.entities.BlockShape;
 import com.uneb.fluxblocks.game.logic.GameBoard;
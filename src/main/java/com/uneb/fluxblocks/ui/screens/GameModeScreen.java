@@ -52,7 +52,8 @@ public class GameModeScreen extends BaseScreen {
     private static final GameModeData[] GAME_MODES = {
             new GameModeData("SOLO", "Jogue sozinho seu solitario", "#FF6B35", "1"),
             new GameModeData("MULTIPLAYER LOCAL", "Jogue com amigos", "#4ECDC4", "2"),
-            new GameModeData("MULTIPLAYER ONLINE", "Jogue online", "#45B7D1", "3"),
+            new GameModeData("CONTRA CPU", "Desafie o computador", "#F7B801", "3"),
+            new GameModeData("MULTIPLAYER ONLINE", "Jogue online", "#45B7D1", "4"),
     };
 
     public GameModeScreen(GameMediator mediator) {
@@ -146,6 +147,7 @@ public class GameModeScreen extends BaseScreen {
         cardActions.clear();
         cardActions.add(e -> mediator.emit(UiEvents.START_SINGLE_PLAYER, null));
         cardActions.add(e -> mediator.emit(UiEvents.START_LOCAL_MULTIPLAYER, null));
+        cardActions.add(e -> mediator.emit(UiEvents.START_CPU_MULTIPLAYER, null));
     }
 
     private void selectCard(int index) {
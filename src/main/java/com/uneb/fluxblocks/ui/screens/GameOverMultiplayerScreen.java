@@ -206,7 +206,7 @@ public class GameOverMultiplayerScreen extends BaseScreen {
         buttonsContainer.getStyleClass().add("game-over-buttons");
 
         restartButton = new ButtonGame("JOGAR NOVAMENTE", ButtonGame.ButtonType.PLAY);
-        restartButton.setOnAction(event -> mediator.emit(UiEvents.START_LOCAL_MULTIPLAYER, null));
+        restartButton.setOnAction(event -> mediator.emit(UiEvents.RESTART_LOCAL_MULTIPLAYER, null));
 
         menuButton = new ButtonGame("VOLTAR AO MENU", ButtonGame.ButtonType.EXIT);
         menuButton.setOnAction(event -> mediator.emit(UiEvents.BACK_TO_MENU, null));
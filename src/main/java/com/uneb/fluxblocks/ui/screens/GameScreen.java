@@ -13,6 +13,7 @@ import com.uneb.fluxblocks.ui.effects.Effects;
 import com.uneb.fluxblocks.ui.effects.FloatingTextEffect;
 import com.uneb.fluxblocks.ui.effects.SpinEffects;
 import com.uneb.fluxblocks.ui.theme.BlockShapeColors;
+import com.uneb.fluxblocks.ui.theme.CacheHints;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Cursor;
@@ -168,13 +169,13 @@ public class GameScreen {
         VBox nextPieceContainer = new VBox(5);
         nextPieceContainer.setAlignment(Pos.CENTER);
 
-        Text nextPieceLabel = new Text("Próxima peça");
+        Text nextPieceLabel = new Text("Próximas peças");
         nextPieceLabel.getStyleClass().add("info-text");
 
         nextPiecePreview.getStyleClass().add("next-piece-preview");
-        nextPiecePreview.setMinSize(120, 120);
-        nextPiecePreview.setPrefSize(120, 120);
-        nextPiecePreview.setMaxSize(120, 120);
+        nextPiecePreview.setMinSize(120, 300);
+        nextPiecePreview.setPrefSize(120, 300);
+        nextPiecePreview.setMaxSize(120, 300);
 
         nextPieceContainer.getChildren().addAll(nextPieceLabel, nextPiecePreview);
 
@@ -271,20 +272,20 @@ public class GameScreen {
         scoreTextNode = (Text) root.lookup("#score-text");
         if (scoreTextNode != null && GameConfig.ENABLE_UI_CACHE) {
             scoreTextNode.setCache(true);
-            scoreTextNode.setCacheHint(GameConfig.getCacheHint());
+            scoreTextNode.setCacheHint(CacheHints.getCacheHint());
         }
 
         levelTextNode = (Text) root.lookup("#level-text");
         if (levelTextNode != null && GameConfig.ENABLE_UI_CACHE) {
             levelTextNode.setCache(true);
-            levelTextNode.setCacheHint(GameConfig.getCacheHint());
+            levelTextNode.setCacheHint(CacheHints.getCacheHint());
         }
 
         progressArcNode = (Arc) root.lookup("#progress-arc");
         linesLabelNode = (Text) root.lookup("#lines-label");
         if (linesLabelNode != null && GameConfig.ENABLE_UI_CACHE) {
             linesLabelNode.setCache(true);
-            linesLabelNode.setCacheHint(GameConfig.getCacheHint());
+            linesLabelNode.setCacheHint(CacheHints.getCacheHint());
         }
     }
 
@@ -295,8 +296,7 @@ public class GameScreen {
             }
         };
 
-        mediator.receiver(GameplayEvents.SCORE_UPDATED, (GameplayEvents.ScoreEvent event) -> safeExecute.accept(() -> {
-            if (event.playerId() != playerId) return;
+        mediator.receiver(GameplayEvents.SCORE_UPDATED, playerId, (GameplayEvents.ScoreEvent event) -> safeExecute.accept(() -> {
             if (scoreTextNode != null) {
                 scoreTextNode.setText(String.valueOf(event.points()));
             }
@@ -304,14 +304,11 @@ public class GameScreen {
 
         mediator.receiver(UiEvents.SCORE_UPDATE, score -> {});
 
-        mediator.receiver(GameplayEvents.LINE_CLEARED, (GameplayEvents.LineClearEvent event) -> safeExecute.accept(() -> {
-            if (event.playerId() != playerId) return;
+        mediator.receiver(GameplayEvents.LINE_CLEARED, playerId, (GameplayEvents.LineClearEvent event) -> safeExecute.accept(() -> {
             updateLevelProgress();
         }));
 
-        mediator.receiver(UiEvents.PIECE_TRAIL_EFFECT, (UiEvents.PieceTrailEffectEvent event) -> safeExecute.accept(() -> {
-            if (event.playerId() != playerId) return;
-
+        mediator.receiver(UiEvents.PIECE_TRAIL_EFFECT, playerId, (UiEvents.PieceTrailEffectEvent event) -> safeExecute.accept(() -> {
             int[] params = event.position();
             if (params.length < 4) return;
 
@@ -338,8 +335,7 @@ public class GameScreen {
             }
         }));
 
-        mediator.receiver(UiEvents.LEVEL_UPDATE, level -> safeExecute.accept(() -> {
-            if (level.playerId() != playerId) return;
+        mediator.receiver(UiEvents.LEVEL_UPDATE, playerId, level -> safeExecute.accept(() -> {
             updateLevelProgress();
 
             int boardCenterX = gameBoardScreen.getWidth() / 2;
@@ -355,18 +351,15 @@ public class GameScreen {
             );
         }));
 
-        mediator.receiver(UiEvents.PIECE_LANDED_SOFT, event -> safeExecute.accept(() -> {
-            if (event.playerId() != playerId) return;
+        mediator.receiver(UiEvents.PIECE_LANDED_SOFT, playerId, event -> safeExecute.accept(() -> {
             Effects.applySoftLanding(centerContainer, null);
         }));
 
-        mediator.receiver(UiEvents.PIECE_LANDED_NORMAL, event -> safeExecute.accept(() -> {
-            if (event.playerId() != playerId) return;
+        mediator.receiver(UiEvents.PIECE_LANDED_NORMAL, playerId, event -> safeExecute.accept(() -> {
             Effects.applyNormalLanding(centerContainer, null);
         }));
 
-        mediator.receiver(UiEvents.PIECE_LANDED_HARD, event -> safeExecute.accept(() -> {
-            if (event.playerId() != playerId) return;
+        mediator.receiver(UiEvents.PIECE_LANDED_HARD, playerId, event -> safeExecute.accept(() -> {
             Effects.applyHardLanding(centerContainer, null);
         }));
 
@@ -375,9 +368,7 @@ public class GameScreen {
             SpinEffects.applySpinEffect(leftPanel, event.spinType(), event.linesCleared());
         }));
 
-        mediator.receiver(UiEvents.COUNTDOWN, (UiEvents.CountdownEvent event) -> safeExecute.accept(() -> {
-            if (event.playerId() != playerId) return;
-            
+        mediator.receiver(UiEvents.COUNTDOWN, playerId, (UiEvents.CountdownEvent event) -> safeExecute.accept(() -> {
             if (countdownText != null) {
                 if (event.seconds() > 0) {
                     countdownText.setText(String.valueOf(event.seconds()));
@@ -396,28 +387,28 @@ public class GameScreen {
     }
 
     private void setupWallPushAnimationListeners() {
-        mediator.receiver(UiEvents.PIECE_PUSHING_WALL_LEFT, event -> {
-            if (isDestroyed || event.playerId() != playerId) return;
+        mediator.receiver(UiEvents.PIECE_PUSHING_WALL_LEFT, playerId, event -> {
+            if (isDestroyed) return;
             if (isPushingRightWall) isPushingRightWall = false;
             isPushingLeftWall = true;
             updateBoardPosition();
         });
 
-        mediator.receiver(UiEvents.PIECE_PUSHING_WALL_RIGHT, event -> {
-            if (isDestroyed || event.playerId() != playerId) return;
+        mediator.receiver(UiEvents.PIECE_PUSHING_WALL_RIGHT, playerId, event -> {
+            if (isDestroyed) return;
             if (isPushingLeftWall) isPushingLeftWall = false;
             isPushingRightWall = true;
             updateBoardPosition();
         });
 
-        mediator.receiver(UiEvents.PIECE_NOT_PUSHING_WALL_LEFT, event -> {
-            if (isDestroyed || event.playerId() != playerId) return;
+        mediator.receiver(UiEvents.PIECE_NOT_PUSHING_WALL_LEFT, playerId, event -> {
+            if (isDestroyed) return;
             isPushingLeftWall = false;
             updateBoardPosition();
         });
 
-        mediator.receiver(UiEvents.PIECE_NOT_PUSHING_WALL_RIGHT, event -> {
-            if (isDestroyed || event.playerId() != playerId) return;
+        mediator.receiver(UiEvents.PIECE_NOT_PUSHING_WALL_RIGHT, playerId, event -> {
+            if (isDestroyed) return;
             isPushingRightWall = false;
             updateBoardPosition();
         });
@@ -9,6 +9,7 @@ import com.uneb.fluxblocks.ui.components.ButtonGame;
 import com.uneb.fluxblocks.ui.components.DynamicBackground;
 import com.uneb.fluxblocks.ui.components.FooterComponent;
 import com.uneb.fluxblocks.user.UserManager;
+import com.uneb.fluxblocks.ui.theme.CacheHints;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Parent;
@@ -35,6 +36,8 @@ public class RankingScreen extends BaseScreen {
     private final Text mainTitleText;
     private final VBox globalEntriesContainer;
     private final VBox userBestContainer;
+    /** Recarrega a lista quando uma gravação na thread de I/O termina com a tela aberta */
+    private final GameMediator.Listener<Void> rankingUpdatedListener = unused -> loadRankingData();
     
     public RankingScreen(GameMediator mediator, RankingManager rankingManager, UserManager userManager) {
         this.mediator = mediator;
@@ -59,6 +62,7 @@ public class RankingScreen extends BaseScreen {
         setupCache();
         loadRankingData();
         playEntryAnimations();
+        mediator.receiver(UiEvents.RANKING_UPDATED, rankingUpdatedListener);
     }
     
     private void initializeComponents() {
@@ -427,7 +431,7 @@ public class RankingScreen extends BaseScreen {
     
     @Override
     public void destroy() {
-        // Cleanup se necessário
+        mediator.removeReceiver(UiEvents.RANKING_UPDATED, rankingUpdatedListener);
     }
     
     @Override
@@ -438,7 +442,7 @@ public class RankingScreen extends BaseScreen {
     private void setupCache() {
         if (GameConfig.ENABLE_UI_CACHE) {
             root.setCache(true);
-            root.setCacheHint(GameConfig.getCacheHint());
+            root.setCacheHint(CacheHints.getCacheHint());
         }
     }
 } 
\ No newline at end of file
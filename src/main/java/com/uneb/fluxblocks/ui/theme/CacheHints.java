@@ -0,0 +1,25 @@
+package com.uneb.fluxblocks.ui.theme;
+
+import com.uneb.fluxblocks.configuration.GameConfig;
+import javafx.scene.CacheHint;
+
+/**
+ * Converte a configuração de cache de {@link GameConfig} para o {@link CacheHint} do JavaFX.
+ * Fica na camada de interface para que {@code GameConfig} não dependa do JavaFX.
+ */
+public final class CacheHints {
+
+    private CacheHints() {
+        // Construtor privado para evitar instanciação
+    }
+
+    /**
+     * @return O {@link CacheHint} correspondente a {@link GameConfig#CACHE_HINT_TYPE}
+     */
+    public static CacheHint getCacheHint() {
+        return switch (GameConfig.CACHE_HINT_TYPE.toUpperCase()) {
+            case "QUALITY" -> CacheHint.QUALITY;
+            default -> CacheHint.SPEED;
+        };
+    }
+}
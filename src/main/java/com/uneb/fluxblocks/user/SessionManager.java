@@ -12,6 +12,7 @@ import java.time.format.DateTimeFormatter;
 
 /**
  * Gerenciador de sessão que persiste o usuário logado entre sessões.
+ * As escritas do arquivo de sessão rodam na thread de I/O do mediador.
  */
 public class SessionManager {
     
@@ -28,9 +29,10 @@ public class SessionManager {
     
 
     private void registerEvents() {
-        mediator.receiver(UserEventTypes.LOGIN_SUCCESS, this::onUserLogin);
-        mediator.receiver(UserEventTypes.LOGOUT_SUCCESS, this::onUserLogout);
-        mediator.receiver(UserEventTypes.USER_CHANGED, this::onUserChanged);
+        // Escritas em disco não bloqueiam a tela de login
+        mediator.ioReceiver(UserEventTypes.LOGIN_SUCCESS, this::onUserLogin);
+        mediator.ioReceiver(UserEventTypes.LOGOUT_SUCCESS, this::onUserLogout);
+        mediator.ioReceiver(UserEventTypes.USER_CHANGED, this::onUserChanged);
         
         mediator.receiver(UserEventTypes.CHECK_SESSION_REQUEST, this::onCheckSessionRequest);
     }
@@ -5,6 +5,7 @@ import com.uneb.fluxblocks.game.ranking.RankingEntry;
 import com.uneb.fluxblocks.game.ranking.RankingManager;
 import com.uneb.fluxblocks.user.dao.UserDAO;
 import com.uneb.fluxblocks.user.dao.SQLiteUserDAO;
+import com.uneb.fluxblocks.architecture.events.UiEvents;
 import com.uneb.fluxblocks.architecture.events.UserEvents;
 import com.uneb.fluxblocks.architecture.events.UserEventTypes;
 
@@ -235,6 +236,49 @@ public class UserManager {
         }
     }
     
+    /**
+     * Salva o resultado de um jogo do usuário atual sem bloquear a thread do JavaFX.
+     * <p>
+     * As estatísticas do usuário atual são atualizadas em memória na thread que chama, e só
+     * uma cópia dos dados vai para a thread de I/O do mediador. Lá a escrita não emite
+     * eventos: {@link UserEventTypes#USER_STATS_UPDATED} e {@link UserEventTypes#NEW_PERSONAL_BEST}
+     * são postados na fila de interface, e {@link UiEvents#RANKING_UPDATED} é postado uma única
+     * vez ao terminar.
+     * @param score Pontuação do jogo
+     * @param level Nível alcançado
+     * @param linesCleared Linhas eliminadas
+     * @param gameTimeMs Tempo de jogo em milissegundos
+     */
+    public void saveGameResultAsync(int score, int level, int linesCleared, long gameTimeMs) {
+        if (currentUser == null) {
+            System.err.println("Nenhum usuário atual definido");
+            return;
+        }
+
+        User user = currentUser;
+        int oldBestScore = user.getBestScore();
+        user.updateStats(score);
+        User snapshot = new User(user.getId(), user.getName(), user.getCreatedAt(), user.getLastPlayed(),
+                user.getTotalGames(), user.getBestScore());
+
+        mediator.submitIo(() -> {
+            if (userDAO.updateUser(snapshot)) {
+                System.out.println("Estatísticas do usuário atualizadas: " + snapshot.getName());
+                mediator.post(UserEventTypes.USER_STATS_UPDATED, new UserEvents.UserStatsUpdatedEvent(user));
+                if (score > oldBestScore) {
+                    mediator.post(UserEventTypes.NEW_PERSONAL_BEST, new UserEvents.NewPersonalBestEvent(user, score));
+                }
+            } else {
+                System.err.println("Falha ao atualizar estatísticas do usuário");
+            }
+
+            if (rankingManager.saveRankingEntry(snapshot.getName(), score, level, linesCleared, gameTimeMs) == null) {
+                System.err.println("❌ Falha ao salvar resultado no ranking");
+            }
+            return null;
+        }, UiEvents.RANKING_UPDATED);
+    }
+    
     /**
      * Lista todos os usuários ordenados por nome
      * @return Lista de usuários
@@ -12,6 +12,8 @@ import java.util.Optional;
 /**
  * Implementação SQLite do UserDAO.
  * Gerencia a persistência local dos dados de usuários usando SQLite.
+ * Os métodos são sincronizados porque a mesma conexão é usada pela thread do JavaFX
+ * (login, listagem) e pela thread de I/O do mediador (gravação das estatísticas).
  */
 public class SQLiteUserDAO implements UserDAO {
     
@@ -22,7 +24,7 @@ public class SQLiteUserDAO implements UserDAO {
     private boolean initialized = false;
     
     @Override
-    public boolean initialize() {
+    public synchronized boolean initialize() {
         try {
             connection = DriverManager.getConnection(DB_URL);
             createTableIfNotExists();
@@ -71,7 +73,7 @@ public class SQLiteUserDAO implements UserDAO {
     }
     
     @Override
-    public Long addUser(User user) {
+    public synchronized Long addUser(User user) {
         if (!initialized) {
             System.err.println("DAO não inicializado");
             return null;
@@ -107,7 +109,7 @@ public class SQLiteUserDAO implements UserDAO {
     }
     
     @Override
-    public Optional<User> findById(Long id) {
+    public synchronized Optional<User> findById(Long id) {
         if (!initialized) return Optional.empty();
         
         String sql = "SELECT * FROM %s WHERE id = ?".formatted(TABLE_NAME);
@@ -127,7 +129,7 @@ public class SQLiteUserDAO implements UserDAO {
     }
     
     @Override
-    public Optional<User> findByName(String name) {
+    public synchronized Optional<User> findByName(String name) {
         if (!initialized) return Optional.empty();
         
         String sql = "SELECT * FROM %s WHERE name = ?".formatted(TABLE_NAME);
@@ -147,7 +149,7 @@ public class SQLiteUserDAO implements UserDAO {
     }
     
     @Override
-    public List<User> findAllOrderedByName() {
+    public synchronized List<User> findAllOrderedByName() {
         if (!initialized) return new ArrayList<>();
         
         String sql = "SELECT * FROM %s ORDER BY name ASC".formatted(TABLE_NAME);
@@ -155,7 +157,7 @@ public class SQLiteUserDAO implements UserDAO {
     }
     
     @Override
-    public List<User> findAllOrderedByBestScore() {
+    public synchronized List<User> findAllOrderedByBestScore() {
         if (!initialized) return new ArrayList<>();
         
         String sql = "SELECT * FROM %s ORDER BY best_score DESC".formatted(TABLE_NAME);
@@ -163,7 +165,7 @@ public class SQLiteUserDAO implements UserDAO {
     }
     
     @Override
-    public List<User> findAllOrderedByCreatedAt() {
+    public synchronized List<User> findAllOrderedByCreatedAt() {
         if (!initialized) return new ArrayList<>();
         
         String sql = "SELECT * FROM %s ORDER BY created_at DESC".formatted(TABLE_NAME);
@@ -171,7 +173,7 @@ public class SQLiteUserDAO implements UserDAO {
     }
     
     @Override
-    public List<User> findAllOrderedByLastPlayed() {
+    public synchronized List<User> findAllOrderedByLastPlayed() {
         if (!initialized) return new ArrayList<>();
         
         String sql = "SELECT * FROM %s ORDER BY last_played DESC".formatted(TABLE_NAME);
@@ -179,7 +181,7 @@ public class SQLiteUserDAO implements UserDAO {
     }
     
     @Override
-    public List<User> findTopUsers(int limit) {
+    public synchronized List<User> findTopUsers(int limit) {
         if (!initialized) return new ArrayList<>();
         
         String sql = "SELECT * FROM %s ORDER BY best_score DESC LIMIT ?".formatted(TABLE_NAME);
@@ -201,7 +203,7 @@ public class SQLiteUserDAO implements UserDAO {
     }
     
     @Override
-    public boolean updateUser(User user) {
+    public synchronized boolean updateUser(User user) {
         if (!initialized || user.getId() == null) return false;
         
         String sql = """
@@ -226,7 +228,7 @@ public class SQLiteUserDAO implements UserDAO {
     }
     
     @Override
-    public boolean deleteById(Long id) {
+    public synchronized boolean deleteById(Long id) {
         if (!initialized) return false;
         
         String sql = "DELETE FROM %s WHERE id = ?".formatted(TABLE_NAME);
@@ -243,7 +245,7 @@ public class SQLiteUserDAO implements UserDAO {
     }
     
     @Override
-    public boolean deleteByName(String name) {
+    public synchronized boolean deleteByName(String name) {
         if (!initialized) return false;
         
         String sql = "DELETE FROM %s WHERE name = ?".formatted(TABLE_NAME);
@@ -260,7 +262,7 @@ public class SQLiteUserDAO implements UserDAO {
     }
     
     @Override
-    public int deleteAll() {
+    public synchronized int deleteAll() {
         if (!initialized) return 0;
         
         String sql = "DELETE FROM %s".formatted(TABLE_NAME);
@@ -276,7 +278,7 @@ public class SQLiteUserDAO implements UserDAO {
     }
     
     @Override
-    public long count() {
+    public synchronized long count() {
         if (!initialized) return 0;
         
         String sql = "SELECT COUNT(*) FROM %s".formatted(TABLE_NAME);
@@ -293,7 +295,7 @@ public class SQLiteUserDAO implements UserDAO {
     }
     
     @Override
-    public boolean existsByName(String name) {
+    public synchronized boolean existsByName(String name) {
         if (!initialized) return false;
         
         String sql = "SELECT COUNT(*) FROM %s WHERE name = ?".formatted(TABLE_NAME);
@@ -313,12 +315,12 @@ public class SQLiteUserDAO implements UserDAO {
     }
     
     @Override
-    public boolean isConnected() {
+    public synchronized boolean isConnected() {
         return initialized && connection != null;
     }
     
     @Override
-    public void close() {
+    public synchronized void close() {
         if (connection != null) {
             try {
                 connection.close();
@@ -331,7 +333,7 @@ public class SQLiteUserDAO implements UserDAO {
     }
     
     @Override
-    public String getImplementationName() {
+    public synchronized String getImplementationName() {
         return "SQLiteUserDAO";
     }
     
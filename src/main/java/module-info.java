@@ -14,6 +14,8 @@ open module com.uneb.fluxblocks {
     exports com.uneb.fluxblocks.piece.timing;
     exports com.uneb.fluxblocks.piece.collision;
     exports com.uneb.fluxblocks.game.core;
+    exports com.uneb.fluxblocks.game.bot;
+    exports com.uneb.fluxblocks.game.headless;
     exports com.uneb.fluxblocks.ui;
     exports com.uneb.fluxblocks.ui.components;
     exports com.uneb.fluxblocks.ui.screens;
@@ -25,6 +27,7 @@ open module com.uneb.fluxblocks {
     exports com.uneb.fluxblocks.architecture.events;
     exports com.uneb.fluxblocks.piece.entities;
     exports com.uneb.fluxblocks.piece.movement;
+    exports com.uneb.fluxblocks.piece.placement;
     exports com.uneb.fluxblocks.game.scoring;
     exports com.uneb.fluxblocks.game.ranking;
     exports com.uneb.fluxblocks.game.ranking.dao;
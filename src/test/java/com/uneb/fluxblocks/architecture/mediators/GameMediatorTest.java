@@ -0,0 +1,267 @@
+package com.uneb.fluxblocks.architecture.mediators;
+
+import com.uneb.fluxblocks.architecture.events.EventType;
+import com.uneb.fluxblocks.architecture.events.PlayerEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes do {@link GameMediator}: ordem de despacho, registro de listeners, eventos por jogador
+ * e fila de interface.
+ */
+class GameMediatorTest {
+    private static final EventType<String> TEXT = new EventType<>() {
+    };
+    private static final EventType<Ping> PING = new EventType<>() {
+    };
+    private static final EventType<Ping> STATE = new EventType<>() {
+    };
+
+    private record Ping(int playerId, String text) implements PlayerEvent {
+    }
+
+    private final GameMediator mediator = new GameMediator();
+    private final List<String> calls = new ArrayList<>();
+
+    @Test
+    void listenersRunByPriorityThenRegistrationOrder() {
+        mediator.receiver(TEXT, text -> calls.add("a" + text));
+        mediator.receiver(TEXT, text -> calls.add("alta" + text), 10);
+        mediator.receiver(TEXT, text -> calls.add("b" + text));
+        mediator.receiver(TEXT, text -> calls.add("baixa" + text), -5);
+
+        mediator.emit(TEXT, "!");
+        assertEquals(List.of("alta!", "a!", "b!", "baixa!"), calls);
+    }
+
+    @Test
+    void sameListenerIsRegisteredOnce() {
+        GameMediator.Listener<String> listener = calls::add;
+        mediator.receiver(TEXT, listener);
+        mediator.receiver(TEXT, listener);
+
+        mediator.emit(TEXT, "x");
+        assertEquals(List.of("x"), calls);
+    }
+
+    @Test
+    void removeReceiverNeedsSameInstance() {
+        GameMediator.Listener<String> listener = calls::add;
+        mediator.receiver(TEXT, listener);
+
+        mediator.removeReceiver(TEXT, text -> calls.add(text));
+        mediator.emit(TEXT, "1");
+        mediator.removeReceiver(TEXT, listener);
+        mediator.emit(TEXT, "2");
+        assertEquals(List.of("1"), calls);
+    }
+
+    @Test
+    void changesDuringEmitApplyFromNextEmit() {
+        GameMediator.Listener<String> removed = text -> calls.add("removido" + text);
+        GameMediator.Listener<String> added = text -> calls.add("novo" + text);
+        mediator.receiver(TEXT, text -> {
+            calls.add("primeiro" + text);
+            mediator.removeReceiver(TEXT, removed);
+            mediator.receiver(TEXT, added);
+        }, 1);
+        mediator.receiver(TEXT, removed);
+
+        mediator.emit(TEXT, "1");
+        assertEquals(List.of("primeiro1", "removido1"), calls);
+
+        calls.clear();
+        mediator.emit(TEXT, "2");
+        assertEquals(List.of("primeiro2", "novo2"), calls);
+    }
+
+    @Test
+    void playerListenersOnlyGetTheirPlayersEvents() {
+        mediator.receiver(PING, 1, ping -> calls.add("p1:" + ping.text()));
+        mediator.receiver(PING, 2, ping -> calls.add("p2:" + ping.text()));
+        mediator.receiver(PING, ping -> calls.add("todos:" + ping.text()));
+
+        mediator.emit(PING, new Ping(1, "a"));
+        mediator.emit(PING, new Ping(2, "b"));
+        // Jogador sem listeners próprios recebe só os listeners sem jogador
+        mediator.emit(PING, new Ping(7, "c"));
+        assertEquals(List.of("p1:a", "todos:a", "p2:b", "todos:b", "todos:c"), calls);
+    }
+
+    @Test
+    void playerAndSharedListenersShareOnePriorityOrder() {
+        mediator.receiver(PING, ping -> calls.add("todos-baixa"), -1);
+        mediator.receiver(PING, 0, ping -> calls.add("p0-media"));
+        mediator.receiver(PING, ping -> calls.add("todos-alta"), 5);
+        mediator.receiver(PING, 0, ping -> calls.add("p0-alta"), 5);
+
+        mediator.emit(PING, new Ping(0, ""));
+        assertEquals(List.of("todos-alta", "p0-alta", "p0-media", "todos-baixa"), calls);
+    }
+
+    @Test
+    void removingPlayerListenerNeedsSamePlayer() {
+        GameMediator.Listener<Ping> listener = ping -> calls.add(ping.text());
+        mediator.receiver(PING, 1, listener);
+
+        mediator.removeReceiver(PING, 2, listener);
+        mediator.removeReceiver(PING, listener);
+        mediator.emit(PING, new Ping(1, "ainda"));
+        mediator.removeReceiver(PING, 1, listener);
+        mediator.emit(PING, new Ping(1, "removido"));
+        assertEquals(List.of("ainda"), calls);
+    }
+
+    @Test
+    void negativePlayerIdIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> mediator.receiver(PING, -1, ping -> { }));
+    }
+
+    @Test
+    void postedEventsWaitForFlush() {
+        mediator.receiver(TEXT, calls::add);
+        mediator.post(TEXT, "a");
+        mediator.post(TEXT, "b");
+        assertEquals(List.of(), calls);
+        assertEquals(2, mediator.getPendingUiEventCount());
+
+        assertEquals(2, mediator.flushUiEvents());
+        assertEquals(List.of("a", "b"), calls);
+        assertEquals(0, mediator.getPendingUiEventCount());
+        assertEquals(0, mediator.flushUiEvents());
+    }
+
+    @Test
+    void appendDeliversEveryEventInPostOrder() {
+        mediator.receiver(PING, ping -> calls.add(ping.playerId() + ping.text()));
+        mediator.receiver(TEXT, calls::add);
+        mediator.post(PING, new Ping(1, "a"));
+        mediator.post(TEXT, "x");
+        mediator.post(PING, new Ping(1, "b"));
+        mediator.post(PING, new Ping(2, "c"));
+
+        mediator.flushUiEvents();
+        assertEquals(List.of("1a", "x", "1b", "2c"), calls);
+    }
+
+    @Test
+    void latestKeepsLastEventPerPlayerAtFirstPosition() {
+        mediator.setUiCoalescing(STATE, GameMediator.Coalescing.LATEST);
+        mediator.receiver(STATE, ping -> calls.add(ping.playerId() + ping.text()));
+        mediator.receiver(TEXT, calls::add);
+        mediator.post(STATE, new Ping(1, "a"));
+        mediator.post(TEXT, "x");
+        mediator.post(STATE, new Ping(2, "b"));
+        mediator.post(STATE, new Ping(1, "c"));
+        mediator.post(STATE, new Ping(2, "d"));
+        assertEquals(3, mediator.getPendingUiEventCount());
+
+        mediator.flushUiEvents();
+        assertEquals(List.of("1c", "x", "2d"), calls);
+
+        // O agrupamento vale por quadro
+        calls.clear();
+        mediator.post(STATE, new Ping(1, "e"));
+        mediator.flushUiEvents();
+        assertEquals(List.of("1e"), calls);
+    }
+
+    @Test
+    void latestWithoutPlayerKeepsLastOfType() {
+        mediator.setUiCoalescing(TEXT, GameMediator.Coalescing.LATEST);
+        mediator.receiver(TEXT, calls::add);
+        mediator.post(TEXT, "a");
+        mediator.post(TEXT, "b");
+
+        mediator.flushUiEvents();
+        assertEquals(List.of("b"), calls);
+    }
+
+    @Test
+    void postWithoutListenersIsDropped() {
+        mediator.post(TEXT, "perdido");
+        assertEquals(0, mediator.getPendingUiEventCount());
+
+        mediator.receiver(TEXT, calls::add);
+        mediator.flushUiEvents();
+        assertEquals(List.of(), calls);
+    }
+
+    @Test
+    void eventsPostedDuringFlushWaitForNextFrame() {
+        mediator.receiver(TEXT, text -> {
+            calls.add(text);
+            if (text.length() < 3) {
+                mediator.post(TEXT, text + "+");
+            }
+        });
+        mediator.post(TEXT, "a");
+
+        assertEquals(1, mediator.flushUiEvents());
+        assertEquals(List.of("a"), calls);
+        assertEquals(1, mediator.flushUiEvents());
+        assertEquals(1, mediator.flushUiEvents());
+        assertEquals(0, mediator.flushUiEvents());
+        assertEquals(List.of("a", "a+", "a++"), calls);
+    }
+
+    @Test
+    void wakeupRunsWhenQueueStopsBeingEmpty() {
+        int[] wakeups = {0};
+        mediator.setUiWakeup(() -> wakeups[0]++);
+        mediator.receiver(TEXT, calls::add);
+
+        mediator.post(TEXT, "a");
+        mediator.post(TEXT, "b");
+        assertEquals(1, wakeups[0]);
+
+        mediator.flushUiEvents();
+        mediator.post(TEXT, "c");
+        assertEquals(2, wakeups[0]);
+    }
+
+    @Test
+    void postFromOtherThreadsIsDeliveredOnFlushingThread() throws InterruptedException {
+        List<String> threads = new ArrayList<>();
+        mediator.receiver(TEXT, text -> threads.add(Thread.currentThread().getName()));
+        Thread[] posters = new Thread[4];
+        for (int i = 0; i < posters.length; i++) {
+            posters[i] = new Thread(() -> {
+                for (int j = 0; j < 250; j++) {
+                    mediator.post(TEXT, "t");
+                }
+            });
+            posters[i].start();
+        }
+        for (Thread poster : posters) {
+            poster.join();
+        }
+
+        assertEquals(1000, mediator.flushUiEvents());
+        assertEquals(1000, threads.size());
+        String flushing = Thread.currentThread().getName();
+        assertTrue(threads.stream().allMatch(flushing::equals));
+    }
+
+    @Test
+    void nullCoalescingIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> mediator.setUiCoalescing(TEXT, null));
+    }
+
+    @Test
+    void clearAllListenersStopsDelivery() {
+        mediator.receiver(TEXT, calls::add);
+        mediator.post(TEXT, "pendente");
+        mediator.clearAllListeners();
+        assertEquals(0, mediator.getPendingUiEventCount());
+
+        mediator.emit(TEXT, "x");
+        assertEquals(List.of(), calls);
+    }
+}
@@ -0,0 +1,71 @@
+package com.uneb.fluxblocks.architecture.mediators;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes da {@link IoEventLane}: ordem das tarefas e comportamento com a fila cheia.
+ */
+class IoEventLaneTest {
+    private static final int TASKS = 1000;
+
+    @Test
+    void fullQueueKeepsOrderOnIoThread() throws InterruptedException {
+        IoEventLane lane = new IoEventLane();
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> order = new ArrayList<>();
+        List<String> threads = new ArrayList<>();
+
+        // Segura a thread de I/O para que as tarefas seguintes passem da capacidade da fila
+        lane.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < TASKS; i++) {
+                int task = i;
+                lane.execute(() -> {
+                    order.add(task);
+                    threads.add(Thread.currentThread().getName());
+                });
+            }
+        });
+        producer.start();
+        // Com a fila cheia, quem envia fica parado esperando espaço
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (producer.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(Thread.State.WAITING, producer.getState());
+        release.countDown();
+        producer.join();
+
+        assertTrue(lane.shutdown(5000));
+        assertEquals(TASKS, order.size());
+        for (int i = 0; i < TASKS; i++) {
+            assertEquals(i, (int) order.get(i), "Tarefa fora de ordem na posição " + i);
+            assertEquals("fluxblocks-io", threads.get(i));
+        }
+    }
+
+    @Test
+    void tasksAfterShutdownAreDropped() {
+        IoEventLane lane = new IoEventLane();
+        int[] runs = {0};
+        lane.execute(() -> runs[0]++);
+        assertTrue(lane.shutdown(5000));
+
+        lane.execute(() -> runs[0]++);
+        assertEquals(1, runs[0]);
+        assertEquals(0, lane.getPendingCount());
+    }
+}
@@ -0,0 +1,224 @@
+package com.uneb.fluxblocks.game.bot;
+
+import com.uneb.fluxblocks.configuration.GameRules;
+import com.uneb.fluxblocks.piece.collision.PieceMaskTable;
+import com.uneb.fluxblocks.piece.entities.BlockShape;
+import com.uneb.fluxblocks.piece.factory.provider.BlockShapeProvider;
+import com.uneb.fluxblocks.piece.factory.provider.SevenBagBlockShapeProvider;
+import com.uneb.fluxblocks.piece.placement.PlacementFinder;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes da {@link BotSearch}: as notas são comparadas com uma busca exaustiva feita direto
+ * sobre o {@link PlacementFinder} e o {@link HeuristicEvaluator}.
+ *
+ * <p>Com até duas peças o feixe não corta nenhuma jogada (só os níveis intermediários são
+ * limitados), então a busca deve encontrar exatamente o melhor resultado.</p>
+ */
+class BotSearchTest {
+    private static final GameRules RULES = GameRules.defaults();
+    private static final int WIDTH = RULES.getBoardWidth();
+    private static final int BUFFER = RULES.getBufferRows();
+    private static final int HEIGHT = RULES.getBoardHeight() + BUFFER;
+    private static final int SPAWN_X = WIDTH / 2 - 1;
+    private static final int T = BlockShape.Type.T.getValue();
+    private static final int I = BlockShape.Type.I.getValue();
+    private static final double DEATH_SCORE = -1_000_000.0;
+    private static final double EPSILON = 1e-9;
+
+    private static final String[] RAGGED = {
+        "#.........",
+        "##....#...",
+        "##.#..##.#",
+        "####.####.",
+        "#####.####"
+    };
+
+    private final HeuristicEvaluator evaluator = new HeuristicEvaluator(WIDTH);
+    private final BotSearch search = new BotSearch(RULES, evaluator);
+
+    @Test
+    void depthOneFindsBestImmediatePlacement() {
+        int[] rows = rows(RAGGED);
+        for (int type = 1; PieceMaskTable.isSupportedType(type); type++) {
+            BotSearch.Plan plan = search.search(rows, type, SPAWN_X, PlacementFinder.SPAWN_Y, 0, new int[0], 1);
+            assertNotNull(plan);
+            assertEquals(bestScore(rows, new int[] {type}, 0), plan.score(), EPSILON);
+            assertEquals(plan.score(), placementScore(rows, type, plan.x(), plan.y(), plan.rotation(), spinAt(rows, type, plan)), EPSILON);
+        }
+    }
+
+    @Test
+    void depthTwoFindsBestPairOfPlacements() {
+        int[] rows = rows(RAGGED);
+        BlockShapeProvider provider = new SevenBagBlockShapeProvider(5L);
+        for (int turn = 0; turn < 10; turn++) {
+            int current = BlockShapeProvider.typeOf(provider.nextCode());
+            int[] queue = {provider.peekCode(0)};
+            int next = BlockShapeProvider.typeOf(queue[0]);
+
+            BotSearch.Plan plan = search.search(rows, current, SPAWN_X, PlacementFinder.SPAWN_Y, 0, queue, 2);
+            assertEquals(bestScore(rows, new int[] {current, next}, 0), plan.score(), EPSILON);
+        }
+    }
+
+    @Test
+    void takesReadyTetris() {
+        int[] rows = rows(
+            "#########.",
+            "#########.",
+            "#########.",
+            "#########."
+        );
+        BotSearch.Plan plan = search.search(rows, I, SPAWN_X, PlacementFinder.SPAWN_Y, 0, new int[0], 1);
+
+        int[] board = rows.clone();
+        assertEquals(4, place(board, I, plan.rotation(), plan.x(), plan.y()));
+    }
+
+    @Test
+    void pathMatchesFinderPath() {
+        int[] rows = rows(RAGGED);
+        PlacementFinder finder = new PlacementFinder(RULES);
+        finder.setRows(rows);
+        for (int type = 1; PieceMaskTable.isSupportedType(type); type++) {
+            BotSearch.Plan plan = search.search(rows, type, SPAWN_X, PlacementFinder.SPAWN_Y, 0, new int[] {T}, 2);
+
+            finder.find(type);
+            int placement = indexOf(finder, plan.x(), plan.y(), plan.rotation());
+            assertTrue(placement >= 0, "Jogada do tipo " + type + " não encontrada");
+            byte[] expected = new byte[finder.getPathLength(placement)];
+            finder.copyPath(placement, expected);
+            assertArrayEquals(toInts(expected), toInts(plan.path()), "Caminho do tipo " + type);
+        }
+    }
+
+    @Test
+    void sameResultWithOneOrManyThreads() throws InterruptedException, ExecutionException {
+        int[] rows = rows(RAGGED);
+        int[] queue = {BlockShape.Type.S.getValue(), BlockShape.Type.L.getValue(), I};
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool many = new ForkJoinPool(4);
+        try {
+            for (int type = 1; PieceMaskTable.isSupportedType(type); type++) {
+                int current = type;
+                BotSearch.Plan expected = single.submit(() -> search.search(rows, current, SPAWN_X, PlacementFinder.SPAWN_Y, 0, queue, 4)).get();
+                BotSearch.Plan actual = many.submit(() -> search.search(rows, current, SPAWN_X, PlacementFinder.SPAWN_Y, 0, queue, 4)).get();
+
+                assertArrayEquals(new int[] {expected.x(), expected.y(), expected.rotation()},
+                        new int[] {actual.x(), actual.y(), actual.rotation()}, "Tipo " + type);
+                assertEquals(expected.score(), actual.score(), 0);
+            }
+        } finally {
+            single.shutdown();
+            many.shutdown();
+        }
+    }
+
+    @Test
+    void blockedSpawnHasNoPlan() {
+        int[] rows = new int[HEIGHT];
+        rows[BUFFER - 2] = (1 << WIDTH) - 1;
+
+        assertNull(search.search(rows, T, SPAWN_X, PlacementFinder.SPAWN_Y, 0, new int[0], 1));
+    }
+
+    /**
+     * Melhor nota a partir de {@code level}, sem feixe: todas as posições de todas as peças.
+     */
+    private double bestScore(int[] rows, int[] types, int level) {
+        PlacementFinder finder = new PlacementFinder(RULES);
+        finder.setRows(rows);
+        int type = types[level];
+        int count = finder.find(type);
+        if (count == 0) {
+            return DEATH_SCORE;
+        }
+        double best = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            int[] board = rows.clone();
+            int lines = place(board, type, finder.getRotation(i), finder.getX(i), finder.getY(i));
+            double reward = evaluator.placementReward(lines, finder.isSpin(i) && type == T);
+            double rest = level + 1 < types.length ? bestScore(board, types, level + 1) : evaluator.evaluate(board);
+            best = Math.max(best, reward + rest);
+        }
+        return best;
+    }
+
+    private double placementScore(int[] rows, int type, int x, int y, int rotation, boolean spin) {
+        int[] board = rows.clone();
+        int lines = place(board, type, rotation, x, y);
+        return evaluator.placementReward(lines, spin && type == T) + evaluator.evaluate(board);
+    }
+
+    private static boolean spinAt(int[] rows, int type, BotSearch.Plan plan) {
+        PlacementFinder finder = new PlacementFinder(RULES);
+        finder.setRows(rows);
+        finder.find(type);
+        return finder.isSpin(indexOf(finder, plan.x(), plan.y(), plan.rotation()));
+    }
+
+    /**
+     * Fixa a peça e remove as linhas completas, como na busca.
+     */
+    private static int place(int[] board, int type, int rotation, int x, int y) {
+        int[] offsetsX = PieceMaskTable.getOffsetsX(type, rotation);
+        int[] offsetsY = PieceMaskTable.getOffsetsY(type, rotation);
+        for (int i = 0; i < offsetsX.length; i++) {
+            board[y + offsetsY[i] + BUFFER] |= 1 << (x + offsetsX[i]);
+        }
+        int fullRow = (1 << WIDTH) - 1;
+        int write = board.length - 1;
+        for (int read = board.length - 1; read >= 0; read--) {
+            if (board[read] != fullRow) {
+                board[write--] = board[read];
+            }
+        }
+        for (int row = write; row >= 0; row--) {
+            board[row] = 0;
+        }
+        return write + 1;
+    }
+
+    private static int indexOf(PlacementFinder finder, int x, int y, int rotation) {
+        for (int i = 0; i < finder.getCount(); i++) {
+            if (finder.getX(i) == x && finder.getY(i) == y && finder.getRotation(i) == rotation) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Monta as máscaras do tabuleiro; as linhas desenhadas ficam alinhadas ao fundo.
+     */
+    private static int[] rows(String... lines) {
+        int[] rows = new int[HEIGHT];
+        int first = rows.length - lines.length;
+        for (int i = 0; i < lines.length; i++) {
+            for (int x = 0; x < WIDTH; x++) {
+                if (lines[i].charAt(x) == '#') {
+                    rows[first + i] |= 1 << x;
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static int[] toInts(byte[] bytes) {
+        int[] ints = new int[bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+            ints[i] = bytes[i];
+        }
+        return ints;
+    }
+}
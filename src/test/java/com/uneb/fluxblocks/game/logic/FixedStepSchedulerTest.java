@@ -0,0 +1,173 @@
+package com.uneb.fluxblocks.game.logic;
+
+import com.uneb.fluxblocks.architecture.interfaces.GameClock;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes do {@link FixedStepScheduler}: acumulador de ticks, prazos, ações periódicas e ordem dentro do tick.
+ */
+class FixedStepSchedulerTest {
+    private static final double TICK = 0.01;
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    void updateRunsWholeTicksAndKeepsRemainder() {
+        FixedStepScheduler scheduler = new FixedStepScheduler(TICK, 10);
+
+        assertEquals(2, scheduler.update(0.025));
+        assertEquals(2, scheduler.getTick());
+        assertEquals(0.02, scheduler.getNow(), EPSILON);
+        assertEquals(0.5, scheduler.getInterpolationAlpha(), 1e-6);
+
+        // O resto do quadro anterior completa o próximo tick
+        assertEquals(1, scheduler.update(0.005));
+        assertEquals(3, scheduler.getTick());
+    }
+
+    @Test
+    void slowFrameIsCappedAtMaxTicks() {
+        FixedStepScheduler scheduler = new FixedStepScheduler(TICK, 10);
+
+        assertEquals(10, scheduler.update(1.0));
+        assertEquals(0, scheduler.update(0));
+        assertEquals(10, scheduler.getTick());
+    }
+
+    @Test
+    void sameTimeGivesSameTicksAtAnyFrameRate() {
+        // 10 segundos de quadros a 60 ticks por segundo; só o resto do acumulador pode variar
+        for (double frameRate : new double[] {50, 60, 144}) {
+            FixedStepScheduler scheduler = new FixedStepScheduler(1 / 60.0, 10);
+            for (int frame = 0; frame < frameRate * 10; frame++) {
+                scheduler.update(1 / frameRate);
+            }
+            assertTrue(Math.abs(scheduler.getTick() - 600) <= 1, frameRate + " Hz: " + scheduler.getTick() + " ticks");
+        }
+    }
+
+    @Test
+    void intervalActionRunsEveryRoundedInterval() {
+        FixedStepScheduler scheduler = new FixedStepScheduler(TICK, 10);
+        List<Long> runs = new ArrayList<>();
+        GameClock.ScheduledAction action = scheduler.runAtInterval(() -> runs.add(scheduler.getTick()), 0.034);
+
+        for (int i = 0; i < 10; i++) {
+            scheduler.step();
+        }
+        assertEquals(List.of(3L, 6L, 9L), runs);
+
+        action.cancel();
+        for (int i = 0; i < 10; i++) {
+            scheduler.step();
+        }
+        assertEquals(3, runs.size());
+    }
+
+    @Test
+    void tickListenersRunAfterActionsInRegistrationOrder() {
+        FixedStepScheduler scheduler = new FixedStepScheduler(TICK, 10);
+        List<String> calls = new ArrayList<>();
+        scheduler.addTickListener(seconds -> calls.add("gravidade"));
+        scheduler.addTickListener(seconds -> calls.add("tempo"));
+        scheduler.runAtInterval(() -> calls.add("intervalo"), TICK);
+
+        scheduler.step();
+        assertEquals(List.of("intervalo", "gravidade", "tempo"), calls);
+    }
+
+    @Test
+    void deadlineFiresOnFirstTickPastDelay() {
+        FixedStepScheduler scheduler = new FixedStepScheduler(TICK, 10);
+        long[] firedAt = {-1};
+        scheduler.runAfter(() -> firedAt[0] = scheduler.getTick(), 0.7);
+
+        for (int i = 0; i < 69; i++) {
+            scheduler.step();
+        }
+        assertEquals(-1, firedAt[0]);
+        scheduler.step();
+        assertEquals(70, firedAt[0]);
+        assertEquals(0, scheduler.getPendingDeadlineCount());
+    }
+
+    @Test
+    void zeroDelayRunsOnNextTick() {
+        FixedStepScheduler scheduler = new FixedStepScheduler(TICK, 10);
+        List<Long> runs = new ArrayList<>();
+        // Um prazo armado dentro de outro prazo não roda no mesmo tick
+        scheduler.runAfter(() -> {
+            runs.add(scheduler.getTick());
+            scheduler.runAfter(() -> runs.add(scheduler.getTick()), 0);
+        }, 0);
+
+        scheduler.step();
+        assertEquals(List.of(1L), runs);
+        scheduler.step();
+        assertEquals(List.of(1L, 2L), runs);
+    }
+
+    @Test
+    void deadlinesRunByDueTickThenScheduleOrder() {
+        FixedStepScheduler scheduler = new FixedStepScheduler(TICK, 10);
+        List<String> calls = new ArrayList<>();
+        scheduler.runAfter(() -> calls.add("c"), 0.05);
+        scheduler.runAfter(() -> calls.add("a"), 0.02);
+        scheduler.runAfter(() -> calls.add("b"), 0.02);
+
+        for (int i = 0; i < 5; i++) {
+            scheduler.step();
+        }
+        assertEquals(List.of("a", "b", "c"), calls);
+    }
+
+    @Test
+    void cancelledDeadlineNeverRuns() {
+        FixedStepScheduler scheduler = new FixedStepScheduler(TICK, 10);
+        int[] runs = {0};
+        GameClock.ScheduledAction cancelled = scheduler.runAfter(() -> runs[0] += 10, 0.1);
+        GameClock.ScheduledAction kept = scheduler.runAfter(() -> runs[0]++, 0.2);
+        cancelled.cancel();
+        assertEquals(2, scheduler.getPendingDeadlineCount());
+
+        for (int i = 0; i < 20; i++) {
+            scheduler.step();
+        }
+        assertEquals(1, runs[0]);
+        assertEquals(0, scheduler.getPendingDeadlineCount());
+
+        // Cancelar depois de vencer não tem efeito
+        kept.cancel();
+        assertEquals(1, runs[0]);
+        assertEquals(0, scheduler.getPendingDeadlineCount());
+    }
+
+    @Test
+    void deadlinesRunBeforeActionsAndListeners() {
+        FixedStepScheduler scheduler = new FixedStepScheduler(TICK, 10);
+        List<String> calls = new ArrayList<>();
+        scheduler.addTickListener(seconds -> calls.add("listener"));
+        scheduler.runAtInterval(() -> calls.add("intervalo"), TICK);
+        scheduler.runAfter(() -> calls.add("prazo"), TICK);
+
+        scheduler.step();
+        assertEquals(List.of("prazo", "intervalo", "listener"), calls);
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new FixedStepScheduler(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new FixedStepScheduler(TICK, 0));
+
+        FixedStepScheduler scheduler = new FixedStepScheduler(TICK, 10);
+        assertThrows(IllegalArgumentException.class, () -> scheduler.update(-TICK));
+        assertThrows(IllegalArgumentException.class, () -> scheduler.runAtInterval(() -> { }, 0));
+        assertThrows(IllegalArgumentException.class, () -> scheduler.runAfter(() -> { }, -TICK));
+    }
+}
@@ -0,0 +1,345 @@
+package com.uneb.fluxblocks.game.logic;
+
+import com.uneb.fluxblocks.architecture.mediators.GameMediator;
+import com.uneb.fluxblocks.configuration.GameRules;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes dos índices incrementais do {@link GameBoard} (máscaras de linha, alturas, buracos
+ * e vidro), comparados com os mesmos valores recalculados a partir das células.
+ */
+class GameBoardTest {
+
+    @Test
+    void lineClearShiftsRowsAndColumns() {
+        GameBoard board = newBoard();
+        int bottom = visibleHeight(board) - 1;
+        fillRow(board, bottom, -1);
+        fillRow(board, bottom - 1, 3);
+        board.setCell(5, bottom - 2, 1);
+        board.setCell(3, bottom - 3, 1);
+        assertEquals(2, board.getColumnHoles(3));
+
+        assertEquals(1, board.removeCompletedLines());
+        assertEquals(1L << (bottom + board.getBufferHeight()), board.getLastClearedRows());
+
+        assertEquals(board.getFullRowMask() & ~(1 << 3), board.getRowMask(bottom));
+        assertEquals(board.getWidth() - 1, board.getRowFillCount(bottom));
+        assertEquals(1 << 5, board.getRowMask(bottom - 1));
+        assertEquals(1 << 3, board.getRowMask(bottom - 2));
+        assertTrue(board.isRowEmpty(bottom - 3));
+        assertEquals(3, board.getColumnHeight(3));
+        assertEquals(2, board.getColumnHoles(3));
+        assertEquals(2, board.getColumnHeight(5));
+        assertEquals(1, board.getColumnHeight(0));
+        assertEquals(2, board.getTotalHoles());
+        assertMatchesBaseline(board);
+    }
+
+    @Test
+    void multipleLineClearsKeepGapsBetweenThem() {
+        GameBoard board = newBoard();
+        int bottom = visibleHeight(board) - 1;
+        fillRow(board, bottom, -1);
+        fillRow(board, bottom - 1, 7);
+        fillRow(board, bottom - 2, -1);
+        board.setCell(2, bottom - 3, 1);
+
+        assertEquals(2, board.removeCompletedLines());
+        assertEquals(board.getFullRowMask() & ~(1 << 7), board.getRowMask(bottom));
+        assertEquals(1 << 2, board.getRowMask(bottom - 1));
+        assertEquals(2, board.getColumnHeight(2));
+        assertEquals(0, board.getTotalHoles());
+        assertMatchesBaseline(board);
+    }
+
+    @Test
+    void fragileGlassComponentIsRemovedWhole() {
+        GameBoard board = newBoard();
+        int bottom = visibleHeight(board) - 1;
+        board.setCell(4, bottom, GameBoard.GLASS_CELL);
+        board.setCell(5, bottom, GameBoard.GLASS_CELL);
+        board.setCell(4, bottom - 1, 1);
+        board.setCell(4, bottom - 2, 1);
+
+        // A coluna 5 ainda não tem blocos acima do vidro
+        board.removeFragileGlassBlocks();
+        assertEquals(2, board.getGlassCellCount());
+        assertMatchesBaseline(board);
+
+        board.setCell(5, bottom - 1, 1);
+        board.setCell(5, bottom - 3, 1);
+        board.removeFragileGlassBlocks();
+        assertEquals(0, board.getGlassCellCount());
+        assertEquals(GameBoard.EMPTY_CELL, board.getCell(4, bottom));
+        assertEquals(GameBoard.EMPTY_CELL, board.getCell(5, bottom));
+        assertEquals(1 + 2, board.getTotalHoles());
+        assertMatchesBaseline(board);
+    }
+
+    @Test
+    void glassWithOneBlockAboveStays() {
+        GameBoard board = newBoard();
+        int bottom = visibleHeight(board) - 1;
+        board.setCell(0, bottom, GameBoard.GLASS_CELL);
+        board.setCell(0, bottom - 1, 1);
+
+        board.removeFragileGlassBlocks();
+        assertEquals(GameBoard.GLASS_CELL, board.getCell(0, bottom));
+        assertTrue(board.hasGlass());
+        assertMatchesBaseline(board);
+    }
+
+    @Test
+    void lineClearSplitsGlassComponent() {
+        GameBoard board = newBoard();
+        int bottom = visibleHeight(board) - 1;
+        // Componente em U: a base fica na linha completa, as pontas na linha de baixo
+        board.setCell(2, bottom, GameBoard.GLASS_CELL);
+        board.setCell(4, bottom, GameBoard.GLASS_CELL);
+        fillRow(board, bottom - 1, -1);
+        for (int x = 2; x <= 4; x++) {
+            board.setCell(x, bottom - 1, GameBoard.GLASS_CELL);
+        }
+        board.setCell(2, bottom - 2, 1);
+        board.setCell(2, bottom - 3, 1);
+
+        board.removeFragileGlassBlocks();
+        assertEquals(5, board.getGlassCellCount());
+
+        assertEquals(1, board.removeCompletedLines());
+        assertMatchesBaseline(board);
+
+        // Separada da ponta da coluna 4, a ponta da coluna 2 tem 2 blocos acima
+        board.removeFragileGlassBlocks();
+        assertEquals(GameBoard.EMPTY_CELL, board.getCell(2, bottom));
+        assertEquals(GameBoard.GLASS_CELL, board.getCell(4, bottom));
+        assertEquals(1, board.getGlassCellCount());
+        assertMatchesBaseline(board);
+    }
+
+    @Test
+    void lineClearJoinsGlassAcrossRemovedRow() {
+        GameBoard board = newBoard();
+        int bottom = visibleHeight(board) - 1;
+        board.setCell(0, bottom, GameBoard.GLASS_CELL);
+        fillRow(board, bottom - 1, -1);
+        board.setCell(0, bottom - 2, GameBoard.GLASS_CELL);
+        board.setCell(0, bottom - 3, 1);
+
+        assertEquals(1, board.removeCompletedLines());
+
+        // Unidos, o topo do componente tem só 1 bloco acima; sozinho, o vidro de baixo teria 2
+        board.removeFragileGlassBlocks();
+        assertEquals(GameBoard.GLASS_CELL, board.getCell(0, bottom));
+        assertEquals(GameBoard.GLASS_CELL, board.getCell(0, bottom - 1));
+        assertMatchesBaseline(board);
+
+        board.setCell(0, bottom - 3, 1);
+        board.removeFragileGlassBlocks();
+        assertEquals(0, board.getGlassCellCount());
+        assertMatchesBaseline(board);
+    }
+
+    @Test
+    void randomOperationsMatchReferenceModel() {
+        GameBoard board = newBoard();
+        int width = board.getWidth();
+        int height = board.getHeight();
+        int buffer = board.getBufferHeight();
+        int[][] model = new int[height][width];
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int step = 0; step < 5000; step++) {
+            int operation = random.nextInt(10);
+            if (operation < 6) {
+                // Escritas concentradas no fundo, onde há linhas completas e vidro coberto
+                int realY = height - 1 - random.nextInt(Math.min(height, 8));
+                int x = random.nextInt(width);
+                int value = randomCell(random);
+                board.setCell(x, realY - buffer, value);
+                model[realY][x] = value;
+            } else if (operation < 8) {
+                int realY = height - 1 - random.nextInt(4);
+                for (int x = 0; x < width; x++) {
+                    if (model[realY][x] == GameBoard.EMPTY_CELL && random.nextInt(8) != 0) {
+                        board.setCell(x, realY - buffer, 1);
+                        model[realY][x] = 1;
+                    }
+                }
+                assertEquals(referenceClear(model), board.removeCompletedLines(), "Linhas removidas no passo " + step);
+            } else {
+                board.removeFragileGlassBlocks();
+                referenceGlassRemoval(model);
+            }
+
+            for (int realY = 0; realY < height; realY++) {
+                for (int x = 0; x < width; x++) {
+                    assertEquals(model[realY][x], board.getCell(x, realY - buffer), "Célula (" + x + ", " + realY + ") no passo " + step);
+                }
+            }
+            assertMatchesBaseline(board);
+        }
+    }
+
+    private static GameBoard newBoard() {
+        return new GameBoard(new GameMediator(), GameRules.defaults(), 0);
+    }
+
+    private static int visibleHeight(GameBoard board) {
+        return board.getHeight() - board.getBufferHeight();
+    }
+
+    /**
+     * Preenche uma linha visível, deixando vazia a coluna informada (-1 para nenhuma).
+     */
+    private static void fillRow(GameBoard board, int y, int gap) {
+        for (int x = 0; x < board.getWidth(); x++) {
+            if (x != gap) {
+                board.setCell(x, y, 1);
+            }
+        }
+    }
+
+    private static int randomCell(SplittableRandom random) {
+        int roll = random.nextInt(10);
+        if (roll < 2) {
+            return GameBoard.EMPTY_CELL;
+        } else if (roll < 4) {
+            return GameBoard.GLASS_CELL;
+        }
+        return 1 + random.nextInt(7);
+    }
+
+    /**
+     * Recalcula máscaras, contagens, alturas, buracos e vidro a partir das células.
+     */
+    private static void assertMatchesBaseline(GameBoard board) {
+        int width = board.getWidth();
+        int height = board.getHeight();
+        int buffer = board.getBufferHeight();
+
+        int glass = 0;
+        for (int realY = 0; realY < height; realY++) {
+            int y = realY - buffer;
+            int mask = 0;
+            for (int x = 0; x < width; x++) {
+                int cell = board.getCell(x, y);
+                if (cell != GameBoard.EMPTY_CELL) {
+                    mask |= 1 << x;
+                }
+                if (cell == GameBoard.GLASS_CELL) {
+                    glass++;
+                }
+            }
+            assertEquals(mask, board.getRowMask(y), "Máscara da linha " + y);
+            assertEquals(Integer.bitCount(mask), board.getRowFillCount(y), "Preenchimento da linha " + y);
+            assertEquals(mask == board.getFullRowMask(), board.isRowFull(y));
+            assertEquals(mask == 0, board.isRowEmpty(y));
+        }
+
+        int totalHoles = 0;
+        for (int x = 0; x < width; x++) {
+            int top = 0;
+            while (top < height && board.getCell(x, top - buffer) == GameBoard.EMPTY_CELL) {
+                top++;
+            }
+            int holes = 0;
+            for (int realY = top; realY < height; realY++) {
+                if (board.getCell(x, realY - buffer) == GameBoard.EMPTY_CELL) {
+                    holes++;
+                }
+            }
+            assertEquals(height - top, board.getColumnHeight(x), "Altura da coluna " + x);
+            assertEquals(holes, board.getColumnHoles(x), "Buracos da coluna " + x);
+            totalHoles += holes;
+        }
+        assertEquals(totalHoles, board.getTotalHoles());
+        assertEquals(glass, board.getGlassCellCount());
+    }
+
+    /**
+     * Remove as linhas completas do modelo, descendo as de cima.
+     *
+     * @return O número de linhas removidas
+     */
+    private static int referenceClear(int[][] model) {
+        int write = model.length - 1;
+        for (int read = model.length - 1; read >= 0; read--) {
+            boolean full = true;
+            for (int cell : model[read]) {
+                full &= cell != GameBoard.EMPTY_CELL;
+            }
+            if (!full) {
+                model[write--] = model[read].clone();
+            }
+        }
+        int cleared = write + 1;
+        for (int row = write; row >= 0; row--) {
+            model[row] = new int[model[row].length];
+        }
+        return cleared;
+    }
+
+    /**
+     * Varredura completa do vidro frágil: cada componente conectado, na ordem coluna crescente
+     * e de baixo para cima, é removido se todas as suas colunas tiverem 2 ou mais blocos acima.
+     */
+    private static void referenceGlassRemoval(int[][] model) {
+        int height = model.length;
+        int width = model[0].length;
+        boolean[][] visited = new boolean[height][width];
+        for (int x = 0; x < width; x++) {
+            for (int y = height - 1; y >= 0; y--) {
+                if (model[y][x] != GameBoard.GLASS_CELL || visited[y][x]) {
+                    continue;
+                }
+                int[] tops = new int[width];
+                Arrays.fill(tops, height);
+                ArrayDeque<int[]> component = new ArrayDeque<>();
+                ArrayDeque<int[]> pending = new ArrayDeque<>();
+                pending.add(new int[] {x, y});
+                visited[y][x] = true;
+                while (!pending.isEmpty()) {
+                    int[] cell = pending.poll();
+                    component.add(cell);
+                    tops[cell[0]] = Math.min(tops[cell[0]], cell[1]);
+                    int[][] neighbours = {{cell[0] + 1, cell[1]}, {cell[0] - 1, cell[1]}, {cell[0], cell[1] + 1}, {cell[0], cell[1] - 1}};
+                    for (int[] next : neighbours) {
+                        if (next[0] >= 0 && next[0] < width && next[1] >= 0 && next[1] < height
+                                && model[next[1]][next[0]] == GameBoard.GLASS_CELL && !visited[next[1]][next[0]]) {
+                            visited[next[1]][next[0]] = true;
+                            pending.add(next);
+                        }
+                    }
+                }
+
+                boolean fragile = true;
+                for (int column = 0; column < width && fragile; column++) {
+                    if (tops[column] == height) {
+                        continue;
+                    }
+                    int above = 0;
+                    for (int row = 0; row < tops[column]; row++) {
+                        if (model[row][column] != GameBoard.EMPTY_CELL) {
+                            above++;
+                        }
+                    }
+                    fragile = above >= 2;
+                }
+                if (fragile) {
+                    for (int[] cell : component) {
+                        model[cell[1]][cell[0]] = GameBoard.EMPTY_CELL;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.uneb.fluxblocks.piece.factory.provider;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Testes da {@link PieceQueue}: a fila segue a sequência do provedor ao retirar e repor peças.
+ */
+class PieceQueueTest {
+    private static final long SEED = 2024L;
+    private static final int CAPACITY = 5;
+
+    @Test
+    void startsFullWithNextCodes() {
+        PieceQueue queue = new PieceQueue(new SevenBagBlockShapeProvider(SEED), CAPACITY);
+        BlockShapeProvider reference = new SevenBagBlockShapeProvider(SEED);
+
+        int[] expected = new int[CAPACITY];
+        for (int i = 0; i < CAPACITY; i++) {
+            expected[i] = reference.nextCode();
+            assertEquals(expected[i], queue.peek(i));
+        }
+        assertArrayEquals(expected, queue.toArray());
+        assertEquals(CAPACITY, queue.capacity());
+    }
+
+    @Test
+    void pollFollowsProviderSequence() {
+        PieceQueue queue = new PieceQueue(new SevenBagBlockShapeProvider(SEED), CAPACITY);
+        BlockShapeProvider reference = new SevenBagBlockShapeProvider(SEED);
+        int[] window = new int[CAPACITY];
+        for (int i = 0; i < CAPACITY; i++) {
+            window[i] = reference.nextCode();
+        }
+
+        // Dá várias voltas no buffer circular
+        int[] copy = new int[CAPACITY];
+        for (int piece = 0; piece < CAPACITY * 20; piece++) {
+            assertEquals(window[0], queue.poll(), "Peça " + piece);
+            System.arraycopy(window, 1, window, 0, CAPACITY - 1);
+            window[CAPACITY - 1] = reference.nextCode();
+
+            queue.copyTo(copy);
+            assertArrayEquals(window, copy, "Fila após a peça " + piece);
+            assertEquals(window[CAPACITY - 1], queue.peek(CAPACITY - 1));
+        }
+    }
+
+    @Test
+    void refillDiscardsQueueAndTakesNextCodes() {
+        PieceQueue queue = new PieceQueue(new SevenBagBlockShapeProvider(SEED), CAPACITY);
+        BlockShapeProvider reference = new SevenBagBlockShapeProvider(SEED);
+        for (int i = 0; i < CAPACITY + 3; i++) {
+            reference.nextCode();
+        }
+        queue.poll();
+        queue.poll();
+        queue.poll();
+
+        queue.refill();
+        for (int i = 0; i < CAPACITY; i++) {
+            assertEquals(reference.nextCode(), queue.poll(), "Peça " + i + " após repor");
+        }
+    }
+
+    @Test
+    void sharedProviderKeepsEachQueueIntact() {
+        BlockShapeProvider shared = new SevenBagBlockShapeProvider(SEED);
+        PieceQueue first = new PieceQueue(shared, CAPACITY);
+        PieceQueue second = new PieceQueue(shared, CAPACITY);
+        int[] firstPreview = first.toArray();
+
+        // As peças retiradas pelo segundo jogador não mudam a prévia do primeiro
+        for (int i = 0; i < CAPACITY * 3; i++) {
+            second.poll();
+        }
+        assertArrayEquals(firstPreview, first.toArray());
+        for (int code : firstPreview) {
+            assertEquals(code, first.poll());
+        }
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new PieceQueue(null, CAPACITY));
+        assertThrows(IllegalArgumentException.class, () -> new PieceQueue(new SevenBagBlockShapeProvider(SEED), 0));
+
+        PieceQueue queue = new PieceQueue(new SevenBagBlockShapeProvider(SEED), CAPACITY);
+        assertThrows(IllegalArgumentException.class, () -> queue.peek(-1));
+        assertThrows(IllegalArgumentException.class, () -> queue.peek(CAPACITY));
+    }
+}
@@ -0,0 +1,90 @@
+package com.uneb.fluxblocks.piece.factory.provider;
+
+import com.uneb.fluxblocks.piece.factory.util.BlockShapeUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongFunction;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Testes dos provedores de peças com semente: a mesma semente deve gerar a mesma sequência.
+ */
+class SeededProviderTest {
+    private static final int SEQUENCE_LENGTH = 1000;
+
+    private static final List<LongFunction<BlockShapeProvider>> PROVIDERS = List.of(
+        SevenBagBlockShapeProvider::new,
+        FourteenBagBlockShapeProvider::new,
+        RandomBlockShapeProvider::new,
+        Memory1BlockShapeProvider::new,
+        Memory2BlockShapeProvider::new,
+        FixedExtendedBagBlockShapeProvider::new
+    );
+
+    @Test
+    void sameSeedGivesSameSequence() {
+        for (LongFunction<BlockShapeProvider> factory : PROVIDERS) {
+            BlockShapeProvider first = factory.apply(1234L);
+            BlockShapeProvider second = factory.apply(1234L);
+            assertArrayEquals(take(first, SEQUENCE_LENGTH), take(second, SEQUENCE_LENGTH), first.getName());
+        }
+    }
+
+    @Test
+    void differentSeedsGiveDifferentSequences() {
+        for (LongFunction<BlockShapeProvider> factory : PROVIDERS) {
+            BlockShapeProvider first = factory.apply(1L);
+            BlockShapeProvider second = factory.apply(2L);
+            assertFalse(Arrays.equals(take(first, SEQUENCE_LENGTH), take(second, SEQUENCE_LENGTH)), first.getName());
+        }
+    }
+
+    @Test
+    void peekingDoesNotChangeSequence() {
+        for (LongFunction<BlockShapeProvider> factory : PROVIDERS) {
+            BlockShapeProvider peeked = factory.apply(99L);
+            BlockShapeProvider plain = factory.apply(99L);
+            int[] preview = new int[20];
+            for (int i = 0; i < SEQUENCE_LENGTH; i++) {
+                if (i % 7 == 0) {
+                    peeked.peekCodes(preview, preview.length);
+                    assertEquals(preview[0], peeked.peekCode(0), peeked.getName());
+                    assertEquals(preview[5], peeked.peekCode(5), peeked.getName());
+                }
+                assertEquals(plain.nextCode(), peeked.nextCode(), peeked.getName() + " na peça " + i);
+            }
+        }
+    }
+
+    @Test
+    void sevenBagDealsEachTypeOncePerBag() {
+        int[] standard = BlockShapeUtil.toTypeValues(BlockShapeUtil.STANDARD_TYPES);
+        Arrays.sort(standard);
+        BlockShapeProvider provider = new SevenBagBlockShapeProvider(7L);
+        for (int bag = 0; bag < 100; bag++) {
+            int[] types = new int[standard.length];
+            int glass = 0;
+            for (int i = 0; i < types.length; i++) {
+                int code = provider.nextCode();
+                types[i] = BlockShapeProvider.typeOf(code);
+                glass += BlockShapeProvider.isGlass(code) ? 1 : 0;
+            }
+            Arrays.sort(types);
+            assertArrayEquals(standard, types, "Saco " + bag);
+            assertEquals(1, glass, "Peças de vidro no saco " + bag);
+        }
+    }
+
+    private static int[] take(BlockShapeProvider provider, int count) {
+        int[] codes = new int[count];
+        for (int i = 0; i < count; i++) {
+            codes[i] = provider.nextCode();
+        }
+        return codes;
+    }
+}
@@ -0,0 +1,134 @@
+package com.uneb.fluxblocks.piece.movement;
+
+import com.uneb.fluxblocks.architecture.mediators.GameMediator;
+import com.uneb.fluxblocks.configuration.GameRules;
+import com.uneb.fluxblocks.game.logic.GameBoard;
+import com.uneb.fluxblocks.piece.collision.MaskCollisionDetector;
+import com.uneb.fluxblocks.piece.entities.BlockShape;
+import com.uneb.fluxblocks.piece.factory.BlockShapeFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Testes da {@link SrsKickTable}: deslocamentos de cada transição e escolha do kick.
+ */
+class SrsKickTableTest {
+    /** Linhas da tabela SRS para J, L, S, T e Z, do estado r para r+1 */
+    private static final int[][] JLSTZ_KICKS = {
+        {0, 0, -1, 0, -1, 1, 0, -2, -1, -2},
+        {0, 0, 1, 0, 1, -1, 0, 2, 1, 2},
+        {0, 0, 1, 0, 1, 1, 0, -2, 1, -2},
+        {0, 0, -1, 0, -1, -1, 0, 2, -1, 2}
+    };
+
+    /** Linhas da tabela SRS para I, do estado r para r+1 */
+    private static final int[][] I_KICKS = {
+        {0, 0, -2, 0, 1, 0, -2, -1, 1, 2},
+        {0, 0, -1, 0, 2, 0, -1, 2, 2, -1},
+        {0, 0, 2, 0, -1, 0, 2, 1, -1, -2},
+        {0, 0, 1, 0, -2, 0, 1, -2, -2, 1}
+    };
+
+    private static final int[] HALF_TURN_KICKS = {0, 0, 0, -1, 1, -1, -1, -1, 1, 0, -1, 0};
+
+    private static final BlockShape.Type[] JLSTZ = {
+        BlockShape.Type.J, BlockShape.Type.L, BlockShape.Type.S, BlockShape.Type.T, BlockShape.Type.Z
+    };
+
+    @Test
+    void clockwiseUsesRowOfSourceState() {
+        for (int from = 0; from < 4; from++) {
+            for (BlockShape.Type type : JLSTZ) {
+                assertArrayEquals(JLSTZ_KICKS[from], SrsKickTable.getKicks(type.getValue(), from, (from + 1) & 3),
+                        type + " " + from + ">>" + ((from + 1) & 3));
+            }
+            assertArrayEquals(I_KICKS[from], SrsKickTable.getKicks(BlockShape.Type.I.getValue(), from, (from + 1) & 3),
+                    "I " + from + ">>" + ((from + 1) & 3));
+        }
+    }
+
+    @Test
+    void counterClockwiseNegatesInverseRow() {
+        for (int from = 0; from < 4; from++) {
+            int to = (from + 3) & 3;
+            for (BlockShape.Type type : JLSTZ) {
+                assertArrayEquals(negate(JLSTZ_KICKS[to]), SrsKickTable.getKicks(type.getValue(), from, to),
+                        type + " " + from + ">>" + to);
+            }
+            assertArrayEquals(negate(I_KICKS[to]), SrsKickTable.getKicks(BlockShape.Type.I.getValue(), from, to),
+                    "I " + from + ">>" + to);
+        }
+        // 0>>3 da T, escrito por extenso
+        assertArrayEquals(new int[] {0, 0, 1, 0, 1, 1, 0, -2, 1, -2}, SrsKickTable.getKicks(BlockShape.Type.T.getValue(), 0, 3));
+    }
+
+    @Test
+    void halfTurnAndSameStateShareTables() {
+        for (BlockShape.Type type : new BlockShape.Type[] {BlockShape.Type.I, BlockShape.Type.T, BlockShape.Type.X}) {
+            for (int from = 0; from < 4; from++) {
+                assertArrayEquals(HALF_TURN_KICKS, SrsKickTable.getKicks(type.getValue(), from, (from + 2) & 3));
+                assertArrayEquals(new int[] {0, 0}, SrsKickTable.getKicks(type.getValue(), from, from));
+            }
+        }
+    }
+
+    @Test
+    void oPieceNeverKicks() {
+        for (int from = 0; from < 4; from++) {
+            for (int to = 0; to < 4; to++) {
+                assertArrayEquals(new int[] {0, 0}, SrsKickTable.getKicks(BlockShape.Type.O.getValue(), from, to));
+            }
+        }
+    }
+
+    @Test
+    void wallKickPicksFirstValidOffset() {
+        GameBoard board = new GameBoard(new GameMediator(), GameRules.defaults(), 0);
+        MaskCollisionDetector detector = new MaskCollisionDetector(board);
+
+        // T em pé encostada na parede esquerda: girar no lugar tiraria a ponta do tabuleiro
+        BlockShape piece = BlockShapeFactory.createBlockShape(BlockShape.Type.T);
+        piece.setRotation(1);
+        piece.setPosition(0, 5);
+
+        int kick = SrsKickTable.findKick(detector, piece, 2);
+        assertEquals(1, kick);
+        assertEquals(1, piece.getRotation());
+        assertEquals(0, piece.getX());
+
+        SrsKickTable.applyKick(piece, 2, kick);
+        assertEquals(2, piece.getRotation());
+        assertEquals(1, piece.getX());
+        assertEquals(5, piece.getY());
+    }
+
+    @Test
+    void blockedRotationHasNoKick() {
+        GameBoard board = new GameBoard(new GameMediator(), GameRules.defaults(), 0);
+        for (int y = 3; y < board.getHeight() - board.getBufferHeight(); y++) {
+            for (int x = 0; x < board.getWidth(); x++) {
+                if (x != 4) {
+                    board.setCell(x, y, 1);
+                }
+            }
+        }
+        MaskCollisionDetector detector = new MaskCollisionDetector(board);
+
+        // I em pé dentro de um poço de uma coluna: nenhuma posição deitada cabe
+        BlockShape piece = BlockShapeFactory.createBlockShape(BlockShape.Type.I);
+        piece.setRotation(1);
+        piece.setPosition(4, 10);
+
+        assertEquals(SrsKickTable.NO_KICK, SrsKickTable.findKick(detector, piece, 2));
+    }
+
+    private static int[] negate(int[] kicks) {
+        int[] negated = new int[kicks.length];
+        for (int i = 0; i < kicks.length; i++) {
+            negated[i] = -kicks[i];
+        }
+        return negated;
+    }
+}
@@ -0,0 +1,318 @@
+package com.uneb.fluxblocks.piece.placement;
+
+import com.uneb.fluxblocks.piece.collision.PieceMaskTable;
+import com.uneb.fluxblocks.piece.entities.BlockShape;
+import com.uneb.fluxblocks.piece.movement.SrsKickTable;
+import com.uneb.fluxblocks.piece.placement.PlacementFinder.Input;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes do {@link PlacementFinder} em tabuleiros pequenos montados à mão.
+ *
+ * <p>As posições encontradas são comparadas com uma busca de referência direta, sem bitsets
+ * nem máscaras por coluna, e cada caminho devolvido é reproduzido entrada por entrada.</p>
+ */
+class PlacementFinderTest {
+    private static final int WIDTH = 6;
+    private static final int HEIGHT = 5;
+    /** Buffer alto o bastante para cobrir todas as células de uma peça recém-surgida */
+    private static final int BUFFER = 4;
+
+    private static final int T = BlockShape.Type.T.getValue();
+
+    /** Encaixe de T-spin double: a peça entra em pé e gira para baixo da saliência */
+    private static final String[] T_SPIN_SLOT = {
+        "##....",
+        "#...##",
+        "##.###"
+    };
+
+    /** Com a ponta sob a saliência e encostada na parede, a peça só entra por um kick */
+    private static final String[] KICK_SLOT = {
+        "....#.",
+        "......",
+        "......"
+    };
+
+    private static final String[] RAGGED = {
+        "#.....",
+        "##..#.",
+        "##.##.",
+        "###.##"
+    };
+
+    @Test
+    void emptyBoardPlacementCounts() {
+        PlacementFinder finder = new PlacementFinder(10, 20, 3);
+        finder.setRows(new int[23]);
+
+        assertEquals(17, finder.find(BlockShape.Type.I.getValue()));
+        assertEquals(34, finder.find(BlockShape.Type.J.getValue()));
+        assertEquals(34, finder.find(BlockShape.Type.L.getValue()));
+        assertEquals(9, finder.find(BlockShape.Type.O.getValue()));
+        assertEquals(17, finder.find(BlockShape.Type.S.getValue()));
+        assertEquals(34, finder.find(T));
+        assertEquals(17, finder.find(BlockShape.Type.Z.getValue()));
+    }
+
+    @Test
+    void placementsMatchReferenceSearch() {
+        for (String[] board : new String[][] {{}, T_SPIN_SLOT, KICK_SLOT, RAGGED}) {
+            int[] rows = rows(board);
+            PlacementFinder finder = finder(rows);
+            for (int type = 1; PieceMaskTable.isSupportedType(type); type++) {
+                Map<Long, Integer> expected = referenceSearch(rows, type, true);
+                int count = finder.find(type);
+
+                Set<Long> found = new HashSet<>();
+                for (int i = 0; i < count; i++) {
+                    long key = cellKey(type, finder.getRotation(i), finder.getX(i), finder.getY(i));
+                    assertTrue(found.add(key), "Posição repetida para o tipo " + type);
+                }
+                assertEquals(expected.keySet(), found, "Posições do tipo " + type);
+            }
+        }
+    }
+
+    @Test
+    void pathsReplayToShortestPlacement() {
+        for (String[] board : new String[][] {{}, T_SPIN_SLOT, KICK_SLOT, RAGGED}) {
+            int[] rows = rows(board);
+            PlacementFinder finder = finder(rows);
+            for (int type = 1; PieceMaskTable.isSupportedType(type); type++) {
+                Map<Long, Integer> depths = referenceSearch(rows, type, true);
+                int count = finder.find(type);
+                for (int i = 0; i < count; i++) {
+                    Input[] path = finder.getPath(i);
+                    assertEquals(Input.HARD_DROP, path[path.length - 1]);
+
+                    int[] end = replay(rows, type, path);
+                    assertArrayEquals(new int[] {finder.getX(i), finder.getY(i), finder.getRotation(i)},
+                            new int[] {end[0], end[1], end[2]}, "Caminho do tipo " + type);
+
+                    long key = cellKey(type, finder.getRotation(i), finder.getX(i), finder.getY(i));
+                    assertEquals((long) depths.get(key), path.length - 1, "Tamanho do caminho do tipo " + type);
+                }
+            }
+        }
+    }
+
+    @Test
+    void tSpinTuckEndsWithRotation() {
+        int[] rows = rows(T_SPIN_SLOT);
+        PlacementFinder finder = finder(rows);
+        finder.find(T);
+
+        int placement = indexOf(finder, 2, 3, 2);
+        assertTrue(placement >= 0, "Encaixe do T-spin não encontrado");
+        assertTrue(finder.isSpin(placement));
+
+        Input[] path = finder.getPath(placement);
+        assertEquals(Input.ROTATE_CW, path[path.length - 2]);
+        // Girar no lugar basta: nenhum deslocamento da tabela é necessário
+        assertEquals(0, replay(rows, T, path)[3]);
+    }
+
+    @Test
+    void kickOnlyPlacementIsFound() {
+        int[] rows = rows(KICK_SLOT);
+        long key = cellKey(T, 3, 5, 3);
+        assertFalse(referenceSearch(rows, T, false).containsKey(key), "A posição não deveria ser alcançável sem kicks");
+
+        PlacementFinder finder = finder(rows);
+        finder.find(T);
+        int placement = indexOf(finder, 5, 3, 3);
+        assertTrue(placement >= 0, "Posição com kick não encontrada");
+        assertTrue(finder.isSpin(placement));
+        assertTrue(replay(rows, T, finder.getPath(placement))[3] > 0);
+    }
+
+    @Test
+    void blockedSpawnHasNoPlacements() {
+        int[] rows = new int[BUFFER + HEIGHT];
+        rows[BUFFER - 2] = (1 << WIDTH) - 1;
+        PlacementFinder finder = finder(rows);
+
+        assertEquals(0, finder.find(T));
+        assertEquals(0, finder.getCount());
+    }
+
+    @Test
+    void rejectsRowsWithWrongHeight() {
+        PlacementFinder finder = new PlacementFinder(WIDTH, HEIGHT, BUFFER);
+        assertThrows(IllegalArgumentException.class, () -> finder.setRows(new int[HEIGHT]));
+    }
+
+    private static PlacementFinder finder(int[] rows) {
+        PlacementFinder finder = new PlacementFinder(WIDTH, HEIGHT, BUFFER);
+        finder.setRows(rows);
+        return finder;
+    }
+
+    /**
+     * Monta as máscaras do tabuleiro; as linhas desenhadas ficam alinhadas ao fundo.
+     */
+    private static int[] rows(String... lines) {
+        int[] rows = new int[BUFFER + HEIGHT];
+        int first = rows.length - lines.length;
+        for (int i = 0; i < lines.length; i++) {
+            for (int x = 0; x < WIDTH; x++) {
+                if (lines[i].charAt(x) == '#') {
+                    rows[first + i] |= 1 << x;
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static int indexOf(PlacementFinder finder, int x, int y, int rotation) {
+        for (int i = 0; i < finder.getCount(); i++) {
+            if (finder.getX(i) == x && finder.getY(i) == y && finder.getRotation(i) == rotation) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean fits(int[] rows, int type, int rotation, int x, int y) {
+        int[] offsetsX = PieceMaskTable.getOffsetsX(type, rotation);
+        int[] offsetsY = PieceMaskTable.getOffsetsY(type, rotation);
+        for (int i = 0; i < offsetsX.length; i++) {
+            int cellX = x + offsetsX[i];
+            int row = y + offsetsY[i] + BUFFER;
+            if (cellX < 0 || cellX >= WIDTH || row < 0 || row >= rows.length || (rows[row] & (1 << cellX)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Identifica uma posição pelas células ocupadas, para comparar rotações equivalentes.
+     */
+    private static long cellKey(int type, int rotation, int x, int y) {
+        int[] offsetsX = PieceMaskTable.getOffsetsX(type, rotation);
+        int[] offsetsY = PieceMaskTable.getOffsetsY(type, rotation);
+        long key = 0;
+        for (int i = 0; i < offsetsX.length; i++) {
+            key |= 1L << ((y + offsetsY[i] + BUFFER) * WIDTH + x + offsetsX[i]);
+        }
+        return key;
+    }
+
+    /**
+     * Primeiro deslocamento da tabela que deixa a peça girada em posição válida.
+     *
+     * @return O índice do deslocamento, ou {@link SrsKickTable#NO_KICK}
+     */
+    private static int kickIndex(int[] rows, int type, int rotation, int x, int y, boolean kicks) {
+        int toRotation = (rotation + 1) & 3;
+        int[] offsets = SrsKickTable.getKicks(type, rotation, toRotation);
+        int limit = kicks ? offsets.length : 2;
+        for (int i = 0; i < limit; i += 2) {
+            if (fits(rows, type, toRotation, x + offsets[i], y + offsets[i + 1])) {
+                return i >> 1;
+            }
+        }
+        return SrsKickTable.NO_KICK;
+    }
+
+    /**
+     * Busca de referência: BFS sobre (x, y, rotação) com conjuntos, usando só a rotação horária
+     * como o gerador por padrão.
+     *
+     * @return O menor número de entradas antes do hard drop, por conjunto de células final
+     */
+    private static Map<Long, Integer> referenceSearch(int[] rows, int type, boolean kicks) {
+        Map<Long, Integer> landed = new HashMap<>();
+        int startX = WIDTH / 2 - 1;
+        int startY = PlacementFinder.SPAWN_Y;
+        if (!fits(rows, type, 0, startX, startY)) {
+            return landed;
+        }
+
+        Set<Integer> visited = new HashSet<>();
+        ArrayDeque<int[]> queue = new ArrayDeque<>();
+        visited.add(stateKey(startX, startY, 0));
+        queue.add(new int[] {startX, startY, 0, 0});
+        while (!queue.isEmpty()) {
+            int[] state = queue.poll();
+            int x = state[0];
+            int y = state[1];
+            int rotation = state[2];
+            int depth = state[3];
+
+            int dropY = y;
+            while (fits(rows, type, rotation, x, dropY + 1)) {
+                dropY++;
+            }
+            landed.putIfAbsent(cellKey(type, rotation, x, dropY), depth);
+
+            int[][] moves = {{x - 1, y, rotation}, {x + 1, y, rotation}, {x, y + 1, rotation}, null};
+            int kick = kickIndex(rows, type, rotation, x, y, kicks);
+            if (kick != SrsKickTable.NO_KICK) {
+                int toRotation = (rotation + 1) & 3;
+                int[] offsets = SrsKickTable.getKicks(type, rotation, toRotation);
+                moves[3] = new int[] {x + offsets[kick * 2], y + offsets[kick * 2 + 1], toRotation};
+            }
+            for (int[] move : moves) {
+                if (move != null && fits(rows, type, move[2], move[0], move[1])
+                        && visited.add(stateKey(move[0], move[1], move[2]))) {
+                    queue.add(new int[] {move[0], move[1], move[2], depth + 1});
+                }
+            }
+        }
+        return landed;
+    }
+
+    private static int stateKey(int x, int y, int rotation) {
+        return ((y + 16) * 64 + x + 16) * 4 + rotation;
+    }
+
+    /**
+     * Reproduz um caminho a partir da posição de surgimento, falhando em entradas inválidas.
+     *
+     * @return {x, y, rotação, índice do kick da última rotação (-1 se não houver)}
+     */
+    private static int[] replay(int[] rows, int type, Input[] path) {
+        int x = WIDTH / 2 - 1;
+        int y = PlacementFinder.SPAWN_Y;
+        int rotation = 0;
+        int lastKick = -1;
+        for (Input input : path) {
+            switch (input) {
+                case LEFT -> x--;
+                case RIGHT -> x++;
+                case SOFT_DROP -> y++;
+                case ROTATE_CW -> {
+                    lastKick = kickIndex(rows, type, rotation, x, y, true);
+                    assertTrue(lastKick != SrsKickTable.NO_KICK, "Rotação sem deslocamento válido");
+                    int[] offsets = SrsKickTable.getKicks(type, rotation, (rotation + 1) & 3);
+                    x += offsets[lastKick * 2];
+                    y += offsets[lastKick * 2 + 1];
+                    rotation = (rotation + 1) & 3;
+                }
+                case HARD_DROP -> {
+                    while (fits(rows, type, rotation, x, y + 1)) {
+                        y++;
+                    }
+                }
+                default -> throw new AssertionError("Entrada não habilitada: " + input);
+            }
+            assertTrue(fits(rows, type, rotation, x, y), "Entrada " + input + " leva a posição inválida");
+        }
+        return new int[] {x, y, rotation, lastKick};
+    }
+}
@@ -0,0 +1,140 @@
+package com.uneb.fluxblocks.piece.timing;
+
+import com.uneb.fluxblocks.configuration.GameRules;
+import com.uneb.fluxblocks.game.logic.FixedStepScheduler;
+import com.uneb.fluxblocks.piece.entities.BlockShape;
+import com.uneb.fluxblocks.piece.factory.BlockShapeFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes do {@link LockDelayHandler} sobre o {@link FixedStepScheduler}: prazo, resets e pausa.
+ */
+class LockDelayHandlerTest {
+    private static final double TICK = 0.01;
+    /** Lock delay de 500 ms = 50 ticks */
+    private static final int LOCK_TICKS = 50;
+
+    private final FixedStepScheduler scheduler = new FixedStepScheduler(TICK, 10);
+    private final LockDelayHandler handler = new LockDelayHandler(scheduler,
+            GameRules.builder().lockDelay(LOCK_TICKS * TICK * 1000).maxLockResets(2).build());
+    private final BlockShape piece = BlockShapeFactory.createBlockShape(BlockShape.Type.T);
+    private final int[] locks = {0};
+
+    LockDelayHandlerTest() {
+        handler.setOnLockExpired(() -> locks[0]++);
+        piece.setPosition(4, 10);
+    }
+
+    @Test
+    void expiresAfterLockDelay() {
+        handler.startLockDelay(piece);
+        steps(LOCK_TICKS - 1);
+        assertEquals(0, locks[0]);
+        assertFalse(handler.isLockDelayExpired());
+
+        steps(1);
+        assertEquals(1, locks[0]);
+        assertTrue(handler.isLockDelayExpired());
+    }
+
+    @Test
+    void leavingRestCancelsDeadline() {
+        handler.startLockDelay(piece);
+        steps(10);
+        assertTrue(handler.resetLockDelay(piece, false));
+        assertFalse(handler.isLockPending());
+
+        steps(LOCK_TICKS * 2);
+        assertEquals(0, locks[0]);
+    }
+
+    @Test
+    void landingLowerRestartsDelayUpToMaxResets() {
+        handler.startLockDelay(piece);
+        steps(40);
+        piece.setPosition(4, 11);
+        assertTrue(handler.resetLockDelay(piece, true));
+        steps(LOCK_TICKS - 1);
+        assertEquals(0, locks[0]);
+        steps(1);
+        assertEquals(1, locks[0]);
+
+        handler.reset();
+        handler.startLockDelay(piece);
+        piece.setPosition(4, 12);
+        assertTrue(handler.resetLockDelay(piece, true));
+        piece.setPosition(4, 13);
+        assertTrue(handler.resetLockDelay(piece, true));
+        piece.setPosition(4, 14);
+        assertFalse(handler.resetLockDelay(piece, true));
+    }
+
+    @Test
+    void pauseKeepsRemainingTime() {
+        handler.startLockDelay(piece);
+        steps(20);
+
+        handler.setPaused(true);
+        steps(LOCK_TICKS * 10);
+        assertEquals(0, locks[0]);
+        assertEquals(0, scheduler.getPendingDeadlineCount());
+
+        // Faltavam 30 ticks quando o jogo foi pausado
+        handler.setPaused(false);
+        steps(LOCK_TICKS - 20 - 1);
+        assertEquals(0, locks[0]);
+        steps(1);
+        assertEquals(1, locks[0]);
+    }
+
+    @Test
+    void pausingTwiceKeepsFirstRemainder() {
+        handler.startLockDelay(piece);
+        steps(20);
+        handler.setPaused(true);
+        steps(15);
+        handler.setPaused(true);
+
+        handler.setPaused(false);
+        steps(LOCK_TICKS - 20 - 1);
+        assertEquals(0, locks[0]);
+        steps(1);
+        assertEquals(1, locks[0]);
+    }
+
+    @Test
+    void resetWhilePausedRearmsFullDelayOnResume() {
+        handler.startLockDelay(piece);
+        steps(20);
+        handler.setPaused(true);
+        piece.setPosition(4, 11);
+        assertTrue(handler.resetLockDelay(piece, true));
+        steps(LOCK_TICKS * 2);
+        assertEquals(0, locks[0]);
+
+        handler.setPaused(false);
+        steps(LOCK_TICKS - 1);
+        assertEquals(0, locks[0]);
+        steps(1);
+        assertEquals(1, locks[0]);
+    }
+
+    @Test
+    void resumeWithoutPauseDoesNothing() {
+        handler.startLockDelay(piece);
+        steps(20);
+        handler.setPaused(false);
+        steps(LOCK_TICKS - 20);
+        assertEquals(1, locks[0]);
+    }
+
+    private void steps(int count) {
+        for (int i = 0; i < count; i++) {
+            scheduler.step();
+        }
+    }
+}